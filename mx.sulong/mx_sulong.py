@@ -117,6 +117,14 @@ def _sulong_gate_runner(args, tasks):
         if t: mx_testsuites.runSuite('callback')
     with Task('TestVarargs', tasks, tags=['vaargs', 'sulongMisc']) as t:
         if t: mx_testsuites.runSuite('vaargs')
+    with Task('TestProfiling', tasks, tags=['profiling', 'sulongMisc']) as t:
+        if t: mx_testsuites.runSuite('profiling')
+    with Task('TestLibrary', tasks, tags=['library', 'sulongMisc']) as t:
+        if t: mx_testsuites.runSuite('library')
+    with Task('TestParser', tasks, tags=['parser', 'sulongMisc']) as t:
+        if t: mx_testsuites.runSuite('parser')
+    with Task('TestInstrumentation', tasks, tags=['instrumentation', 'sulongMisc']) as t:
+        if t: mx_testsuites.runSuite('instrumentation')
 
 add_gate_runner(_suite, _sulong_gate_runner)
 
@@ -579,6 +587,7 @@ class SulongDocsProject(ArchiveProject):
 
 
 mx_benchmark.add_bm_suite(mx_sulong_benchmarks.SulongBenchmarkSuite())
+mx_benchmark.add_bm_suite(mx_sulong_benchmarks.SulongJMHBenchmarkSuite())
 
 
 mx.update_commands(_suite, {
@@ -64,6 +64,20 @@ class SulongBenchmarkSuite(VmBenchmarkSuite):
         return native_vm_registry
 
 
+class SulongJMHBenchmarkSuite(mx_benchmark.JMHRunnerBenchmarkSuite):
+    def name(self):
+        return 'sulong-jmh'
+
+    def group(self):
+        return 'Graal'
+
+    def subgroup(self):
+        return 'sulong'
+
+    def extraVmArgs(self):
+        return ['-Dsulongbench.kernelPath=' + mx.distribution('SULONG_BENCH_NATIVE').output] + super(SulongJMHBenchmarkSuite, self).extraVmArgs()
+
+
 class GccLikeVm(Vm):
     def __init__(self, config_name, options):
         self._config_name = config_name
@@ -18,6 +18,7 @@ _cacheDir = os.path.join(_suite.dir, "cache/tests")
 _benchmarksgameSuiteDir = os.path.join(_testDir, "benchmarksgame/")
 _benchmarksgameSuiteDirRoot = os.path.join(_benchmarksgameSuiteDir, "benchmarksgame-2014-08-31/benchmarksgame/bench/")
 _otherDir = os.path.join(_testDir, "other/")
+_instrumentationDir = os.path.join(_testDir, "instrumentation/")
 _inlineassemblytestsDir = os.path.join(_testDir, "inlineassemblytests/")
 _llvmSuiteDir = os.path.join(_testDir, "llvm/")
 _assemblySuiteDir = os.path.join(_testDir, "inlineassemblytests/")
@@ -81,6 +82,10 @@ def compileOtherTests():
     print("Compiling Other with clang -O0", end='')
     mx_tools.printProgress(mx_tools.multicompileFolder(_otherDir, _cacheDir, [mx_tools.Tool.CLANG], ['-Iinclude', '-lm'], [mx_tools.Optimization.O0], mx_tools.ProgrammingLanguage.LLVMBC))
 
+def compileInstrumentationTests():
+    print("Compiling Instrumentation with clang -O0 -g", end='')
+    mx_tools.printProgress(mx_tools.multicompileFolder(_instrumentationDir, _cacheDir, [mx_tools.Tool.CLANG], ['-Iinclude', '-g'], [mx_tools.Optimization.O0], mx_tools.ProgrammingLanguage.LLVMBC))
+
 def runArgsTests(vmArgs):
     """runs the Sulong test suite"""
     compileSuite(['args'])
@@ -91,6 +96,26 @@ def runCallbackTests(vmArgs):
     compileSuite(['callback'])
     return run(vmArgs, "com.oracle.truffle.llvm.test.CallbackTest")
 
+def runProfilingTests(vmArgs):
+    """runs the profiling tests"""
+    compileSuite(['profiling'])
+    return run(vmArgs, "com.oracle.truffle.llvm.test.ProfilingTest")
+
+def runLibraryTests(vmArgs):
+    """runs the Sulong library tests"""
+    compileSuite(['library'])
+    return run(vmArgs, "com.oracle.truffle.llvm.test.LibraryArchiveTest")
+
+def runParserTests(vmArgs):
+    """runs the parser tests"""
+    compileSuite(['parser'])
+    return run(vmArgs, "com.oracle.truffle.llvm.test.ConcurrentParseTest")
+
+def runInstrumentationTests(vmArgs):
+    """runs the instrumentation tests"""
+    compileSuite(['instrumentation'])
+    return run(vmArgs, "com.oracle.truffle.llvm.test.InstrumentationTest")
+
 def runVAargsTests(vmArgs):
     """runs the Sulong test suite"""
     compileSuite(['vaargs'])
@@ -184,6 +209,10 @@ testSuites = {
     'args' : (compileOtherTests, runArgsTests),
     'callback' : (compileOtherTests, runCallbackTests),
     'vaargs' : (compileOtherTests, runVAargsTests),
+    'profiling' : (compileOtherTests, runProfilingTests),
+    'library' : (compileOtherTests, runLibraryTests),
+    'parser' : (compileOtherTests, runParserTests),
+    'instrumentation' : (compileInstrumentationTests, runInstrumentationTests),
     'nwcc' : (compileNWCCSuite, runNWCCSuite),
     'assembly' : (compileInlineAssemblySuite, runInlineAssemblySuite),
     'gcc_c' : (compileGCCSuite_C_files, runGCCSuite_c),
@@ -281,7 +310,7 @@ class SulongTestSuite(mx.NativeProject):
                     absPath = os.path.join(path, f)
                     relPath = os.path.relpath(absPath, root)
                     test, ext = os.path.splitext(relPath)
-                    if ext in ['.c', '.cpp']:
+                    if ext in ['.c', '.cpp', '.ll']:
                         self._tests.append(test)
         return self._tests
 
@@ -80,6 +80,7 @@ suite = {
       ],
       "checkstyle" : "com.oracle.truffle.llvm.test",
       "javaCompliance" : "1.8",
+      "annotationProcessors" : ["truffle:TRUFFLE_DSL_PROCESSOR"],
       "workingSets" : "Truffle, LLVM",
       "license" : "BSD-new",
     },
@@ -89,9 +90,12 @@ suite = {
       "vpath" : True,
       "results" : [
         "bin/<lib:sulongtest>",
+        "bin/<lib:sulongtestdep>",
       ],
       "buildEnv" : {
         "LIBSULONGTEST" : "<lib:sulongtest>",
+        "LIBSULONGTESTDEP" : "<lib:sulongtestdep>",
+        "OS" : "<os>",
       },
       "license" : "BSD-new",
     },
@@ -263,6 +267,40 @@ suite = {
       },
       "license" : "BSD-new",
     },
+    "com.oracle.truffle.llvm.bench" : {
+      "subDir" : "projects",
+      "sourceDirs" : ["src"],
+      "dependencies" : [
+        "com.oracle.truffle.llvm",
+        "mx:JMH_1_18",
+      ],
+      "javaProperties" : {
+        "sulongbench.kernelPath" : "<path:SULONG_BENCH_NATIVE>",
+      },
+      "checkstyle" : "com.oracle.truffle.llvm.test",
+      "javaCompliance" : "1.8",
+      "annotationProcessors" : ["mx:JMH_1_18"],
+      "workingSets" : "Truffle, LLVM",
+      "license" : "BSD-new",
+    },
+    "com.oracle.truffle.llvm.bench.native" : {
+      "subDir" : "projects",
+      "native" : True,
+      "vpath" : True,
+      "results" : [
+        "bin/calls.bc",
+        "bin/interop.bc",
+        "bin/malloc.bc",
+        "bin/memory.bc",
+        "bin/pointers.bc",
+        "bin/signals.bc",
+      ],
+      "buildEnv" : {
+        "CFLAGS" : "<clangImplicitArgs>",
+        "CPPFLAGS" : "-I<sulong_include>",
+      },
+      "license" : "BSD-new",
+    },
     "sulong-doc": {
       "class": "SulongDocsProject",
       "outputDir": "",
@@ -283,7 +321,7 @@ suite = {
       "class" : "SulongTestSuite",
       "variants" : ['O0', 'O0_MISC_OPTS', 'O1', 'O2', 'O3', 'gcc_O0'],
       "buildEnv" : {
-        "LDFLAGS" : "-lm",
+        "LDFLAGS" : "-lm -lpthread",
         "OS" : "<os>",
       },
     },
@@ -304,6 +342,14 @@ suite = {
         "OS" : "<os>",
       },
     },
+    "com.oracle.truffle.llvm.tests.llvmir" : {
+      "subDir" : "tests",
+      "class" : "SulongTestSuite",
+      "variants" : ['O0'],
+      "buildEnv" : {
+        "OS" : "<os>",
+      },
+    },
   },
 
   "distributions" : {
@@ -368,6 +414,33 @@ suite = {
       "license" : "BSD-new",
     },
 
+    "SULONG_BENCH" : {
+      "path" : "build/sulong_bench.jar",
+      "subDir" : "graal",
+      "sourcesPath" : "build/sulong_bench.src.zip",
+      "dependencies" : [
+        "com.oracle.truffle.llvm.bench",
+      ],
+      "exclude" : [
+        "mx:JMH_1_18",
+      ],
+      "distDependencies" : [
+        "sulong:SULONG",
+        "SULONG_BENCH_NATIVE",
+      ],
+      "license" : "BSD-new",
+    },
+
+    "SULONG_BENCH_NATIVE" : {
+      "native" : True,
+      "platformDependent" : True,
+      "output" : "mxbuild/sulong-bench-native",
+      "dependencies" : [
+        "com.oracle.truffle.llvm.bench.native",
+      ],
+      "license" : "BSD-new",
+    },
+
     "SULONG_TEST_SUITES" : {
       "native" : True,
       "relpath" : True,
@@ -378,6 +451,7 @@ suite = {
         "com.oracle.truffle.llvm.tests.sulong",
         "com.oracle.truffle.llvm.tests.sulongcpp",
         "com.oracle.truffle.llvm.tests.libc",
+        "com.oracle.truffle.llvm.tests.llvmir",
       ],
       "license" : "BSD-new",
     },
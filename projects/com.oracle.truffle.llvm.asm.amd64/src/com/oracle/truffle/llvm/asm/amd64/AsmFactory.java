@@ -98,6 +98,7 @@ import com.oracle.truffle.llvm.nodes.asm.LLVMAMD64IncNodeFactory.LLVMAMD64IncqNo
 import com.oracle.truffle.llvm.nodes.asm.LLVMAMD64IncNodeFactory.LLVMAMD64IncwNodeGen;
 import com.oracle.truffle.llvm.nodes.asm.LLVMAMD64LoadFlagsFactory.LLVMAMD64LahfNodeGen;
 import com.oracle.truffle.llvm.nodes.asm.LLVMAMD64LoadFlagsFactory.LLVMAMD64ReadFlagswNodeGen;
+import com.oracle.truffle.llvm.nodes.asm.LLVMAMD64MovsNodeGen;
 import com.oracle.truffle.llvm.nodes.asm.LLVMAMD64MulNodeFactory.LLVMAMD64MulbNodeGen;
 import com.oracle.truffle.llvm.nodes.asm.LLVMAMD64MulNodeFactory.LLVMAMD64MullNodeGen;
 import com.oracle.truffle.llvm.nodes.asm.LLVMAMD64MulNodeFactory.LLVMAMD64MulqNodeGen;
@@ -161,6 +162,9 @@ import com.oracle.truffle.llvm.nodes.asm.LLVMAMD64ShrNodeFactory.LLVMAMD64ShrqNo
 import com.oracle.truffle.llvm.nodes.asm.LLVMAMD64ShrNodeFactory.LLVMAMD64ShrwNodeGen;
 import com.oracle.truffle.llvm.nodes.asm.LLVMAMD64StoreFlagsFactory.LLVMAMD64SahfNodeGen;
 import com.oracle.truffle.llvm.nodes.asm.LLVMAMD64StoreFlagsFactory.LLVMAMD64WriteFlagswNodeGen;
+import com.oracle.truffle.llvm.nodes.asm.LLVMAMD64StosNodeGen;
+import com.oracle.truffle.llvm.nodes.asm.LLVMAMD64StringCompareNodeFactory.LLVMAMD64CmpsbNodeGen;
+import com.oracle.truffle.llvm.nodes.asm.LLVMAMD64StringCompareNodeFactory.LLVMAMD64ScasbNodeGen;
 import com.oracle.truffle.llvm.nodes.asm.LLVMAMD64SubNodeFactory.LLVMAMD64SubbNodeGen;
 import com.oracle.truffle.llvm.nodes.asm.LLVMAMD64SubNodeFactory.LLVMAMD64SublNodeGen;
 import com.oracle.truffle.llvm.nodes.asm.LLVMAMD64SubNodeFactory.LLVMAMD64SubqNodeGen;
@@ -191,6 +195,7 @@ import com.oracle.truffle.llvm.nodes.asm.support.LLVMAMD64ToI8NodeFactory.LLVMAM
 import com.oracle.truffle.llvm.nodes.asm.support.LLVMAMD64ToRegisterNodeFactory.LLVMI16ToR64NodeGen;
 import com.oracle.truffle.llvm.nodes.asm.support.LLVMAMD64ToRegisterNodeFactory.LLVMI32ToR64NodeGen;
 import com.oracle.truffle.llvm.nodes.asm.support.LLVMAMD64ToRegisterNodeFactory.LLVMI8ToR64NodeGen;
+import com.oracle.truffle.llvm.nodes.asm.support.LLVMAMD64UpdateFlagsNode;
 import com.oracle.truffle.llvm.nodes.asm.support.LLVMAMD64UpdateFlagsNode.LLVMAMD64UpdateCPAZSOFlagsNode;
 import com.oracle.truffle.llvm.nodes.asm.support.LLVMAMD64UpdateFlagsNode.LLVMAMD64UpdateCPZSOFlagsNode;
 import com.oracle.truffle.llvm.nodes.asm.support.LLVMAMD64UpdateFlagsNode.LLVMAMD64UpdatePZSFlagsNode;
@@ -214,6 +219,8 @@ import com.oracle.truffle.llvm.nodes.cast.LLVMToI8NodeGen.LLVMToI8NoZeroExtNodeG
 import com.oracle.truffle.llvm.nodes.func.LLVMArgNodeGen;
 import com.oracle.truffle.llvm.nodes.func.LLVMInlineAssemblyRootNode;
 import com.oracle.truffle.llvm.nodes.memory.LLVMFenceNodeGen;
+import com.oracle.truffle.llvm.nodes.memory.NativeMemSetNodeGen;
+import com.oracle.truffle.llvm.nodes.memory.NativeProfiledMemMoveNodeGen;
 import com.oracle.truffle.llvm.nodes.memory.load.LLVMDirectLoadNodeFactory.LLVMAddressDirectLoadNodeGen;
 import com.oracle.truffle.llvm.nodes.memory.load.LLVMI16LoadNodeGen;
 import com.oracle.truffle.llvm.nodes.memory.load.LLVMI32LoadNodeGen;
@@ -226,6 +233,7 @@ import com.oracle.truffle.llvm.nodes.memory.store.LLVMI16StoreNodeGen;
 import com.oracle.truffle.llvm.nodes.memory.store.LLVMI32StoreNodeGen;
 import com.oracle.truffle.llvm.nodes.memory.store.LLVMI64StoreNodeGen;
 import com.oracle.truffle.llvm.nodes.memory.store.LLVMI8StoreNodeGen;
+import com.oracle.truffle.llvm.nodes.memory.store.LLVMStoreAddressNode;
 import com.oracle.truffle.llvm.nodes.memory.store.LLVMStoreExpressionNodeGen;
 import com.oracle.truffle.llvm.nodes.memory.store.LLVMStoreNode;
 import com.oracle.truffle.llvm.nodes.others.LLVMUnsupportedInlineAssemblerNode;
@@ -253,10 +261,13 @@ class AsmFactory {
     private static final String CONSTRAINT_REG = "r";
     private static final String CONSTRAINT_REG_L = "q";
 
+    private static final long[] ALL_FLAGS = {LLVMAMD64Flags.CF, LLVMAMD64Flags.PF, LLVMAMD64Flags.AF, LLVMAMD64Flags.ZF, LLVMAMD64Flags.SF, LLVMAMD64Flags.DF, LLVMAMD64Flags.OF};
+
     private final FrameDescriptor frameDescriptor;
     private final List<LLVMExpressionNode> statements;
     private final List<LLVMExpressionNode> arguments;
     private final List<String> registers;
+    private final AsmFlagLiveness flags;
     private LLVMExpressionNode result;
     private List<Argument> argInfo;
     private final String asmFlags;
@@ -279,6 +290,7 @@ class AsmFactory {
         this.statements = new ArrayList<>();
         this.arguments = new ArrayList<>();
         this.registers = new ArrayList<>();
+        this.flags = new AsmFlagLiveness();
         this.retType = retType;
         this.retTypes = retTypes;
         this.retOffsets = retOffsets;
@@ -386,6 +398,7 @@ class AsmFactory {
 
     LLVMInlineAssemblyRootNode finishInline() {
         getArguments();
+        flags.removeDeadWrites();
         return new LLVMInlineAssemblyRootNode(language, sourceSection, frameDescriptor, statements.toArray(new LLVMExpressionNode[statements.size()]), arguments, result);
     }
 
@@ -405,7 +418,6 @@ class AsmFactory {
     void createOperation(String operation) {
         switch (operation) {
             case "clc":
-            case "cld":
             case "cli":
             case "cmc":
                 statements.add(new LLVMUnsupportedInlineAssemblerNode(sourceSection, "Unsupported operation: " + operation));
@@ -440,8 +452,50 @@ class AsmFactory {
                 statements.add(write);
                 break;
             }
-            case "stc":
+            case "cld":
             case "std":
+                statements.add(LLVMWriteI1NodeGen.create(LLVMAMD64I1NodeGen.create("std".equals(operation)), getFlagSlot(LLVMAMD64Flags.DF), sourceSection));
+                break;
+            case "movsb":
+                statements.add(createMovs(1));
+                break;
+            case "movsw":
+                statements.add(createMovs(2));
+                break;
+            case "movsl":
+                statements.add(createMovs(4));
+                break;
+            case "movsq":
+                statements.add(createMovs(8));
+                break;
+            case "stosb":
+                statements.add(createStos(1));
+                break;
+            case "stosw":
+                statements.add(createStos(2));
+                break;
+            case "stosl":
+                statements.add(createStos(4));
+                break;
+            case "stosq":
+                statements.add(createStos(8));
+                break;
+            case "cmpsb": {
+                LLVMExpressionNode df = getFlag(LLVMAMD64Flags.DF);
+                LLVMExpressionNode dst = getOperandLoad(new PointerType(PrimitiveType.I8), new AsmRegisterOperand("rdi"));
+                LLVMExpressionNode src = getOperandLoad(new PointerType(PrimitiveType.I8), new AsmRegisterOperand("rsi"));
+                statements.add(LLVMAMD64CmpsbNodeGen.create(getUpdateCPAZSOFlagsNode(), getRegisterStore("rdi"), getRegisterStore("rsi"), getRepeatCountStore(), isRepeatWhileEqual(), df,
+                                getRepeatCount(), dst, src));
+                break;
+            }
+            case "scasb": {
+                LLVMExpressionNode df = getFlag(LLVMAMD64Flags.DF);
+                LLVMExpressionNode dst = getOperandLoad(new PointerType(PrimitiveType.I8), new AsmRegisterOperand("rdi"));
+                LLVMExpressionNode al = getOperandLoad(PrimitiveType.I8, new AsmRegisterOperand("al"));
+                statements.add(LLVMAMD64ScasbNodeGen.create(getUpdateCPAZSOFlagsNode(), getRegisterStore("rdi"), getRepeatCountStore(), isRepeatWhileEqual(), df, getRepeatCount(), dst, al));
+                break;
+            }
+            case "stc":
             case "sti":
                 statements.add(new LLVMUnsupportedInlineAssemblerNode(sourceSection, "Unsupported operation: " + operation));
                 break;
@@ -495,6 +549,41 @@ class AsmFactory {
         }
     }
 
+    private LLVMExpressionNode createMovs(int elementSize) {
+        LLVMExpressionNode df = getFlag(LLVMAMD64Flags.DF);
+        LLVMExpressionNode dst = getOperandLoad(new PointerType(PrimitiveType.I8), new AsmRegisterOperand("rdi"));
+        LLVMExpressionNode src = getOperandLoad(new PointerType(PrimitiveType.I8), new AsmRegisterOperand("rsi"));
+        return LLVMAMD64MovsNodeGen.create(elementSize, NativeProfiledMemMoveNodeGen.create(), getRegisterStore("rdi"), getRegisterStore("rsi"), getRepeatCountStore(), df, getRepeatCount(), dst,
+                        src);
+    }
+
+    private LLVMExpressionNode createStos(int elementSize) {
+        LLVMExpressionNode df = getFlag(LLVMAMD64Flags.DF);
+        LLVMExpressionNode dst = getOperandLoad(new PointerType(PrimitiveType.I8), new AsmRegisterOperand("rdi"));
+        LLVMExpressionNode value = getOperandLoad(PrimitiveType.I64, new AsmRegisterOperand("rax"));
+        return LLVMAMD64StosNodeGen.create(elementSize, NativeMemSetNodeGen.create(), getRegisterStore("rdi"), getRepeatCountStore(), df, getRepeatCount(), dst, value);
+    }
+
+    private boolean isRepeated() {
+        return currentPrefix != null && currentPrefix.startsWith("rep");
+    }
+
+    private boolean isRepeatWhileEqual() {
+        return !"repne".equals(currentPrefix) && !"repnz".equals(currentPrefix);
+    }
+
+    private LLVMExpressionNode getRepeatCount() {
+        if (isRepeated()) {
+            return getOperandLoad(PrimitiveType.I64, new AsmRegisterOperand("rcx"));
+        } else {
+            return LLVMAMD64I64NodeGen.create(1);
+        }
+    }
+
+    private LLVMAMD64WriteValueNode getRepeatCountStore() {
+        return isRepeated() ? getRegisterStore("rcx") : null;
+    }
+
     void createUnaryOperationImplicitSize(String operation, AsmOperand operand) {
         LLVMExpressionNode out;
         AsmOperand dst = operand;
@@ -1789,14 +1878,13 @@ class AsmFactory {
             arguments.add(LLVMWriteI64NodeGen.create(node, slot, null));
         }
 
-        // initialize flags
+        // initialize flags that the snippet reads
         LLVMExpressionNode zero = LLVMAMD64I1NodeGen.create(false);
-        arguments.add(LLVMWriteI1NodeGen.create(zero, getFlagSlot(LLVMAMD64Flags.CF), sourceSection));
-        arguments.add(LLVMWriteI1NodeGen.create(zero, getFlagSlot(LLVMAMD64Flags.PF), sourceSection));
-        arguments.add(LLVMWriteI1NodeGen.create(zero, getFlagSlot(LLVMAMD64Flags.AF), sourceSection));
-        arguments.add(LLVMWriteI1NodeGen.create(zero, getFlagSlot(LLVMAMD64Flags.ZF), sourceSection));
-        arguments.add(LLVMWriteI1NodeGen.create(zero, getFlagSlot(LLVMAMD64Flags.SF), sourceSection));
-        arguments.add(LLVMWriteI1NodeGen.create(zero, getFlagSlot(LLVMAMD64Flags.OF), sourceSection));
+        for (long flag : ALL_FLAGS) {
+            if (flags.isRead(flag)) {
+                arguments.add(LLVMWriteI1NodeGen.create(zero, getFlagSlot(flag), sourceSection));
+            }
+        }
 
         // copy stack pointer
         LLVMExpressionNode stackPointer = LLVMArgNodeGen.create(0);
@@ -2120,7 +2208,7 @@ class AsmFactory {
                     default:
                         throw new AsmParseException("unsupported operand type: " + type);
                 }
-                return LLVMStoreExpressionNodeGen.create(null, store, address, from);
+                return LLVMStoreExpressionNodeGen.create(null, store, new LLVMStoreAddressNode(address), from);
             } else if (info.isRegister()) {
                 FrameSlot frame = getRegisterSlot(info.getRegister());
                 LLVMExpressionNode register = LLVMAMD64ReadRegisterNodeGen.create(frame);
@@ -2167,7 +2255,7 @@ class AsmFactory {
                 default:
                     throw new AsmParseException("unsupported operand type: " + type);
             }
-            return LLVMStoreExpressionNodeGen.create(null, store, address, from);
+            return LLVMStoreExpressionNodeGen.create(null, store, new LLVMStoreAddressNode(address), from);
         }
         throw new AsmParseException("unsupported operand type: " + operand);
     }
@@ -2318,28 +2406,42 @@ class AsmFactory {
     }
 
     private LLVMExpressionNode getFlag(long flag) {
+        flags.read(statements.size(), flag);
         return LLVMI1ReadNodeGen.create(getFlagSlot(flag));
     }
 
     private LLVMAMD64WriteBooleanNode getFlagWrite(long flag) {
-        return new LLVMAMD64WriteBooleanNode(getFlagSlot(flag));
+        LLVMAMD64WriteBooleanNode write = new LLVMAMD64WriteBooleanNode(getFlagSlot(flag));
+        flags.write(statements.size(), flag, write::remove);
+        return write;
+    }
+
+    private <T extends LLVMAMD64UpdateFlagsNode> T addFlagWrites(T update, long... written) {
+        for (long flag : written) {
+            FrameSlot slot = getFlagSlot(flag);
+            flags.write(statements.size(), flag, () -> update.removeFlag(slot));
+        }
+        return update;
     }
 
     private LLVMAMD64UpdatePZSFlagsNode getUpdatePZSFlagsNode() {
-        return new LLVMAMD64UpdatePZSFlagsNode(getFlagSlot(LLVMAMD64Flags.PF), getFlagSlot(LLVMAMD64Flags.ZF), getFlagSlot(LLVMAMD64Flags.SF));
+        return addFlagWrites(new LLVMAMD64UpdatePZSFlagsNode(getFlagSlot(LLVMAMD64Flags.PF), getFlagSlot(LLVMAMD64Flags.ZF), getFlagSlot(LLVMAMD64Flags.SF)),
+                        LLVMAMD64Flags.PF, LLVMAMD64Flags.ZF, LLVMAMD64Flags.SF);
     }
 
     private LLVMAMD64UpdatePZSOFlagsNode getUpdatePZSOFlagsNode() {
-        return new LLVMAMD64UpdatePZSOFlagsNode(getFlagSlot(LLVMAMD64Flags.PF), getFlagSlot(LLVMAMD64Flags.ZF), getFlagSlot(LLVMAMD64Flags.SF), getFlagSlot(LLVMAMD64Flags.OF));
+        return addFlagWrites(new LLVMAMD64UpdatePZSOFlagsNode(getFlagSlot(LLVMAMD64Flags.PF), getFlagSlot(LLVMAMD64Flags.ZF), getFlagSlot(LLVMAMD64Flags.SF), getFlagSlot(LLVMAMD64Flags.OF)),
+                        LLVMAMD64Flags.PF, LLVMAMD64Flags.ZF, LLVMAMD64Flags.SF, LLVMAMD64Flags.OF);
     }
 
     private LLVMAMD64UpdateCPZSOFlagsNode getUpdateCPZSOFlagsNode() {
-        return new LLVMAMD64UpdateCPZSOFlagsNode(getFlagSlot(LLVMAMD64Flags.CF), getFlagSlot(LLVMAMD64Flags.PF), getFlagSlot(LLVMAMD64Flags.ZF), getFlagSlot(LLVMAMD64Flags.SF),
-                        getFlagSlot(LLVMAMD64Flags.OF));
+        return addFlagWrites(new LLVMAMD64UpdateCPZSOFlagsNode(getFlagSlot(LLVMAMD64Flags.CF), getFlagSlot(LLVMAMD64Flags.PF), getFlagSlot(LLVMAMD64Flags.ZF), getFlagSlot(LLVMAMD64Flags.SF),
+                        getFlagSlot(LLVMAMD64Flags.OF)), LLVMAMD64Flags.CF, LLVMAMD64Flags.PF, LLVMAMD64Flags.ZF, LLVMAMD64Flags.SF, LLVMAMD64Flags.OF);
     }
 
     private LLVMAMD64UpdateCPAZSOFlagsNode getUpdateCPAZSOFlagsNode() {
-        return new LLVMAMD64UpdateCPAZSOFlagsNode(getFlagSlot(LLVMAMD64Flags.CF), getFlagSlot(LLVMAMD64Flags.PF), getFlagSlot(LLVMAMD64Flags.AF), getFlagSlot(LLVMAMD64Flags.ZF),
-                        getFlagSlot(LLVMAMD64Flags.SF), getFlagSlot(LLVMAMD64Flags.OF));
+        return addFlagWrites(new LLVMAMD64UpdateCPAZSOFlagsNode(getFlagSlot(LLVMAMD64Flags.CF), getFlagSlot(LLVMAMD64Flags.PF), getFlagSlot(LLVMAMD64Flags.AF), getFlagSlot(LLVMAMD64Flags.ZF),
+                        getFlagSlot(LLVMAMD64Flags.SF), getFlagSlot(LLVMAMD64Flags.OF)), LLVMAMD64Flags.CF, LLVMAMD64Flags.PF, LLVMAMD64Flags.AF, LLVMAMD64Flags.ZF, LLVMAMD64Flags.SF,
+                        LLVMAMD64Flags.OF);
     }
 }
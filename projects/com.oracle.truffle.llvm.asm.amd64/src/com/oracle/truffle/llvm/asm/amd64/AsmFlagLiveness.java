@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2017, Oracle and/or its affiliates.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of
+ * conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of
+ * conditions and the following disclaimer in the documentation and/or other materials provided
+ * with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to
+ * endorse or promote products derived from this software without specific prior written
+ * permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS
+ * OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE
+ * COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE
+ * GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED
+ * OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.oracle.truffle.llvm.asm.amd64;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Tracks which instructions of an inline assembly snippet read and write the flags. Snippets are
+ * straight-line code, so a flag write is only needed if a later instruction reads the flag. All
+ * other writes are removed once the snippet has been parsed.
+ */
+class AsmFlagLiveness {
+    private final Map<Long, Integer> lastRead = new HashMap<>();
+    private final List<Write> writes = new ArrayList<>();
+
+    private static final class Write {
+        private final int statement;
+        private final long flag;
+        private final Runnable remove;
+
+        Write(int statement, long flag, Runnable remove) {
+            this.statement = statement;
+            this.flag = flag;
+            this.remove = remove;
+        }
+    }
+
+    /**
+     * Records that the instruction at index {@code statement} reads {@code flag}. An instruction
+     * reads its flags before it writes them.
+     */
+    void read(int statement, long flag) {
+        Integer last = lastRead.get(flag);
+        if (last == null || last < statement) {
+            lastRead.put(flag, statement);
+        }
+    }
+
+    /**
+     * Records that the instruction at index {@code statement} writes {@code flag};
+     * {@code remove} turns this write into a no-op.
+     */
+    void write(int statement, long flag, Runnable remove) {
+        writes.add(new Write(statement, flag, remove));
+    }
+
+    boolean isRead(long flag) {
+        return lastRead.containsKey(flag);
+    }
+
+    void removeDeadWrites() {
+        for (Write write : writes) {
+            Integer last = lastRead.get(write.flag);
+            if (last == null || last <= write.statement) {
+                write.remove.run();
+            }
+        }
+    }
+}
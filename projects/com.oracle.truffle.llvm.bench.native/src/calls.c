@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2017, Oracle and/or its affiliates.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of
+ * conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of
+ * conditions and the following disclaimer in the documentation and/or other materials provided
+ * with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to
+ * endorse or promote products derived from this software without specific prior written
+ * permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS
+ * OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE
+ * COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE
+ * GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED
+ * OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+#include <stdlib.h>
+
+__attribute__((noinline)) int add_one(int x) {
+  return x + 1;
+}
+
+__attribute__((noinline)) int add_two(int x) {
+  return x + 2;
+}
+
+__attribute__((noinline)) int add_three(int x) {
+  return x + 3;
+}
+
+static int (*volatile targets[])(int) = { add_one, add_two, add_three };
+static long long (*volatile native_target)(long long) = llabs;
+
+int direct_calls(int iterations) {
+  int sum = 0;
+  for (int i = 0; i < iterations; i++) {
+    sum = add_one(sum);
+  }
+  return sum;
+}
+
+int indirect_calls(int iterations) {
+  int sum = 0;
+  for (int i = 0; i < iterations; i++) {
+    sum = targets[i % 3](sum);
+  }
+  return sum;
+}
+
+long long native_calls(int iterations) {
+  long long sum = 0;
+  for (int i = 0; i < iterations; i++) {
+    sum += native_target(-i);
+  }
+  return sum;
+}
+
+int main() {
+  return (direct_calls(1) + indirect_calls(1) + (int) native_calls(1)) & 0xFF;
+}
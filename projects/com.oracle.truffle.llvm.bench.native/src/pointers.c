@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2017, Oracle and/or its affiliates.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of
+ * conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of
+ * conditions and the following disclaimer in the documentation and/or other materials provided
+ * with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to
+ * endorse or promote products derived from this software without specific prior written
+ * permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS
+ * OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE
+ * COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE
+ * GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED
+ * OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+#include <stdint.h>
+#include <stdlib.h>
+
+#define SIZE 1024
+
+struct node {
+  int64_t value;
+  struct node *next;
+};
+
+static int64_t *buffer;
+static struct node *list;
+static int32_t *next_index;
+
+static int64_t *advance(int64_t *ptr, int step) {
+  return ptr + step;
+}
+
+int64_t walk_array(int iterations) {
+  if (buffer == NULL) {
+    buffer = malloc(SIZE * sizeof(int64_t));
+  }
+  int64_t sum = 0;
+  for (int i = 0; i < iterations; i++) {
+    int64_t *end = buffer + SIZE;
+    for (int64_t *p = buffer; p < end; p = advance(p, 1)) {
+      *p = i;
+      sum += *p;
+    }
+  }
+  return sum;
+}
+
+int64_t walk_list(int iterations) {
+  if (list == NULL) {
+    struct node *nodes = malloc(SIZE * sizeof(struct node));
+    for (int i = 0; i < SIZE; i++) {
+      nodes[i].value = i;
+      nodes[i].next = i + 1 < SIZE ? &nodes[i + 1] : NULL;
+    }
+    list = nodes;
+  }
+  int64_t sum = 0;
+  for (int i = 0; i < iterations; i++) {
+    for (struct node *n = list; n != NULL; n = n->next) {
+      sum += n->value;
+    }
+  }
+  return sum;
+}
+
+/*
+ * Baselines that do the same work as walk_array and walk_list, but through indices instead of
+ * pointer values kept in locals, passed to calls or loaded from memory.
+ */
+int64_t walk_array_indexed(int iterations) {
+  if (buffer == NULL) {
+    buffer = malloc(SIZE * sizeof(int64_t));
+  }
+  int64_t sum = 0;
+  for (int i = 0; i < iterations; i++) {
+    for (int j = 0; j < SIZE; j++) {
+      buffer[j] = i;
+      sum += buffer[j];
+    }
+  }
+  return sum;
+}
+
+int64_t walk_list_indexed(int iterations) {
+  if (next_index == NULL) {
+    next_index = malloc(SIZE * sizeof(int32_t));
+    for (int i = 0; i < SIZE; i++) {
+      next_index[i] = i + 1 < SIZE ? i + 1 : -1;
+    }
+  }
+  int64_t sum = 0;
+  for (int i = 0; i < iterations; i++) {
+    for (int32_t n = 0; n != -1; n = next_index[n]) {
+      sum += n;
+    }
+  }
+  return sum;
+}
+
+int main() {
+  return (int) (walk_array(1) + walk_list(1) + walk_array_indexed(1) + walk_list_indexed(1)) & 0xFF;
+}
@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) 2017, Oracle and/or its affiliates.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of
+ * conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of
+ * conditions and the following disclaimer in the documentation and/or other materials provided
+ * with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to
+ * endorse or promote products derived from this software without specific prior written
+ * permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS
+ * OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE
+ * COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE
+ * GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED
+ * OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.oracle.truffle.llvm.bench;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.oracle.truffle.llvm.runtime.floating.LLVM80BitFloat;
+
+/**
+ * Measures the throughput of the extended precision arithmetic of {@link LLVM80BitFloat}, which
+ * backs every {@code long double} operation. Unlike the other benchmarks this one does not need a
+ * bitcode kernel, it calls the runtime class directly. {@link #doubleBaseline} does the same work
+ * in double precision for comparison.
+ */
+@Warmup(iterations = 10, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class LLVM80BitFloatBenchmark {
+
+    private static final int VALUES = 1024;
+
+    private LLVM80BitFloat[] values;
+    private double[] doubleValues;
+
+    @Setup
+    public void setup() {
+        Random random = new Random(42);
+        values = new LLVM80BitFloat[VALUES];
+        doubleValues = new double[VALUES];
+        for (int i = 0; i < VALUES; i++) {
+            doubleValues[i] = (random.nextDouble() - 0.5) * Math.scalb(1.0, random.nextInt(64) - 32);
+            values[i] = LLVM80BitFloat.fromDouble(doubleValues[i]);
+        }
+    }
+
+    @Benchmark
+    public LLVM80BitFloat add() {
+        LLVM80BitFloat sum = LLVM80BitFloat.fromInt(0);
+        for (int i = 0; i < VALUES; i++) {
+            sum = sum.add(values[i]);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public LLVM80BitFloat sub() {
+        LLVM80BitFloat difference = LLVM80BitFloat.fromInt(0);
+        for (int i = 0; i < VALUES; i++) {
+            difference = difference.sub(values[i]);
+        }
+        return difference;
+    }
+
+    @Benchmark
+    public void mul(Blackhole blackhole) {
+        for (int i = 1; i < VALUES; i++) {
+            blackhole.consume(values[i].mul(values[i - 1]));
+        }
+    }
+
+    @Benchmark
+    public void div(Blackhole blackhole) {
+        for (int i = 1; i < VALUES; i++) {
+            blackhole.consume(values[i].div(values[i - 1]));
+        }
+    }
+
+    /**
+     * A {@code long double} dot product accumulator, the pattern of the numerical code this type is
+     * used for.
+     */
+    @Benchmark
+    public LLVM80BitFloat dotProduct() {
+        LLVM80BitFloat sum = LLVM80BitFloat.fromInt(0);
+        for (int i = 1; i < VALUES; i++) {
+            sum = sum.add(values[i].mul(values[i - 1]));
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public double doubleBaseline() {
+        double sum = 0;
+        for (int i = 1; i < VALUES; i++) {
+            sum = sum + doubleValues[i] * doubleValues[i - 1];
+        }
+        return sum;
+    }
+}
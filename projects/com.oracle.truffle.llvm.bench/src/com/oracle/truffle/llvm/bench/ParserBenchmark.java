@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2017, Oracle and/or its affiliates.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of
+ * conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of
+ * conditions and the following disclaimer in the documentation and/or other materials provided
+ * with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to
+ * endorse or promote products derived from this software without specific prior written
+ * permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS
+ * OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE
+ * COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE
+ * GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED
+ * OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.oracle.truffle.llvm.bench;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+
+import org.graalvm.polyglot.Context;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Setup;
+
+import com.oracle.truffle.api.source.Source;
+import com.oracle.truffle.llvm.parser.BitcodeParserResult;
+import com.oracle.truffle.llvm.parser.model.ModelModule;
+import com.oracle.truffle.llvm.parser.scanner.LLVMScanner;
+import com.oracle.truffle.llvm.runtime.LLVMLanguage;
+
+/**
+ * Measures the bitcode scanner, the construction of the parser model and the complete parsing of a
+ * kernel including the AST conversion of the executed functions.
+ */
+public class ParserBenchmark extends SulongBenchmark {
+
+    private ByteBuffer bytes;
+    private Source source;
+    private org.graalvm.polyglot.Source polyglotSource;
+
+    @Override
+    protected String getKernelName() {
+        return "calls";
+    }
+
+    @Setup
+    public void setup() throws IOException {
+        File file = getKernel(getKernelName());
+        bytes = ByteBuffer.wrap(Files.readAllBytes(file.toPath()));
+        source = Source.newBuilder(file).build();
+        polyglotSource = org.graalvm.polyglot.Source.newBuilder(LLVMLanguage.NAME, file).build();
+    }
+
+    @Benchmark
+    public ModelModule scan() {
+        return LLVMScanner.parse(bytes.duplicate());
+    }
+
+    @Benchmark
+    public BitcodeParserResult model() {
+        return BitcodeParserResult.getFromSource(source, bytes.duplicate());
+    }
+
+    @Benchmark
+    public int parseAndRun() {
+        Context parseContext = Context.create();
+        try {
+            return parseContext.eval(polyglotSource).asInt();
+        } finally {
+            parseContext.close();
+        }
+    }
+}
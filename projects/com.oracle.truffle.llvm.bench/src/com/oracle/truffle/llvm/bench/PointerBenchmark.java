@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2017, Oracle and/or its affiliates.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of
+ * conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of
+ * conditions and the following disclaimer in the documentation and/or other materials provided
+ * with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to
+ * endorse or promote products derived from this software without specific prior written
+ * permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS
+ * OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE
+ * COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE
+ * GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED
+ * OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.oracle.truffle.llvm.bench;
+
+import org.graalvm.polyglot.Value;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Setup;
+
+/**
+ * Measures pointer arithmetic, loads and stores through pointers held in locals and passed to
+ * calls. The benchmark runs with compilation disabled, so the allocations of boxed pointers are not
+ * removed by escape analysis; run it with {@code -prof gc} to see the allocated bytes per
+ * operation. The baseline benchmarks do the same work through indices instead of pointer values,
+ * so the difference to them is the cost of handling pointers.
+ */
+@Fork(value = 1, jvmArgsAppend = "-Dgraal.TruffleCompilation=false")
+public class PointerBenchmark extends SulongBenchmark {
+
+    private static final int ITERATIONS = 10;
+
+    private Value walkArray;
+    private Value walkList;
+    private Value walkArrayIndexed;
+    private Value walkListIndexed;
+
+    @Override
+    protected String getKernelName() {
+        return "pointers";
+    }
+
+    @Setup
+    public void setup() {
+        walkArray = lookup("walk_array");
+        walkList = lookup("walk_list");
+        walkArrayIndexed = lookup("walk_array_indexed");
+        walkListIndexed = lookup("walk_list_indexed");
+    }
+
+    @Benchmark
+    public long array() {
+        return walkArray.execute(ITERATIONS).asLong();
+    }
+
+    @Benchmark
+    public long list() {
+        return walkList.execute(ITERATIONS).asLong();
+    }
+
+    @Benchmark
+    public long arrayBaseline() {
+        return walkArrayIndexed.execute(ITERATIONS).asLong();
+    }
+
+    @Benchmark
+    public long listBaseline() {
+        return walkListIndexed.execute(ITERATIONS).asLong();
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2017, Oracle and/or its affiliates.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of
+ * conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of
+ * conditions and the following disclaimer in the documentation and/or other materials provided
+ * with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to
+ * endorse or promote products derived from this software without specific prior written
+ * permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS
+ * OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE
+ * COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE
+ * GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED
+ * OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.oracle.truffle.llvm.bench;
+
+import org.graalvm.polyglot.Value;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Setup;
+
+/**
+ * Measures the latency of synchronously delivered signals, with and without the signal being
+ * blocked until the next {@code sigprocmask}, and the cost of the signal polls on loop back-edges
+ * when no signal is pending.
+ */
+public class SignalBenchmark extends SulongBenchmark {
+
+    private static final int ITERATIONS = 1000;
+
+    private Value raiseSignals;
+    private Value blockedRaiseSignals;
+    private Value pollOverhead;
+
+    @Override
+    protected String getKernelName() {
+        return "signals";
+    }
+
+    @Setup
+    public void setup() {
+        raiseSignals = lookup("raise_signals");
+        blockedRaiseSignals = lookup("blocked_raise_signals");
+        pollOverhead = lookup("poll_overhead");
+    }
+
+    @Benchmark
+    public int raise() {
+        return raiseSignals.execute(ITERATIONS).asInt();
+    }
+
+    @Benchmark
+    public int blockedRaise() {
+        return blockedRaiseSignals.execute(ITERATIONS).asInt();
+    }
+
+    @Benchmark
+    public int pollOverhead() {
+        return pollOverhead.execute(ITERATIONS * 100).asInt();
+    }
+}
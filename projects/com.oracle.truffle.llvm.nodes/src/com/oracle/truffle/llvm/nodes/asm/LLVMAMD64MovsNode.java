@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) 2017, Oracle and/or its affiliates.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of
+ * conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of
+ * conditions and the following disclaimer in the documentation and/or other materials provided
+ * with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to
+ * endorse or promote products derived from this software without specific prior written
+ * permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS
+ * OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE
+ * COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE
+ * GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED
+ * OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.oracle.truffle.llvm.nodes.asm;
+
+import com.oracle.truffle.api.CompilerDirectives;
+import com.oracle.truffle.api.dsl.NodeChild;
+import com.oracle.truffle.api.dsl.NodeChildren;
+import com.oracle.truffle.api.dsl.Specialization;
+import com.oracle.truffle.api.frame.VirtualFrame;
+import com.oracle.truffle.llvm.nodes.asm.support.LLVMAMD64WriteValueNode;
+import com.oracle.truffle.llvm.nodes.memory.LLVMForceLLVMAddressNode;
+import com.oracle.truffle.llvm.nodes.memory.LLVMForceLLVMAddressNodeGen;
+import com.oracle.truffle.llvm.runtime.LLVMAddress;
+import com.oracle.truffle.llvm.runtime.memory.LLVMMemMoveNode;
+import com.oracle.truffle.llvm.runtime.memory.LLVMMemory;
+import com.oracle.truffle.llvm.runtime.nodes.api.LLVMExpressionNode;
+
+/**
+ * Implements {@code movs} and {@code rep movs}. The copy is done with a single memmove unless the
+ * source and destination overlap such that copying element by element in the direction given by
+ * the direction flag produces a different result.
+ */
+@NodeChildren({@NodeChild("df"), @NodeChild("count"), @NodeChild("dst"), @NodeChild("src")})
+public abstract class LLVMAMD64MovsNode extends LLVMExpressionNode {
+    private final int elementSize;
+
+    @Child private LLVMMemMoveNode memmove;
+    @Child private LLVMForceLLVMAddressNode dstAddress = LLVMForceLLVMAddressNodeGen.create();
+    @Child private LLVMForceLLVMAddressNode srcAddress = LLVMForceLLVMAddressNodeGen.create();
+
+    @Child private LLVMAMD64WriteValueNode dstOut;
+    @Child private LLVMAMD64WriteValueNode srcOut;
+    @Child private LLVMAMD64WriteValueNode countOut;
+
+    /**
+     * @param countOut the store to {@code rcx}, or {@code null} if the instruction is not repeated
+     */
+    public LLVMAMD64MovsNode(int elementSize, LLVMMemMoveNode memmove, LLVMAMD64WriteValueNode dstOut, LLVMAMD64WriteValueNode srcOut, LLVMAMD64WriteValueNode countOut) {
+        this.elementSize = elementSize;
+        this.memmove = memmove;
+        this.dstOut = dstOut;
+        this.srcOut = srcOut;
+        this.countOut = countOut;
+    }
+
+    @Specialization
+    protected Object execute(VirtualFrame frame, boolean df, long count, Object dst, Object src) {
+        long target = dstAddress.executeWithTarget(frame, dst).getVal();
+        long source = srcAddress.executeWithTarget(frame, src).getVal();
+        long length = count * elementSize;
+        if (CompilerDirectives.injectBranchProbability(CompilerDirectives.LIKELY_PROBABILITY, count != 0)) {
+            long first = df ? length - elementSize : 0;
+            long targetStart = target - first;
+            long sourceStart = source - first;
+            long distance = df ? sourceStart - targetStart : targetStart - sourceStart;
+            if (CompilerDirectives.injectBranchProbability(CompilerDirectives.LIKELY_PROBABILITY, distance <= 0 || distance >= length)) {
+                memmove.executeWithTarget(frame, LLVMAddress.fromLong(targetStart), LLVMAddress.fromLong(sourceStart), length);
+            } else {
+                copyElements(target, source, count, df ? -elementSize : elementSize);
+            }
+        }
+        long offset = df ? -length : length;
+        dstOut.execute(frame, LLVMAddress.fromLong(target + offset));
+        srcOut.execute(frame, LLVMAddress.fromLong(source + offset));
+        if (countOut != null) {
+            countOut.execute(frame, 0L);
+        }
+        return null;
+    }
+
+    private void copyElements(long target, long source, long count, long step) {
+        long targetPointer = target;
+        long sourcePointer = source;
+        for (long i = 0; i < count; i++) {
+            switch (elementSize) {
+                case 1:
+                    LLVMMemory.putI8(targetPointer, LLVMMemory.getI8(sourcePointer));
+                    break;
+                case 2:
+                    LLVMMemory.putI16(targetPointer, LLVMMemory.getI16(sourcePointer));
+                    break;
+                case 4:
+                    LLVMMemory.putI32(targetPointer, LLVMMemory.getI32(sourcePointer));
+                    break;
+                case 8:
+                    LLVMMemory.putI64(targetPointer, LLVMMemory.getI64(sourcePointer));
+                    break;
+                default:
+                    CompilerDirectives.transferToInterpreter();
+                    throw new AssertionError("invalid element size " + elementSize);
+            }
+            targetPointer += step;
+            sourcePointer += step;
+        }
+    }
+}
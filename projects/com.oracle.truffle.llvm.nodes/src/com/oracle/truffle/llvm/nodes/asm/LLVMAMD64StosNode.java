@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2017, Oracle and/or its affiliates.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of
+ * conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of
+ * conditions and the following disclaimer in the documentation and/or other materials provided
+ * with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to
+ * endorse or promote products derived from this software without specific prior written
+ * permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS
+ * OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE
+ * COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE
+ * GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED
+ * OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.oracle.truffle.llvm.nodes.asm;
+
+import com.oracle.truffle.api.CompilerDirectives;
+import com.oracle.truffle.api.dsl.NodeChild;
+import com.oracle.truffle.api.dsl.NodeChildren;
+import com.oracle.truffle.api.dsl.Specialization;
+import com.oracle.truffle.api.frame.VirtualFrame;
+import com.oracle.truffle.llvm.nodes.asm.support.LLVMAMD64WriteValueNode;
+import com.oracle.truffle.llvm.nodes.memory.LLVMForceLLVMAddressNode;
+import com.oracle.truffle.llvm.nodes.memory.LLVMForceLLVMAddressNodeGen;
+import com.oracle.truffle.llvm.runtime.LLVMAddress;
+import com.oracle.truffle.llvm.runtime.memory.LLVMMemSetNode;
+import com.oracle.truffle.llvm.runtime.memory.LLVMMemory;
+import com.oracle.truffle.llvm.runtime.nodes.api.LLVMExpressionNode;
+
+/**
+ * Implements {@code stos} and {@code rep stos}. Values whose bytes are all equal, which includes
+ * the common case of clearing memory, are stored with a single memset.
+ */
+@NodeChildren({@NodeChild("df"), @NodeChild("count"), @NodeChild("dst"), @NodeChild("value")})
+public abstract class LLVMAMD64StosNode extends LLVMExpressionNode {
+    private final int elementSize;
+
+    @Child private LLVMMemSetNode memset;
+    @Child private LLVMForceLLVMAddressNode dstAddress = LLVMForceLLVMAddressNodeGen.create();
+
+    @Child private LLVMAMD64WriteValueNode dstOut;
+    @Child private LLVMAMD64WriteValueNode countOut;
+
+    /**
+     * @param countOut the store to {@code rcx}, or {@code null} if the instruction is not repeated
+     */
+    public LLVMAMD64StosNode(int elementSize, LLVMMemSetNode memset, LLVMAMD64WriteValueNode dstOut, LLVMAMD64WriteValueNode countOut) {
+        this.elementSize = elementSize;
+        this.memset = memset;
+        this.dstOut = dstOut;
+        this.countOut = countOut;
+    }
+
+    @Specialization
+    protected Object execute(VirtualFrame frame, boolean df, long count, Object dst, long value) {
+        long target = dstAddress.executeWithTarget(frame, dst).getVal();
+        long length = count * elementSize;
+        if (CompilerDirectives.injectBranchProbability(CompilerDirectives.LIKELY_PROBABILITY, count != 0)) {
+            long targetStart = df ? target - length + elementSize : target;
+            if (CompilerDirectives.injectBranchProbability(CompilerDirectives.LIKELY_PROBABILITY, isSplat(value))) {
+                memset.executeWithTarget(frame, LLVMAddress.fromLong(targetStart), (byte) value, length);
+            } else {
+                storeElements(targetStart, count, value);
+            }
+        }
+        dstOut.execute(frame, LLVMAddress.fromLong(df ? target - length : target + length));
+        if (countOut != null) {
+            countOut.execute(frame, 0L);
+        }
+        return null;
+    }
+
+    private boolean isSplat(long value) {
+        long splat = (value & 0xFF) * 0x0101010101010101L;
+        long mask = elementSize == 8 ? -1L : (1L << (elementSize * Byte.SIZE)) - 1;
+        return ((value ^ splat) & mask) == 0;
+    }
+
+    private void storeElements(long target, long count, long value) {
+        long pointer = target;
+        for (long i = 0; i < count; i++) {
+            switch (elementSize) {
+                case 2:
+                    LLVMMemory.putI16(pointer, (short) value);
+                    break;
+                case 4:
+                    LLVMMemory.putI32(pointer, (int) value);
+                    break;
+                case 8:
+                    LLVMMemory.putI64(pointer, value);
+                    break;
+                default:
+                    CompilerDirectives.transferToInterpreter();
+                    throw new AssertionError("invalid element size " + elementSize);
+            }
+            pointer += elementSize;
+        }
+    }
+}
@@ -0,0 +1,151 @@
+/*
+ * Copyright (c) 2017, Oracle and/or its affiliates.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of
+ * conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of
+ * conditions and the following disclaimer in the documentation and/or other materials provided
+ * with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to
+ * endorse or promote products derived from this software without specific prior written
+ * permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS
+ * OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE
+ * COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE
+ * GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED
+ * OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.oracle.truffle.llvm.nodes.asm;
+
+import com.oracle.truffle.api.CompilerDirectives;
+import com.oracle.truffle.api.dsl.NodeChild;
+import com.oracle.truffle.api.dsl.NodeChildren;
+import com.oracle.truffle.api.dsl.Specialization;
+import com.oracle.truffle.api.frame.VirtualFrame;
+import com.oracle.truffle.llvm.nodes.asm.support.LLVMAMD64UpdateFlagsNode.LLVMAMD64UpdateCPAZSOFlagsNode;
+import com.oracle.truffle.llvm.nodes.asm.support.LLVMAMD64WriteValueNode;
+import com.oracle.truffle.llvm.nodes.memory.LLVMForceLLVMAddressNode;
+import com.oracle.truffle.llvm.nodes.memory.LLVMForceLLVMAddressNodeGen;
+import com.oracle.truffle.llvm.runtime.LLVMAddress;
+import com.oracle.truffle.llvm.runtime.memory.LLVMMemory;
+import com.oracle.truffle.llvm.runtime.nodes.api.LLVMExpressionNode;
+
+/**
+ * Implements {@code cmpsb} and {@code scasb} with an optional {@code repe}/{@code repne} prefix.
+ * The flags are only computed for the last compared pair of bytes.
+ */
+public abstract class LLVMAMD64StringCompareNode extends LLVMExpressionNode {
+    @Child protected LLVMAMD64UpdateCPAZSOFlagsNode flags;
+    @Child protected LLVMForceLLVMAddressNode dstAddress = LLVMForceLLVMAddressNodeGen.create();
+
+    @Child protected LLVMAMD64WriteValueNode dstOut;
+    @Child protected LLVMAMD64WriteValueNode countOut;
+
+    protected final boolean whileEqual;
+
+    /**
+     * @param countOut the store to {@code rcx}, or {@code null} if the instruction is not repeated
+     * @param whileEqual {@code true} to repeat while the bytes are equal ({@code repe}),
+     *            {@code false} to repeat while they differ ({@code repne})
+     */
+    LLVMAMD64StringCompareNode(LLVMAMD64UpdateCPAZSOFlagsNode flags, LLVMAMD64WriteValueNode dstOut, LLVMAMD64WriteValueNode countOut, boolean whileEqual) {
+        this.flags = flags;
+        this.dstOut = dstOut;
+        this.countOut = countOut;
+        this.whileEqual = whileEqual;
+    }
+
+    protected final void updateFlags(VirtualFrame frame, byte left, byte right) {
+        byte result = (byte) (left - right);
+        boolean overflow = (byte) ((left ^ right) & (left ^ result)) < 0;
+        boolean carry = Byte.toUnsignedInt(left) < Byte.toUnsignedInt(right);
+        boolean adjust = (((left ^ right) ^ result) & 0x10) != 0;
+        flags.execute(frame, overflow, carry, adjust, result);
+    }
+
+    protected final void writeCount(VirtualFrame frame, long remaining) {
+        if (countOut != null) {
+            countOut.execute(frame, remaining);
+        }
+    }
+
+    @NodeChildren({@NodeChild("df"), @NodeChild("count"), @NodeChild("dst"), @NodeChild("src")})
+    public abstract static class LLVMAMD64CmpsbNode extends LLVMAMD64StringCompareNode {
+        @Child private LLVMForceLLVMAddressNode srcAddress = LLVMForceLLVMAddressNodeGen.create();
+        @Child private LLVMAMD64WriteValueNode srcOut;
+
+        public LLVMAMD64CmpsbNode(LLVMAMD64UpdateCPAZSOFlagsNode flags, LLVMAMD64WriteValueNode dstOut, LLVMAMD64WriteValueNode srcOut, LLVMAMD64WriteValueNode countOut,
+                        boolean whileEqual) {
+            super(flags, dstOut, countOut, whileEqual);
+            this.srcOut = srcOut;
+        }
+
+        @Specialization
+        protected Object execute(VirtualFrame frame, boolean df, long count, Object dst, Object src) {
+            long target = dstAddress.executeWithTarget(frame, dst).getVal();
+            long source = srcAddress.executeWithTarget(frame, src).getVal();
+            long step = df ? -1 : 1;
+            long remaining = count;
+            byte left = 0;
+            byte right = 0;
+            while (CompilerDirectives.injectBranchProbability(CompilerDirectives.LIKELY_PROBABILITY, remaining != 0)) {
+                left = LLVMMemory.getI8(source);
+                right = LLVMMemory.getI8(target);
+                source += step;
+                target += step;
+                remaining--;
+                if ((left == right) != whileEqual) {
+                    break;
+                }
+            }
+            if (remaining != count) {
+                updateFlags(frame, left, right);
+            }
+            dstOut.execute(frame, LLVMAddress.fromLong(target));
+            srcOut.execute(frame, LLVMAddress.fromLong(source));
+            writeCount(frame, remaining);
+            return null;
+        }
+    }
+
+    @NodeChildren({@NodeChild("df"), @NodeChild("count"), @NodeChild("dst"), @NodeChild("value")})
+    public abstract static class LLVMAMD64ScasbNode extends LLVMAMD64StringCompareNode {
+        public LLVMAMD64ScasbNode(LLVMAMD64UpdateCPAZSOFlagsNode flags, LLVMAMD64WriteValueNode dstOut, LLVMAMD64WriteValueNode countOut, boolean whileEqual) {
+            super(flags, dstOut, countOut, whileEqual);
+        }
+
+        @Specialization
+        protected Object execute(VirtualFrame frame, boolean df, long count, Object dst, byte value) {
+            long target = dstAddress.executeWithTarget(frame, dst).getVal();
+            long step = df ? -1 : 1;
+            long remaining = count;
+            byte right = 0;
+            while (CompilerDirectives.injectBranchProbability(CompilerDirectives.LIKELY_PROBABILITY, remaining != 0)) {
+                right = LLVMMemory.getI8(target);
+                target += step;
+                remaining--;
+                if ((value == right) != whileEqual) {
+                    break;
+                }
+            }
+            if (remaining != count) {
+                updateFlags(frame, value, right);
+            }
+            dstOut.execute(frame, LLVMAddress.fromLong(target));
+            writeCount(frame, remaining);
+            return null;
+        }
+    }
+}
@@ -48,11 +48,6 @@ public abstract class LLVMAMD64AddressComputationNode extends LLVMExpressionNode
             super(displacement);
         }
 
-        @Specialization
-        protected LLVMAddress executeLLVMAddress(LLVMAddress base) {
-            return base.increment(displacement);
-        }
-
         @Specialization
         protected int executeLLVMAddress(int base) {
             return base + displacement;
@@ -62,6 +57,11 @@ public abstract class LLVMAMD64AddressComputationNode extends LLVMExpressionNode
         protected long executeLLVMAddress(long base) {
             return base + displacement;
         }
+
+        @Specialization
+        protected LLVMAddress executeLLVMAddress(LLVMAddress base) {
+            return base.increment(displacement);
+        }
     }
 
     @NodeChildren({@NodeChild(value = "base", type = LLVMExpressionNode.class), @NodeChild(value = "offset", type = LLVMExpressionNode.class)})
@@ -131,13 +131,13 @@ public abstract class LLVMAMD64AddressComputationNode extends LLVMExpressionNode
         }
 
         @Specialization
-        protected LLVMAddress executeLLVMAddress(LLVMAddress base, LLVMAddress offset) {
-            return base.increment(offset.getVal());
+        protected LLVMAddress executeI64(LLVMAddress base, long offset) {
+            return base.increment(offset);
         }
 
         @Specialization
-        protected LLVMAddress executeI64(LLVMAddress base, long offset) {
-            return base.increment(offset);
+        protected LLVMAddress executeLLVMAddress(LLVMAddress base, LLVMAddress offset) {
+            return base.increment(offset.getVal());
         }
     }
 }
@@ -29,16 +29,33 @@
  */
 package com.oracle.truffle.llvm.nodes.asm.support;
 
+import com.oracle.truffle.api.CompilerDirectives.CompilationFinal;
 import com.oracle.truffle.api.frame.FrameSlot;
 import com.oracle.truffle.api.frame.VirtualFrame;
 import com.oracle.truffle.api.nodes.Node;
-import com.oracle.truffle.llvm.runtime.nodes.api.LLVMExpressionNode;
 
-public class LLVMAMD64UpdateFlagsNode extends Node {
+public abstract class LLVMAMD64UpdateFlagsNode extends Node {
+    /**
+     * Stops materializing {@code flag}, because no later instruction of the snippet reads it.
+     */
+    public abstract void removeFlag(FrameSlot flag);
+
+    protected static void setFlag(VirtualFrame frame, FrameSlot flag, boolean value) {
+        if (flag != null) {
+            frame.setBoolean(flag, value);
+        }
+    }
+
+    protected static void setParity(VirtualFrame frame, FrameSlot flag, byte value) {
+        if (flag != null) {
+            frame.setBoolean(flag, getParity(value));
+        }
+    }
+
     public static class LLVMAMD64UpdatePZSFlagsNode extends LLVMAMD64UpdateFlagsNode {
-        private final FrameSlot pf;
-        private final FrameSlot zf;
-        private final FrameSlot sf;
+        @CompilationFinal private FrameSlot pf;
+        @CompilationFinal private FrameSlot zf;
+        @CompilationFinal private FrameSlot sf;
 
         public LLVMAMD64UpdatePZSFlagsNode(FrameSlot pf, FrameSlot zf, FrameSlot sf) {
             this.pf = pf;
@@ -46,37 +63,50 @@ public class LLVMAMD64UpdateFlagsNode extends Node {
             this.sf = sf;
         }
 
+        @Override
+        public void removeFlag(FrameSlot flag) {
+            if (pf == flag) {
+                pf = null;
+            }
+            if (zf == flag) {
+                zf = null;
+            }
+            if (sf == flag) {
+                sf = null;
+            }
+        }
+
         public void execute(VirtualFrame frame, byte value) {
-            frame.setBoolean(sf, value < 0);
-            frame.setBoolean(zf, value == 0);
-            frame.setBoolean(pf, getParity(value));
+            setFlag(frame, sf, value < 0);
+            setFlag(frame, zf, value == 0);
+            setParity(frame, pf, value);
         }
 
         public void execute(VirtualFrame frame, short value) {
-            frame.setBoolean(sf, value < 0);
-            frame.setBoolean(zf, value == 0);
-            frame.setBoolean(pf, getParity((byte) value));
+            setFlag(frame, sf, value < 0);
+            setFlag(frame, zf, value == 0);
+            setParity(frame, pf, (byte) value);
         }
 
         public void execute(VirtualFrame frame, int value) {
-            frame.setBoolean(sf, value < 0);
-            frame.setBoolean(zf, value == 0);
-            frame.setBoolean(pf, getParity((byte) value));
+            setFlag(frame, sf, value < 0);
+            setFlag(frame, zf, value == 0);
+            setParity(frame, pf, (byte) value);
         }
 
         public void execute(VirtualFrame frame, long value) {
-            frame.setBoolean(sf, value < 0);
-            frame.setBoolean(zf, value == 0);
-            frame.setBoolean(pf, getParity((byte) value));
+            setFlag(frame, sf, value < 0);
+            setFlag(frame, zf, value == 0);
+            setParity(frame, pf, (byte) value);
         }
 
     }
 
     public static class LLVMAMD64UpdatePZSOFlagsNode extends LLVMAMD64UpdateFlagsNode {
-        private final FrameSlot pf;
-        private final FrameSlot zf;
-        private final FrameSlot sf;
-        private final FrameSlot of;
+        @CompilationFinal private FrameSlot pf;
+        @CompilationFinal private FrameSlot zf;
+        @CompilationFinal private FrameSlot sf;
+        @CompilationFinal private FrameSlot of;
 
         public LLVMAMD64UpdatePZSOFlagsNode(FrameSlot pf, FrameSlot zf, FrameSlot sf, FrameSlot of) {
             this.pf = pf;
@@ -85,41 +115,57 @@ public class LLVMAMD64UpdateFlagsNode extends Node {
             this.of = of;
         }
 
+        @Override
+        public void removeFlag(FrameSlot flag) {
+            if (pf == flag) {
+                pf = null;
+            }
+            if (zf == flag) {
+                zf = null;
+            }
+            if (sf == flag) {
+                sf = null;
+            }
+            if (of == flag) {
+                of = null;
+            }
+        }
+
         public void execute(VirtualFrame frame, boolean overflow, byte value) {
-            frame.setBoolean(of, overflow);
-            frame.setBoolean(sf, value < 0);
-            frame.setBoolean(zf, value == 0);
-            frame.setBoolean(pf, getParity(value));
+            setFlag(frame, of, overflow);
+            setFlag(frame, sf, value < 0);
+            setFlag(frame, zf, value == 0);
+            setParity(frame, pf, value);
         }
 
         public void execute(VirtualFrame frame, boolean overflow, short value) {
-            frame.setBoolean(of, overflow);
-            frame.setBoolean(sf, value < 0);
-            frame.setBoolean(zf, value == 0);
-            frame.setBoolean(pf, getParity((byte) value));
+            setFlag(frame, of, overflow);
+            setFlag(frame, sf, value < 0);
+            setFlag(frame, zf, value == 0);
+            setParity(frame, pf, (byte) value);
         }
 
         public void execute(VirtualFrame frame, boolean overflow, int value) {
-            frame.setBoolean(of, overflow);
-            frame.setBoolean(sf, value < 0);
-            frame.setBoolean(zf, value == 0);
-            frame.setBoolean(pf, getParity((byte) value));
+            setFlag(frame, of, overflow);
+            setFlag(frame, sf, value < 0);
+            setFlag(frame, zf, value == 0);
+            setParity(frame, pf, (byte) value);
         }
 
         public void execute(VirtualFrame frame, boolean overflow, long value) {
-            frame.setBoolean(of, overflow);
-            frame.setBoolean(sf, value < 0);
-            frame.setBoolean(zf, value == 0);
-            frame.setBoolean(pf, getParity((byte) value));
+            setFlag(frame, of, overflow);
+            setFlag(frame, sf, value < 0);
+            setFlag(frame, zf, value == 0);
+            setParity(frame, pf, (byte) value);
         }
     }
 
     public static class LLVMAMD64UpdateCPZSOFlagsNode extends LLVMAMD64UpdateFlagsNode {
-        private final FrameSlot cf;
-        private final FrameSlot pf;
-        private final FrameSlot zf;
-        private final FrameSlot sf;
-        private final FrameSlot of;
+        @CompilationFinal private FrameSlot cf;
+        @CompilationFinal private FrameSlot pf;
+        @CompilationFinal private FrameSlot zf;
+        @CompilationFinal private FrameSlot sf;
+        @CompilationFinal private FrameSlot of;
 
         public LLVMAMD64UpdateCPZSOFlagsNode(FrameSlot cf, FrameSlot pf, FrameSlot zf, FrameSlot sf, FrameSlot of) {
             this.cf = cf;
@@ -129,46 +175,65 @@ public class LLVMAMD64UpdateFlagsNode extends Node {
             this.of = of;
         }
 
+        @Override
+        public void removeFlag(FrameSlot flag) {
+            if (cf == flag) {
+                cf = null;
+            }
+            if (pf == flag) {
+                pf = null;
+            }
+            if (zf == flag) {
+                zf = null;
+            }
+            if (sf == flag) {
+                sf = null;
+            }
+            if (of == flag) {
+                of = null;
+            }
+        }
+
         public void execute(VirtualFrame frame, boolean overflow, boolean carry, byte value) {
-            frame.setBoolean(of, overflow);
-            frame.setBoolean(cf, carry);
-            frame.setBoolean(sf, value < 0);
-            frame.setBoolean(zf, value == 0);
-            frame.setBoolean(pf, getParity(value));
+            setFlag(frame, of, overflow);
+            setFlag(frame, cf, carry);
+            setFlag(frame, sf, value < 0);
+            setFlag(frame, zf, value == 0);
+            setParity(frame, pf, value);
         }
 
         public void execute(VirtualFrame frame, boolean overflow, boolean carry, short value) {
-            frame.setBoolean(of, overflow);
-            frame.setBoolean(cf, carry);
-            frame.setBoolean(sf, value < 0);
-            frame.setBoolean(zf, value == 0);
-            frame.setBoolean(pf, getParity((byte) value));
+            setFlag(frame, of, overflow);
+            setFlag(frame, cf, carry);
+            setFlag(frame, sf, value < 0);
+            setFlag(frame, zf, value == 0);
+            setParity(frame, pf, (byte) value);
         }
 
         public void execute(VirtualFrame frame, boolean overflow, boolean carry, int value) {
-            frame.setBoolean(of, overflow);
-            frame.setBoolean(cf, carry);
-            frame.setBoolean(sf, value < 0);
-            frame.setBoolean(zf, value == 0);
-            frame.setBoolean(pf, getParity((byte) value));
+            setFlag(frame, of, overflow);
+            setFlag(frame, cf, carry);
+            setFlag(frame, sf, value < 0);
+            setFlag(frame, zf, value == 0);
+            setParity(frame, pf, (byte) value);
         }
 
         public void execute(VirtualFrame frame, boolean overflow, boolean carry, long value) {
-            frame.setBoolean(of, overflow);
-            frame.setBoolean(cf, carry);
-            frame.setBoolean(sf, value < 0);
-            frame.setBoolean(zf, value == 0);
-            frame.setBoolean(pf, getParity((byte) value));
+            setFlag(frame, of, overflow);
+            setFlag(frame, cf, carry);
+            setFlag(frame, sf, value < 0);
+            setFlag(frame, zf, value == 0);
+            setParity(frame, pf, (byte) value);
         }
     }
 
     public static class LLVMAMD64UpdateCPAZSOFlagsNode extends LLVMAMD64UpdateFlagsNode {
-        private final FrameSlot cf;
-        private final FrameSlot pf;
-        private final FrameSlot af;
-        private final FrameSlot zf;
-        private final FrameSlot sf;
-        private final FrameSlot of;
+        @CompilationFinal private FrameSlot cf;
+        @CompilationFinal private FrameSlot pf;
+        @CompilationFinal private FrameSlot af;
+        @CompilationFinal private FrameSlot zf;
+        @CompilationFinal private FrameSlot sf;
+        @CompilationFinal private FrameSlot of;
 
         public LLVMAMD64UpdateCPAZSOFlagsNode(FrameSlot cf, FrameSlot pf, FrameSlot af, FrameSlot zf, FrameSlot sf, FrameSlot of) {
             this.cf = cf;
@@ -179,50 +244,66 @@ public class LLVMAMD64UpdateFlagsNode extends Node {
             this.of = of;
         }
 
+        @Override
+        public void removeFlag(FrameSlot flag) {
+            if (cf == flag) {
+                cf = null;
+            }
+            if (pf == flag) {
+                pf = null;
+            }
+            if (af == flag) {
+                af = null;
+            }
+            if (zf == flag) {
+                zf = null;
+            }
+            if (sf == flag) {
+                sf = null;
+            }
+            if (of == flag) {
+                of = null;
+            }
+        }
+
         public void execute(VirtualFrame frame, boolean overflow, boolean carry, boolean adjust, byte value) {
-            frame.setBoolean(of, overflow);
-            frame.setBoolean(cf, carry);
-            frame.setBoolean(af, adjust);
-            frame.setBoolean(sf, value < 0);
-            frame.setBoolean(zf, value == 0);
-            frame.setBoolean(pf, getParity(value));
+            setFlag(frame, of, overflow);
+            setFlag(frame, cf, carry);
+            setFlag(frame, af, adjust);
+            setFlag(frame, sf, value < 0);
+            setFlag(frame, zf, value == 0);
+            setParity(frame, pf, value);
         }
 
         public void execute(VirtualFrame frame, boolean overflow, boolean carry, boolean adjust, short value) {
-            frame.setBoolean(of, overflow);
-            frame.setBoolean(cf, carry);
-            frame.setBoolean(af, adjust);
-            frame.setBoolean(sf, value < 0);
-            frame.setBoolean(zf, value == 0);
-            frame.setBoolean(pf, getParity((byte) value));
+            setFlag(frame, of, overflow);
+            setFlag(frame, cf, carry);
+            setFlag(frame, af, adjust);
+            setFlag(frame, sf, value < 0);
+            setFlag(frame, zf, value == 0);
+            setParity(frame, pf, (byte) value);
         }
 
         public void execute(VirtualFrame frame, boolean overflow, boolean carry, boolean adjust, int value) {
-            frame.setBoolean(of, overflow);
-            frame.setBoolean(cf, carry);
-            frame.setBoolean(af, adjust);
-            frame.setBoolean(sf, value < 0);
-            frame.setBoolean(zf, value == 0);
-            frame.setBoolean(pf, getParity((byte) value));
+            setFlag(frame, of, overflow);
+            setFlag(frame, cf, carry);
+            setFlag(frame, af, adjust);
+            setFlag(frame, sf, value < 0);
+            setFlag(frame, zf, value == 0);
+            setParity(frame, pf, (byte) value);
         }
 
         public void execute(VirtualFrame frame, boolean overflow, boolean carry, boolean adjust, long value) {
-            frame.setBoolean(of, overflow);
-            frame.setBoolean(cf, carry);
-            frame.setBoolean(af, adjust);
-            frame.setBoolean(sf, value < 0);
-            frame.setBoolean(zf, value == 0);
-            frame.setBoolean(pf, getParity((byte) value));
+            setFlag(frame, of, overflow);
+            setFlag(frame, cf, carry);
+            setFlag(frame, af, adjust);
+            setFlag(frame, sf, value < 0);
+            setFlag(frame, zf, value == 0);
+            setParity(frame, pf, (byte) value);
         }
     }
 
     public static boolean getParity(byte value) {
-        boolean result = true;
-        for (int i = 0; i < LLVMExpressionNode.I8_SIZE_IN_BITS; i++) {
-            if ((value & (1 << i)) != 0) {
-                result = !result;
-            }
-        }
-        return result;
+        return (Integer.bitCount(value & 0xFF) & 1) == 0;
     }
 }
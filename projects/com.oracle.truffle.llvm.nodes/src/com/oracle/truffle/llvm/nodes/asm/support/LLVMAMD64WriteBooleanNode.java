@@ -29,12 +29,13 @@
  */
 package com.oracle.truffle.llvm.nodes.asm.support;
 
+import com.oracle.truffle.api.CompilerDirectives.CompilationFinal;
 import com.oracle.truffle.api.frame.FrameSlot;
 import com.oracle.truffle.api.frame.VirtualFrame;
 import com.oracle.truffle.api.nodes.Node;
 
 public class LLVMAMD64WriteBooleanNode extends Node {
-    private final FrameSlot slot;
+    @CompilationFinal private FrameSlot slot;
 
     public LLVMAMD64WriteBooleanNode(FrameSlot slot) {
         this.slot = slot;
@@ -44,7 +45,16 @@ public class LLVMAMD64WriteBooleanNode extends Node {
         return slot;
     }
 
+    /**
+     * Turns this node into a no-op, because no later instruction of the snippet reads the slot.
+     */
+    public void remove() {
+        slot = null;
+    }
+
     public void execute(VirtualFrame frame, boolean value) {
-        frame.setBoolean(slot, value);
+        if (slot != null) {
+            frame.setBoolean(slot, value);
+        }
     }
 }
@@ -43,12 +43,12 @@ public abstract class LLVMAMD64SyscallAcceptNode extends LLVMAMD64SyscallOperati
     }
 
     @Specialization
-    protected long execute(long sockfd, LLVMAddress addr, LLVMAddress addrlen) {
-        return (int) accept.execute((int) sockfd, addr.getVal(), addrlen.getVal());
+    protected long execute(long sockfd, long addr, long addrlen) {
+        return execute(sockfd, LLVMAddress.fromLong(addr), LLVMAddress.fromLong(addrlen));
     }
 
     @Specialization
-    protected long execute(long sockfd, long addr, long addrlen) {
-        return execute(sockfd, LLVMAddress.fromLong(addr), LLVMAddress.fromLong(addrlen));
+    protected long execute(long sockfd, LLVMAddress addr, LLVMAddress addrlen) {
+        return (int) accept.execute((int) sockfd, addr.getVal(), addrlen.getVal());
     }
 }
@@ -30,7 +30,6 @@
 package com.oracle.truffle.llvm.nodes.asm.syscall;
 
 import com.oracle.truffle.api.CompilerDirectives;
-import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
 import com.oracle.truffle.api.dsl.Specialization;
 import com.oracle.truffle.api.profiles.IntValueProfile;
 import com.oracle.truffle.llvm.runtime.LLVMAddress;
@@ -42,10 +41,13 @@ public abstract class LLVMAMD64SyscallArchPrctlNode extends LLVMAMD64SyscallOper
         super("arch_prctl");
     }
 
-    @TruffleBoundary
     private void setTLS(LLVMAddress addr) {
-        ThreadLocal<LLVMAddress> tls = getContextReference().get().getThreadLocalStorage();
-        tls.set(addr);
+        getContextReference().get().getThreadLocalStorage().getThreadState().setThreadPointer(addr);
+    }
+
+    @Specialization
+    protected long execute(long code, long addr) {
+        return execute(code, LLVMAddress.fromLong(addr));
     }
 
     @Specialization
@@ -60,9 +62,4 @@ public abstract class LLVMAMD64SyscallArchPrctlNode extends LLVMAMD64SyscallOper
         }
         return 0;
     }
-
-    @Specialization
-    protected long execute(long code, long addr) {
-        return execute(code, LLVMAddress.fromLong(addr));
-    }
 }
@@ -38,12 +38,12 @@ public abstract class LLVMAMD64SyscallBrkNode extends LLVMAMD64SyscallOperationN
     }
 
     @Specialization
-    protected long execute(LLVMAddress brk) {
-        return LLVMAMD64Memory.brk(brk);
+    protected long execute(long brk) {
+        return execute(LLVMAddress.fromLong(brk));
     }
 
     @Specialization
-    protected long execute(long brk) {
-        return execute(LLVMAddress.fromLong(brk));
+    protected long execute(LLVMAddress brk) {
+        return LLVMAMD64Memory.brk(brk);
     }
 }
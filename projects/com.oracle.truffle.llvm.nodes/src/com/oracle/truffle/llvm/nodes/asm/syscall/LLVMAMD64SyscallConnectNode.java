@@ -43,12 +43,12 @@ public abstract class LLVMAMD64SyscallConnectNode extends LLVMAMD64SyscallOperat
     }
 
     @Specialization
-    protected long execute(long sockfd, LLVMAddress addr, long addrlen) {
-        return (int) connect.execute((int) sockfd, addr.getVal(), (int) addrlen);
+    protected long execute(long sockfd, long addr, long addrlen) {
+        return execute(sockfd, LLVMAddress.fromLong(addr), addrlen);
     }
 
     @Specialization
-    protected long execute(long sockfd, long addr, long addrlen) {
-        return execute(sockfd, LLVMAddress.fromLong(addr), addrlen);
+    protected long execute(long sockfd, LLVMAddress addr, long addrlen) {
+        return (int) connect.execute((int) sockfd, addr.getVal(), (int) addrlen);
     }
 }
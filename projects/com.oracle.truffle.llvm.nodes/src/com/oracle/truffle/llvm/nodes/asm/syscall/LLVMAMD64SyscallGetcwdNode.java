@@ -38,6 +38,11 @@ public abstract class LLVMAMD64SyscallGetcwdNode extends LLVMAMD64SyscallOperati
         super("getcwd");
     }
 
+    @Specialization
+    protected long execute(long buf, long size) {
+        return execute(LLVMAddress.fromLong(buf), size);
+    }
+
     @Specialization
     protected long execute(LLVMAddress buf, long size) {
         String cwd = LLVMPath.getcwd();
@@ -48,9 +53,4 @@ public abstract class LLVMAMD64SyscallGetcwdNode extends LLVMAMD64SyscallOperati
             return cwd.length() + 1;
         }
     }
-
-    @Specialization
-    protected long execute(long buf, long size) {
-        return execute(LLVMAddress.fromLong(buf), size);
-    }
 }
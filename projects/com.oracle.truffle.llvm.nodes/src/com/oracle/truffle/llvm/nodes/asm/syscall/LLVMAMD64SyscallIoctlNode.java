@@ -43,12 +43,12 @@ public abstract class LLVMAMD64SyscallIoctlNode extends LLVMAMD64SyscallOperatio
     }
 
     @Specialization
-    protected long executeI64(long fd, long request, LLVMAddress argp) {
-        return (int) ioctl.execute((int) fd, request, argp.getVal());
+    protected long executeI64(long fd, long request, long argp) {
+        return executeI64(fd, request, LLVMAddress.fromLong(argp));
     }
 
     @Specialization
-    protected long executeI64(long fd, long request, long argp) {
-        return executeI64(fd, request, LLVMAddress.fromLong(argp));
+    protected long executeI64(long fd, long request, LLVMAddress argp) {
+        return (int) ioctl.execute((int) fd, request, argp.getVal());
     }
 }
@@ -41,6 +41,11 @@ public abstract class LLVMAMD64SyscallMmapNode extends LLVMAMD64SyscallOperation
 
     private final ConditionProfile mapAnonymousProfile = ConditionProfile.createCountingProfile();
 
+    @Specialization
+    protected long execute(long addr, long len, long prot, long flags, long fildes, long off) {
+        return execute(LLVMAddress.fromLong(addr), len, prot, flags, fildes, off);
+    }
+
     @SuppressWarnings("unused")
     @Specialization
     protected long execute(LLVMAddress addr, long len, long prot, long flags, long fildes, long off) {
@@ -50,9 +55,4 @@ public abstract class LLVMAMD64SyscallMmapNode extends LLVMAMD64SyscallOperation
         }
         return -LLVMAMD64Error.ENOMEM;
     }
-
-    @Specialization
-    protected long execute(long addr, long len, long prot, long flags, long fildes, long off) {
-        return execute(LLVMAddress.fromLong(addr), len, prot, flags, fildes, off);
-    }
 }
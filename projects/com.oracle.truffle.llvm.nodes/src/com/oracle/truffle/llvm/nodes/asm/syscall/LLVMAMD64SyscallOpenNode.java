@@ -43,12 +43,12 @@ public abstract class LLVMAMD64SyscallOpenNode extends LLVMAMD64SyscallOperation
     }
 
     @Specialization
-    protected long execute(LLVMAddress filename, long flags, long mode) {
-        return (int) open.execute(filename.getVal(), (int) flags, (int) mode);
+    protected long execute(long filename, long flags, long mode) {
+        return execute(LLVMAddress.fromLong(filename), flags, mode);
     }
 
     @Specialization
-    protected long execute(long filename, long flags, long mode) {
-        return execute(LLVMAddress.fromLong(filename), flags, mode);
+    protected long execute(LLVMAddress filename, long flags, long mode) {
+        return (int) open.execute(filename.getVal(), (int) flags, (int) mode);
     }
 }
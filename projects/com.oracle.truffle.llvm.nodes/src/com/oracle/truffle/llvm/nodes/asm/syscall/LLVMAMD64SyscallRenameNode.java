@@ -43,12 +43,12 @@ public abstract class LLVMAMD64SyscallRenameNode extends LLVMAMD64SyscallOperati
     }
 
     @Specialization
-    protected long execute(LLVMAddress oldpath, LLVMAddress newpath) {
-        return (int) rename.execute(oldpath.getVal(), newpath.getVal());
+    protected long execute(long oldpath, long newpath) {
+        return execute(LLVMAddress.fromLong(oldpath), LLVMAddress.fromLong(newpath));
     }
 
     @Specialization
-    protected long execute(long oldpath, long newpath) {
-        return execute(LLVMAddress.fromLong(oldpath), LLVMAddress.fromLong(newpath));
+    protected long execute(LLVMAddress oldpath, LLVMAddress newpath) {
+        return (int) rename.execute(oldpath.getVal(), newpath.getVal());
     }
 }
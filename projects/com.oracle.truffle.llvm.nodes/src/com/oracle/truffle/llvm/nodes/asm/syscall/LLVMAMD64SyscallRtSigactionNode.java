@@ -37,14 +37,14 @@ public abstract class LLVMAMD64SyscallRtSigactionNode extends LLVMAMD64SyscallOp
         super("rt_sigaction");
     }
 
-    @SuppressWarnings("unused")
     @Specialization
-    protected long executeI64(long signum, LLVMAddress act, LLVMAddress oldact) {
-        return -LLVMAMD64Error.ENOSYS;
+    protected long executeI64(long signum, long act, long oldact) {
+        return executeI64(signum, LLVMAddress.fromLong(act), LLVMAddress.fromLong(oldact));
     }
 
+    @SuppressWarnings("unused")
     @Specialization
-    protected long executeI64(long signum, long act, long oldact) {
-        return executeI64(signum, LLVMAddress.fromLong(act), LLVMAddress.fromLong(oldact));
+    protected long executeI64(long signum, LLVMAddress act, LLVMAddress oldact) {
+        return -LLVMAMD64Error.ENOSYS;
     }
 }
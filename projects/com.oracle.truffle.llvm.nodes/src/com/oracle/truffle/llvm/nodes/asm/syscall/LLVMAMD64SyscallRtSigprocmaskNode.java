@@ -37,14 +37,14 @@ public abstract class LLVMAMD64SyscallRtSigprocmaskNode extends LLVMAMD64Syscall
         super("rt_sigprocmask");
     }
 
-    @SuppressWarnings("unused")
     @Specialization
-    protected long executeI64(long how, LLVMAddress set, LLVMAddress oldset, long sigsetsize) {
-        return -LLVMAMD64Error.ENOSYS;
+    protected long executeI64(long how, long set, long oldset, long sigsetsize) {
+        return executeI64(how, LLVMAddress.fromLong(set), LLVMAddress.fromLong(oldset), sigsetsize);
     }
 
+    @SuppressWarnings("unused")
     @Specialization
-    protected long executeI64(long how, long set, long oldset, long sigsetsize) {
-        return executeI64(how, LLVMAddress.fromLong(set), LLVMAddress.fromLong(oldset), sigsetsize);
+    protected long executeI64(long how, LLVMAddress set, LLVMAddress oldset, long sigsetsize) {
+        return -LLVMAMD64Error.ENOSYS;
     }
 }
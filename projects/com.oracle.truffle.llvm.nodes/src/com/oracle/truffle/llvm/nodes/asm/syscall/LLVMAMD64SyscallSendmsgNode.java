@@ -43,12 +43,12 @@ public abstract class LLVMAMD64SyscallSendmsgNode extends LLVMAMD64SyscallOperat
     }
 
     @Specialization
-    protected long execute(long socket, LLVMAddress message, long flags) {
-        return (int) sendmsg.execute((int) socket, message.getVal(), (int) flags);
+    protected long execute(long socket, long message, long flags) {
+        return execute(socket, LLVMAddress.fromLong(message), flags);
     }
 
     @Specialization
-    protected long execute(long socket, long message, long flags) {
-        return execute(socket, LLVMAddress.fromLong(message), flags);
+    protected long execute(long socket, LLVMAddress message, long flags) {
+        return (int) sendmsg.execute((int) socket, message.getVal(), (int) flags);
     }
 }
@@ -38,16 +38,15 @@ public abstract class LLVMAMD64SyscallSetTidAddressNode extends LLVMAMD64Syscall
         super("set_tid_address");
     }
 
-    @TruffleBoundary
     @Specialization
-    protected long execute(LLVMAddress tidptr) {
-        ThreadLocal<LLVMAddress> clearChildTid = getContextReference().get().getClearChildTid();
-        clearChildTid.set(tidptr);
-        return Thread.currentThread().getId();
+    protected long execute(long tidptr) {
+        return execute(LLVMAddress.fromLong(tidptr));
     }
 
+    @TruffleBoundary
     @Specialization
-    protected long execute(long tidptr) {
-        return execute(LLVMAddress.fromLong(tidptr));
+    protected long execute(LLVMAddress tidptr) {
+        getContextReference().get().getThreadLocalStorage().getThreadState().setClearChildTid(tidptr);
+        return Thread.currentThread().getId();
     }
 }
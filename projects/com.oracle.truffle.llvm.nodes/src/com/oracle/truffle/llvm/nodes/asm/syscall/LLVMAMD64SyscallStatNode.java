@@ -42,11 +42,6 @@ public abstract class LLVMAMD64SyscallStatNode extends LLVMAMD64SyscallOperation
         stat = LLVMAMD64PosixCallNodeGen.create("stat", "(POINTER,POINTER):SINT32", 2);
     }
 
-    @Specialization
-    protected long executeI64(LLVMAddress path, LLVMAddress buf) {
-        return (int) stat.execute(path.getVal(), buf.getVal());
-    }
-
     @Specialization
     protected long executeI64(long path, long buf) {
         return executeI64(LLVMAddress.fromLong(path), LLVMAddress.fromLong(buf));
@@ -61,4 +56,9 @@ public abstract class LLVMAMD64SyscallStatNode extends LLVMAMD64SyscallOperation
     protected long executeI64(long path, LLVMAddress buf) {
         return executeI64(LLVMAddress.fromLong(path), buf);
     }
+
+    @Specialization
+    protected long executeI64(LLVMAddress path, LLVMAddress buf) {
+        return (int) stat.execute(path.getVal(), buf.getVal());
+    }
 }
@@ -38,12 +38,12 @@ public abstract class LLVMAMD64SyscallUnameNode extends LLVMAMD64SyscallOperatio
     }
 
     @Specialization
-    protected long execute(LLVMAddress name) {
-        return LLVMInfo.uname(name);
+    protected long execute(long name) {
+        return execute(LLVMAddress.fromLong(name));
     }
 
     @Specialization
-    protected long execute(long name) {
-        return execute(LLVMAddress.fromLong(name));
+    protected long execute(LLVMAddress name) {
+        return LLVMInfo.uname(name);
     }
 }
@@ -43,12 +43,12 @@ public abstract class LLVMAMD64SyscallUnlinkNode extends LLVMAMD64SyscallOperati
     }
 
     @Specialization
-    protected long execute(LLVMAddress path) {
-        return (int) unlink.execute(path.getVal());
+    protected long execute(long path) {
+        return execute(LLVMAddress.fromLong(path));
     }
 
     @Specialization
-    protected long execute(long path) {
-        return execute(LLVMAddress.fromLong(path));
+    protected long execute(LLVMAddress path) {
+        return (int) unlink.execute(path.getVal());
     }
 }
@@ -142,6 +142,39 @@ public class LLVMBasicBlockNode extends LLVMExpressionNode {
         return s;
     }
 
+    /**
+     * Describes where {@code node} is in the program: by its source location if it has debug
+     * information, and otherwise by its function, basic block and the index of the statement that
+     * contains it.
+     */
+    @TruffleBoundary
+    public static String describeLocation(Node node) {
+        SourceSection section = node.getEncapsulatingSourceSection();
+        if (section != null && section.isAvailable()) {
+            return section.getSource().getName() + ":" + section.getStartLine();
+        }
+        Node statement = node;
+        Node parent = node.getParent();
+        while (parent != null && !(parent instanceof LLVMBasicBlockNode)) {
+            statement = parent;
+            parent = statement.getParent();
+        }
+        if (parent == null) {
+            return node.getRootNode().getName();
+        }
+        LLVMBasicBlockNode block = (LLVMBasicBlockNode) parent;
+        // the terminating instruction comes after all statements
+        int index = block.statements.length;
+        for (int i = 0; i < block.statements.length; i++) {
+            if (block.statements[i] == statement) {
+                index = i;
+                break;
+            }
+        }
+        String name = block.blockName == null ? String.valueOf(block.blockId) : block.blockName;
+        return String.format("%s, block %s, instruction %d", node.getRootNode().getName(), name, index);
+    }
+
     public int getBlockId() {
         return blockId;
     }
@@ -125,13 +125,13 @@ public abstract class LLVMToI32Node extends LLVMExpressionNode {
         }
 
         @Specialization
-        public int executeI32(LLVMAddress from) {
-            return (int) from.getVal();
+        public int executeI32(long from) {
+            return (int) from;
         }
 
         @Specialization
-        public int executeI32(long from) {
-            return (int) from;
+        public int executeI32(LLVMAddress from) {
+            return (int) from.getVal();
         }
 
         @Specialization
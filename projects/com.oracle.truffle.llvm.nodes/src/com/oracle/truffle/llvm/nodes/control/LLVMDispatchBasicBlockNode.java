@@ -55,6 +55,7 @@ public final class LLVMDispatchBasicBlockNode extends LLVMExpressionNode {
     @Children private final LLVMBasicBlockNode[] bodyNodes;
     @CompilationFinal(dimensions = 2) private final FrameSlot[][] beforeBlockNuller;
     @CompilationFinal(dimensions = 2) private final FrameSlot[][] afterBlockNuller;
+    @Child private LLVMSignalPollNode signalPoll = new LLVMSignalPollNode();
 
     public LLVMDispatchBasicBlockNode(FrameSlot exceptionValueSlot, LLVMBasicBlockNode[] bodyNodes, FrameSlot[][] beforeBlockNuller, FrameSlot[][] afterBlockNuller, SourceSection sourceSection) {
         this.exceptionValueSlot = exceptionValueSlot;
@@ -92,6 +93,7 @@ public final class LLVMDispatchBasicBlockNode extends LLVMExpressionNode {
                             backEdgeCounter++;
                         }
                     }
+                    pollOnBackEdge(frame, conditionalBranchNode.getTrueSuccessor(), basicBlockIndex);
                     executePhis(frame, conditionalBranchNode, LLVMConditionalBranchNode.TRUE_SUCCESSOR);
                     nullDeadSlots(frame, basicBlockIndex, afterBlockNuller);
                     basicBlockIndex = conditionalBranchNode.getTrueSuccessor();
@@ -104,6 +106,7 @@ public final class LLVMDispatchBasicBlockNode extends LLVMExpressionNode {
                             backEdgeCounter++;
                         }
                     }
+                    pollOnBackEdge(frame, conditionalBranchNode.getFalseSuccessor(), basicBlockIndex);
                     executePhis(frame, conditionalBranchNode, LLVMConditionalBranchNode.FALSE_SUCCESSOR);
                     nullDeadSlots(frame, basicBlockIndex, afterBlockNuller);
                     basicBlockIndex = conditionalBranchNode.getFalseSuccessor();
@@ -124,6 +127,7 @@ public final class LLVMDispatchBasicBlockNode extends LLVMExpressionNode {
                                 backEdgeCounter++;
                             }
                         }
+                        pollOnBackEdge(frame, successors[i], basicBlockIndex);
                         executePhis(frame, switchNode, i);
                         nullDeadSlots(frame, basicBlockIndex, afterBlockNuller);
                         basicBlockIndex = successors[i];
@@ -139,6 +143,7 @@ public final class LLVMDispatchBasicBlockNode extends LLVMExpressionNode {
                         backEdgeCounter++;
                     }
                 }
+                pollOnBackEdge(frame, successors[i], basicBlockIndex);
                 executePhis(frame, switchNode, i);
                 nullDeadSlots(frame, basicBlockIndex, afterBlockNuller);
                 basicBlockIndex = successors[i];
@@ -158,6 +163,7 @@ public final class LLVMDispatchBasicBlockNode extends LLVMExpressionNode {
                                 backEdgeCounter++;
                             }
                         }
+                        pollOnBackEdge(frame, successors[i], basicBlockIndex);
                         executePhis(frame, indirectBranchNode, i);
                         nullDeadSlots(frame, basicBlockIndex, afterBlockNuller);
                         basicBlockIndex = successors[i];
@@ -174,6 +180,7 @@ public final class LLVMDispatchBasicBlockNode extends LLVMExpressionNode {
                         backEdgeCounter++;
                     }
                 }
+                pollOnBackEdge(frame, successors[i], basicBlockIndex);
                 executePhis(frame, indirectBranchNode, i);
                 nullDeadSlots(frame, basicBlockIndex, afterBlockNuller);
                 basicBlockIndex = successors[i];
@@ -186,6 +193,7 @@ public final class LLVMDispatchBasicBlockNode extends LLVMExpressionNode {
                         backEdgeCounter++;
                     }
                 }
+                pollOnBackEdge(frame, unconditionalNode.getSuccessor(), basicBlockIndex);
                 unconditionalNode.execute(frame); // required for instrumentation
                 executePhis(frame, unconditionalNode, 0);
                 nullDeadSlots(frame, basicBlockIndex, afterBlockNuller);
@@ -201,6 +209,7 @@ public final class LLVMDispatchBasicBlockNode extends LLVMExpressionNode {
                             backEdgeCounter++;
                         }
                     }
+                    pollOnBackEdge(frame, invokeNode.getNormalSuccessor(), basicBlockIndex);
                     executePhis(frame, invokeNode, LLVMInvokeNode.NORMAL_SUCCESSOR);
                     nullDeadSlots(frame, basicBlockIndex, afterBlockNuller);
                     basicBlockIndex = invokeNode.getNormalSuccessor();
@@ -213,6 +222,7 @@ public final class LLVMDispatchBasicBlockNode extends LLVMExpressionNode {
                             backEdgeCounter++;
                         }
                     }
+                    pollOnBackEdge(frame, invokeNode.getUnwindSuccessor(), basicBlockIndex);
                     executePhis(frame, invokeNode, LLVMInvokeNode.UNWIND_SUCCESSOR);
                     nullDeadSlots(frame, basicBlockIndex, afterBlockNuller);
                     basicBlockIndex = invokeNode.getUnwindSuccessor();
@@ -249,6 +259,13 @@ public final class LLVMDispatchBasicBlockNode extends LLVMExpressionNode {
         return returnValue;
     }
 
+    private void pollOnBackEdge(VirtualFrame frame, int successor, int basicBlockIndex) {
+        // the comparison is constant in compiled code, so only real back-edges poll
+        if (successor <= basicBlockIndex) {
+            signalPoll.poll(frame);
+        }
+    }
+
     @ExplodeLoop
     private static void executePhis(VirtualFrame frame, LLVMControlFlowNode controlFlowNode, int successorIndex) {
         LLVMExpressionNode phi = controlFlowNode.getPhiNode(successorIndex);
@@ -105,6 +105,12 @@ public final class LLVMCallNode extends LLVMExpressionNode {
 
         protected abstract Object executeWithTarget(Object value);
 
+        @Specialization
+        long doNative(long address) {
+            // raw pointers are immutable, so they are passed on as they are
+            return address;
+        }
+
         @Specialization
         LLVMAddress doAddress(LLVMAddress address) {
             return address.copy();
@@ -29,9 +29,13 @@
  */
 package com.oracle.truffle.llvm.nodes.func;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
 import com.oracle.truffle.api.CompilerAsserts;
 import com.oracle.truffle.api.CompilerDirectives;
 import com.oracle.truffle.api.CompilerDirectives.CompilationFinal;
+import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
 import com.oracle.truffle.api.TruffleLanguage.ContextReference;
 import com.oracle.truffle.api.RootCallTarget;
 import com.oracle.truffle.api.dsl.Cached;
@@ -52,6 +56,7 @@ import com.oracle.truffle.llvm.runtime.NFIContextExtension.UnsupportedNativeType
 import com.oracle.truffle.llvm.runtime.memory.LLVMStack;
 import com.oracle.truffle.llvm.runtime.memory.LLVMThreadingStack;
 import com.oracle.truffle.llvm.runtime.nodes.api.LLVMNode;
+import com.oracle.truffle.llvm.runtime.profiling.LLVMNativeCallProfiler.CallSite;
 import com.oracle.truffle.llvm.runtime.types.FunctionType;
 
 @SuppressWarnings("unused")
@@ -156,21 +161,35 @@ public abstract class LLVMDispatchNode extends LLVMNode {
                     @Cached("createNativeCallNode()") Node nativeCall,
                     @Cached("bindSymbol(frame, cachedDescriptor)") TruffleObject cachedBoundFunction,
                     @Cached("getContextReference()") ContextReference<LLVMContext> context,
-                    @Cached("nativeCallStatisticsEnabled(context)") boolean statistics,
+                    @Cached("createCallSite(nativeCallStatisticsEnabled(context), context, cachedDescriptor.getName())") CallSite callSite,
                     @Cached("create()") LLVMGetStackNode getStack) {
 
         Object[] nativeArgs = prepareNativeArguments(frame, arguments, toNative);
         LLVMStack stack = getStack.executeWithTarget(getThreadingStack(context), Thread.currentThread());
         stack.setStackPointer((long) arguments[0]);
-        Object returnValue = LLVMNativeCallUtils.callNativeFunction(statistics, context, nativeCall, cachedBoundFunction, nativeArgs, cachedDescriptor);
+        Object returnValue = LLVMNativeCallUtils.callNativeFunction(callSite, nativeCall, cachedBoundFunction, nativeArgs);
         stack.setStackPointer((long) arguments[0]);
         return fromNative.executeConvert(frame, returnValue);
     }
 
+    protected CallSite createCallSite(boolean statistics, ContextReference<LLVMContext> context, String name) {
+        return LLVMNativeCallUtils.createCallSite(statistics, context, name, type, this);
+    }
+
     protected TruffleObject bindSymbol(VirtualFrame frame, LLVMFunctionDescriptor descriptor) {
         CompilerAsserts.neverPartOfCompilation();
         assert descriptor.getNativeFunction() != null : descriptor.getName();
-        return LLVMNativeCallUtils.bindNativeSymbol(LLVMNativeCallUtils.getBindNode(), descriptor.getNativeFunction(), getSignature());
+        return getNFIContextExtension(getContextReference()).getBoundNativeFunction(descriptor.getNativeFunction(), getSignature());
+    }
+
+    @CompilationFinal private NFIContextExtension nfiContextExtension = null;
+
+    private NFIContextExtension getNFIContextExtension(ContextReference<LLVMContext> context) {
+        if (nfiContextExtension == null) {
+            CompilerDirectives.transferToInterpreterAndInvalidate();
+            nfiContextExtension = context.get().getContextExtension(NFIContextExtension.class);
+        }
+        return nfiContextExtension;
     }
 
     @Specialization(replaces = "doCachedNative", guards = "descriptor.isNativeFunction()")
@@ -178,20 +197,33 @@ public abstract class LLVMDispatchNode extends LLVMNode {
                     @Cached("createToNativeNodes()") LLVMNativeConvertNode[] toNative,
                     @Cached("createFromNativeNode()") LLVMNativeConvertNode fromNative,
                     @Cached("createNativeCallNode()") Node nativeCall,
-                    @Cached("getBindNode()") Node bindNode,
                     @Cached("getContextReference()") ContextReference<LLVMContext> context,
-                    @Cached("nativeCallStatisticsEnabled(context)") boolean statistics,
+                    @Cached("createCallSites(nativeCallStatisticsEnabled(context))") Map<LLVMFunctionDescriptor, CallSite> callSites,
                     @Cached("create()") LLVMGetStackNode getStack) {
 
         Object[] nativeArgs = prepareNativeArguments(frame, arguments, toNative);
-        TruffleObject boundSymbol = LLVMNativeCallUtils.bindNativeSymbol(bindNode, descriptor.getNativeFunction(), getSignature());
+        CallSite callSite = callSites == null ? null : getCallSite(callSites, context, descriptor);
+        TruffleObject boundSymbol = getNFIContextExtension(context).getBoundNativeFunction(descriptor.getNativeFunction(), getSignature());
         LLVMStack stack = getStack.executeWithTarget(getThreadingStack(context), Thread.currentThread());
         stack.setStackPointer((long) arguments[0]);
-        Object returnValue = LLVMNativeCallUtils.callNativeFunction(statistics, context, nativeCall, boundSymbol, nativeArgs, descriptor);
+        Object returnValue = LLVMNativeCallUtils.callNativeFunction(callSite, nativeCall, boundSymbol, nativeArgs);
         stack.setStackPointer((long) arguments[0]);
         return fromNative.executeConvert(frame, returnValue);
     }
 
+    /**
+     * @return the profiles of the callees of the uncached native dispatch, or {@code null} if
+     *         native call statistics are disabled
+     */
+    protected static Map<LLVMFunctionDescriptor, CallSite> createCallSites(boolean statistics) {
+        return statistics ? new ConcurrentHashMap<>() : null;
+    }
+
+    @TruffleBoundary
+    private CallSite getCallSite(Map<LLVMFunctionDescriptor, CallSite> callSites, ContextReference<LLVMContext> context, LLVMFunctionDescriptor descriptor) {
+        return callSites.computeIfAbsent(descriptor, d -> LLVMNativeCallUtils.createCallSite(true, context, d.getName(), type, this));
+    }
+
     @ExplodeLoop
     private static Object[] prepareNativeArguments(VirtualFrame frame, Object[] arguments, LLVMNativeConvertNode[] toNative) {
         Object[] nativeArgs = new Object[arguments.length - LLVMCallNode.USER_ARGUMENT_OFFSET];
@@ -201,11 +233,6 @@ public abstract class LLVMDispatchNode extends LLVMNode {
         return nativeArgs;
     }
 
-    protected Node getBindNode() {
-        CompilerAsserts.neverPartOfCompilation();
-        return LLVMNativeCallUtils.getBindNode();
-    }
-
     protected Node createNativeCallNode() {
         CompilerAsserts.neverPartOfCompilation();
         int argCount = type.getArgumentTypes().length - LLVMCallNode.USER_ARGUMENT_OFFSET;
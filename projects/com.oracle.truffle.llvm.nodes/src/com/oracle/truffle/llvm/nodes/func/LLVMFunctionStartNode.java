@@ -38,6 +38,7 @@ import com.oracle.truffle.api.nodes.RootNode;
 import com.oracle.truffle.api.source.Source;
 import com.oracle.truffle.api.source.SourceSection;
 import com.oracle.truffle.llvm.nodes.base.LLVMFrameNullerUtil;
+import com.oracle.truffle.llvm.nodes.control.LLVMSignalPollNode;
 import com.oracle.truffle.llvm.runtime.LLVMLanguage;
 import com.oracle.truffle.llvm.runtime.nodes.api.LLVMExpressionNode;
 
@@ -45,6 +46,7 @@ public class LLVMFunctionStartNode extends RootNode {
 
     @Child private LLVMExpressionNode node;
     @Children private final LLVMExpressionNode[] copyArgumentsToFrame;
+    @Child private LLVMSignalPollNode signalPoll = new LLVMSignalPollNode();
     @CompilationFinal(dimensions = 1) FrameSlot[] frameSlotsToInitialize;
     private final String name;
     private final int explicitArgumentsCount;
@@ -71,6 +73,7 @@ public class LLVMFunctionStartNode extends RootNode {
     public Object execute(VirtualFrame frame) {
         nullStack(frame);
         copyArgumentsToFrame(frame);
+        signalPoll.poll(frame);
         Object result = node.executeGeneric(frame);
         return result;
     }
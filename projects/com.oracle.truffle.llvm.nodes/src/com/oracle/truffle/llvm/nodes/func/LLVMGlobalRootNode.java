@@ -47,7 +47,6 @@ import com.oracle.truffle.api.nodes.ExplodeLoop;
 import com.oracle.truffle.api.nodes.RootNode;
 import com.oracle.truffle.api.source.Source;
 import com.oracle.truffle.llvm.nodes.intrinsics.c.LLVMAbort;
-import com.oracle.truffle.llvm.nodes.intrinsics.c.LLVMSignal;
 import com.oracle.truffle.llvm.runtime.GuestLanguageRuntimeException;
 import com.oracle.truffle.llvm.runtime.LLVMContext;
 import com.oracle.truffle.llvm.runtime.LLVMContext.DestructorStackElement;
@@ -84,7 +83,6 @@ public class LLVMGlobalRootNode extends RootNode {
         try (StackPointer basePointer = getContext().getThreadingStack().getStack().takeStackPointer()) {
             try {
                 Object result = null;
-                assert LLVMSignal.getNumberOfRegisteredSignals() == 0;
 
                 Object[] arguments = prepareArguments.execute(frame);
                 Object[] realArgs = new Object[arguments.length + LLVMCallNode.USER_ARGUMENT_OFFSET];
@@ -94,11 +92,11 @@ public class LLVMGlobalRootNode extends RootNode {
                 result = executeIteration(realArgs);
 
                 getContext().awaitThreadTermination();
-                assert LLVMSignal.getNumberOfRegisteredSignals() == 0;
+                assert getContext().getSignalContext().getNumberOfHostHandlers() == 0;
                 return result;
             } catch (LLVMExitException e) {
                 getContext().awaitThreadTermination();
-                assert LLVMSignal.getNumberOfRegisteredSignals() == 0;
+                assert getContext().getSignalContext().getNumberOfHostHandlers() == 0;
                 return e.getReturnCode();
             } catch (SulongRuntimeException e) {
                 CompilerDirectives.transferToInterpreter();
@@ -33,53 +33,41 @@ import java.util.Arrays;
 
 import com.oracle.truffle.api.CompilerAsserts;
 import com.oracle.truffle.api.CompilerDirectives;
-import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
 import com.oracle.truffle.api.TruffleLanguage.ContextReference;
 import com.oracle.truffle.api.interop.ForeignAccess;
-import com.oracle.truffle.api.interop.Message;
 import com.oracle.truffle.api.interop.TruffleObject;
 import com.oracle.truffle.api.nodes.Node;
+import com.oracle.truffle.llvm.nodes.base.LLVMBasicBlockNode;
 import com.oracle.truffle.llvm.runtime.LLVMContext;
-import com.oracle.truffle.llvm.runtime.LLVMFunctionDescriptor;
+import com.oracle.truffle.llvm.runtime.profiling.LLVMNativeCallProfiler.CallSite;
+import com.oracle.truffle.llvm.runtime.types.FunctionType;
 
 public final class LLVMNativeCallUtils {
 
-    static Node getBindNode() {
-        CompilerAsserts.neverPartOfCompilation();
-        return Message.createInvoke(1).createNode();
-    }
-
-    static TruffleObject bindNativeSymbol(Node bindNode, TruffleObject symbol, String signature) {
+    static Object callNativeFunction(CallSite callSite, Node nativeCall, TruffleObject function, Object[] nativeArgs) {
+        long start = callSite == null ? -1 : callSite.enter();
+        Object result;
         try {
-            return (TruffleObject) ForeignAccess.sendInvoke(bindNode, symbol, "bind", signature);
-        } catch (Throwable ex) {
+            result = ForeignAccess.sendExecute(nativeCall, function, nativeArgs);
+        } catch (Throwable e) {
             CompilerDirectives.transferToInterpreter();
-            throw new IllegalStateException(symbol + " " + signature, ex);
+            throw new IllegalStateException(function + Arrays.toString(nativeArgs), e);
         }
+        if (callSite != null) {
+            callSite.exit(start);
+        }
+        return result;
     }
 
-    static Object callNativeFunction(boolean enabled, ContextReference<LLVMContext> context, Node nativeCall, TruffleObject function, Object[] nativeArgs, LLVMFunctionDescriptor descriptor) {
+    /**
+     * @return a new profile for the calls of {@code name} at {@code callSite}, or {@code null} if
+     *         native call statistics are disabled
+     */
+    static CallSite createCallSite(boolean enabled, ContextReference<LLVMContext> context, String name, FunctionType type, Node callSite) {
         CompilerAsserts.partialEvaluationConstant(enabled);
         if (enabled) {
-            if (descriptor != null) {
-                traceNativeCall(context.get(), descriptor);
-            }
-        }
-        try {
-            return ForeignAccess.sendExecute(nativeCall, function, nativeArgs);
-        } catch (Throwable e) {
-            CompilerDirectives.transferToInterpreter();
-            throw new IllegalStateException(function + Arrays.toString(nativeArgs), e);
+            return context.get().getNativeCallProfiler().createCallSite(name, String.valueOf(type), LLVMBasicBlockNode.describeLocation(callSite));
         }
-    }
-
-    @TruffleBoundary
-    private static void traceNativeCall(LLVMContext context, LLVMFunctionDescriptor descriptor) {
-        context.registerNativeCall(descriptor);
-    }
-
-    public static TruffleObject bindNativeSymbol(TruffleObject symbol, String signature) {
-        CompilerAsserts.neverPartOfCompilation();
-        return bindNativeSymbol(getBindNode(), symbol, signature);
+        return null;
     }
 }
@@ -103,6 +103,11 @@ public abstract class LLVMNativeConvertNode extends LLVMNode {
 
     protected abstract static class AddressToNative extends LLVMNativeConvertNode {
 
+        @Specialization
+        long addressToNative(long address) {
+            return address;
+        }
+
         @Specialization
         long addressToNative(LLVMAddress address) {
             return address.getVal();
@@ -135,12 +135,11 @@ public abstract class LLVMNativeDispatchNode extends LLVMNode {
                     @Cached("dispatchIdentity(identity, cachedFunction.getFunctionPointer())") TruffleObject nativeFunctionHandle,
                     @Cached("createToNativeNodes()") LLVMNativeConvertNode[] toNative,
                     @Cached("createFromNativeNode()") LLVMNativeConvertNode fromNative,
-                    @Cached("nativeCallStatisticsEnabled(context)") boolean statistics,
                     @Cached("create()") LLVMGetStackNode getStack) {
         Object[] nativeArgs = prepareNativeArguments(frame, arguments, toNative);
         LLVMStack stack = getStack.executeWithTarget(getThreadingStack(context), Thread.currentThread());
         stack.setStackPointer((long) arguments[0]);
-        Object returnValue = LLVMNativeCallUtils.callNativeFunction(statistics, context, nativeCallNode, nativeFunctionHandle, nativeArgs, null);
+        Object returnValue = LLVMNativeCallUtils.callNativeFunction(null, nativeCallNode, nativeFunctionHandle, nativeArgs);
         stack.setStackPointer((long) arguments[0]);
         return fromNative.executeConvert(frame, returnValue);
     }
@@ -151,12 +150,11 @@ public abstract class LLVMNativeDispatchNode extends LLVMNode {
                     @Cached("identityFunction()") TruffleObject identity,
                     @Cached("createToNativeNodes()") LLVMNativeConvertNode[] toNative,
                     @Cached("createFromNativeNode()") LLVMNativeConvertNode fromNative,
-                    @Cached("nativeCallStatisticsEnabled(context)") boolean statistics,
                     @Cached("create()") LLVMGetStackNode getStack) {
         Object[] nativeArgs = prepareNativeArguments(frame, arguments, toNative);
         LLVMStack stack = getStack.executeWithTarget(getThreadingStack(context), Thread.currentThread());
         stack.setStackPointer((long) arguments[0]);
-        Object returnValue = LLVMNativeCallUtils.callNativeFunction(statistics, context, nativeCallNode, dispatchIdentity(identity, function.getFunctionPointer()), nativeArgs, null);
+        Object returnValue = LLVMNativeCallUtils.callNativeFunction(null, nativeCallNode, dispatchIdentity(identity, function.getFunctionPointer()), nativeArgs);
         stack.setStackPointer((long) arguments[0]);
         return fromNative.executeConvert(frame, returnValue);
     }
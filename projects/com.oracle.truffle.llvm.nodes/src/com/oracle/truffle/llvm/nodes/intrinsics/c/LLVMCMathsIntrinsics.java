@@ -29,7 +29,7 @@
  */
 package com.oracle.truffle.llvm.nodes.intrinsics.c;
 
-import com.oracle.truffle.api.CompilerDirectives;
+import com.oracle.truffle.api.dsl.Cached;
 import com.oracle.truffle.api.dsl.NodeChild;
 import com.oracle.truffle.api.dsl.NodeChildren;
 import com.oracle.truffle.api.dsl.Specialization;
@@ -54,6 +54,11 @@ public abstract class LLVMCMathsIntrinsics {
             return Math.sqrt(value);
         }
 
+        @Specialization
+        public float executeIntrinsic(float value) {
+            return (float) Math.sqrt(value);
+        }
+
     }
 
     @NodeChild(type = LLVMExpressionNode.class)
@@ -64,6 +69,11 @@ public abstract class LLVMCMathsIntrinsics {
             return Math.log(value);
         }
 
+        @Specialization
+        public float executeIntrinsic(float value) {
+            return (float) Math.log(value);
+        }
+
     }
 
     @NodeChild(type = LLVMExpressionNode.class)
@@ -76,6 +86,11 @@ public abstract class LLVMCMathsIntrinsics {
             return Math.log(value) / LOG_2;
         }
 
+        @Specialization
+        public float executeIntrinsic(float value) {
+            return (float) (Math.log(value) / LOG_2);
+        }
+
     }
 
     @NodeChild(type = LLVMExpressionNode.class)
@@ -86,6 +101,11 @@ public abstract class LLVMCMathsIntrinsics {
             return Math.log10(value);
         }
 
+        @Specialization
+        public float executeIntrinsic(float value) {
+            return (float) Math.log10(value);
+        }
+
     }
 
     @NodeChild(type = LLVMExpressionNode.class)
@@ -96,6 +116,11 @@ public abstract class LLVMCMathsIntrinsics {
             return Math.rint(value);
         }
 
+        @Specialization
+        public float executeIntrinsic(float value) {
+            return (float) Math.rint(value);
+        }
+
     }
 
     @NodeChild(type = LLVMExpressionNode.class)
@@ -106,6 +131,11 @@ public abstract class LLVMCMathsIntrinsics {
             return Math.ceil(value);
         }
 
+        @Specialization
+        public float executeIntrinsic(float value) {
+            return (float) Math.ceil(value);
+        }
+
     }
 
     @NodeChild(type = LLVMExpressionNode.class)
@@ -116,6 +146,11 @@ public abstract class LLVMCMathsIntrinsics {
             return Math.floor(value);
         }
 
+        @Specialization
+        public float executeIntrinsic(float value) {
+            return (float) Math.floor(value);
+        }
+
     }
 
     @NodeChild(type = LLVMExpressionNode.class)
@@ -154,6 +189,11 @@ public abstract class LLVMCMathsIntrinsics {
             return Math.exp(value);
         }
 
+        @Specialization
+        public float executeIntrinsic(float value) {
+            return (float) Math.exp(value);
+        }
+
     }
 
     @NodeChild(type = LLVMExpressionNode.class)
@@ -164,6 +204,11 @@ public abstract class LLVMCMathsIntrinsics {
             return Math.pow(2, value);
         }
 
+        @Specialization
+        public float executeIntrinsic(float value) {
+            return (float) Math.pow(2, value);
+        }
+
     }
 
     @NodeChildren({@NodeChild(type = LLVMExpressionNode.class), @NodeChild(type = LLVMExpressionNode.class)})
@@ -174,6 +219,11 @@ public abstract class LLVMCMathsIntrinsics {
             return value * Math.pow(2, exp);
         }
 
+        @Specialization
+        public float executeIntrinsic(float value, int exp) {
+            return Math.scalb(value, exp);
+        }
+
     }
 
     @NodeChildren({@NodeChild(type = LLVMExpressionNode.class), @NodeChild(type = LLVMExpressionNode.class)})
@@ -189,30 +239,37 @@ public abstract class LLVMCMathsIntrinsics {
 
     }
 
+    /**
+     * C fmod truncates the quotient towards zero, which is exactly what the Java remainder operator
+     * does ({@link Math#IEEEremainder} rounds it to the nearest integer instead). The result is
+     * exact, NaN for a zero divisor or an infinite dividend, and the dividend for an infinite
+     * divisor.
+     */
     @NodeChildren({@NodeChild(type = LLVMExpressionNode.class), @NodeChild(type = LLVMExpressionNode.class)})
     public abstract static class LLVMFmod extends LLVMIntrinsic {
 
         @Specialization
         public double executeIntrinsic(double numer, double denom) {
-            if (CompilerDirectives.injectBranchProbability(CompilerDirectives.SLOWPATH_PROBABILITY, denom == 0)) {
-                return 0;
-            } else {
-                return Math.IEEEremainder(numer, denom);
-            }
+            return numer % denom;
+        }
+
+        @Specialization
+        public float executeIntrinsic(float numer, float denom) {
+            return numer % denom;
         }
 
     }
 
+    /**
+     * Computes the remainder in double precision, so long double operands that are not exactly
+     * representable as a double get the remainder of their rounded values.
+     */
     @NodeChildren({@NodeChild(type = LLVMExpressionNode.class), @NodeChild(type = LLVMExpressionNode.class)})
     public abstract static class LLVMFmodl extends LLVMIntrinsic {
 
         @Specialization
         public LLVM80BitFloat executeIntrinsic(LLVM80BitFloat numer, LLVM80BitFloat denom) {
-            if (CompilerDirectives.injectBranchProbability(CompilerDirectives.SLOWPATH_PROBABILITY, denom.isZero())) {
-                return LLVM80BitFloat.fromInt(0);
-            } else {
-                return numer.rem(denom);
-            }
+            return numer.rem(denom);
         }
 
     }
@@ -220,22 +277,42 @@ public abstract class LLVMCMathsIntrinsics {
     @NodeChildren({@NodeChild(type = LLVMExpressionNode.class), @NodeChild(type = LLVMExpressionNode.class)})
     public abstract static class LLVMPow extends LLVMBuiltin {
 
-        @Specialization
+        @Specialization(guards = "pow == cachedPow", limit = "1")
+        public float executeFloatCachedI32(float val, @SuppressWarnings("unused") int pow, @Cached("pow") int cachedPow) {
+            return (float) powConstantExponent(val, cachedPow);
+        }
+
+        @Specialization(guards = "pow == cachedPow", limit = "1")
+        public float executeFloatCached(float val, @SuppressWarnings("unused") float pow, @Cached("pow") float cachedPow) {
+            return (float) powConstantExponent(val, cachedPow);
+        }
+
+        @Specialization(guards = "b == cachedB", limit = "1")
+        public double executeDoubleCachedI32(double a, @SuppressWarnings("unused") int b, @Cached("b") int cachedB) {
+            return powConstantExponent(a, cachedB);
+        }
+
+        @Specialization(guards = "b == cachedB", limit = "1")
+        public double executeDoubleCached(double a, @SuppressWarnings("unused") double b, @Cached("b") double cachedB) {
+            return powConstantExponent(a, cachedB);
+        }
+
+        @Specialization(replaces = "executeFloatCachedI32")
         public float executeFloat(float val, int pow) {
             return (float) Math.pow(val, pow);
         }
 
-        @Specialization
+        @Specialization(replaces = "executeFloatCached")
         public float executeFloat(float val, float pow) {
             return (float) Math.pow(val, pow);
         }
 
-        @Specialization
+        @Specialization(replaces = "executeDoubleCachedI32")
         public double executeDouble(double a, int b) {
             return Math.pow(a, b);
         }
 
-        @Specialization
+        @Specialization(replaces = "executeDoubleCached")
         public double executeDouble(double a, double b) {
             return Math.pow(a, b);
         }
@@ -250,6 +327,27 @@ public abstract class LLVMCMathsIntrinsics {
             return val.pow(pow);
         }
 
+        /**
+         * The exponent is a compilation constant, so only one of these branches remains in compiled
+         * code. The replacements are exact and therefore agree with a correctly rounded pow.
+         */
+        private static double powConstantExponent(double val, double pow) {
+            if (pow == 2.0) {
+                return val * val;
+            } else if (pow == 0.5) {
+                // unlike sqrt, pow(-0.0, 0.5) is +0.0 and pow(-inf, 0.5) is +inf
+                return val == Double.NEGATIVE_INFINITY ? Double.POSITIVE_INFINITY : Math.sqrt(val) + 0.0;
+            } else if (pow == 1.0) {
+                return val;
+            } else if (pow == 0.0) {
+                return 1.0;
+            } else if (pow == -1.0) {
+                return 1.0 / val;
+            } else {
+                return Math.pow(val, pow);
+            }
+        }
+
     }
 
     @NodeChild(type = LLVMExpressionNode.class)
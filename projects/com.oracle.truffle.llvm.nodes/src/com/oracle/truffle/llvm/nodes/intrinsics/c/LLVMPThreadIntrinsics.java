@@ -0,0 +1,474 @@
+/*
+ * Copyright (c) 2017, Oracle and/or its affiliates.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of
+ * conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of
+ * conditions and the following disclaimer in the documentation and/or other materials provided
+ * with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to
+ * endorse or promote products derived from this software without specific prior written
+ * permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS
+ * OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE
+ * COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE
+ * GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED
+ * OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.oracle.truffle.llvm.nodes.intrinsics.c;
+
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
+import com.oracle.truffle.api.Truffle;
+import com.oracle.truffle.api.TruffleLanguage.ContextReference;
+import com.oracle.truffle.api.dsl.Cached;
+import com.oracle.truffle.api.dsl.NodeChild;
+import com.oracle.truffle.api.dsl.NodeChildren;
+import com.oracle.truffle.api.dsl.Specialization;
+import com.oracle.truffle.api.frame.VirtualFrame;
+import com.oracle.truffle.api.nodes.IndirectCallNode;
+import com.oracle.truffle.llvm.nodes.intrinsics.llvm.LLVMIntrinsic;
+import com.oracle.truffle.llvm.nodes.memory.LLVMForceLLVMAddressNode;
+import com.oracle.truffle.llvm.nodes.memory.LLVMForceLLVMAddressNodeGen;
+import com.oracle.truffle.llvm.runtime.LLVMAddress;
+import com.oracle.truffle.llvm.runtime.LLVMContext;
+import com.oracle.truffle.llvm.runtime.LLVMExitException;
+import com.oracle.truffle.llvm.runtime.LLVMFunctionDescriptor;
+import com.oracle.truffle.llvm.runtime.LLVMFunctionHandle;
+import com.oracle.truffle.llvm.runtime.memory.LLVMMemory;
+import com.oracle.truffle.llvm.runtime.nodes.api.LLVMExpressionNode;
+import com.oracle.truffle.llvm.runtime.pthread.LLVMPThread;
+import com.oracle.truffle.llvm.runtime.pthread.LLVMPThreadContext;
+import com.oracle.truffle.llvm.runtime.pthread.LLVMPThreadExitException;
+
+/**
+ * Guest pthreads are mapped onto Java threads and Java locks, see {@link LLVMPThreadContext}. The
+ * attribute arguments of the init functions are ignored, except for the mutex kind.
+ */
+public abstract class LLVMPThreadIntrinsics extends LLVMIntrinsic {
+
+    @Child private LLVMForceLLVMAddressNode toAddress = LLVMForceLLVMAddressNodeGen.create();
+
+    protected LLVMAddress toAddress(VirtualFrame frame, Object pointer) {
+        return toAddress.executeWithTarget(frame, pointer);
+    }
+
+    protected static LLVMPThreadContext getPThreads(ContextReference<LLVMContext> context) {
+        return context.get().getPThreadContext();
+    }
+
+    /**
+     * Resolves a guest function pointer, returning {@code null} for a null pointer.
+     */
+    @TruffleBoundary
+    protected static LLVMFunctionDescriptor toFunction(LLVMContext context, Object function) {
+        if (function instanceof LLVMFunctionDescriptor) {
+            LLVMFunctionDescriptor descriptor = (LLVMFunctionDescriptor) function;
+            return descriptor.isNullFunction() ? null : descriptor;
+        } else if (function instanceof LLVMFunctionHandle) {
+            LLVMFunctionHandle handle = (LLVMFunctionHandle) function;
+            return handle.isNullFunction() ? null : context.getFunctionDescriptor(handle);
+        } else if (function instanceof LLVMAddress) {
+            long pointer = ((LLVMAddress) function).getVal();
+            return pointer == 0 ? null : context.getFunctionDescriptor(LLVMFunctionHandle.createHandle(pointer));
+        }
+        throw new IllegalStateException("not a function pointer: " + function);
+    }
+
+    @NodeChildren({@NodeChild(type = LLVMExpressionNode.class, value = "thread"), @NodeChild(type = LLVMExpressionNode.class, value = "attr"),
+                    @NodeChild(type = LLVMExpressionNode.class, value = "startRoutine"), @NodeChild(type = LLVMExpressionNode.class, value = "arg")})
+    public abstract static class LLVMPThreadCreate extends LLVMPThreadIntrinsics {
+
+        @Specialization
+        public int execute(VirtualFrame frame, Object thread, @SuppressWarnings("unused") Object attr, Object startRoutine, Object arg,
+                        @Cached("getContextReference()") ContextReference<LLVMContext> context) {
+            LLVMFunctionDescriptor function = toFunction(context.get(), startRoutine);
+            if (function == null || !function.isLLVMIRFunction()) {
+                // only bitcode start routines can run on a guest thread
+                return LLVMPThreadContext.EINVAL;
+            }
+            LLVMPThread newThread = getPThreads(context).createThread(context.get(), function, arg);
+            LLVMMemory.putI64(toAddress(frame, thread), newThread.getId());
+            return 0;
+        }
+    }
+
+    @NodeChildren({@NodeChild(type = LLVMExpressionNode.class, value = "thread"), @NodeChild(type = LLVMExpressionNode.class, value = "returnValue")})
+    public abstract static class LLVMPThreadJoin extends LLVMPThreadIntrinsics {
+
+        @Child private LLVMForceLLVMAddressNode resultToAddress = LLVMForceLLVMAddressNodeGen.create();
+
+        @Specialization
+        public int execute(VirtualFrame frame, long thread, Object returnValue, @Cached("getContextReference()") ContextReference<LLVMContext> context) {
+            LLVMPThreadContext pthreads = getPThreads(context);
+            int error = pthreads.checkJoinable(thread);
+            if (error != 0) {
+                return error;
+            }
+            Object result = pthreads.join(thread);
+            if (result == null) {
+                return LLVMPThreadContext.ESRCH;
+            }
+            LLVMAddress target = toAddress(frame, returnValue);
+            if (target.getVal() != 0) {
+                LLVMMemory.putAddress(target, resultToAddress.executeWithTarget(frame, result));
+            }
+            return 0;
+        }
+    }
+
+    @NodeChild(type = LLVMExpressionNode.class, value = "thread")
+    public abstract static class LLVMPThreadDetach extends LLVMPThreadIntrinsics {
+
+        @Specialization
+        public int execute(long thread, @Cached("getContextReference()") ContextReference<LLVMContext> context) {
+            return getPThreads(context).detach(context.get(), thread);
+        }
+    }
+
+    public abstract static class LLVMPThreadSelf extends LLVMPThreadIntrinsics {
+
+        @Specialization
+        public long execute(@Cached("getContextReference()") ContextReference<LLVMContext> context) {
+            return getPThreads(context).getCurrentThreadId();
+        }
+    }
+
+    @NodeChildren({@NodeChild(type = LLVMExpressionNode.class, value = "thread1"), @NodeChild(type = LLVMExpressionNode.class, value = "thread2")})
+    public abstract static class LLVMPThreadEqual extends LLVMPThreadIntrinsics {
+
+        @Specialization
+        public int execute(long thread1, long thread2) {
+            return thread1 == thread2 ? 1 : 0;
+        }
+    }
+
+    @NodeChild(type = LLVMExpressionNode.class, value = "returnValue")
+    public abstract static class LLVMPThreadExit extends LLVMPThreadIntrinsics {
+
+        @Specialization
+        public Object execute(Object returnValue, @Cached("getContextReference()") ContextReference<LLVMContext> context) {
+            LLVMPThreadContext pthreads = getPThreads(context);
+            if (!pthreads.isGuestThread()) {
+                // the process exits with status 0 once all other threads are done
+                pthreads.awaitAllThreads();
+                throw new LLVMExitException(0);
+            }
+            throw new LLVMPThreadExitException(returnValue);
+        }
+    }
+
+    @NodeChildren({@NodeChild(type = LLVMExpressionNode.class, value = "mutex"), @NodeChild(type = LLVMExpressionNode.class, value = "attr")})
+    public abstract static class LLVMPThreadMutexInit extends LLVMPThreadIntrinsics {
+
+        @Child private LLVMForceLLVMAddressNode attrToAddress = LLVMForceLLVMAddressNodeGen.create();
+
+        @Specialization
+        public int execute(VirtualFrame frame, Object mutex, Object attr, @Cached("getContextReference()") ContextReference<LLVMContext> context) {
+            getPThreads(context).initMutex(toAddress(frame, mutex), attrToAddress.executeWithTarget(frame, attr));
+            return 0;
+        }
+    }
+
+    @NodeChild(type = LLVMExpressionNode.class, value = "mutex")
+    public abstract static class LLVMPThreadMutexDestroy extends LLVMPThreadIntrinsics {
+
+        @Specialization
+        public int execute(VirtualFrame frame, Object mutex, @Cached("getContextReference()") ContextReference<LLVMContext> context) {
+            return getPThreads(context).destroyMutex(toAddress(frame, mutex));
+        }
+    }
+
+    @NodeChild(type = LLVMExpressionNode.class, value = "mutex")
+    public abstract static class LLVMPThreadMutexLock extends LLVMPThreadIntrinsics {
+
+        @Specialization
+        public int execute(VirtualFrame frame, Object mutex, @Cached("getContextReference()") ContextReference<LLVMContext> context) {
+            return getPThreads(context).getMutex(toAddress(frame, mutex)).lock();
+        }
+    }
+
+    @NodeChild(type = LLVMExpressionNode.class, value = "mutex")
+    public abstract static class LLVMPThreadMutexTryLock extends LLVMPThreadIntrinsics {
+
+        @Specialization
+        public int execute(VirtualFrame frame, Object mutex, @Cached("getContextReference()") ContextReference<LLVMContext> context) {
+            return getPThreads(context).getMutex(toAddress(frame, mutex)).tryLock();
+        }
+    }
+
+    @NodeChild(type = LLVMExpressionNode.class, value = "mutex")
+    public abstract static class LLVMPThreadMutexUnlock extends LLVMPThreadIntrinsics {
+
+        @Specialization
+        public int execute(VirtualFrame frame, Object mutex, @Cached("getContextReference()") ContextReference<LLVMContext> context) {
+            return getPThreads(context).getMutex(toAddress(frame, mutex)).unlock();
+        }
+    }
+
+    @NodeChildren({@NodeChild(type = LLVMExpressionNode.class, value = "cond"), @NodeChild(type = LLVMExpressionNode.class, value = "attr")})
+    public abstract static class LLVMPThreadCondInit extends LLVMPThreadIntrinsics {
+
+        @Specialization
+        public int execute(VirtualFrame frame, Object cond, @SuppressWarnings("unused") Object attr, @Cached("getContextReference()") ContextReference<LLVMContext> context) {
+            getPThreads(context).initCondition(toAddress(frame, cond));
+            return 0;
+        }
+    }
+
+    @NodeChild(type = LLVMExpressionNode.class, value = "cond")
+    public abstract static class LLVMPThreadCondDestroy extends LLVMPThreadIntrinsics {
+
+        @Specialization
+        public int execute(VirtualFrame frame, Object cond, @Cached("getContextReference()") ContextReference<LLVMContext> context) {
+            getPThreads(context).destroyCondition(toAddress(frame, cond));
+            return 0;
+        }
+    }
+
+    @NodeChildren({@NodeChild(type = LLVMExpressionNode.class, value = "cond"), @NodeChild(type = LLVMExpressionNode.class, value = "mutex")})
+    public abstract static class LLVMPThreadCondWait extends LLVMPThreadIntrinsics {
+
+        @Child private LLVMForceLLVMAddressNode mutexToAddress = LLVMForceLLVMAddressNodeGen.create();
+
+        @Specialization
+        public int execute(VirtualFrame frame, Object cond, Object mutex, @Cached("getContextReference()") ContextReference<LLVMContext> context) {
+            LLVMPThreadContext pthreads = getPThreads(context);
+            return pthreads.getCondition(toAddress(frame, cond)).await(pthreads.getMutex(mutexToAddress.executeWithTarget(frame, mutex)), -1);
+        }
+    }
+
+    @NodeChildren({@NodeChild(type = LLVMExpressionNode.class, value = "cond"), @NodeChild(type = LLVMExpressionNode.class, value = "mutex"),
+                    @NodeChild(type = LLVMExpressionNode.class, value = "abstime")})
+    public abstract static class LLVMPThreadCondTimedWait extends LLVMPThreadIntrinsics {
+
+        @Child private LLVMForceLLVMAddressNode mutexToAddress = LLVMForceLLVMAddressNodeGen.create();
+        @Child private LLVMForceLLVMAddressNode timeToAddress = LLVMForceLLVMAddressNodeGen.create();
+
+        @Specialization
+        public int execute(VirtualFrame frame, Object cond, Object mutex, Object abstime, @Cached("getContextReference()") ContextReference<LLVMContext> context) {
+            LLVMPThreadContext pthreads = getPThreads(context);
+            // struct timespec { time_t tv_sec; long tv_nsec; } relative to CLOCK_REALTIME
+            LLVMAddress time = timeToAddress.executeWithTarget(frame, abstime);
+            long seconds = LLVMMemory.getI64(time);
+            long nanos = LLVMMemory.getI64(time.increment(Long.BYTES));
+            if (nanos < 0 || nanos >= 1000000000L) {
+                return LLVMPThreadContext.EINVAL;
+            }
+            long deadline = seconds * 1000 + nanos / 1000000;
+            return pthreads.getCondition(toAddress(frame, cond)).await(pthreads.getMutex(mutexToAddress.executeWithTarget(frame, mutex)), deadline);
+        }
+    }
+
+    @NodeChild(type = LLVMExpressionNode.class, value = "cond")
+    public abstract static class LLVMPThreadCondSignal extends LLVMPThreadIntrinsics {
+
+        @Specialization
+        public int execute(VirtualFrame frame, Object cond, @Cached("getContextReference()") ContextReference<LLVMContext> context) {
+            getPThreads(context).getCondition(toAddress(frame, cond)).signal();
+            return 0;
+        }
+    }
+
+    @NodeChild(type = LLVMExpressionNode.class, value = "cond")
+    public abstract static class LLVMPThreadCondBroadcast extends LLVMPThreadIntrinsics {
+
+        @Specialization
+        public int execute(VirtualFrame frame, Object cond, @Cached("getContextReference()") ContextReference<LLVMContext> context) {
+            getPThreads(context).getCondition(toAddress(frame, cond)).broadcast();
+            return 0;
+        }
+    }
+
+    @NodeChildren({@NodeChild(type = LLVMExpressionNode.class, value = "rwlock"), @NodeChild(type = LLVMExpressionNode.class, value = "attr")})
+    public abstract static class LLVMPThreadRWLockInit extends LLVMPThreadIntrinsics {
+
+        @Specialization
+        public int execute(VirtualFrame frame, Object rwlock, @SuppressWarnings("unused") Object attr, @Cached("getContextReference()") ContextReference<LLVMContext> context) {
+            getPThreads(context).initRWLock(toAddress(frame, rwlock));
+            return 0;
+        }
+    }
+
+    @NodeChild(type = LLVMExpressionNode.class, value = "rwlock")
+    public abstract static class LLVMPThreadRWLockDestroy extends LLVMPThreadIntrinsics {
+
+        @Specialization
+        public int execute(VirtualFrame frame, Object rwlock, @Cached("getContextReference()") ContextReference<LLVMContext> context) {
+            return getPThreads(context).destroyRWLock(toAddress(frame, rwlock));
+        }
+    }
+
+    @NodeChild(type = LLVMExpressionNode.class, value = "rwlock")
+    public abstract static class LLVMPThreadRWLockReadLock extends LLVMPThreadIntrinsics {
+
+        @Specialization
+        public int execute(VirtualFrame frame, Object rwlock, @Cached("getContextReference()") ContextReference<LLVMContext> context) {
+            LLVMPThreadContext pthreads = getPThreads(context);
+            return readLock(pthreads, pthreads.getRWLock(toAddress(frame, rwlock)));
+        }
+
+        @TruffleBoundary
+        private static int readLock(LLVMPThreadContext pthreads, ReentrantReadWriteLock lock) {
+            pthreads.lockInterruptibly(lock.readLock());
+            return 0;
+        }
+    }
+
+    @NodeChild(type = LLVMExpressionNode.class, value = "rwlock")
+    public abstract static class LLVMPThreadRWLockTryReadLock extends LLVMPThreadIntrinsics {
+
+        @Specialization
+        public int execute(VirtualFrame frame, Object rwlock, @Cached("getContextReference()") ContextReference<LLVMContext> context) {
+            return tryReadLock(getPThreads(context).getRWLock(toAddress(frame, rwlock)));
+        }
+
+        @TruffleBoundary
+        private static int tryReadLock(ReentrantReadWriteLock lock) {
+            return lock.readLock().tryLock() ? 0 : LLVMPThreadContext.EBUSY;
+        }
+    }
+
+    @NodeChild(type = LLVMExpressionNode.class, value = "rwlock")
+    public abstract static class LLVMPThreadRWLockWriteLock extends LLVMPThreadIntrinsics {
+
+        @Specialization
+        public int execute(VirtualFrame frame, Object rwlock, @Cached("getContextReference()") ContextReference<LLVMContext> context) {
+            LLVMPThreadContext pthreads = getPThreads(context);
+            return writeLock(pthreads, pthreads.getRWLock(toAddress(frame, rwlock)));
+        }
+
+        @TruffleBoundary
+        private static int writeLock(LLVMPThreadContext pthreads, ReentrantReadWriteLock lock) {
+            if (lock.getReadHoldCount() > 0 || lock.isWriteLockedByCurrentThread()) {
+                // upgrading a read lock would block forever
+                return LLVMPThreadContext.EDEADLK;
+            }
+            pthreads.lockInterruptibly(lock.writeLock());
+            return 0;
+        }
+    }
+
+    @NodeChild(type = LLVMExpressionNode.class, value = "rwlock")
+    public abstract static class LLVMPThreadRWLockTryWriteLock extends LLVMPThreadIntrinsics {
+
+        @Specialization
+        public int execute(VirtualFrame frame, Object rwlock, @Cached("getContextReference()") ContextReference<LLVMContext> context) {
+            return tryWriteLock(getPThreads(context).getRWLock(toAddress(frame, rwlock)));
+        }
+
+        @TruffleBoundary
+        private static int tryWriteLock(ReentrantReadWriteLock lock) {
+            if (lock.getReadHoldCount() > 0 || lock.isWriteLockedByCurrentThread()) {
+                return LLVMPThreadContext.EBUSY;
+            }
+            return lock.writeLock().tryLock() ? 0 : LLVMPThreadContext.EBUSY;
+        }
+    }
+
+    @NodeChild(type = LLVMExpressionNode.class, value = "rwlock")
+    public abstract static class LLVMPThreadRWLockUnlock extends LLVMPThreadIntrinsics {
+
+        @Specialization
+        public int execute(VirtualFrame frame, Object rwlock, @Cached("getContextReference()") ContextReference<LLVMContext> context) {
+            return unlock(getPThreads(context).getRWLock(toAddress(frame, rwlock)));
+        }
+
+        @TruffleBoundary
+        private static int unlock(ReentrantReadWriteLock lock) {
+            if (lock.isWriteLockedByCurrentThread()) {
+                lock.writeLock().unlock();
+            } else if (lock.getReadHoldCount() > 0) {
+                lock.readLock().unlock();
+            } else {
+                return LLVMPThreadContext.EPERM;
+            }
+            return 0;
+        }
+    }
+
+    @NodeChildren({@NodeChild(type = LLVMExpressionNode.class, value = "key"), @NodeChild(type = LLVMExpressionNode.class, value = "destructor")})
+    public abstract static class LLVMPThreadKeyCreate extends LLVMPThreadIntrinsics {
+
+        @Specialization
+        public int execute(VirtualFrame frame, Object key, Object destructor, @Cached("getContextReference()") ContextReference<LLVMContext> context) {
+            int newKey = getPThreads(context).createKey(toFunction(context.get(), destructor));
+            LLVMMemory.putI32(toAddress(frame, key), newKey);
+            return 0;
+        }
+    }
+
+    @NodeChild(type = LLVMExpressionNode.class, value = "key")
+    public abstract static class LLVMPThreadKeyDelete extends LLVMPThreadIntrinsics {
+
+        @Specialization
+        public int execute(int key, @Cached("getContextReference()") ContextReference<LLVMContext> context) {
+            return getPThreads(context).deleteKey(key);
+        }
+    }
+
+    @NodeChild(type = LLVMExpressionNode.class, value = "key")
+    public abstract static class LLVMPThreadGetSpecific extends LLVMPThreadIntrinsics {
+
+        @Specialization
+        public Object execute(int key, @Cached("getContextReference()") ContextReference<LLVMContext> context) {
+            return getPThreads(context).getSpecific(key);
+        }
+    }
+
+    @NodeChildren({@NodeChild(type = LLVMExpressionNode.class, value = "key"), @NodeChild(type = LLVMExpressionNode.class, value = "value")})
+    public abstract static class LLVMPThreadSetSpecific extends LLVMPThreadIntrinsics {
+
+        @Specialization
+        public int execute(int key, Object value, @Cached("getContextReference()") ContextReference<LLVMContext> context) {
+            return getPThreads(context).setSpecific(key, value);
+        }
+    }
+
+    @NodeChildren({@NodeChild(type = LLVMExpressionNode.class, value = "stackPointer"), @NodeChild(type = LLVMExpressionNode.class, value = "control"),
+                    @NodeChild(type = LLVMExpressionNode.class, value = "initRoutine")})
+    public abstract static class LLVMPThreadOnce extends LLVMPThreadIntrinsics {
+
+        private static final int ONCE_DONE = 1;
+
+        @Child private IndirectCallNode callNode = Truffle.getRuntime().createIndirectCallNode();
+
+        @Specialization
+        public int execute(VirtualFrame frame, long stackPointer, Object control, Object initRoutine, @Cached("getContextReference()") ContextReference<LLVMContext> context) {
+            LLVMAddress address = toAddress(frame, control);
+            // the volatile accesses order the effects of the init routine before the DONE flag
+            if (LLVMMemory.getI32Volatile(address) == ONCE_DONE) {
+                return 0;
+            }
+            LLVMFunctionDescriptor function = toFunction(context.get(), initRoutine);
+            if (function == null || !function.isLLVMIRFunction()) {
+                return LLVMPThreadContext.EINVAL;
+            }
+            runOnce(getPThreads(context), address, function, stackPointer);
+            return 0;
+        }
+
+        @TruffleBoundary
+        private void runOnce(LLVMPThreadContext pthreads, LLVMAddress address, LLVMFunctionDescriptor function, long stackPointer) {
+            synchronized (pthreads.getOnceLock(address)) {
+                if (LLVMMemory.getI32Volatile(address) != ONCE_DONE) {
+                    callNode.call(function.getLLVMIRFunction(), new Object[]{stackPointer});
+                    LLVMMemory.putI32Volatile(address, ONCE_DONE);
+                }
+            }
+        }
+    }
+}
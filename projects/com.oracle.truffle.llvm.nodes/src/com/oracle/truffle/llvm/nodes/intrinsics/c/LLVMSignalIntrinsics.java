@@ -0,0 +1,159 @@
+/*
+ * Copyright (c) 2017, Oracle and/or its affiliates.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of
+ * conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of
+ * conditions and the following disclaimer in the documentation and/or other materials provided
+ * with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to
+ * endorse or promote products derived from this software without specific prior written
+ * permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS
+ * OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE
+ * COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE
+ * GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED
+ * OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.oracle.truffle.llvm.nodes.intrinsics.c;
+
+import com.oracle.truffle.api.TruffleLanguage.ContextReference;
+import com.oracle.truffle.api.dsl.Cached;
+import com.oracle.truffle.api.dsl.NodeChild;
+import com.oracle.truffle.api.dsl.NodeChildren;
+import com.oracle.truffle.api.dsl.Specialization;
+import com.oracle.truffle.api.frame.VirtualFrame;
+import com.oracle.truffle.llvm.nodes.intrinsics.llvm.LLVMIntrinsic;
+import com.oracle.truffle.llvm.nodes.memory.LLVMForceLLVMAddressNode;
+import com.oracle.truffle.llvm.nodes.memory.LLVMForceLLVMAddressNodeGen;
+import com.oracle.truffle.llvm.runtime.LLVMAddress;
+import com.oracle.truffle.llvm.runtime.LLVMContext;
+import com.oracle.truffle.llvm.runtime.LLVMFunction;
+import com.oracle.truffle.llvm.runtime.LLVMFunctionHandle;
+import com.oracle.truffle.llvm.runtime.memory.LLVMMemory;
+import com.oracle.truffle.llvm.runtime.nodes.api.LLVMExpressionNode;
+import com.oracle.truffle.llvm.runtime.pthread.LLVMPThreadContext;
+import com.oracle.truffle.llvm.runtime.pthread.LLVMSignalContext;
+import com.oracle.truffle.llvm.runtime.pthread.LLVMSignalContext.Action;
+
+/**
+ * POSIX signal functions on top of {@link LLVMSignalContext}. Only the first 64 bits of a
+ * {@code sigset_t} are used. Like the pthread functions, these intrinsics return an error number;
+ * {@code sigaction} and {@code sigprocmask} are wrappers in libsulong that store it in
+ * {@code errno}.
+ */
+public abstract class LLVMSignalIntrinsics extends LLVMIntrinsic {
+
+    // glibc x86_64: struct sigaction { void *sa_handler; sigset_t sa_mask; int sa_flags; void
+    // *sa_restorer; }
+    private static final int SA_MASK_OFFSET = 8;
+    private static final int SA_FLAGS_OFFSET = 136;
+    private static final int SA_RESTORER_OFFSET = 144;
+    private static final int SIGSET_SIZE = 128;
+
+    @Child private LLVMForceLLVMAddressNode toAddress = LLVMForceLLVMAddressNodeGen.create();
+    @Child private LLVMForceLLVMAddressNode oldToAddress = LLVMForceLLVMAddressNodeGen.create();
+
+    protected LLVMAddress toAddress(VirtualFrame frame, Object pointer) {
+        return toAddress.executeWithTarget(frame, pointer);
+    }
+
+    protected LLVMAddress oldToAddress(VirtualFrame frame, Object pointer) {
+        return oldToAddress.executeWithTarget(frame, pointer);
+    }
+
+    protected static void writeSigset(LLVMAddress address, long mask) {
+        LLVMMemory.putI64(address, mask);
+        for (int offset = Long.BYTES; offset < SIGSET_SIZE; offset += Long.BYTES) {
+            LLVMMemory.putI64(address.increment(offset), 0);
+        }
+    }
+
+    @NodeChildren({@NodeChild(type = LLVMExpressionNode.class, value = "signal"), @NodeChild(type = LLVMExpressionNode.class, value = "action"),
+                    @NodeChild(type = LLVMExpressionNode.class, value = "oldAction")})
+    public abstract static class LLVMSigaction extends LLVMSignalIntrinsics {
+
+        @Specialization
+        public int execute(VirtualFrame frame, int signal, Object action, Object oldAction, @Cached("getContextReference()") ContextReference<LLVMContext> context) {
+            LLVMSignalContext signals = context.get().getSignalContext();
+            if (!LLVMSignalContext.isValid(signal)) {
+                return LLVMPThreadContext.EINVAL;
+            }
+            LLVMAddress actionAddress = toAddress(frame, action);
+            Action previous;
+            if (actionAddress.getVal() != 0) {
+                LLVMFunction handler = LLVMSignal.resolveHandler(context.get(), LLVMFunctionHandle.createHandle(LLVMMemory.getI64(actionAddress)));
+                if (handler == null) {
+                    return LLVMPThreadContext.EINVAL;
+                }
+                long mask = LLVMMemory.getI64(actionAddress.increment(SA_MASK_OFFSET));
+                int flags = LLVMMemory.getI32(actionAddress.increment(SA_FLAGS_OFFSET));
+                previous = signals.setAction(signal, new Action(handler, mask, flags));
+                if (previous == null) {
+                    return LLVMPThreadContext.EINVAL;
+                }
+            } else {
+                previous = signals.getAction(signal);
+            }
+            LLVMAddress oldActionAddress = oldToAddress(frame, oldAction);
+            if (oldActionAddress.getVal() != 0) {
+                LLVMMemory.putI64(oldActionAddress, previous.getHandler().getFunctionPointer());
+                writeSigset(oldActionAddress.increment(SA_MASK_OFFSET), previous.getMask());
+                LLVMMemory.putI32(oldActionAddress.increment(SA_FLAGS_OFFSET), previous.getFlags());
+                LLVMMemory.putI64(oldActionAddress.increment(SA_RESTORER_OFFSET), 0);
+            }
+            return 0;
+        }
+    }
+
+    /**
+     * Changes the signal mask and returns an error number, as {@code pthread_sigmask} does.
+     * Signals that become unblocked are delivered before returning.
+     */
+    protected int changeMask(VirtualFrame frame, LLVMSignalContext signals, long stackPointer, int how, Object set, Object oldSet) {
+        long previous = signals.getBlockedSignals();
+        LLVMAddress setAddress = toAddress(frame, set);
+        if (setAddress.getVal() != 0 && !signals.setBlockedSignals(how, LLVMMemory.getI64(setAddress))) {
+            return LLVMPThreadContext.EINVAL;
+        }
+        LLVMAddress oldSetAddress = oldToAddress(frame, oldSet);
+        if (oldSetAddress.getVal() != 0) {
+            writeSigset(oldSetAddress, previous);
+        }
+        if (signals.hasPendingSignals()) {
+            signals.deliverPending(stackPointer);
+        }
+        return 0;
+    }
+
+    @NodeChildren({@NodeChild(type = LLVMExpressionNode.class, value = "stackPointer"), @NodeChild(type = LLVMExpressionNode.class, value = "how"),
+                    @NodeChild(type = LLVMExpressionNode.class, value = "set"), @NodeChild(type = LLVMExpressionNode.class, value = "oldSet")})
+    public abstract static class LLVMPThreadSigmask extends LLVMSignalIntrinsics {
+
+        @Specialization
+        public int execute(VirtualFrame frame, long stackPointer, int how, Object set, Object oldSet, @Cached("getContextReference()") ContextReference<LLVMContext> context) {
+            return changeMask(frame, context.get().getSignalContext(), stackPointer, how, set, oldSet);
+        }
+    }
+
+    @NodeChildren({@NodeChild(type = LLVMExpressionNode.class, value = "stackPointer"), @NodeChild(type = LLVMExpressionNode.class, value = "signal")})
+    public abstract static class LLVMRaise extends LLVMSignalIntrinsics {
+
+        @Specialization
+        public int execute(long stackPointer, int signal, @Cached("getContextReference()") ContextReference<LLVMContext> context) {
+            return context.get().getSignalContext().raise(signal, stackPointer);
+        }
+    }
+}
@@ -30,6 +30,7 @@
 package com.oracle.truffle.llvm.nodes.intrinsics.interop;
 
 import com.oracle.truffle.api.CompilerDirectives;
+import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
 import com.oracle.truffle.api.dsl.NodeChild;
 import com.oracle.truffle.api.dsl.Specialization;
 import com.oracle.truffle.api.frame.VirtualFrame;
@@ -40,6 +41,7 @@ import com.oracle.truffle.api.interop.MessageResolution;
 import com.oracle.truffle.api.interop.Resolve;
 import com.oracle.truffle.api.interop.TruffleObject;
 import com.oracle.truffle.api.nodes.Node;
+import com.oracle.truffle.api.profiles.ValueProfile;
 import com.oracle.truffle.llvm.nodes.intrinsics.llvm.LLVMIntrinsic;
 import com.oracle.truffle.llvm.runtime.LLVMTruffleObject;
 import com.oracle.truffle.llvm.runtime.interop.convert.ForeignToLLVM.ForeignToLLVMType;
@@ -95,6 +97,16 @@ public abstract class LLVMTruffleManagedMalloc extends LLVMIntrinsic {
         @Resolve(message = "WRITE")
         public abstract static class ForeignWriteNode extends Node {
 
+            protected Object access(ManagedMallocObject malloc, int index, long value) {
+                malloc.setLong(index, value);
+                return value;
+            }
+
+            protected Object access(ManagedMallocObject malloc, int index, double value) {
+                malloc.setDouble(index, value);
+                return value;
+            }
+
             protected Object access(ManagedMallocObject malloc, int index, Object value) {
                 malloc.set(index, value);
                 return value;
@@ -104,24 +116,170 @@ public abstract class LLVMTruffleManagedMalloc extends LLVMIntrinsic {
 
     }
 
+    /**
+     * Managed memory with one entry per 8-byte word. The entries are stored in a {@code long[]} or
+     * {@code double[]} as long as all written values have that type, so that arrays of primitives
+     * are not boxed element by element. The first write decides the backing array, a write of a
+     * different type migrates the contents to an {@code Object[]}.
+     * <p>
+     * The migration is synchronized. While it copies the entries, the contents field holds a marker
+     * that sends all accesses to the synchronized slow path, and the new array is published through
+     * the volatile field. A write to a primitive array checks afterwards whether the array was
+     * replaced in the meantime, and if so repeats the write on the new contents.
+     */
     public static class ManagedMallocObject implements LLVMObjectAccess, TruffleObject {
 
-        private final Object[] contents;
+        private static final Object MIGRATING = new Object();
+
+        private final int size;
+        private volatile Object contents;
 
         public ManagedMallocObject(int entries) {
-            contents = new Object[entries];
+            size = entries;
+        }
+
+        /**
+         * @return the array that currently holds the entries, a {@code long[]}, {@code double[]}
+         *         or {@code Object[]}, or {@code null} if nothing was written yet
+         */
+        public Object getBackingArray() {
+            Object c = contents;
+            return c == MIGRATING ? getBackingArraySlow() : c;
+        }
+
+        @TruffleBoundary
+        private synchronized Object getBackingArraySlow() {
+            return contents;
         }
 
         public Object get(int index) {
-            return contents[index];
+            Object c = contents;
+            if (c instanceof long[]) {
+                return ((long[]) c)[index];
+            } else if (c instanceof double[]) {
+                return ((double[]) c)[index];
+            } else if (c instanceof Object[]) {
+                return ((Object[]) c)[index];
+            } else if (c == MIGRATING) {
+                return getSlow(index);
+            } else {
+                checkIndex(index);
+                return null;
+            }
+        }
+
+        @TruffleBoundary
+        private synchronized Object getSlow(int index) {
+            return get(index);
+        }
+
+        /**
+         * Reads an entry that was written as a long. Entries that were never written read as 0.
+         */
+        public long getLong(int index) {
+            Object c = contents;
+            if (c instanceof long[]) {
+                return ((long[]) c)[index];
+            }
+            Object value = get(index);
+            return value == null ? 0 : (long) value;
+        }
+
+        /**
+         * Reads an entry that was written as a double. Entries that were never written read as 0.
+         */
+        public double getDouble(int index) {
+            Object c = contents;
+            if (c instanceof double[]) {
+                return ((double[]) c)[index];
+            }
+            Object value = get(index);
+            return value == null ? 0 : (double) value;
         }
 
         public void set(int index, Object value) {
-            contents[index] = value;
+            if (value instanceof Long) {
+                setLong(index, (long) value);
+            } else if (value instanceof Double) {
+                setDouble(index, (double) value);
+            } else {
+                Object c = contents;
+                if (c instanceof Object[]) {
+                    // an Object[] is never replaced
+                    ((Object[]) c)[index] = value;
+                } else {
+                    setGeneric(index, value);
+                }
+            }
+        }
+
+        public void setLong(int index, long value) {
+            Object c = contents;
+            if (c instanceof long[]) {
+                ((long[]) c)[index] = value;
+                if (contents == c) {
+                    return;
+                }
+            } else if (c instanceof Object[]) {
+                ((Object[]) c)[index] = value;
+                return;
+            }
+            setGeneric(index, value);
+        }
+
+        public void setDouble(int index, double value) {
+            Object c = contents;
+            if (c instanceof double[]) {
+                ((double[]) c)[index] = value;
+                if (contents == c) {
+                    return;
+                }
+            } else if (c instanceof Object[]) {
+                ((Object[]) c)[index] = value;
+                return;
+            }
+            setGeneric(index, value);
+        }
+
+        @TruffleBoundary
+        private synchronized void setGeneric(int index, Object value) {
+            checkIndex(index);
+            Object c = contents;
+            if (c == null) {
+                if (value instanceof Long) {
+                    c = new long[size];
+                } else if (value instanceof Double) {
+                    c = new double[size];
+                } else {
+                    c = new Object[size];
+                }
+            } else if ((c instanceof long[] && !(value instanceof Long)) || (c instanceof double[] && !(value instanceof Double))) {
+                contents = MIGRATING;
+                Object[] generic = new Object[size];
+                for (int i = 0; i < size; i++) {
+                    generic[i] = c instanceof long[] ? (Object) ((long[]) c)[i] : (Object) ((double[]) c)[i];
+                }
+                c = generic;
+            }
+            if (c instanceof long[]) {
+                ((long[]) c)[index] = (long) value;
+            } else if (c instanceof double[]) {
+                ((double[]) c)[index] = (double) value;
+            } else {
+                ((Object[]) c)[index] = value;
+            }
+            contents = c;
+        }
+
+        private void checkIndex(int index) {
+            if (index < 0 || index >= size) {
+                CompilerDirectives.transferToInterpreter();
+                throw new ArrayIndexOutOfBoundsException(index);
+            }
         }
 
         public int getSize() {
-            return contents.length;
+            return size;
         }
 
         @Override
@@ -131,7 +289,7 @@ public abstract class LLVMTruffleManagedMalloc extends LLVMIntrinsic {
 
         @Override
         public LLVMObjectReadNode createReadNode(ForeignToLLVMType type) {
-            return new ManagedReadNode();
+            return new ManagedReadNode(type);
         }
 
         @Override
@@ -143,6 +301,12 @@ public abstract class LLVMTruffleManagedMalloc extends LLVMIntrinsic {
 
     static class ManagedReadNode extends LLVMObjectReadNode {
 
+        private final ForeignToLLVMType type;
+
+        ManagedReadNode(ForeignToLLVMType type) {
+            this.type = type;
+        }
+
         @Override
         public boolean canAccess(Object obj) {
             return obj instanceof ManagedMallocObject;
@@ -151,13 +315,23 @@ public abstract class LLVMTruffleManagedMalloc extends LLVMIntrinsic {
         @Override
         public Object executeRead(VirtualFrame frame, Object obj, Object identifier, long offset) throws InteropException {
             assert offset % LLVMExpressionNode.ADDRESS_SIZE_IN_BYTES == 0 : "invalid offset";
-            long idx = offset / LLVMExpressionNode.ADDRESS_SIZE_IN_BYTES;
-            return ((ManagedMallocObject) obj).get((int) idx);
+            int idx = (int) (offset / LLVMExpressionNode.ADDRESS_SIZE_IN_BYTES);
+            ManagedMallocObject malloc = (ManagedMallocObject) obj;
+            Object contents = malloc.getBackingArray();
+            if (type == ForeignToLLVMType.I64 && contents instanceof long[]) {
+                return malloc.getLong(idx);
+            } else if (type == ForeignToLLVMType.DOUBLE && contents instanceof double[]) {
+                return malloc.getDouble(idx);
+            } else {
+                return malloc.get(idx);
+            }
         }
     }
 
     static class ManagedWriteNode extends LLVMObjectWriteNode {
 
+        private final ValueProfile valueClass = ValueProfile.createClassProfile();
+
         @Override
         public boolean canAccess(Object obj) {
             return obj instanceof ManagedMallocObject;
@@ -166,8 +340,16 @@ public abstract class LLVMTruffleManagedMalloc extends LLVMIntrinsic {
         @Override
         public void executeWrite(VirtualFrame frame, Object obj, Object identifier, long offset, Object value) throws InteropException {
             assert offset % LLVMExpressionNode.ADDRESS_SIZE_IN_BYTES == 0 : "invalid offset";
-            long idx = offset / LLVMExpressionNode.ADDRESS_SIZE_IN_BYTES;
-            ((ManagedMallocObject) obj).set((int) idx, value);
+            int idx = (int) (offset / LLVMExpressionNode.ADDRESS_SIZE_IN_BYTES);
+            ManagedMallocObject malloc = (ManagedMallocObject) obj;
+            Object profiledValue = valueClass.profile(value);
+            if (profiledValue instanceof Long) {
+                malloc.setLong(idx, (long) profiledValue);
+            } else if (profiledValue instanceof Double) {
+                malloc.setDouble(idx, (double) profiledValue);
+            } else {
+                malloc.set(idx, profiledValue);
+            }
         }
     }
 
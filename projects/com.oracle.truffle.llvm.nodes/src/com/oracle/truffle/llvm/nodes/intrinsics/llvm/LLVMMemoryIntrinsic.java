@@ -30,24 +30,65 @@
 package com.oracle.truffle.llvm.nodes.intrinsics.llvm;
 
 import com.oracle.truffle.api.CompilerDirectives;
+import com.oracle.truffle.api.CompilerDirectives.CompilationFinal;
 import com.oracle.truffle.api.dsl.NodeChild;
 import com.oracle.truffle.api.dsl.NodeChildren;
 import com.oracle.truffle.api.dsl.Specialization;
 import com.oracle.truffle.api.frame.VirtualFrame;
+import com.oracle.truffle.api.source.Source;
+import com.oracle.truffle.api.source.SourceSection;
+import com.oracle.truffle.llvm.nodes.base.LLVMBasicBlockNode;
 import com.oracle.truffle.llvm.runtime.LLVMAddress;
+import com.oracle.truffle.llvm.runtime.LLVMLanguage;
 import com.oracle.truffle.llvm.runtime.memory.LLVMMemSetNode;
 import com.oracle.truffle.llvm.runtime.memory.LLVMMemory;
 import com.oracle.truffle.llvm.runtime.nodes.api.LLVMExpressionNode;
+import com.oracle.truffle.llvm.runtime.nodes.api.LLVMTags;
+import com.oracle.truffle.llvm.runtime.profiling.LLVMAllocationProfiler;
 
 public abstract class LLVMMemoryIntrinsic extends LLVMExpressionNode {
 
+    // intrinsics run in a root without source information, but instruments only attach to nodes
+    // that have a section
+    private static final SourceSection INTRINSIC_SECTION = Source.newBuilder("").name("<memory intrinsic>").mimeType(LLVMLanguage.LLVM_BITCODE_MIME_TYPE).build().createUnavailableSection();
+
+    @CompilationFinal private boolean profilerInitialized;
+    @CompilationFinal private LLVMAllocationProfiler profiler;
+
+    protected final LLVMAllocationProfiler getProfiler() {
+        if (!profilerInitialized) {
+            CompilerDirectives.transferToInterpreterAndInvalidate();
+            profiler = getContextReference().get().getAllocationProfiler();
+            profilerInitialized = true;
+        }
+        return profiler;
+    }
+
+    protected final LLVMAddress profileAllocation(LLVMAddress address, long size) {
+        LLVMAllocationProfiler p = getProfiler();
+        if (p != null) {
+            p.allocate(address.getVal(), size, LLVMBasicBlockNode::describeLocation);
+        }
+        return address;
+    }
+
+    @Override
+    public SourceSection getSourceSection() {
+        return INTRINSIC_SECTION;
+    }
+
+    @Override
+    protected boolean isTaggedWith(Class<?> tag) {
+        return tag == LLVMTags.HeapAllocationTag.class;
+    }
+
     @NodeChildren({@NodeChild(type = LLVMExpressionNode.class)})
     public abstract static class LLVMMalloc extends LLVMMemoryIntrinsic {
 
         @Specialization
         public LLVMAddress executeVoid(int size) {
             try {
-                return LLVMMemory.allocateMemory(size);
+                return profileAllocation(LLVMMemory.allocateMemory(size), size);
             } catch (OutOfMemoryError e) {
                 CompilerDirectives.transferToInterpreter();
                 return LLVMAddress.nullPointer();
@@ -57,7 +98,7 @@ public abstract class LLVMMemoryIntrinsic extends LLVMExpressionNode {
         @Specialization
         public LLVMAddress executeVoid(long size) {
             try {
-                return LLVMMemory.allocateMemory(size);
+                return profileAllocation(LLVMMemory.allocateMemory(size), size);
             } catch (OutOfMemoryError e) {
                 CompilerDirectives.transferToInterpreter();
                 return LLVMAddress.nullPointer();
@@ -79,7 +120,7 @@ public abstract class LLVMMemoryIntrinsic extends LLVMExpressionNode {
                 long length = Math.multiplyExact(n, size);
                 LLVMAddress address = LLVMMemory.allocateMemory(length);
                 memSet.executeWithTarget(frame, address, (byte) 0, length);
-                return address;
+                return profileAllocation(address, length);
             } catch (OutOfMemoryError | ArithmeticException e) {
                 CompilerDirectives.transferToInterpreter();
                 return LLVMAddress.nullPointer();
@@ -92,7 +133,7 @@ public abstract class LLVMMemoryIntrinsic extends LLVMExpressionNode {
                 long length = Math.multiplyExact(n, size);
                 LLVMAddress address = LLVMMemory.allocateMemory(length);
                 memSet.executeWithTarget(frame, address, (byte) 0, length);
-                return address;
+                return profileAllocation(address, length);
             } catch (OutOfMemoryError | ArithmeticException e) {
                 CompilerDirectives.transferToInterpreter();
                 return LLVMAddress.nullPointer();
@@ -106,7 +147,12 @@ public abstract class LLVMMemoryIntrinsic extends LLVMExpressionNode {
         @Specialization
         public LLVMAddress executeVoid(LLVMAddress addr, int size) {
             try {
-                return LLVMMemory.reallocateMemory(addr, size);
+                LLVMAddress result = LLVMMemory.reallocateMemory(addr, size);
+                LLVMAllocationProfiler p = getProfiler();
+                if (p != null) {
+                    p.reallocate(addr.getVal(), result.getVal(), size, LLVMBasicBlockNode::describeLocation);
+                }
+                return result;
             } catch (OutOfMemoryError e) {
                 CompilerDirectives.transferToInterpreter();
                 return LLVMAddress.nullPointer();
@@ -116,7 +162,12 @@ public abstract class LLVMMemoryIntrinsic extends LLVMExpressionNode {
         @Specialization
         public LLVMAddress executeVoid(LLVMAddress addr, long size) {
             try {
-                return LLVMMemory.reallocateMemory(addr, size);
+                LLVMAddress result = LLVMMemory.reallocateMemory(addr, size);
+                LLVMAllocationProfiler p = getProfiler();
+                if (p != null) {
+                    p.reallocate(addr.getVal(), result.getVal(), size, LLVMBasicBlockNode::describeLocation);
+                }
+                return result;
             } catch (OutOfMemoryError e) {
                 CompilerDirectives.transferToInterpreter();
                 return LLVMAddress.nullPointer();
@@ -127,8 +178,17 @@ public abstract class LLVMMemoryIntrinsic extends LLVMExpressionNode {
     @NodeChildren({@NodeChild(type = LLVMExpressionNode.class)})
     public abstract static class LLVMFree extends LLVMMemoryIntrinsic {
 
+        @Override
+        protected boolean isTaggedWith(Class<?> tag) {
+            return tag == LLVMTags.HeapFreeTag.class;
+        }
+
         @Specialization
         public Object executeVoid(LLVMAddress address) {
+            LLVMAllocationProfiler p = getProfiler();
+            if (p != null) {
+                p.free(address.getVal());
+            }
             LLVMMemory.free(address);
             return null;
         }
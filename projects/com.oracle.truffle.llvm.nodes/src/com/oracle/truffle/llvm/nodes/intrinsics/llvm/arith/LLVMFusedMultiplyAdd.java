@@ -0,0 +1,147 @@
+/*
+ * Copyright (c) 2017, Oracle and/or its affiliates.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of
+ * conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of
+ * conditions and the following disclaimer in the documentation and/or other materials provided
+ * with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to
+ * endorse or promote products derived from this software without specific prior written
+ * permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS
+ * OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE
+ * COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE
+ * GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED
+ * OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.oracle.truffle.llvm.nodes.intrinsics.llvm.arith;
+
+import java.math.BigDecimal;
+
+import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
+import com.oracle.truffle.api.dsl.NodeChild;
+import com.oracle.truffle.api.dsl.NodeChildren;
+import com.oracle.truffle.api.dsl.Specialization;
+import com.oracle.truffle.llvm.nodes.intrinsics.llvm.LLVMBuiltin;
+import com.oracle.truffle.llvm.runtime.nodes.api.LLVMExpressionNode;
+import com.oracle.truffle.llvm.runtime.vector.LLVMDoubleVector;
+import com.oracle.truffle.llvm.runtime.vector.LLVMFloatVector;
+
+public abstract class LLVMFusedMultiplyAdd {
+
+    /**
+     * {@code llvm.fmuladd} allows, but does not require, the multiplication and addition to be
+     * fused, so we do whatever is cheapest.
+     */
+    @NodeChildren({@NodeChild(type = LLVMExpressionNode.class), @NodeChild(type = LLVMExpressionNode.class), @NodeChild(type = LLVMExpressionNode.class)})
+    public abstract static class LLVMMulAdd extends LLVMBuiltin {
+
+        @Specialization
+        public float executeFloat(float a, float b, float c) {
+            return a * b + c;
+        }
+
+        @Specialization
+        public double executeDouble(double a, double b, double c) {
+            return a * b + c;
+        }
+
+        @Specialization
+        public LLVMFloatVector executeFloatVector(LLVMFloatVector a, LLVMFloatVector b, LLVMFloatVector c) {
+            final float[] result = new float[a.getLength()];
+            for (int i = 0; i < result.length; i++) {
+                result[i] = a.getValue(i) * b.getValue(i) + c.getValue(i);
+            }
+            return LLVMFloatVector.create(result);
+        }
+
+        @Specialization
+        public LLVMDoubleVector executeDoubleVector(LLVMDoubleVector a, LLVMDoubleVector b, LLVMDoubleVector c) {
+            final double[] result = new double[a.getLength()];
+            for (int i = 0; i < result.length; i++) {
+                result[i] = a.getValue(i) * b.getValue(i) + c.getValue(i);
+            }
+            return LLVMDoubleVector.create(result);
+        }
+    }
+
+    /**
+     * {@code llvm.fma} requires a single rounding step.
+     */
+    @NodeChildren({@NodeChild(type = LLVMExpressionNode.class), @NodeChild(type = LLVMExpressionNode.class), @NodeChild(type = LLVMExpressionNode.class)})
+    public abstract static class LLVMFMA extends LLVMBuiltin {
+
+        @Specialization
+        public float executeFloat(float a, float b, float c) {
+            return fma(a, b, c);
+        }
+
+        @Specialization
+        public double executeDouble(double a, double b, double c) {
+            return fma(a, b, c);
+        }
+
+        @Specialization
+        public LLVMFloatVector executeFloatVector(LLVMFloatVector a, LLVMFloatVector b, LLVMFloatVector c) {
+            final float[] result = new float[a.getLength()];
+            for (int i = 0; i < result.length; i++) {
+                result[i] = fma(a.getValue(i), b.getValue(i), c.getValue(i));
+            }
+            return LLVMFloatVector.create(result);
+        }
+
+        @Specialization
+        public LLVMDoubleVector executeDoubleVector(LLVMDoubleVector a, LLVMDoubleVector b, LLVMDoubleVector c) {
+            final double[] result = new double[a.getLength()];
+            for (int i = 0; i < result.length; i++) {
+                result[i] = fma(a.getValue(i), b.getValue(i), c.getValue(i));
+            }
+            return LLVMDoubleVector.create(result);
+        }
+    }
+
+    private static float fma(float a, float b, float c) {
+        // the product of two floats is exact in double precision
+        final double product = (double) a * (double) b;
+        final double sum = product + c;
+        if (Double.isNaN(sum) || Double.isInfinite(sum)) {
+            return (float) sum;
+        }
+        // exact rounding error of the addition (TwoSum)
+        final double bVirtual = sum - product;
+        final double error = (product - (sum - bVirtual)) + (c - bVirtual);
+        if (error == 0 || (Double.doubleToRawLongBits(sum) & 1) != 0) {
+            return (float) sum;
+        }
+        // round the sum to odd, which makes the second rounding to float correct
+        return (float) Math.nextAfter(sum, error > 0 ? Double.POSITIVE_INFINITY : Double.NEGATIVE_INFINITY);
+    }
+
+    @TruffleBoundary
+    private static double fma(double a, double b, double c) {
+        final double naive = a * b + c;
+        if (Double.isNaN(naive) || Double.isInfinite(naive) || Double.isInfinite(a * b)) {
+            // special values, overflow and inexact infinities propagate in the same way
+            return naive;
+        }
+        final double result = new BigDecimal(a).multiply(new BigDecimal(b)).add(new BigDecimal(c)).doubleValue();
+        if (result == 0) {
+            // BigDecimal has no signed zero
+            return naive;
+        }
+        return result;
+    }
+}
@@ -0,0 +1,145 @@
+/*
+ * Copyright (c) 2017, Oracle and/or its affiliates.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of
+ * conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of
+ * conditions and the following disclaimer in the documentation and/or other materials provided
+ * with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to
+ * endorse or promote products derived from this software without specific prior written
+ * permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS
+ * OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE
+ * COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE
+ * GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED
+ * OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.oracle.truffle.llvm.nodes.intrinsics.llvm.arith;
+
+import com.oracle.truffle.api.dsl.NodeChild;
+import com.oracle.truffle.api.dsl.NodeChildren;
+import com.oracle.truffle.api.dsl.Specialization;
+import com.oracle.truffle.llvm.nodes.intrinsics.llvm.LLVMBuiltin;
+import com.oracle.truffle.llvm.runtime.nodes.api.LLVMExpressionNode;
+import com.oracle.truffle.llvm.runtime.vector.LLVMDoubleVector;
+import com.oracle.truffle.llvm.runtime.vector.LLVMFloatVector;
+
+/**
+ * {@code llvm.minnum} and {@code llvm.maxnum} follow the libm {@code fmin}/{@code fmax} semantics:
+ * if exactly one operand is a NaN, the other operand is returned.
+ */
+public abstract class LLVMMinMaxNum {
+
+    public static float minnum(float a, float b) {
+        if (Float.isNaN(a)) {
+            return b;
+        } else if (Float.isNaN(b)) {
+            return a;
+        }
+        return Math.min(a, b);
+    }
+
+    public static double minnum(double a, double b) {
+        if (Double.isNaN(a)) {
+            return b;
+        } else if (Double.isNaN(b)) {
+            return a;
+        }
+        return Math.min(a, b);
+    }
+
+    public static float maxnum(float a, float b) {
+        if (Float.isNaN(a)) {
+            return b;
+        } else if (Float.isNaN(b)) {
+            return a;
+        }
+        return Math.max(a, b);
+    }
+
+    public static double maxnum(double a, double b) {
+        if (Double.isNaN(a)) {
+            return b;
+        } else if (Double.isNaN(b)) {
+            return a;
+        }
+        return Math.max(a, b);
+    }
+
+    @NodeChildren({@NodeChild(type = LLVMExpressionNode.class), @NodeChild(type = LLVMExpressionNode.class)})
+    public abstract static class LLVMMinNum extends LLVMBuiltin {
+
+        @Specialization
+        public float executeFloat(float a, float b) {
+            return minnum(a, b);
+        }
+
+        @Specialization
+        public double executeDouble(double a, double b) {
+            return minnum(a, b);
+        }
+
+        @Specialization
+        public LLVMFloatVector executeFloatVector(LLVMFloatVector a, LLVMFloatVector b) {
+            final float[] result = new float[a.getLength()];
+            for (int i = 0; i < result.length; i++) {
+                result[i] = minnum(a.getValue(i), b.getValue(i));
+            }
+            return LLVMFloatVector.create(result);
+        }
+
+        @Specialization
+        public LLVMDoubleVector executeDoubleVector(LLVMDoubleVector a, LLVMDoubleVector b) {
+            final double[] result = new double[a.getLength()];
+            for (int i = 0; i < result.length; i++) {
+                result[i] = minnum(a.getValue(i), b.getValue(i));
+            }
+            return LLVMDoubleVector.create(result);
+        }
+    }
+
+    @NodeChildren({@NodeChild(type = LLVMExpressionNode.class), @NodeChild(type = LLVMExpressionNode.class)})
+    public abstract static class LLVMMaxNum extends LLVMBuiltin {
+
+        @Specialization
+        public float executeFloat(float a, float b) {
+            return maxnum(a, b);
+        }
+
+        @Specialization
+        public double executeDouble(double a, double b) {
+            return maxnum(a, b);
+        }
+
+        @Specialization
+        public LLVMFloatVector executeFloatVector(LLVMFloatVector a, LLVMFloatVector b) {
+            final float[] result = new float[a.getLength()];
+            for (int i = 0; i < result.length; i++) {
+                result[i] = maxnum(a.getValue(i), b.getValue(i));
+            }
+            return LLVMFloatVector.create(result);
+        }
+
+        @Specialization
+        public LLVMDoubleVector executeDoubleVector(LLVMDoubleVector a, LLVMDoubleVector b) {
+            final double[] result = new double[a.getLength()];
+            for (int i = 0; i < result.length; i++) {
+                result[i] = maxnum(a.getValue(i), b.getValue(i));
+            }
+            return LLVMDoubleVector.create(result);
+        }
+    }
+}
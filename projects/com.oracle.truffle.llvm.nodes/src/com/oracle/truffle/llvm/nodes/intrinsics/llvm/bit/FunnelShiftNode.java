@@ -0,0 +1,140 @@
+/*
+ * Copyright (c) 2017, Oracle and/or its affiliates.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of
+ * conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of
+ * conditions and the following disclaimer in the documentation and/or other materials provided
+ * with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to
+ * endorse or promote products derived from this software without specific prior written
+ * permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS
+ * OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE
+ * COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE
+ * GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED
+ * OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.oracle.truffle.llvm.nodes.intrinsics.llvm.bit;
+
+import com.oracle.truffle.api.dsl.NodeChild;
+import com.oracle.truffle.api.dsl.NodeChildren;
+import com.oracle.truffle.api.dsl.Specialization;
+import com.oracle.truffle.llvm.nodes.intrinsics.llvm.LLVMBuiltin;
+import com.oracle.truffle.llvm.runtime.nodes.api.LLVMExpressionNode;
+
+/**
+ * Implements {@code llvm.fshl} and {@code llvm.fshr}: the operands are concatenated to a value of
+ * twice their width, which is shifted by the third operand modulo the bit width. {@code fshl}
+ * returns the upper half of the result and {@code fshr} the lower half.
+ */
+public abstract class FunnelShiftNode {
+
+    private static long shiftLeft(long high, long low, long amount, int bits, long mask) {
+        final int shift = (int) ((amount & mask) % bits);
+        if (shift == 0) {
+            return high;
+        }
+        return (high << shift) | ((low & mask) >>> (bits - shift));
+    }
+
+    private static long shiftRight(long high, long low, long amount, int bits, long mask) {
+        final int shift = (int) ((amount & mask) % bits);
+        if (shift == 0) {
+            return low;
+        }
+        return (high << (bits - shift)) | ((low & mask) >>> shift);
+    }
+
+    @NodeChildren({@NodeChild(type = LLVMExpressionNode.class), @NodeChild(type = LLVMExpressionNode.class), @NodeChild(type = LLVMExpressionNode.class)})
+    public abstract static class FunnelShiftLeftI8Node extends LLVMBuiltin {
+
+        @Specialization
+        public byte executeI8(byte high, byte low, byte amount) {
+            return (byte) shiftLeft(high, low, amount, Byte.SIZE, LLVMExpressionNode.I8_MASK);
+        }
+    }
+
+    @NodeChildren({@NodeChild(type = LLVMExpressionNode.class), @NodeChild(type = LLVMExpressionNode.class), @NodeChild(type = LLVMExpressionNode.class)})
+    public abstract static class FunnelShiftLeftI16Node extends LLVMBuiltin {
+
+        @Specialization
+        public short executeI16(short high, short low, short amount) {
+            return (short) shiftLeft(high, low, amount, Short.SIZE, LLVMExpressionNode.I16_MASK);
+        }
+    }
+
+    @NodeChildren({@NodeChild(type = LLVMExpressionNode.class), @NodeChild(type = LLVMExpressionNode.class), @NodeChild(type = LLVMExpressionNode.class)})
+    public abstract static class FunnelShiftLeftI32Node extends LLVMBuiltin {
+
+        @Specialization
+        public int executeI32(int high, int low, int amount) {
+            return (int) shiftLeft(high, low, amount, Integer.SIZE, LLVMExpressionNode.I32_MASK);
+        }
+    }
+
+    @NodeChildren({@NodeChild(type = LLVMExpressionNode.class), @NodeChild(type = LLVMExpressionNode.class), @NodeChild(type = LLVMExpressionNode.class)})
+    public abstract static class FunnelShiftLeftI64Node extends LLVMBuiltin {
+
+        @Specialization
+        public long executeI64(long high, long low, long amount) {
+            final int shift = (int) (amount & (Long.SIZE - 1));
+            if (shift == 0) {
+                return high;
+            }
+            return (high << shift) | (low >>> (Long.SIZE - shift));
+        }
+    }
+
+    @NodeChildren({@NodeChild(type = LLVMExpressionNode.class), @NodeChild(type = LLVMExpressionNode.class), @NodeChild(type = LLVMExpressionNode.class)})
+    public abstract static class FunnelShiftRightI8Node extends LLVMBuiltin {
+
+        @Specialization
+        public byte executeI8(byte high, byte low, byte amount) {
+            return (byte) shiftRight(high, low, amount, Byte.SIZE, LLVMExpressionNode.I8_MASK);
+        }
+    }
+
+    @NodeChildren({@NodeChild(type = LLVMExpressionNode.class), @NodeChild(type = LLVMExpressionNode.class), @NodeChild(type = LLVMExpressionNode.class)})
+    public abstract static class FunnelShiftRightI16Node extends LLVMBuiltin {
+
+        @Specialization
+        public short executeI16(short high, short low, short amount) {
+            return (short) shiftRight(high, low, amount, Short.SIZE, LLVMExpressionNode.I16_MASK);
+        }
+    }
+
+    @NodeChildren({@NodeChild(type = LLVMExpressionNode.class), @NodeChild(type = LLVMExpressionNode.class), @NodeChild(type = LLVMExpressionNode.class)})
+    public abstract static class FunnelShiftRightI32Node extends LLVMBuiltin {
+
+        @Specialization
+        public int executeI32(int high, int low, int amount) {
+            return (int) shiftRight(high, low, amount, Integer.SIZE, LLVMExpressionNode.I32_MASK);
+        }
+    }
+
+    @NodeChildren({@NodeChild(type = LLVMExpressionNode.class), @NodeChild(type = LLVMExpressionNode.class), @NodeChild(type = LLVMExpressionNode.class)})
+    public abstract static class FunnelShiftRightI64Node extends LLVMBuiltin {
+
+        @Specialization
+        public long executeI64(long high, long low, long amount) {
+            final int shift = (int) (amount & (Long.SIZE - 1));
+            if (shift == 0) {
+                return low;
+            }
+            return (high << (Long.SIZE - shift)) | (low >>> shift);
+        }
+    }
+}
@@ -0,0 +1,186 @@
+/*
+ * Copyright (c) 2017, Oracle and/or its affiliates.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of
+ * conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of
+ * conditions and the following disclaimer in the documentation and/or other materials provided
+ * with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to
+ * endorse or promote products derived from this software without specific prior written
+ * permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS
+ * OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE
+ * COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE
+ * GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED
+ * OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.oracle.truffle.llvm.nodes.intrinsics.llvm.vector;
+
+import com.oracle.truffle.api.dsl.NodeChild;
+import com.oracle.truffle.api.dsl.NodeChildren;
+import com.oracle.truffle.api.dsl.Specialization;
+import com.oracle.truffle.llvm.nodes.intrinsics.llvm.LLVMBuiltin;
+import com.oracle.truffle.llvm.runtime.LLVMAddress;
+import com.oracle.truffle.llvm.runtime.memory.LLVMMemory;
+import com.oracle.truffle.llvm.runtime.nodes.api.LLVMExpressionNode;
+import com.oracle.truffle.llvm.runtime.vector.LLVMDoubleVector;
+import com.oracle.truffle.llvm.runtime.vector.LLVMFloatVector;
+import com.oracle.truffle.llvm.runtime.vector.LLVMI16Vector;
+import com.oracle.truffle.llvm.runtime.vector.LLVMI1Vector;
+import com.oracle.truffle.llvm.runtime.vector.LLVMI32Vector;
+import com.oracle.truffle.llvm.runtime.vector.LLVMI64Vector;
+import com.oracle.truffle.llvm.runtime.vector.LLVMI8Vector;
+
+/**
+ * Implements {@code llvm.masked.load} and {@code llvm.masked.store}. Lanes whose mask bit is not
+ * set are never accessed, so the memory behind them does not need to be readable or writable.
+ */
+public abstract class LLVMMaskedMemory {
+
+    private static final int I16_SIZE = 2;
+    private static final int I32_SIZE = 4;
+    private static final int I64_SIZE = 8;
+    private static final int FLOAT_SIZE = 4;
+    private static final int DOUBLE_SIZE = 8;
+
+    /**
+     * Arguments: pointer, mask, pass-through vector for the disabled lanes.
+     */
+    @NodeChildren({@NodeChild(type = LLVMExpressionNode.class), @NodeChild(type = LLVMExpressionNode.class), @NodeChild(type = LLVMExpressionNode.class)})
+    public abstract static class LLVMMaskedLoad extends LLVMBuiltin {
+
+        @Specialization
+        public LLVMI8Vector executeI8(LLVMAddress address, LLVMI1Vector mask, LLVMI8Vector passThrough) {
+            final byte[] result = new byte[passThrough.getLength()];
+            for (int i = 0; i < result.length; i++) {
+                result[i] = mask.getValue(i) ? LLVMMemory.getI8(address.getVal() + i) : passThrough.getValue(i);
+            }
+            return LLVMI8Vector.create(result);
+        }
+
+        @Specialization
+        public LLVMI16Vector executeI16(LLVMAddress address, LLVMI1Vector mask, LLVMI16Vector passThrough) {
+            final short[] result = new short[passThrough.getLength()];
+            for (int i = 0; i < result.length; i++) {
+                result[i] = mask.getValue(i) ? LLVMMemory.getI16(address.getVal() + i * I16_SIZE) : passThrough.getValue(i);
+            }
+            return LLVMI16Vector.create(result);
+        }
+
+        @Specialization
+        public LLVMI32Vector executeI32(LLVMAddress address, LLVMI1Vector mask, LLVMI32Vector passThrough) {
+            final int[] result = new int[passThrough.getLength()];
+            for (int i = 0; i < result.length; i++) {
+                result[i] = mask.getValue(i) ? LLVMMemory.getI32(address.getVal() + i * I32_SIZE) : passThrough.getValue(i);
+            }
+            return LLVMI32Vector.create(result);
+        }
+
+        @Specialization
+        public LLVMI64Vector executeI64(LLVMAddress address, LLVMI1Vector mask, LLVMI64Vector passThrough) {
+            final long[] result = new long[passThrough.getLength()];
+            for (int i = 0; i < result.length; i++) {
+                result[i] = mask.getValue(i) ? LLVMMemory.getI64(address.getVal() + i * I64_SIZE) : passThrough.getValue(i);
+            }
+            return LLVMI64Vector.create(result);
+        }
+
+        @Specialization
+        public LLVMFloatVector executeFloat(LLVMAddress address, LLVMI1Vector mask, LLVMFloatVector passThrough) {
+            final float[] result = new float[passThrough.getLength()];
+            for (int i = 0; i < result.length; i++) {
+                result[i] = mask.getValue(i) ? LLVMMemory.getFloat(address.getVal() + i * FLOAT_SIZE) : passThrough.getValue(i);
+            }
+            return LLVMFloatVector.create(result);
+        }
+
+        @Specialization
+        public LLVMDoubleVector executeDouble(LLVMAddress address, LLVMI1Vector mask, LLVMDoubleVector passThrough) {
+            final double[] result = new double[passThrough.getLength()];
+            for (int i = 0; i < result.length; i++) {
+                result[i] = mask.getValue(i) ? LLVMMemory.getDouble(address.getVal() + i * DOUBLE_SIZE) : passThrough.getValue(i);
+            }
+            return LLVMDoubleVector.create(result);
+        }
+    }
+
+    /**
+     * Arguments: value, pointer, mask.
+     */
+    @NodeChildren({@NodeChild(type = LLVMExpressionNode.class), @NodeChild(type = LLVMExpressionNode.class), @NodeChild(type = LLVMExpressionNode.class)})
+    public abstract static class LLVMMaskedStore extends LLVMBuiltin {
+
+        @Specialization
+        public Object executeI8(LLVMI8Vector value, LLVMAddress address, LLVMI1Vector mask) {
+            for (int i = 0; i < value.getLength(); i++) {
+                if (mask.getValue(i)) {
+                    LLVMMemory.putI8(address.getVal() + i, value.getValue(i));
+                }
+            }
+            return null;
+        }
+
+        @Specialization
+        public Object executeI16(LLVMI16Vector value, LLVMAddress address, LLVMI1Vector mask) {
+            for (int i = 0; i < value.getLength(); i++) {
+                if (mask.getValue(i)) {
+                    LLVMMemory.putI16(address.getVal() + i * I16_SIZE, value.getValue(i));
+                }
+            }
+            return null;
+        }
+
+        @Specialization
+        public Object executeI32(LLVMI32Vector value, LLVMAddress address, LLVMI1Vector mask) {
+            for (int i = 0; i < value.getLength(); i++) {
+                if (mask.getValue(i)) {
+                    LLVMMemory.putI32(address.getVal() + i * I32_SIZE, value.getValue(i));
+                }
+            }
+            return null;
+        }
+
+        @Specialization
+        public Object executeI64(LLVMI64Vector value, LLVMAddress address, LLVMI1Vector mask) {
+            for (int i = 0; i < value.getLength(); i++) {
+                if (mask.getValue(i)) {
+                    LLVMMemory.putI64(address.getVal() + i * I64_SIZE, value.getValue(i));
+                }
+            }
+            return null;
+        }
+
+        @Specialization
+        public Object executeFloat(LLVMFloatVector value, LLVMAddress address, LLVMI1Vector mask) {
+            for (int i = 0; i < value.getLength(); i++) {
+                if (mask.getValue(i)) {
+                    LLVMMemory.putFloat(address.getVal() + i * FLOAT_SIZE, value.getValue(i));
+                }
+            }
+            return null;
+        }
+
+        @Specialization
+        public Object executeDouble(LLVMDoubleVector value, LLVMAddress address, LLVMI1Vector mask) {
+            for (int i = 0; i < value.getLength(); i++) {
+                if (mask.getValue(i)) {
+                    LLVMMemory.putDouble(address.getVal() + i * DOUBLE_SIZE, value.getValue(i));
+                }
+            }
+            return null;
+        }
+    }
+}
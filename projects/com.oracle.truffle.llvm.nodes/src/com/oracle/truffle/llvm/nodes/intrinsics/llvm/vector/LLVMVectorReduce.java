@@ -0,0 +1,332 @@
+/*
+ * Copyright (c) 2017, Oracle and/or its affiliates.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of
+ * conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of
+ * conditions and the following disclaimer in the documentation and/or other materials provided
+ * with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to
+ * endorse or promote products derived from this software without specific prior written
+ * permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS
+ * OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE
+ * COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE
+ * GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED
+ * OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.oracle.truffle.llvm.nodes.intrinsics.llvm.vector;
+
+import com.oracle.truffle.api.dsl.NodeChild;
+import com.oracle.truffle.api.dsl.NodeChildren;
+import com.oracle.truffle.api.dsl.Specialization;
+import com.oracle.truffle.llvm.nodes.intrinsics.llvm.LLVMBuiltin;
+import com.oracle.truffle.llvm.nodes.intrinsics.llvm.arith.LLVMMinMaxNum;
+import com.oracle.truffle.llvm.runtime.nodes.api.LLVMExpressionNode;
+import com.oracle.truffle.llvm.runtime.vector.LLVMDoubleVector;
+import com.oracle.truffle.llvm.runtime.vector.LLVMFloatVector;
+import com.oracle.truffle.llvm.runtime.vector.LLVMI16Vector;
+import com.oracle.truffle.llvm.runtime.vector.LLVMI1Vector;
+import com.oracle.truffle.llvm.runtime.vector.LLVMI32Vector;
+import com.oracle.truffle.llvm.runtime.vector.LLVMI64Vector;
+import com.oracle.truffle.llvm.runtime.vector.LLVMI8Vector;
+
+/**
+ * Implements the {@code llvm.vector.reduce.*} intrinsics (called
+ * {@code llvm.experimental.vector.reduce.*} in older LLVM versions).
+ */
+public abstract class LLVMVectorReduce {
+
+    /**
+     * Integer lanes are sign extended to {@code long} before they are combined. This preserves the
+     * signed as well as the unsigned order of the lanes, and the low bits of the result are those
+     * of the reduction in the original width.
+     */
+    public interface IntegerOperation {
+        long apply(long a, long b);
+    }
+
+    public interface FloatingOperation {
+        float apply(float a, float b);
+
+        double apply(double a, double b);
+    }
+
+    // We do not want to use lambdas because of bad startup
+    public static final IntegerOperation ADD = new IntegerOperation() {
+        @Override
+        public long apply(long a, long b) {
+            return a + b;
+        }
+    };
+
+    public static final IntegerOperation MUL = new IntegerOperation() {
+        @Override
+        public long apply(long a, long b) {
+            return a * b;
+        }
+    };
+
+    public static final IntegerOperation AND = new IntegerOperation() {
+        @Override
+        public long apply(long a, long b) {
+            return a & b;
+        }
+    };
+
+    public static final IntegerOperation OR = new IntegerOperation() {
+        @Override
+        public long apply(long a, long b) {
+            return a | b;
+        }
+    };
+
+    public static final IntegerOperation XOR = new IntegerOperation() {
+        @Override
+        public long apply(long a, long b) {
+            return a ^ b;
+        }
+    };
+
+    public static final IntegerOperation SMAX = new IntegerOperation() {
+        @Override
+        public long apply(long a, long b) {
+            return Math.max(a, b);
+        }
+    };
+
+    public static final IntegerOperation SMIN = new IntegerOperation() {
+        @Override
+        public long apply(long a, long b) {
+            return Math.min(a, b);
+        }
+    };
+
+    public static final IntegerOperation UMAX = new IntegerOperation() {
+        @Override
+        public long apply(long a, long b) {
+            return Long.compareUnsigned(a, b) >= 0 ? a : b;
+        }
+    };
+
+    public static final IntegerOperation UMIN = new IntegerOperation() {
+        @Override
+        public long apply(long a, long b) {
+            return Long.compareUnsigned(a, b) <= 0 ? a : b;
+        }
+    };
+
+    public static final FloatingOperation FADD = new FloatingOperation() {
+        @Override
+        public float apply(float a, float b) {
+            return a + b;
+        }
+
+        @Override
+        public double apply(double a, double b) {
+            return a + b;
+        }
+    };
+
+    public static final FloatingOperation FMUL = new FloatingOperation() {
+        @Override
+        public float apply(float a, float b) {
+            return a * b;
+        }
+
+        @Override
+        public double apply(double a, double b) {
+            return a * b;
+        }
+    };
+
+    public static final FloatingOperation FMAX = new FloatingOperation() {
+        @Override
+        public float apply(float a, float b) {
+            return LLVMMinMaxNum.maxnum(a, b);
+        }
+
+        @Override
+        public double apply(double a, double b) {
+            return LLVMMinMaxNum.maxnum(a, b);
+        }
+    };
+
+    public static final FloatingOperation FMIN = new FloatingOperation() {
+        @Override
+        public float apply(float a, float b) {
+            return LLVMMinMaxNum.minnum(a, b);
+        }
+
+        @Override
+        public double apply(double a, double b) {
+            return LLVMMinMaxNum.minnum(a, b);
+        }
+    };
+
+    public static IntegerOperation getIntegerOperation(String name) {
+        switch (name) {
+            case "add":
+                return ADD;
+            case "mul":
+                return MUL;
+            case "and":
+                return AND;
+            case "or":
+                return OR;
+            case "xor":
+                return XOR;
+            case "smax":
+                return SMAX;
+            case "smin":
+                return SMIN;
+            case "umax":
+                return UMAX;
+            case "umin":
+                return UMIN;
+            default:
+                return null;
+        }
+    }
+
+    public static FloatingOperation getFloatingOperation(String name) {
+        switch (name) {
+            case "fadd":
+                return FADD;
+            case "fmul":
+                return FMUL;
+            case "fmax":
+                return FMAX;
+            case "fmin":
+                return FMIN;
+            default:
+                return null;
+        }
+    }
+
+    @NodeChild(type = LLVMExpressionNode.class)
+    public abstract static class LLVMIntegerVectorReduceNode extends LLVMBuiltin {
+
+        private final IntegerOperation operation;
+
+        public LLVMIntegerVectorReduceNode(IntegerOperation operation) {
+            this.operation = operation;
+        }
+
+        @Specialization
+        public boolean executeI1(LLVMI1Vector vector) {
+            long result = vector.getValue(0) ? -1 : 0;
+            for (int i = 1; i < vector.getLength(); i++) {
+                result = operation.apply(result, vector.getValue(i) ? -1 : 0);
+            }
+            return (result & 1) != 0;
+        }
+
+        @Specialization
+        public byte executeI8(LLVMI8Vector vector) {
+            long result = vector.getValue(0);
+            for (int i = 1; i < vector.getLength(); i++) {
+                result = operation.apply(result, vector.getValue(i));
+            }
+            return (byte) result;
+        }
+
+        @Specialization
+        public short executeI16(LLVMI16Vector vector) {
+            long result = vector.getValue(0);
+            for (int i = 1; i < vector.getLength(); i++) {
+                result = operation.apply(result, vector.getValue(i));
+            }
+            return (short) result;
+        }
+
+        @Specialization
+        public int executeI32(LLVMI32Vector vector) {
+            long result = vector.getValue(0);
+            for (int i = 1; i < vector.getLength(); i++) {
+                result = operation.apply(result, vector.getValue(i));
+            }
+            return (int) result;
+        }
+
+        @Specialization
+        public long executeI64(LLVMI64Vector vector) {
+            long result = vector.getValue(0);
+            for (int i = 1; i < vector.getLength(); i++) {
+                result = operation.apply(result, vector.getValue(i));
+            }
+            return result;
+        }
+    }
+
+    @NodeChild(type = LLVMExpressionNode.class)
+    public abstract static class LLVMFloatingVectorReduceNode extends LLVMBuiltin {
+
+        private final FloatingOperation operation;
+
+        public LLVMFloatingVectorReduceNode(FloatingOperation operation) {
+            this.operation = operation;
+        }
+
+        @Specialization
+        public float executeFloat(LLVMFloatVector vector) {
+            float result = vector.getValue(0);
+            for (int i = 1; i < vector.getLength(); i++) {
+                result = operation.apply(result, vector.getValue(i));
+            }
+            return result;
+        }
+
+        @Specialization
+        public double executeDouble(LLVMDoubleVector vector) {
+            double result = vector.getValue(0);
+            for (int i = 1; i < vector.getLength(); i++) {
+                result = operation.apply(result, vector.getValue(i));
+            }
+            return result;
+        }
+    }
+
+    /**
+     * The sequential {@code fadd} and {@code fmul} reductions take a start value as first operand.
+     */
+    @NodeChildren({@NodeChild(type = LLVMExpressionNode.class), @NodeChild(type = LLVMExpressionNode.class)})
+    public abstract static class LLVMOrderedFloatingVectorReduceNode extends LLVMBuiltin {
+
+        private final FloatingOperation operation;
+
+        public LLVMOrderedFloatingVectorReduceNode(FloatingOperation operation) {
+            this.operation = operation;
+        }
+
+        @Specialization
+        public float executeFloat(float start, LLVMFloatVector vector) {
+            float result = start;
+            for (int i = 0; i < vector.getLength(); i++) {
+                result = operation.apply(result, vector.getValue(i));
+            }
+            return result;
+        }
+
+        @Specialization
+        public double executeDouble(double start, LLVMDoubleVector vector) {
+            double result = start;
+            for (int i = 0; i < vector.getLength(); i++) {
+                result = operation.apply(result, vector.getValue(i));
+            }
+            return result;
+        }
+    }
+}
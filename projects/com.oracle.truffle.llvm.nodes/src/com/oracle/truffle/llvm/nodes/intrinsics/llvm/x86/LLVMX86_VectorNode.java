@@ -0,0 +1,408 @@
+/*
+ * Copyright (c) 2017, Oracle and/or its affiliates.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of
+ * conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of
+ * conditions and the following disclaimer in the documentation and/or other materials provided
+ * with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to
+ * endorse or promote products derived from this software without specific prior written
+ * permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS
+ * OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE
+ * COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE
+ * GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED
+ * OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.oracle.truffle.llvm.nodes.intrinsics.llvm.x86;
+
+import com.oracle.truffle.api.dsl.NodeChild;
+import com.oracle.truffle.api.dsl.NodeChildren;
+import com.oracle.truffle.api.dsl.Specialization;
+import com.oracle.truffle.llvm.nodes.intrinsics.llvm.LLVMBuiltin;
+import com.oracle.truffle.llvm.nodes.intrinsics.llvm.vector.LLVMVectorReduce.IntegerOperation;
+import com.oracle.truffle.llvm.runtime.nodes.api.LLVMExpressionNode;
+import com.oracle.truffle.llvm.runtime.vector.LLVMDoubleVector;
+import com.oracle.truffle.llvm.runtime.vector.LLVMFloatVector;
+import com.oracle.truffle.llvm.runtime.vector.LLVMI16Vector;
+import com.oracle.truffle.llvm.runtime.vector.LLVMI32Vector;
+import com.oracle.truffle.llvm.runtime.vector.LLVMI8Vector;
+
+/**
+ * Integer and floating point SIMD intrinsics of SSE2, SSSE3, SSE4.1, AVX and AVX2. The 256 bit AVX
+ * variants of the shuffle and pack instructions operate on each 128 bit lane independently.
+ */
+public abstract class LLVMX86_VectorNode {
+
+    private static final int LANE_BYTES = 16;
+
+    @NodeChild(type = LLVMExpressionNode.class)
+    public abstract static class LLVMX86_MoveMask extends LLVMBuiltin { // pmovmskb, movmskps,
+                                                                       // movmskpd
+
+        @Specialization
+        public int executeI8(LLVMI8Vector vector) {
+            int result = 0;
+            for (int i = 0; i < vector.getLength(); i++) {
+                if (vector.getValue(i) < 0) {
+                    result |= 1 << i;
+                }
+            }
+            return result;
+        }
+
+        @Specialization
+        public int executeFloat(LLVMFloatVector vector) {
+            int result = 0;
+            for (int i = 0; i < vector.getLength(); i++) {
+                if (Float.floatToRawIntBits(vector.getValue(i)) < 0) {
+                    result |= 1 << i;
+                }
+            }
+            return result;
+        }
+
+        @Specialization
+        public int executeDouble(LLVMDoubleVector vector) {
+            int result = 0;
+            for (int i = 0; i < vector.getLength(); i++) {
+                if (Double.doubleToRawLongBits(vector.getValue(i)) < 0) {
+                    result |= 1 << i;
+                }
+            }
+            return result;
+        }
+    }
+
+    @NodeChildren({@NodeChild(type = LLVMExpressionNode.class), @NodeChild(type = LLVMExpressionNode.class)})
+    public abstract static class LLVMX86_MultiplyAddWords extends LLVMBuiltin { // pmaddwd
+
+        @Specialization
+        public LLVMI32Vector executeI16(LLVMI16Vector left, LLVMI16Vector right) {
+            final int[] result = new int[left.getLength() / 2];
+            for (int i = 0; i < result.length; i++) {
+                result[i] = left.getValue(2 * i) * right.getValue(2 * i) + left.getValue(2 * i + 1) * right.getValue(2 * i + 1);
+            }
+            return LLVMI32Vector.create(result);
+        }
+    }
+
+    @NodeChildren({@NodeChild(type = LLVMExpressionNode.class), @NodeChild(type = LLVMExpressionNode.class)})
+    public abstract static class LLVMX86_MultiplyAddUnsignedSignedBytes extends LLVMBuiltin { // pmaddubsw
+
+        @Specialization
+        public LLVMI16Vector executeI8(LLVMI8Vector unsigned, LLVMI8Vector signed) {
+            final short[] result = new short[unsigned.getLength() / 2];
+            for (int i = 0; i < result.length; i++) {
+                final int low = (unsigned.getValue(2 * i) & I8_MASK) * signed.getValue(2 * i);
+                final int high = (unsigned.getValue(2 * i + 1) & I8_MASK) * signed.getValue(2 * i + 1);
+                result[i] = saturateToI16(low + high);
+            }
+            return LLVMI16Vector.create(result);
+        }
+    }
+
+    @NodeChildren({@NodeChild(type = LLVMExpressionNode.class), @NodeChild(type = LLVMExpressionNode.class)})
+    public abstract static class LLVMX86_ShuffleBytes extends LLVMBuiltin { // pshufb
+
+        @Specialization
+        public LLVMI8Vector executeI8(LLVMI8Vector vector, LLVMI8Vector indices) {
+            final byte[] result = new byte[vector.getLength()];
+            for (int i = 0; i < result.length; i++) {
+                final byte index = indices.getValue(i);
+                if (index < 0) {
+                    result[i] = 0;
+                } else {
+                    final int laneStart = i - i % LANE_BYTES;
+                    result[i] = vector.getValue(laneStart + (index & (LANE_BYTES - 1)));
+                }
+            }
+            return LLVMI8Vector.create(result);
+        }
+    }
+
+    /**
+     * Lane-wise integer minimum and maximum (pmins*, pmaxs*, pminu*, pmaxu*).
+     */
+    @NodeChildren({@NodeChild(type = LLVMExpressionNode.class), @NodeChild(type = LLVMExpressionNode.class)})
+    public abstract static class LLVMX86_IntegerMinMax extends LLVMBuiltin {
+
+        private final IntegerOperation operation;
+
+        public LLVMX86_IntegerMinMax(IntegerOperation operation) {
+            this.operation = operation;
+        }
+
+        @Specialization
+        public LLVMI8Vector executeI8(LLVMI8Vector left, LLVMI8Vector right) {
+            final byte[] result = new byte[left.getLength()];
+            for (int i = 0; i < result.length; i++) {
+                result[i] = (byte) operation.apply(left.getValue(i), right.getValue(i));
+            }
+            return LLVMI8Vector.create(result);
+        }
+
+        @Specialization
+        public LLVMI16Vector executeI16(LLVMI16Vector left, LLVMI16Vector right) {
+            final short[] result = new short[left.getLength()];
+            for (int i = 0; i < result.length; i++) {
+                result[i] = (short) operation.apply(left.getValue(i), right.getValue(i));
+            }
+            return LLVMI16Vector.create(result);
+        }
+
+        @Specialization
+        public LLVMI32Vector executeI32(LLVMI32Vector left, LLVMI32Vector right) {
+            final int[] result = new int[left.getLength()];
+            for (int i = 0; i < result.length; i++) {
+                result[i] = (int) operation.apply(left.getValue(i), right.getValue(i));
+            }
+            return LLVMI32Vector.create(result);
+        }
+    }
+
+    /*
+     * The SSE minimum and maximum return the second operand if either operand is a NaN or both are
+     * zero, which is not what Math.min and Math.max do.
+     */
+
+    private static float max(float a, float b) {
+        return a > b ? a : b;
+    }
+
+    private static double max(double a, double b) {
+        return a > b ? a : b;
+    }
+
+    private static float min(float a, float b) {
+        return a < b ? a : b;
+    }
+
+    private static double min(double a, double b) {
+        return a < b ? a : b;
+    }
+
+    @NodeChildren({@NodeChild(type = LLVMExpressionNode.class), @NodeChild(type = LLVMExpressionNode.class)})
+    public abstract static class LLVMX86_Max extends LLVMBuiltin { // maxps, maxpd
+
+        @Specialization
+        public LLVMFloatVector executeFloat(LLVMFloatVector left, LLVMFloatVector right) {
+            final float[] result = new float[left.getLength()];
+            for (int i = 0; i < result.length; i++) {
+                result[i] = max(left.getValue(i), right.getValue(i));
+            }
+            return LLVMFloatVector.create(result);
+        }
+
+        @Specialization
+        public LLVMDoubleVector executeDouble(LLVMDoubleVector left, LLVMDoubleVector right) {
+            final double[] result = new double[left.getLength()];
+            for (int i = 0; i < result.length; i++) {
+                result[i] = max(left.getValue(i), right.getValue(i));
+            }
+            return LLVMDoubleVector.create(result);
+        }
+    }
+
+    @NodeChildren({@NodeChild(type = LLVMExpressionNode.class), @NodeChild(type = LLVMExpressionNode.class)})
+    public abstract static class LLVMX86_Min extends LLVMBuiltin { // minps, minpd
+
+        @Specialization
+        public LLVMFloatVector executeFloat(LLVMFloatVector left, LLVMFloatVector right) {
+            final float[] result = new float[left.getLength()];
+            for (int i = 0; i < result.length; i++) {
+                result[i] = min(left.getValue(i), right.getValue(i));
+            }
+            return LLVMFloatVector.create(result);
+        }
+
+        @Specialization
+        public LLVMDoubleVector executeDouble(LLVMDoubleVector left, LLVMDoubleVector right) {
+            final double[] result = new double[left.getLength()];
+            for (int i = 0; i < result.length; i++) {
+                result[i] = min(left.getValue(i), right.getValue(i));
+            }
+            return LLVMDoubleVector.create(result);
+        }
+    }
+
+    @NodeChildren({@NodeChild(type = LLVMExpressionNode.class), @NodeChild(type = LLVMExpressionNode.class)})
+    public abstract static class LLVMX86_MaxScalar extends LLVMBuiltin { // maxss, maxsd
+
+        @Specialization
+        public LLVMFloatVector executeFloat(LLVMFloatVector left, LLVMFloatVector right) {
+            return left.insert(max(left.getValue(0), right.getValue(0)), 0);
+        }
+
+        @Specialization
+        public LLVMDoubleVector executeDouble(LLVMDoubleVector left, LLVMDoubleVector right) {
+            return left.insert(max(left.getValue(0), right.getValue(0)), 0);
+        }
+    }
+
+    @NodeChildren({@NodeChild(type = LLVMExpressionNode.class), @NodeChild(type = LLVMExpressionNode.class)})
+    public abstract static class LLVMX86_MinScalar extends LLVMBuiltin { // minss, minsd
+
+        @Specialization
+        public LLVMFloatVector executeFloat(LLVMFloatVector left, LLVMFloatVector right) {
+            return left.insert(min(left.getValue(0), right.getValue(0)), 0);
+        }
+
+        @Specialization
+        public LLVMDoubleVector executeDouble(LLVMDoubleVector left, LLVMDoubleVector right) {
+            return left.insert(min(left.getValue(0), right.getValue(0)), 0);
+        }
+    }
+
+    /**
+     * Selects the lane of the second operand if the most significant bit of the mask lane is set.
+     */
+    @NodeChildren({@NodeChild(type = LLVMExpressionNode.class), @NodeChild(type = LLVMExpressionNode.class), @NodeChild(type = LLVMExpressionNode.class)})
+    public abstract static class LLVMX86_BlendVariable extends LLVMBuiltin { // pblendvb, blendvps,
+                                                                            // blendvpd
+
+        @Specialization
+        public LLVMI8Vector executeI8(LLVMI8Vector left, LLVMI8Vector right, LLVMI8Vector mask) {
+            final byte[] result = new byte[left.getLength()];
+            for (int i = 0; i < result.length; i++) {
+                result[i] = mask.getValue(i) < 0 ? right.getValue(i) : left.getValue(i);
+            }
+            return LLVMI8Vector.create(result);
+        }
+
+        @Specialization
+        public LLVMFloatVector executeFloat(LLVMFloatVector left, LLVMFloatVector right, LLVMFloatVector mask) {
+            final float[] result = new float[left.getLength()];
+            for (int i = 0; i < result.length; i++) {
+                result[i] = Float.floatToRawIntBits(mask.getValue(i)) < 0 ? right.getValue(i) : left.getValue(i);
+            }
+            return LLVMFloatVector.create(result);
+        }
+
+        @Specialization
+        public LLVMDoubleVector executeDouble(LLVMDoubleVector left, LLVMDoubleVector right, LLVMDoubleVector mask) {
+            final double[] result = new double[left.getLength()];
+            for (int i = 0; i < result.length; i++) {
+                result[i] = Double.doubleToRawLongBits(mask.getValue(i)) < 0 ? right.getValue(i) : left.getValue(i);
+            }
+            return LLVMDoubleVector.create(result);
+        }
+    }
+
+    private static byte saturateToI8(int value) {
+        return (byte) Math.max(Byte.MIN_VALUE, Math.min(Byte.MAX_VALUE, value));
+    }
+
+    private static byte saturateToU8(int value) {
+        return (byte) Math.max(0, Math.min(LLVMExpressionNode.I8_MASK, value));
+    }
+
+    private static short saturateToI16(int value) {
+        return (short) Math.max(Short.MIN_VALUE, Math.min(Short.MAX_VALUE, value));
+    }
+
+    private static short saturateToU16(int value) {
+        return (short) Math.max(0, Math.min(LLVMExpressionNode.I16_MASK, value));
+    }
+
+    /**
+     * Narrows both operands with signed saturation (packsswb, packssdw).
+     */
+    @NodeChildren({@NodeChild(type = LLVMExpressionNode.class), @NodeChild(type = LLVMExpressionNode.class)})
+    public abstract static class LLVMX86_PackSigned extends LLVMBuiltin {
+
+        @Specialization
+        public LLVMI8Vector executeI16(LLVMI16Vector left, LLVMI16Vector right) {
+            final int perLane = LANE_BYTES / Short.BYTES;
+            final byte[] result = new byte[left.getLength() * 2];
+            for (int i = 0; i < left.getLength(); i++) {
+                final int lane = i / perLane;
+                final int index = i % perLane;
+                result[lane * 2 * perLane + index] = saturateToI8(left.getValue(i));
+                result[lane * 2 * perLane + perLane + index] = saturateToI8(right.getValue(i));
+            }
+            return LLVMI8Vector.create(result);
+        }
+
+        @Specialization
+        public LLVMI16Vector executeI32(LLVMI32Vector left, LLVMI32Vector right) {
+            final int perLane = LANE_BYTES / Integer.BYTES;
+            final short[] result = new short[left.getLength() * 2];
+            for (int i = 0; i < left.getLength(); i++) {
+                final int lane = i / perLane;
+                final int index = i % perLane;
+                result[lane * 2 * perLane + index] = saturateToI16(left.getValue(i));
+                result[lane * 2 * perLane + perLane + index] = saturateToI16(right.getValue(i));
+            }
+            return LLVMI16Vector.create(result);
+        }
+    }
+
+    /**
+     * Narrows both signed operands with unsigned saturation (packuswb, packusdw).
+     */
+    @NodeChildren({@NodeChild(type = LLVMExpressionNode.class), @NodeChild(type = LLVMExpressionNode.class)})
+    public abstract static class LLVMX86_PackUnsigned extends LLVMBuiltin {
+
+        @Specialization
+        public LLVMI8Vector executeI16(LLVMI16Vector left, LLVMI16Vector right) {
+            final int perLane = LANE_BYTES / Short.BYTES;
+            final byte[] result = new byte[left.getLength() * 2];
+            for (int i = 0; i < left.getLength(); i++) {
+                final int lane = i / perLane;
+                final int index = i % perLane;
+                result[lane * 2 * perLane + index] = saturateToU8(left.getValue(i));
+                result[lane * 2 * perLane + perLane + index] = saturateToU8(right.getValue(i));
+            }
+            return LLVMI8Vector.create(result);
+        }
+
+        @Specialization
+        public LLVMI16Vector executeI32(LLVMI32Vector left, LLVMI32Vector right) {
+            final int perLane = LANE_BYTES / Integer.BYTES;
+            final short[] result = new short[left.getLength() * 2];
+            for (int i = 0; i < left.getLength(); i++) {
+                final int lane = i / perLane;
+                final int index = i % perLane;
+                result[lane * 2 * perLane + index] = saturateToU16(left.getValue(i));
+                result[lane * 2 * perLane + perLane + index] = saturateToU16(right.getValue(i));
+            }
+            return LLVMI16Vector.create(result);
+        }
+    }
+
+    @NodeChildren({@NodeChild(type = LLVMExpressionNode.class), @NodeChild(type = LLVMExpressionNode.class)})
+    public abstract static class LLVMX86_Average extends LLVMBuiltin { // pavgb, pavgw
+
+        @Specialization
+        public LLVMI8Vector executeI8(LLVMI8Vector left, LLVMI8Vector right) {
+            final byte[] result = new byte[left.getLength()];
+            for (int i = 0; i < result.length; i++) {
+                result[i] = (byte) (((left.getValue(i) & I8_MASK) + (right.getValue(i) & I8_MASK) + 1) >> 1);
+            }
+            return LLVMI8Vector.create(result);
+        }
+
+        @Specialization
+        public LLVMI16Vector executeI16(LLVMI16Vector left, LLVMI16Vector right) {
+            final short[] result = new short[left.getLength()];
+            for (int i = 0; i < result.length; i++) {
+                result[i] = (short) (((left.getValue(i) & I16_MASK) + (right.getValue(i) & I16_MASK) + 1) >> 1);
+            }
+            return LLVMI16Vector.create(result);
+        }
+    }
+}
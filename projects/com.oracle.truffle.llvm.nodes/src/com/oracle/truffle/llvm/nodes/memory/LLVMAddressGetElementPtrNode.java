@@ -60,6 +60,30 @@ public abstract class LLVMAddressGetElementPtrNode extends LLVMExpressionNode {
         return LLVMIncrementPointerNodeGen.create();
     }
 
+    @Specialization
+    public long nativeIntIncrement(long addr, int val) {
+        int incr = getTypeWidth() * val;
+        return addr + incr;
+    }
+
+    @Specialization
+    public long nativeLongIncrement(long addr, long val) {
+        long incr = getTypeWidth() * val;
+        return addr + incr;
+    }
+
+    @Specialization
+    public long addressIntIncrement(LLVMAddress addr, int val) {
+        int incr = getTypeWidth() * val;
+        return addr.getVal() + incr;
+    }
+
+    @Specialization
+    public long addressLongIncrement(LLVMAddress addr, long val) {
+        long incr = getTypeWidth() * val;
+        return addr.getVal() + incr;
+    }
+
     @Specialization
     public Object intIncrement(Object addr, int val, @Cached("getIncrementPointerNode()") LLVMIncrementPointerNode incrementNode) {
         int incr = getTypeWidth() * val;
@@ -76,6 +100,16 @@ public abstract class LLVMAddressGetElementPtrNode extends LLVMExpressionNode {
 
         public abstract Object executeWithTarget(Object addr, Object val, Type targetType);
 
+        @Specialization
+        public LLVMAddress executeNative(long addr, int incr, @SuppressWarnings("unused") Type targetType) {
+            return LLVMAddress.fromLong(addr + incr);
+        }
+
+        @Specialization
+        public LLVMAddress executeNative(long addr, long incr, @SuppressWarnings("unused") Type targetType) {
+            return LLVMAddress.fromLong(addr + incr);
+        }
+
         @Specialization
         public LLVMAddress executePointee(LLVMAddress addr, int incr, @SuppressWarnings("unused") Type targetType) {
             return addr.increment(incr);
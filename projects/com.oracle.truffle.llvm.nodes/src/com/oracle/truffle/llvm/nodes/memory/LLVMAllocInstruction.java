@@ -37,21 +37,23 @@ import com.oracle.truffle.api.dsl.NodeFields;
 import com.oracle.truffle.api.dsl.Specialization;
 import com.oracle.truffle.api.frame.FrameSlot;
 import com.oracle.truffle.api.frame.VirtualFrame;
+import com.oracle.truffle.api.source.SourceSection;
 import com.oracle.truffle.llvm.runtime.LLVMAddress;
 import com.oracle.truffle.llvm.runtime.memory.LLVMStack;
 import com.oracle.truffle.llvm.runtime.memory.LLVMStack.NeedsStack;
 import com.oracle.truffle.llvm.runtime.nodes.api.LLVMExpressionNode;
+import com.oracle.truffle.llvm.runtime.nodes.api.LLVMTags;
 import com.oracle.truffle.llvm.runtime.types.Type;
 
 @NeedsStack
 @NodeFields({@NodeField(type = int.class, name = "size"), @NodeField(type = int.class, name = "alignment"), @NodeField(type = Type.class, name = "symbolType")})
 public abstract class LLVMAllocInstruction extends LLVMExpressionNode {
 
-    abstract int getSize();
+    public abstract int getSize();
 
-    abstract int getAlignment();
+    public abstract int getAlignment();
 
-    abstract Type getSymbolType();
+    public abstract Type getSymbolType();
 
     @CompilationFinal private FrameSlot stackPointer;
 
@@ -63,6 +65,16 @@ public abstract class LLVMAllocInstruction extends LLVMExpressionNode {
         return stackPointer;
     }
 
+    @Override
+    public SourceSection getSourceSection() {
+        return getEnclosingSourceSection();
+    }
+
+    @Override
+    protected boolean isTaggedWith(Class<?> tag) {
+        return tag == LLVMTags.StackAllocationTag.class;
+    }
+
     public abstract static class LLVMAllocaConstInstruction extends LLVMAllocInstruction {
 
         @CompilationFinal(dimensions = 1) private Type[] types = null;
@@ -42,10 +42,6 @@ import com.oracle.truffle.llvm.runtime.LLVMAddress;
 import com.oracle.truffle.llvm.runtime.global.LLVMGlobalVariable;
 import com.oracle.truffle.llvm.runtime.global.LLVMGlobalVariableAccess;
 import com.oracle.truffle.llvm.runtime.memory.LLVMMemory;
-import com.oracle.truffle.llvm.runtime.memory.LLVMMemory.CMPXCHGI16;
-import com.oracle.truffle.llvm.runtime.memory.LLVMMemory.CMPXCHGI32;
-import com.oracle.truffle.llvm.runtime.memory.LLVMMemory.CMPXCHGI64;
-import com.oracle.truffle.llvm.runtime.memory.LLVMMemory.CMPXCHGI8;
 import com.oracle.truffle.llvm.runtime.memory.LLVMStack;
 import com.oracle.truffle.llvm.runtime.memory.LLVMStack.NeedsStack;
 import com.oracle.truffle.llvm.runtime.nodes.api.LLVMExpressionNode;
@@ -86,46 +82,46 @@ public abstract class LLVMCompareExchangeNode extends LLVMExpressionNode {
 
         @Specialization
         public Object execute(VirtualFrame frame, LLVMAddress address, byte comparisonValue, byte newValue) {
-            CMPXCHGI8 compareAndSwapI8 = LLVMMemory.compareAndSwapI8(address, comparisonValue, newValue);
+            byte witnessedValue = LLVMMemory.compareAndExchangeI8(address, comparisonValue, newValue);
             LLVMAddress allocation = LLVMAddress.fromLong(LLVMStack.allocateStackMemory(frame, getStackPointerSlot(), resultSize, 8));
-            LLVMMemory.putI8(allocation, compareAndSwapI8.getValue());
-            LLVMMemory.putI1(allocation.getVal() + secondValueOffset, compareAndSwapI8.isSwap());
+            LLVMMemory.putI8(allocation, witnessedValue);
+            LLVMMemory.putI1(allocation.getVal() + secondValueOffset, witnessedValue == comparisonValue);
             return allocation;
         }
 
         @Specialization
         public Object execute(VirtualFrame frame, LLVMAddress address, short comparisonValue, short newValue) {
-            CMPXCHGI16 compareAndSwapI16 = LLVMMemory.compareAndSwapI16(address, comparisonValue, newValue);
+            short witnessedValue = LLVMMemory.compareAndExchangeI16(address, comparisonValue, newValue);
             LLVMAddress allocation = LLVMAddress.fromLong(LLVMStack.allocateStackMemory(frame, getStackPointerSlot(), resultSize, 8));
-            LLVMMemory.putI16(allocation, compareAndSwapI16.getValue());
-            LLVMMemory.putI1(allocation.getVal() + secondValueOffset, compareAndSwapI16.isSwap());
+            LLVMMemory.putI16(allocation, witnessedValue);
+            LLVMMemory.putI1(allocation.getVal() + secondValueOffset, witnessedValue == comparisonValue);
             return allocation;
         }
 
         @Specialization
         public Object execute(VirtualFrame frame, LLVMAddress address, int comparisonValue, int newValue) {
-            CMPXCHGI32 compareAndSwapI32 = LLVMMemory.compareAndSwapI32(address, comparisonValue, newValue);
+            int witnessedValue = LLVMMemory.compareAndExchangeI32(address, comparisonValue, newValue);
             LLVMAddress allocation = LLVMAddress.fromLong(LLVMStack.allocateStackMemory(frame, getStackPointerSlot(), resultSize, 8));
-            LLVMMemory.putI32(allocation, compareAndSwapI32.getValue());
-            LLVMMemory.putI1(allocation.getVal() + secondValueOffset, compareAndSwapI32.isSwap());
+            LLVMMemory.putI32(allocation, witnessedValue);
+            LLVMMemory.putI1(allocation.getVal() + secondValueOffset, witnessedValue == comparisonValue);
             return allocation;
         }
 
         @Specialization
         public Object execute(VirtualFrame frame, LLVMAddress address, long comparisonValue, long newValue) {
-            CMPXCHGI64 compareAndSwapI64 = LLVMMemory.compareAndSwapI64(address, comparisonValue, newValue);
+            long witnessedValue = LLVMMemory.compareAndExchangeI64(address, comparisonValue, newValue);
             LLVMAddress allocation = LLVMAddress.fromLong(LLVMStack.allocateStackMemory(frame, getStackPointerSlot(), resultSize, 8));
-            LLVMMemory.putI64(allocation, compareAndSwapI64.getValue());
-            LLVMMemory.putI1(allocation.getVal() + secondValueOffset, compareAndSwapI64.isSwap());
+            LLVMMemory.putI64(allocation, witnessedValue);
+            LLVMMemory.putI1(allocation.getVal() + secondValueOffset, witnessedValue == comparisonValue);
             return allocation;
         }
 
         @Specialization
         public Object execute(VirtualFrame frame, LLVMAddress address, LLVMAddress comparisonValue, LLVMAddress newValue) {
-            CMPXCHGI64 compareAndSwapI64 = LLVMMemory.compareAndSwapI64(address, comparisonValue.getVal(), newValue.getVal());
+            long witnessedValue = LLVMMemory.compareAndExchangeI64(address, comparisonValue.getVal(), newValue.getVal());
             LLVMAddress allocation = LLVMAddress.fromLong(LLVMStack.allocateStackMemory(frame, getStackPointerSlot(), resultSize, 8));
-            LLVMMemory.putI64(allocation, compareAndSwapI64.getValue());
-            LLVMMemory.putI1(allocation.getVal() + secondValueOffset, compareAndSwapI64.isSwap());
+            LLVMMemory.putI64(allocation, witnessedValue);
+            LLVMMemory.putI1(allocation.getVal() + secondValueOffset, witnessedValue == comparisonValue.getVal());
             return allocation;
         }
 
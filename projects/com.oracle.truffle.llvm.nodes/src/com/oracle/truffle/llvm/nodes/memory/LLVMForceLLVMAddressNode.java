@@ -49,6 +49,11 @@ public abstract class LLVMForceLLVMAddressNode extends Node {
 
     public abstract LLVMAddress executeWithTarget(VirtualFrame frame, Object object);
 
+    @Specialization
+    public LLVMAddress doNativeCase(long a) {
+        return LLVMAddress.fromLong(a);
+    }
+
     @Specialization
     public LLVMAddress doAddressCase(LLVMAddress a) {
         return a;
@@ -33,7 +33,10 @@ import com.oracle.truffle.api.CompilerDirectives;
 import com.oracle.truffle.api.CompilerDirectives.CompilationFinal;
 import com.oracle.truffle.api.dsl.Specialization;
 import com.oracle.truffle.api.frame.VirtualFrame;
+import com.oracle.truffle.api.interop.TruffleObject;
+import com.oracle.truffle.api.interop.java.JavaInterop;
 import com.oracle.truffle.llvm.runtime.LLVMAddress;
+import com.oracle.truffle.llvm.runtime.LLVMTruffleObject;
 import com.oracle.truffle.llvm.runtime.memory.LLVMMemMoveNode;
 import com.oracle.truffle.llvm.runtime.memory.LLVMMemory;
 
@@ -45,6 +48,26 @@ public abstract class NativeProfiledMemMove extends LLVMMemMoveNode {
     @Child private LLVMForceLLVMAddressNode convert1 = LLVMForceLLVMAddressNodeGen.create();
     @Child private LLVMForceLLVMAddressNode convert2 = LLVMForceLLVMAddressNodeGen.create();
 
+    @Specialization(guards = "isPrimitiveArray(target, length)")
+    public Object toArray(VirtualFrame frame, LLVMTruffleObject target, Object source, int length) {
+        return copyToArray(target, convert2.executeWithTarget(frame, source), length);
+    }
+
+    @Specialization(guards = "isPrimitiveArray(target, length)")
+    public Object toArray(VirtualFrame frame, LLVMTruffleObject target, Object source, long length) {
+        return copyToArray(target, convert2.executeWithTarget(frame, source), length);
+    }
+
+    @Specialization(guards = "isPrimitiveArray(source, length)")
+    public Object fromArray(VirtualFrame frame, Object target, LLVMTruffleObject source, int length) {
+        return copyFromArray(convert1.executeWithTarget(frame, target), source, length);
+    }
+
+    @Specialization(guards = "isPrimitiveArray(source, length)")
+    public Object fromArray(VirtualFrame frame, Object target, LLVMTruffleObject source, long length) {
+        return copyFromArray(convert1.executeWithTarget(frame, target), source, length);
+    }
+
     @Specialization
     public Object case1(VirtualFrame frame, Object target, Object source, int length) {
         return memmove(convert1.executeWithTarget(frame, target), convert2.executeWithTarget(frame, source), length);
@@ -55,6 +78,55 @@ public abstract class NativeProfiledMemMove extends LLVMMemMoveNode {
         return memmove(convert1.executeWithTarget(frame, target), convert2.executeWithTarget(frame, source), length);
     }
 
+    /**
+     * A foreign Java array of primitives is copied with a single bulk transfer instead of
+     * converting it to native memory or accessing it element by element.
+     * <p>
+     * The offset of the pointer and the length are byte counts, and the bulk copy uses the Java
+     * memory layout of the array. This only agrees with element-wise access if the C code views
+     * the array through the C type of the same size (e.g., {@code int32_t *} for an {@code int[]}).
+     * The arguments of {@code memmove} are untyped, so this cannot be checked here. Copies that do
+     * not start and end at element boundaries, and {@code boolean[]} and {@code char[]}, which
+     * have no C counterpart of the same size and meaning, take the generic path.
+     */
+    protected static boolean isPrimitiveArray(LLVMTruffleObject object, long length) {
+        TruffleObject obj = object.getObject();
+        if (JavaInterop.isJavaObject(obj)) {
+            Object array = JavaInterop.asJavaObject(obj);
+            if (array == null || !array.getClass().isArray()) {
+                return false;
+            }
+            Class<?> componentType = array.getClass().getComponentType();
+            if (!componentType.isPrimitive() || componentType == boolean.class || componentType == char.class) {
+                return false;
+            }
+            long elementSize = LLVMMemory.getArrayIndexScale(array);
+            return object.getOffset() % elementSize == 0 && length % elementSize == 0;
+        }
+        return false;
+    }
+
+    private static Object copyToArray(LLVMTruffleObject target, LLVMAddress source, long length) {
+        Object array = JavaInterop.asJavaObject(target.getObject());
+        checkBounds(array, target.getOffset(), length);
+        LLVMMemory.copyToArray(source.getVal(), array, target.getOffset(), length);
+        return null;
+    }
+
+    private static Object copyFromArray(LLVMAddress target, LLVMTruffleObject source, long length) {
+        Object array = JavaInterop.asJavaObject(source.getObject());
+        checkBounds(array, source.getOffset(), length);
+        LLVMMemory.copyFromArray(array, source.getOffset(), target.getVal(), length);
+        return null;
+    }
+
+    private static void checkBounds(Object array, long offset, long length) {
+        if (offset < 0 || length < 0 || offset + length > LLVMMemory.getArraySizeInBytes(array)) {
+            CompilerDirectives.transferToInterpreter();
+            throw new IndexOutOfBoundsException("Cannot copy " + length + " bytes at offset " + offset + " of " + array.getClass().getSimpleName());
+        }
+    }
+
     private Object memmove(LLVMAddress target, LLVMAddress source, long length) {
         if (inJava) {
             if (length <= MAX_JAVA_LEN) {
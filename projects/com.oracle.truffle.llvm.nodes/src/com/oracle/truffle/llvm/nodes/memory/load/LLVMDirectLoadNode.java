@@ -34,6 +34,7 @@ import com.oracle.truffle.api.dsl.Cached;
 import com.oracle.truffle.api.dsl.NodeField;
 import com.oracle.truffle.api.dsl.Specialization;
 import com.oracle.truffle.api.frame.VirtualFrame;
+import com.oracle.truffle.api.source.SourceSection;
 import com.oracle.truffle.llvm.runtime.LLVMAddress;
 import com.oracle.truffle.llvm.runtime.LLVMBoxedPrimitive;
 import com.oracle.truffle.llvm.runtime.LLVMFunctionHandle;
@@ -48,6 +49,7 @@ import com.oracle.truffle.llvm.runtime.interop.convert.ForeignToLLVM.ForeignToLL
 import com.oracle.truffle.llvm.runtime.memory.LLVMHeap;
 import com.oracle.truffle.llvm.runtime.memory.LLVMMemory;
 import com.oracle.truffle.llvm.runtime.nodes.api.LLVMExpressionNode;
+import com.oracle.truffle.llvm.runtime.nodes.api.LLVMTags;
 
 public abstract class LLVMDirectLoadNode {
 
@@ -124,13 +126,18 @@ public abstract class LLVMDirectLoadNode {
         @Child protected ForeignToLLVM toLLVM = ForeignToLLVM.create(ForeignToLLVMType.POINTER);
 
         @Specialization
-        public LLVMAddress executeAddress(LLVMAddress addr) {
-            return LLVMMemory.getAddress(addr);
+        public long executeAddress(long addr) {
+            return LLVMMemory.getRawAddress(addr);
+        }
+
+        @Specialization
+        public long executeAddress(LLVMAddress addr) {
+            return LLVMMemory.getRawAddress(addr.getVal());
         }
 
         @Specialization
-        public LLVMAddress executeLLVMByteArrayAddress(LLVMVirtualAllocationAddress address) {
-            return LLVMAddress.fromLong(address.getI64());
+        public long executeLLVMByteArrayAddress(LLVMVirtualAllocationAddress address) {
+            return address.getI64();
         }
 
         @Specialization
@@ -141,7 +148,7 @@ public abstract class LLVMDirectLoadNode {
         @Specialization
         public Object executeLLVMBoxedPrimitive(LLVMBoxedPrimitive addr) {
             if (addr.getValue() instanceof Long) {
-                return LLVMMemory.getAddress((long) addr.getValue());
+                return LLVMMemory.getRawAddress((long) addr.getValue());
             } else {
                 CompilerDirectives.transferToInterpreter();
                 throw new IllegalAccessError("Cannot access memory with address: " + addr.getValue());
@@ -167,6 +174,20 @@ public abstract class LLVMDirectLoadNode {
             this.descriptor = descriptor;
         }
 
+        public LLVMGlobalVariable getDescriptor() {
+            return descriptor;
+        }
+
+        @Override
+        public SourceSection getSourceSection() {
+            return getEnclosingSourceSection();
+        }
+
+        @Override
+        protected boolean isTaggedWith(Class<?> tag) {
+            return tag == LLVMTags.MemoryLoadTag.class;
+        }
+
         @Override
         public Object executeGeneric(VirtualFrame frame) {
             return access.get(descriptor);
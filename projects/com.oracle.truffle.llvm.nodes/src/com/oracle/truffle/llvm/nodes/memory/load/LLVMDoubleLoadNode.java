@@ -57,6 +57,12 @@ public abstract class LLVMDoubleLoadNode extends LLVMLoadNode {
         return address.getDouble();
     }
 
+    @Specialization
+    public double executeDouble(long addr) {
+        double value = LLVMMemory.getDouble(addr);
+        return profile.profile(value);
+    }
+
     @Specialization
     public double executeDouble(LLVMAddress addr) {
         double value = LLVMMemory.getDouble(addr);
@@ -57,6 +57,12 @@ public abstract class LLVMFloatLoadNode extends LLVMLoadNode {
         return address.getFloat();
     }
 
+    @Specialization
+    public float executeFloat(long addr) {
+        float val = LLVMMemory.getFloat(addr);
+        return profile.profile(val);
+    }
+
     @Specialization
     public float executeFloat(LLVMAddress addr) {
         float val = LLVMMemory.getFloat(addr);
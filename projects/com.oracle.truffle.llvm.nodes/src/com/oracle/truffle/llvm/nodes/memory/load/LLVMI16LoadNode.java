@@ -49,6 +49,11 @@ public abstract class LLVMI16LoadNode extends LLVMLoadNode {
         return globalAccess.getI16(addr);
     }
 
+    @Specialization
+    public short executeShort(long addr) {
+        return LLVMMemory.getI16(addr);
+    }
+
     @Specialization
     public short executeShort(LLVMAddress addr) {
         return LLVMMemory.getI16(addr);
@@ -54,6 +54,11 @@ public abstract class LLVMI1LoadNode extends LLVMLoadNode {
         return address.getI1();
     }
 
+    @Specialization
+    public boolean executeI1(long addr) {
+        return LLVMMemory.getI1(addr);
+    }
+
     @Specialization
     public boolean executeI1(LLVMAddress addr) {
         return LLVMMemory.getI1(addr);
@@ -47,6 +47,12 @@ public abstract class LLVMI32LoadNode extends LLVMLoadNode {
 
     private final IntValueProfile profile = IntValueProfile.createIdentityProfile();
 
+    @Specialization
+    public int executeI32(long addr) {
+        int val = LLVMMemory.getI32(addr);
+        return profile.profile(val);
+    }
+
     @Specialization
     public int executeI32(LLVMAddress addr) {
         int val = LLVMMemory.getI32(addr);
@@ -47,6 +47,12 @@ public abstract class LLVMI64LoadNode extends LLVMLoadNode {
 
     private final LongValueProfile profile = LongValueProfile.createIdentityProfile();
 
+    @Specialization
+    public long executeI64(long addr) {
+        long val = LLVMMemory.getI64(addr);
+        return profile.profile(val);
+    }
+
     @Specialization
     public long executeI64(LLVMAddress addr) {
         long val = LLVMMemory.getI64(addr);
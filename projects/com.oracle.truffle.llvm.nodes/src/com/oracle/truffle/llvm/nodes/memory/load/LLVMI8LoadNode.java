@@ -47,6 +47,12 @@ public abstract class LLVMI8LoadNode extends LLVMLoadNode {
 
     private final ByteValueProfile profile = ByteValueProfile.createIdentityProfile();
 
+    @Specialization
+    public byte executeI8(long addr) {
+        byte val = LLVMMemory.getI8(addr);
+        return profile.profile(val);
+    }
+
     @Specialization
     public byte executeI8(LLVMAddress addr) {
         byte val = LLVMMemory.getI8(addr);
@@ -32,7 +32,9 @@ package com.oracle.truffle.llvm.nodes.memory.load;
 import com.oracle.truffle.api.dsl.NodeChild;
 import com.oracle.truffle.api.dsl.Specialization;
 import com.oracle.truffle.api.frame.VirtualFrame;
+import com.oracle.truffle.api.source.SourceSection;
 import com.oracle.truffle.llvm.runtime.nodes.api.LLVMExpressionNode;
+import com.oracle.truffle.llvm.runtime.nodes.api.LLVMTags;
 
 @NodeChild(type = LLVMExpressionNode.class)
 public abstract class LLVMLoadExpressionNode extends LLVMExpressionNode {
@@ -43,6 +45,20 @@ public abstract class LLVMLoadExpressionNode extends LLVMExpressionNode {
         this.load = load;
     }
 
+    public LLVMLoadNode getLoadNode() {
+        return load;
+    }
+
+    @Override
+    public SourceSection getSourceSection() {
+        return getEnclosingSourceSection();
+    }
+
+    @Override
+    protected boolean isTaggedWith(Class<?> tag) {
+        return tag == LLVMTags.MemoryLoadTag.class;
+    }
+
     @Specialization
     public Object store(VirtualFrame frame, Object address) {
         return load.executeWithTarget(frame, address);
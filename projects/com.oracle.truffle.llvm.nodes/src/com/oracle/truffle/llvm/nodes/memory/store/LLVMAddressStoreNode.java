@@ -51,6 +51,24 @@ public abstract class LLVMAddressStoreNode extends LLVMStoreNode {
         super(type, ADDRESS_SIZE_IN_BYTES);
     }
 
+    @Specialization
+    public Object doNative(long address, long value) {
+        LLVMMemory.putAddress(address, value);
+        return null;
+    }
+
+    @Specialization
+    public Object doNative(long address, LLVMAddress value) {
+        LLVMMemory.putAddress(address, value);
+        return null;
+    }
+
+    @Specialization
+    public Object doNative(LLVMAddress address, long value) {
+        LLVMMemory.putAddress(address, value);
+        return null;
+    }
+
     @Specialization
     public Object doAddress(LLVMAddress address, LLVMAddress value) {
         LLVMMemory.putAddress(address, value);
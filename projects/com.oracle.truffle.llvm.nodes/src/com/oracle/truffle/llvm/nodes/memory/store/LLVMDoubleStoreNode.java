@@ -54,6 +54,12 @@ public abstract class LLVMDoubleStoreNode extends LLVMStoreNode {
         return null;
     }
 
+    @Specialization
+    public Object execute(long address, double value) {
+        LLVMMemory.putDouble(address, value);
+        return null;
+    }
+
     @Specialization
     public Object execute(LLVMAddress address, double value) {
         LLVMMemory.putDouble(address, value);
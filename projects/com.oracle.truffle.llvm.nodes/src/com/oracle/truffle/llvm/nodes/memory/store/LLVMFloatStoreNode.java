@@ -54,6 +54,12 @@ public abstract class LLVMFloatStoreNode extends LLVMStoreNode {
         return null;
     }
 
+    @Specialization
+    public Object execute(long address, float value) {
+        LLVMMemory.putFloat(address, value);
+        return null;
+    }
+
     @Specialization
     public Object execute(LLVMAddress address, float value) {
         LLVMMemory.putFloat(address, value);
@@ -60,6 +60,12 @@ public abstract class LLVMI16StoreNode extends LLVMStoreNode {
         return null;
     }
 
+    @Specialization
+    public Object execute(long address, short value) {
+        LLVMMemory.putI16(address, value);
+        return null;
+    }
+
     @Specialization
     public Object execute(LLVMAddress address, short value) {
         LLVMMemory.putI16(address, value);
@@ -54,6 +54,12 @@ public abstract class LLVMI1StoreNode extends LLVMStoreNode {
         return null;
     }
 
+    @Specialization
+    public Object execute(long address, boolean value) {
+        LLVMMemory.putI1(address, value);
+        return null;
+    }
+
     @Specialization
     public Object execute(LLVMAddress address, boolean value) {
         LLVMMemory.putI1(address, value);
@@ -54,6 +54,12 @@ public abstract class LLVMI32StoreNode extends LLVMStoreNode {
         return null;
     }
 
+    @Specialization
+    public Object execute(long address, int value) {
+        LLVMMemory.putI32(address, value);
+        return null;
+    }
+
     @Specialization
     public Object execute(LLVMAddress address, int value) {
         LLVMMemory.putI32(address, value);
@@ -56,6 +56,12 @@ public abstract class LLVMI64StoreNode extends LLVMStoreNode {
         return null;
     }
 
+    @Specialization
+    public Object execute(long address, long value) {
+        LLVMMemory.putI64(address, value);
+        return null;
+    }
+
     @Specialization
     public Object execute(LLVMAddress address, long value) {
         LLVMMemory.putI64(address, value);
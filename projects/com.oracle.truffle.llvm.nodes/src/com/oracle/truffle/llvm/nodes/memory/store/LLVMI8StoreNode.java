@@ -48,6 +48,12 @@ public abstract class LLVMI8StoreNode extends LLVMStoreNode {
         super(PrimitiveType.I8, 1);
     }
 
+    @Specialization
+    public Object execute(long address, byte value) {
+        LLVMMemory.putI8(address, value);
+        return null;
+    }
+
     @Specialization
     public Object execute(LLVMAddress address, byte value) {
         LLVMMemory.putI8(address, value);
@@ -32,8 +32,11 @@ package com.oracle.truffle.llvm.nodes.memory.store;
 import com.oracle.truffle.api.dsl.NodeChild;
 import com.oracle.truffle.api.dsl.Specialization;
 import com.oracle.truffle.api.frame.VirtualFrame;
+import com.oracle.truffle.api.instrumentation.StandardTags;
 import com.oracle.truffle.api.source.SourceSection;
 import com.oracle.truffle.llvm.runtime.nodes.api.LLVMExpressionNode;
+import com.oracle.truffle.llvm.runtime.nodes.api.LLVMTags;
+import com.oracle.truffle.llvm.runtime.types.Type;
 
 @NodeChild(type = LLVMExpressionNode.class)
 @NodeChild(type = LLVMExpressionNode.class)
@@ -49,7 +52,21 @@ public abstract class LLVMStoreExpressionNode extends LLVMExpressionNode {
 
     @Override
     public SourceSection getSourceSection() {
-        return sourceSection;
+        return sourceSection != null ? sourceSection : getEnclosingSourceSection();
+    }
+
+    public Type getValueType() {
+        return store.getValueType();
+    }
+
+    public int getAccessSize() {
+        return store.getElementAccessSize();
+    }
+
+    @Override
+    protected boolean isTaggedWith(Class<?> tag) {
+        // only stores with a section of their own represent a statement
+        return tag == LLVMTags.MemoryStoreTag.class || (tag == StandardTags.StatementTag.class && sourceSection != null);
     }
 
     @Specialization
@@ -43,6 +43,14 @@ public abstract class LLVMStoreNode extends LLVMNode {
         this.elementAccessSize = elementAccessSize;
     }
 
+    public Type getValueType() {
+        return valueType;
+    }
+
+    public int getElementAccessSize() {
+        return elementAccessSize;
+    }
+
     protected LLVMForeignWriteNode createForeignWrite() {
         return LLVMForeignWriteNodeGen.create(valueType, elementAccessSize);
     }
@@ -33,6 +33,7 @@ import com.oracle.truffle.api.dsl.NodeField;
 import com.oracle.truffle.api.dsl.Specialization;
 import com.oracle.truffle.api.frame.FrameSlot;
 import com.oracle.truffle.api.frame.FrameSlotKind;
+import com.oracle.truffle.api.frame.FrameSlotTypeException;
 import com.oracle.truffle.api.frame.FrameUtil;
 import com.oracle.truffle.api.frame.VirtualFrame;
 import com.oracle.truffle.llvm.nodes.vars.LLVMReadNodeFactory.AttachInteropTypeNodeGen;
@@ -117,9 +118,14 @@ public abstract class LLVMReadNode extends LLVMExpressionNode {
 
         @Child AttachInteropTypeNode attach = AttachInteropTypeNodeGen.create();
 
-        @Specialization
+        @Specialization(rewriteOn = FrameSlotTypeException.class)
+        protected long readNative(VirtualFrame frame) throws FrameSlotTypeException {
+            return frame.getLong(getSlot());
+        }
+
+        @Specialization(replaces = "readNative")
         protected Object readObject(VirtualFrame frame) {
-            return attach.execute(FrameUtil.getObjectSafe(frame, getSlot()), getSlot());
+            return attach.execute(frame.getValue(getSlot()), getSlot());
         }
     }
 
@@ -155,12 +155,19 @@ public abstract class LLVMWriteNode extends LLVMExpressionNode {
     public abstract static class LLVMWrite80BitFloatingNode extends LLVMWriteNode {
         @Specialization
         protected Object write80BitFloat(VirtualFrame frame, LLVM80BitFloat value) {
+            // 80 bit values do not fit into a primitive slot, so they are stored boxed
             frame.setObject(getSlot(), value);
             return null;
         }
     }
 
     public abstract static class LLVMWriteAddressNode extends LLVMWriteNode {
+        @Specialization
+        protected Object writeNative(VirtualFrame frame, long value) {
+            frame.setLong(getSlot(), value);
+            return null;
+        }
+
         @Specialization
         protected Object writeAddress(VirtualFrame frame, LLVMAddress value) {
             frame.setObject(getSlot(), value);
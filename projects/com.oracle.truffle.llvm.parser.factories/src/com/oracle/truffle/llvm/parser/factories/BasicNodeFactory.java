@@ -108,6 +108,9 @@ import com.oracle.truffle.llvm.nodes.intrinsics.llvm.arith.LLVMArithmeticFactory
 import com.oracle.truffle.llvm.nodes.intrinsics.llvm.arith.LLVMArithmeticFactory.LLVMArithmeticWithOverflowAndCarryNodeGen;
 import com.oracle.truffle.llvm.nodes.intrinsics.llvm.arith.LLVMArithmeticFactory.LLVMArithmeticWithOverflowNodeGen;
 import com.oracle.truffle.llvm.nodes.intrinsics.llvm.arith.LLVMComplexDivSC;
+import com.oracle.truffle.llvm.nodes.intrinsics.llvm.arith.LLVMFusedMultiplyAddFactory;
+import com.oracle.truffle.llvm.nodes.intrinsics.llvm.arith.LLVMMinMaxNumFactory;
+import com.oracle.truffle.llvm.nodes.intrinsics.llvm.bit.BitReverseNodeFactory;
 import com.oracle.truffle.llvm.nodes.intrinsics.llvm.bit.CountLeadingZeroesNodeFactory.CountLeadingZeroesI16NodeGen;
 import com.oracle.truffle.llvm.nodes.intrinsics.llvm.bit.CountLeadingZeroesNodeFactory.CountLeadingZeroesI32NodeGen;
 import com.oracle.truffle.llvm.nodes.intrinsics.llvm.bit.CountLeadingZeroesNodeFactory.CountLeadingZeroesI64NodeGen;
@@ -118,16 +121,21 @@ import com.oracle.truffle.llvm.nodes.intrinsics.llvm.bit.CountTrailingZeroesNode
 import com.oracle.truffle.llvm.nodes.intrinsics.llvm.bit.CountTrailingZeroesNodeFactory.CountTrailingZeroesI32NodeGen;
 import com.oracle.truffle.llvm.nodes.intrinsics.llvm.bit.CountTrailingZeroesNodeFactory.CountTrailingZeroesI64NodeGen;
 import com.oracle.truffle.llvm.nodes.intrinsics.llvm.bit.CountTrailingZeroesNodeFactory.CountTrailingZeroesI8NodeGen;
+import com.oracle.truffle.llvm.nodes.intrinsics.llvm.bit.FunnelShiftNodeFactory;
 import com.oracle.truffle.llvm.nodes.intrinsics.llvm.debug.LLVMDebugFrameWriteNodeGen;
 import com.oracle.truffle.llvm.nodes.intrinsics.llvm.debug.LLVMToDebugDeclarationNode;
 import com.oracle.truffle.llvm.nodes.intrinsics.llvm.debug.LLVMToDebugDeclarationNodeGen;
 import com.oracle.truffle.llvm.nodes.intrinsics.llvm.debug.LLVMToDebugValueNode;
 import com.oracle.truffle.llvm.nodes.intrinsics.llvm.debug.LLVMToDebugValueNodeGen;
+import com.oracle.truffle.llvm.nodes.intrinsics.llvm.vector.LLVMMaskedMemoryFactory;
+import com.oracle.truffle.llvm.nodes.intrinsics.llvm.vector.LLVMVectorReduce;
+import com.oracle.truffle.llvm.nodes.intrinsics.llvm.vector.LLVMVectorReduceFactory;
 import com.oracle.truffle.llvm.nodes.intrinsics.llvm.x86.LLVMX86_64BitVACopyNodeGen;
 import com.oracle.truffle.llvm.nodes.intrinsics.llvm.x86.LLVMX86_64BitVAEnd;
 import com.oracle.truffle.llvm.nodes.intrinsics.llvm.x86.LLVMX86_64VAStartNodeGen;
 import com.oracle.truffle.llvm.nodes.intrinsics.llvm.x86.LLVMX86_ConversionNodeFactory.LLVMX86_ConversionDoubleToIntNodeGen;
 import com.oracle.truffle.llvm.nodes.intrinsics.llvm.x86.LLVMX86_ConversionNodeFactory.LLVMX86_ConversionFloatToIntNodeGen;
+import com.oracle.truffle.llvm.nodes.intrinsics.llvm.x86.LLVMX86_VectorNodeFactory;
 import com.oracle.truffle.llvm.nodes.literals.LLVMFunctionLiteralNode;
 import com.oracle.truffle.llvm.nodes.literals.LLVMFunctionLiteralNodeGen;
 import com.oracle.truffle.llvm.nodes.literals.LLVMSimpleLiteralNode.LLVM80BitFloatLiteralNode;
@@ -214,6 +222,7 @@ import com.oracle.truffle.llvm.nodes.memory.store.LLVMI32StoreNodeGen;
 import com.oracle.truffle.llvm.nodes.memory.store.LLVMI64StoreNodeGen;
 import com.oracle.truffle.llvm.nodes.memory.store.LLVMI8StoreNodeGen;
 import com.oracle.truffle.llvm.nodes.memory.store.LLVMIVarBitStoreNodeGen;
+import com.oracle.truffle.llvm.nodes.memory.store.LLVMStoreAddressNode;
 import com.oracle.truffle.llvm.nodes.memory.store.LLVMStoreExpressionNodeGen;
 import com.oracle.truffle.llvm.nodes.memory.store.LLVMStoreNode;
 import com.oracle.truffle.llvm.nodes.memory.store.LLVMStoreVectorNodeGen;
@@ -253,6 +262,7 @@ import com.oracle.truffle.llvm.nodes.op.LLVMLogicNodeFactory.LLVMOrNodeGen;
 import com.oracle.truffle.llvm.nodes.op.LLVMLogicNodeFactory.LLVMShlNodeGen;
 import com.oracle.truffle.llvm.nodes.op.LLVMLogicNodeFactory.LLVMXorNodeGen;
 import com.oracle.truffle.llvm.nodes.others.LLVMAccessGlobalVariableStorageNode;
+import com.oracle.truffle.llvm.nodes.others.LLVMAccessThreadLocalVariableNode;
 import com.oracle.truffle.llvm.nodes.others.LLVMSelectNodeFactory.LLVM80BitFloatSelectNodeGen;
 import com.oracle.truffle.llvm.nodes.others.LLVMSelectNodeFactory.LLVMAddressSelectNodeGen;
 import com.oracle.truffle.llvm.nodes.others.LLVMSelectNodeFactory.LLVMDoubleSelectNodeGen;
@@ -363,6 +373,7 @@ import com.oracle.truffle.llvm.runtime.LLVMUnsupportedException;
 import com.oracle.truffle.llvm.runtime.LLVMUnsupportedException.UnsupportedReason;
 import com.oracle.truffle.llvm.runtime.NFIContextExtension;
 import com.oracle.truffle.llvm.runtime.NativeAllocator;
+import com.oracle.truffle.llvm.runtime.NativeIntrinsicProvider;
 import com.oracle.truffle.llvm.runtime.NativeResolver;
 import com.oracle.truffle.llvm.runtime.debug.LLVMDebugValue;
 import com.oracle.truffle.llvm.runtime.debug.LLVMDebugValueProvider;
@@ -371,6 +382,7 @@ import com.oracle.truffle.llvm.runtime.debug.LLVMSourceType;
 import com.oracle.truffle.llvm.runtime.floating.LLVM80BitFloat;
 import com.oracle.truffle.llvm.runtime.global.LLVMGlobalVariable;
 import com.oracle.truffle.llvm.runtime.global.LLVMGlobalVariableAccess;
+import com.oracle.truffle.llvm.runtime.global.LLVMThreadLocalVariable;
 import com.oracle.truffle.llvm.runtime.memory.LLVMAllocateStringNode;
 import com.oracle.truffle.llvm.runtime.memory.LLVMHeap;
 import com.oracle.truffle.llvm.runtime.memory.LLVMMemMoveNode;
@@ -1224,6 +1236,8 @@ public class BasicNodeFactory implements NodeFactory {
                 return new LLVMAddressLiteralNode((LLVMAddress) value);
             } else if (value instanceof LLVMGlobalVariable) {
                 return new LLVMAccessGlobalVariableStorageNode((LLVMGlobalVariable) value);
+            } else if (value instanceof LLVMThreadLocalVariable) {
+                return new LLVMAccessThreadLocalVariableNode((LLVMThreadLocalVariable) value);
             } else if (value instanceof LLVMTruffleObject) {
                 return new LLVMTruffleObjectLiteralNode((LLVMTruffleObject) value);
             } else {
@@ -1615,11 +1629,51 @@ public class BasicNodeFactory implements NodeFactory {
             } else if (declaration.getName().equals("@__divsc3")) {
                 // this function allocates the result on the stack
                 return new LLVMComplexDivSC(args[1], args[2], args[3], args[4]);
+            } else if (isFoldableIntrinsicCall(runtime, declaration, args)) {
+                return foldIntrinsicCall(runtime, declaration, args);
             }
         }
         return null;
     }
 
+    private static boolean isFoldableIntrinsicCall(LLVMParserRuntime runtime, FunctionDeclaration declaration, LLVMExpressionNode[] args) {
+        LLVMContext context = runtime.getContext();
+        if (!context.hasContextExtension(NativeIntrinsicProvider.class) || !context.getContextExtension(NativeIntrinsicProvider.class).isPure(declaration.getName())) {
+            return false;
+        }
+        FunctionType type = declaration.getType();
+        if (type.isVarargs() || type.getArgumentTypes().length != args.length - 1 || !(type.getReturnType() instanceof PrimitiveType)) {
+            return false;
+        }
+        switch (((PrimitiveType) type.getReturnType()).getPrimitiveKind()) {
+            case I32:
+            case I64:
+            case FLOAT:
+            case DOUBLE:
+                break;
+            default:
+                return false;
+        }
+        // args[0] is the stack pointer, which pure intrinsics do not use
+        for (int i = 1; i < args.length; i++) {
+            if (!(args[i] instanceof LLVMI32LiteralNode || args[i] instanceof LLVMI64LiteralNode || args[i] instanceof LLVMFloatLiteralNode || args[i] instanceof LLVMDoubleLiteralNode)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private LLVMExpressionNode foldIntrinsicCall(LLVMParserRuntime runtime, FunctionDeclaration declaration, LLVMExpressionNode[] args) {
+        NativeIntrinsicProvider provider = runtime.getContext().getContextExtension(NativeIntrinsicProvider.class);
+        RootCallTarget intrinsic = provider.generateIntrinsic(declaration.getName(), declaration.getType());
+        Object[] arguments = new Object[args.length];
+        arguments[0] = 0L;
+        for (int i = 1; i < args.length; i++) {
+            arguments[i] = args[i].executeGeneric(null);
+        }
+        return createLiteral(runtime, intrinsic.call(arguments), declaration.getType().getReturnType());
+    }
+
     protected LLVMExpressionNode getLLVMBuiltin(LLVMParserRuntime runtime, FunctionDeclaration declaration, LLVMExpressionNode[] args, int callerArgumentCount, SourceSection sourceSection) {
 
         switch (declaration.getName()) {
@@ -1810,10 +1864,189 @@ public class BasicNodeFactory implements NodeFactory {
                 return LLVMX86_ConversionFloatToIntNodeGen.create(args[1], sourceSection);
             case "@llvm.x86.sse2.cvtsd2si":
                 return LLVMX86_ConversionDoubleToIntNodeGen.create(args[1], sourceSection);
+            case "@llvm.fma.f32":
+            case "@llvm.fma.f64":
+                return LLVMFusedMultiplyAddFactory.LLVMFMANodeGen.create(args[1], args[2], args[3], sourceSection);
+            case "@llvm.fmuladd.f32":
+            case "@llvm.fmuladd.f64":
+                return LLVMFusedMultiplyAddFactory.LLVMMulAddNodeGen.create(args[1], args[2], args[3], sourceSection);
+            case "@llvm.minnum.f32":
+            case "@llvm.minnum.f64":
+                return LLVMMinMaxNumFactory.LLVMMinNumNodeGen.create(args[1], args[2], sourceSection);
+            case "@llvm.maxnum.f32":
+            case "@llvm.maxnum.f64":
+                return LLVMMinMaxNumFactory.LLVMMaxNumNodeGen.create(args[1], args[2], sourceSection);
+            case "@llvm.bitreverse.i8":
+                return BitReverseNodeFactory.BitReverseI8NodeGen.create(args[1], sourceSection);
+            case "@llvm.bitreverse.i16":
+                return BitReverseNodeFactory.BitReverseI16NodeGen.create(args[1], sourceSection);
+            case "@llvm.bitreverse.i32":
+                return BitReverseNodeFactory.BitReverseI32NodeGen.create(args[1], sourceSection);
+            case "@llvm.bitreverse.i64":
+                return BitReverseNodeFactory.BitReverseI64NodeGen.create(args[1], sourceSection);
+            case "@llvm.fshl.i8":
+                return FunnelShiftNodeFactory.FunnelShiftLeftI8NodeGen.create(args[1], args[2], args[3], sourceSection);
+            case "@llvm.fshl.i16":
+                return FunnelShiftNodeFactory.FunnelShiftLeftI16NodeGen.create(args[1], args[2], args[3], sourceSection);
+            case "@llvm.fshl.i32":
+                return FunnelShiftNodeFactory.FunnelShiftLeftI32NodeGen.create(args[1], args[2], args[3], sourceSection);
+            case "@llvm.fshl.i64":
+                return FunnelShiftNodeFactory.FunnelShiftLeftI64NodeGen.create(args[1], args[2], args[3], sourceSection);
+            case "@llvm.fshr.i8":
+                return FunnelShiftNodeFactory.FunnelShiftRightI8NodeGen.create(args[1], args[2], args[3], sourceSection);
+            case "@llvm.fshr.i16":
+                return FunnelShiftNodeFactory.FunnelShiftRightI16NodeGen.create(args[1], args[2], args[3], sourceSection);
+            case "@llvm.fshr.i32":
+                return FunnelShiftNodeFactory.FunnelShiftRightI32NodeGen.create(args[1], args[2], args[3], sourceSection);
+            case "@llvm.fshr.i64":
+                return FunnelShiftNodeFactory.FunnelShiftRightI64NodeGen.create(args[1], args[2], args[3], sourceSection);
             default:
-                throw new IllegalStateException("Missing LLVM builtin: " + declaration.getName());
+                break;
+        }
+
+        final String name = declaration.getName();
+        if (name.startsWith("@llvm.x86.")) {
+            final LLVMExpressionNode x86Builtin = getX86VectorBuiltin(name, args, sourceSection);
+            if (x86Builtin != null) {
+                return x86Builtin;
+            }
+        } else if (name.startsWith("@llvm.vector.reduce.") || name.startsWith("@llvm.experimental.vector.reduce.")) {
+            final LLVMExpressionNode reduction = getVectorReduction(declaration, args, sourceSection);
+            if (reduction != null) {
+                return reduction;
+            }
+        } else if (name.startsWith("@llvm.masked.load.")) {
+            return LLVMMaskedMemoryFactory.LLVMMaskedLoadNodeGen.create(args[1], args[3], args[4], sourceSection);
+        } else if (name.startsWith("@llvm.masked.store.")) {
+            return LLVMMaskedMemoryFactory.LLVMMaskedStoreNodeGen.create(args[1], args[2], args[4], sourceSection);
+        } else if (name.startsWith("@llvm.fma.v")) {
+            return LLVMFusedMultiplyAddFactory.LLVMFMANodeGen.create(args[1], args[2], args[3], sourceSection);
+        } else if (name.startsWith("@llvm.fmuladd.v")) {
+            return LLVMFusedMultiplyAddFactory.LLVMMulAddNodeGen.create(args[1], args[2], args[3], sourceSection);
+        } else if (name.startsWith("@llvm.minnum.v")) {
+            return LLVMMinMaxNumFactory.LLVMMinNumNodeGen.create(args[1], args[2], sourceSection);
+        } else if (name.startsWith("@llvm.maxnum.v")) {
+            return LLVMMinMaxNumFactory.LLVMMaxNumNodeGen.create(args[1], args[2], sourceSection);
+        }
+        throw new IllegalStateException("Missing LLVM builtin: " + name);
+    }
+
+    /**
+     * The vector intrinsics are overloaded on their vector types, which are part of the name, e.g.
+     * {@code llvm.vector.reduce.add.v4i32}.
+     */
+    private static LLVMExpressionNode getVectorReduction(FunctionDeclaration declaration, LLVMExpressionNode[] args, SourceSection sourceSection) {
+        final String[] parts = declaration.getName().split("\\.");
+        // @llvm, [experimental,] vector, reduce, [v2,] operation, types...
+        int opIndex = "experimental".equals(parts[1]) ? 4 : 3;
+        if ("v2".equals(parts[opIndex])) {
+            opIndex++;
+        }
+        final String operation = parts[opIndex];
+
+        final LLVMVectorReduce.IntegerOperation integerOperation = LLVMVectorReduce.getIntegerOperation(operation);
+        if (integerOperation != null) {
+            return LLVMVectorReduceFactory.LLVMIntegerVectorReduceNodeGen.create(integerOperation, args[1], sourceSection);
+        }
+
+        final LLVMVectorReduce.FloatingOperation floatingOperation = LLVMVectorReduce.getFloatingOperation(operation);
+        if (floatingOperation != null) {
+            if (declaration.getType().getArgumentTypes().length == 2) {
+                // fadd and fmul take a start value
+                return LLVMVectorReduceFactory.LLVMOrderedFloatingVectorReduceNodeGen.create(floatingOperation, args[1], args[2], sourceSection);
+            }
+            return LLVMVectorReduceFactory.LLVMFloatingVectorReduceNodeGen.create(floatingOperation, args[1], sourceSection);
         }
+        return null;
+    }
 
+    private static LLVMExpressionNode getX86VectorBuiltin(String name, LLVMExpressionNode[] args, SourceSection sourceSection) {
+        switch (name) {
+            case "@llvm.x86.sse2.pmovmskb.128":
+            case "@llvm.x86.avx2.pmovmskb":
+            case "@llvm.x86.sse.movmsk.ps":
+            case "@llvm.x86.sse2.movmsk.pd":
+            case "@llvm.x86.avx.movmsk.ps.256":
+            case "@llvm.x86.avx.movmsk.pd.256":
+                return LLVMX86_VectorNodeFactory.LLVMX86_MoveMaskNodeGen.create(args[1], sourceSection);
+            case "@llvm.x86.sse2.pmadd.wd":
+            case "@llvm.x86.avx2.pmadd.wd":
+                return LLVMX86_VectorNodeFactory.LLVMX86_MultiplyAddWordsNodeGen.create(args[1], args[2], sourceSection);
+            case "@llvm.x86.ssse3.pmadd.ub.sw.128":
+            case "@llvm.x86.avx2.pmadd.ub.sw":
+                return LLVMX86_VectorNodeFactory.LLVMX86_MultiplyAddUnsignedSignedBytesNodeGen.create(args[1], args[2], sourceSection);
+            case "@llvm.x86.ssse3.pshuf.b.128":
+            case "@llvm.x86.avx2.pshuf.b":
+                return LLVMX86_VectorNodeFactory.LLVMX86_ShuffleBytesNodeGen.create(args[1], args[2], sourceSection);
+            case "@llvm.x86.sse2.pmaxs.w":
+            case "@llvm.x86.sse41.pmaxsb":
+            case "@llvm.x86.sse41.pmaxsd":
+            case "@llvm.x86.avx2.pmaxs.b":
+            case "@llvm.x86.avx2.pmaxs.w":
+            case "@llvm.x86.avx2.pmaxs.d":
+                return LLVMX86_VectorNodeFactory.LLVMX86_IntegerMinMaxNodeGen.create(LLVMVectorReduce.SMAX, args[1], args[2], sourceSection);
+            case "@llvm.x86.sse2.pmins.w":
+            case "@llvm.x86.sse41.pminsb":
+            case "@llvm.x86.sse41.pminsd":
+            case "@llvm.x86.avx2.pmins.b":
+            case "@llvm.x86.avx2.pmins.w":
+            case "@llvm.x86.avx2.pmins.d":
+                return LLVMX86_VectorNodeFactory.LLVMX86_IntegerMinMaxNodeGen.create(LLVMVectorReduce.SMIN, args[1], args[2], sourceSection);
+            case "@llvm.x86.sse2.pmaxu.b":
+            case "@llvm.x86.sse41.pmaxuw":
+            case "@llvm.x86.sse41.pmaxud":
+            case "@llvm.x86.avx2.pmaxu.b":
+            case "@llvm.x86.avx2.pmaxu.w":
+            case "@llvm.x86.avx2.pmaxu.d":
+                return LLVMX86_VectorNodeFactory.LLVMX86_IntegerMinMaxNodeGen.create(LLVMVectorReduce.UMAX, args[1], args[2], sourceSection);
+            case "@llvm.x86.sse2.pminu.b":
+            case "@llvm.x86.sse41.pminuw":
+            case "@llvm.x86.sse41.pminud":
+            case "@llvm.x86.avx2.pminu.b":
+            case "@llvm.x86.avx2.pminu.w":
+            case "@llvm.x86.avx2.pminu.d":
+                return LLVMX86_VectorNodeFactory.LLVMX86_IntegerMinMaxNodeGen.create(LLVMVectorReduce.UMIN, args[1], args[2], sourceSection);
+            case "@llvm.x86.sse.max.ps":
+            case "@llvm.x86.sse2.max.pd":
+            case "@llvm.x86.avx.max.ps.256":
+            case "@llvm.x86.avx.max.pd.256":
+                return LLVMX86_VectorNodeFactory.LLVMX86_MaxNodeGen.create(args[1], args[2], sourceSection);
+            case "@llvm.x86.sse.min.ps":
+            case "@llvm.x86.sse2.min.pd":
+            case "@llvm.x86.avx.min.ps.256":
+            case "@llvm.x86.avx.min.pd.256":
+                return LLVMX86_VectorNodeFactory.LLVMX86_MinNodeGen.create(args[1], args[2], sourceSection);
+            case "@llvm.x86.sse.max.ss":
+            case "@llvm.x86.sse2.max.sd":
+                return LLVMX86_VectorNodeFactory.LLVMX86_MaxScalarNodeGen.create(args[1], args[2], sourceSection);
+            case "@llvm.x86.sse.min.ss":
+            case "@llvm.x86.sse2.min.sd":
+                return LLVMX86_VectorNodeFactory.LLVMX86_MinScalarNodeGen.create(args[1], args[2], sourceSection);
+            case "@llvm.x86.sse41.pblendvb":
+            case "@llvm.x86.sse41.blendvps":
+            case "@llvm.x86.sse41.blendvpd":
+            case "@llvm.x86.avx.blendv.ps.256":
+            case "@llvm.x86.avx.blendv.pd.256":
+            case "@llvm.x86.avx2.pblendvb":
+                return LLVMX86_VectorNodeFactory.LLVMX86_BlendVariableNodeGen.create(args[1], args[2], args[3], sourceSection);
+            case "@llvm.x86.sse2.packsswb.128":
+            case "@llvm.x86.sse2.packssdw.128":
+            case "@llvm.x86.avx2.packsswb":
+            case "@llvm.x86.avx2.packssdw":
+                return LLVMX86_VectorNodeFactory.LLVMX86_PackSignedNodeGen.create(args[1], args[2], sourceSection);
+            case "@llvm.x86.sse2.packuswb.128":
+            case "@llvm.x86.sse41.packusdw":
+            case "@llvm.x86.avx2.packuswb":
+            case "@llvm.x86.avx2.packusdw":
+                return LLVMX86_VectorNodeFactory.LLVMX86_PackUnsignedNodeGen.create(args[1], args[2], sourceSection);
+            case "@llvm.x86.sse2.pavg.b":
+            case "@llvm.x86.sse2.pavg.w":
+            case "@llvm.x86.avx2.pavg.b":
+            case "@llvm.x86.avx2.pavg.w":
+                return LLVMX86_VectorNodeFactory.LLVMX86_AverageNodeGen.create(args[1], args[2], sourceSection);
+            default:
+                return null;
+        }
     }
 
     private static int getOverflowFieldOffset(LLVMParserRuntime runtime, FunctionDeclaration declaration) {
@@ -2115,7 +2348,7 @@ public class BasicNodeFactory implements NodeFactory {
         } else {
             throw new AssertionError(type);
         }
-        return LLVMStoreExpressionNodeGen.create(source, store, pointerNode, valueNode);
+        return LLVMStoreExpressionNodeGen.create(source, store, new LLVMStoreAddressNode(pointerNode), valueNode);
     }
 
 }
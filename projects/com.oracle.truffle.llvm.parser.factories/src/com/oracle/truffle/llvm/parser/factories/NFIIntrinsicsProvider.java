@@ -84,6 +84,38 @@ import com.oracle.truffle.llvm.nodes.intrinsics.c.LLVMCTypeIntrinsicsFactory.LLV
 import com.oracle.truffle.llvm.nodes.intrinsics.c.LLVMCTypeIntrinsicsFactory.LLVMToUpperNodeGen;
 import com.oracle.truffle.llvm.nodes.intrinsics.c.LLVMCTypeIntrinsicsFactory.LLVMTolowerNodeGen;
 import com.oracle.truffle.llvm.nodes.intrinsics.c.LLVMExitNodeGen;
+import com.oracle.truffle.llvm.nodes.intrinsics.c.LLVMPThreadIntrinsicsFactory.LLVMPThreadCondBroadcastNodeGen;
+import com.oracle.truffle.llvm.nodes.intrinsics.c.LLVMPThreadIntrinsicsFactory.LLVMPThreadCondDestroyNodeGen;
+import com.oracle.truffle.llvm.nodes.intrinsics.c.LLVMPThreadIntrinsicsFactory.LLVMPThreadCondInitNodeGen;
+import com.oracle.truffle.llvm.nodes.intrinsics.c.LLVMPThreadIntrinsicsFactory.LLVMPThreadCondSignalNodeGen;
+import com.oracle.truffle.llvm.nodes.intrinsics.c.LLVMPThreadIntrinsicsFactory.LLVMPThreadCondTimedWaitNodeGen;
+import com.oracle.truffle.llvm.nodes.intrinsics.c.LLVMPThreadIntrinsicsFactory.LLVMPThreadCondWaitNodeGen;
+import com.oracle.truffle.llvm.nodes.intrinsics.c.LLVMPThreadIntrinsicsFactory.LLVMPThreadCreateNodeGen;
+import com.oracle.truffle.llvm.nodes.intrinsics.c.LLVMPThreadIntrinsicsFactory.LLVMPThreadDetachNodeGen;
+import com.oracle.truffle.llvm.nodes.intrinsics.c.LLVMPThreadIntrinsicsFactory.LLVMPThreadEqualNodeGen;
+import com.oracle.truffle.llvm.nodes.intrinsics.c.LLVMPThreadIntrinsicsFactory.LLVMPThreadExitNodeGen;
+import com.oracle.truffle.llvm.nodes.intrinsics.c.LLVMPThreadIntrinsicsFactory.LLVMPThreadGetSpecificNodeGen;
+import com.oracle.truffle.llvm.nodes.intrinsics.c.LLVMPThreadIntrinsicsFactory.LLVMPThreadJoinNodeGen;
+import com.oracle.truffle.llvm.nodes.intrinsics.c.LLVMPThreadIntrinsicsFactory.LLVMPThreadKeyCreateNodeGen;
+import com.oracle.truffle.llvm.nodes.intrinsics.c.LLVMPThreadIntrinsicsFactory.LLVMPThreadKeyDeleteNodeGen;
+import com.oracle.truffle.llvm.nodes.intrinsics.c.LLVMPThreadIntrinsicsFactory.LLVMPThreadMutexDestroyNodeGen;
+import com.oracle.truffle.llvm.nodes.intrinsics.c.LLVMPThreadIntrinsicsFactory.LLVMPThreadMutexInitNodeGen;
+import com.oracle.truffle.llvm.nodes.intrinsics.c.LLVMPThreadIntrinsicsFactory.LLVMPThreadMutexLockNodeGen;
+import com.oracle.truffle.llvm.nodes.intrinsics.c.LLVMPThreadIntrinsicsFactory.LLVMPThreadMutexTryLockNodeGen;
+import com.oracle.truffle.llvm.nodes.intrinsics.c.LLVMPThreadIntrinsicsFactory.LLVMPThreadMutexUnlockNodeGen;
+import com.oracle.truffle.llvm.nodes.intrinsics.c.LLVMPThreadIntrinsicsFactory.LLVMPThreadOnceNodeGen;
+import com.oracle.truffle.llvm.nodes.intrinsics.c.LLVMPThreadIntrinsicsFactory.LLVMPThreadRWLockDestroyNodeGen;
+import com.oracle.truffle.llvm.nodes.intrinsics.c.LLVMPThreadIntrinsicsFactory.LLVMPThreadRWLockInitNodeGen;
+import com.oracle.truffle.llvm.nodes.intrinsics.c.LLVMPThreadIntrinsicsFactory.LLVMPThreadRWLockReadLockNodeGen;
+import com.oracle.truffle.llvm.nodes.intrinsics.c.LLVMPThreadIntrinsicsFactory.LLVMPThreadRWLockTryReadLockNodeGen;
+import com.oracle.truffle.llvm.nodes.intrinsics.c.LLVMPThreadIntrinsicsFactory.LLVMPThreadRWLockTryWriteLockNodeGen;
+import com.oracle.truffle.llvm.nodes.intrinsics.c.LLVMPThreadIntrinsicsFactory.LLVMPThreadRWLockUnlockNodeGen;
+import com.oracle.truffle.llvm.nodes.intrinsics.c.LLVMPThreadIntrinsicsFactory.LLVMPThreadRWLockWriteLockNodeGen;
+import com.oracle.truffle.llvm.nodes.intrinsics.c.LLVMPThreadIntrinsicsFactory.LLVMPThreadSelfNodeGen;
+import com.oracle.truffle.llvm.nodes.intrinsics.c.LLVMPThreadIntrinsicsFactory.LLVMPThreadSetSpecificNodeGen;
+import com.oracle.truffle.llvm.nodes.intrinsics.c.LLVMSignalIntrinsicsFactory.LLVMPThreadSigmaskNodeGen;
+import com.oracle.truffle.llvm.nodes.intrinsics.c.LLVMSignalIntrinsicsFactory.LLVMRaiseNodeGen;
+import com.oracle.truffle.llvm.nodes.intrinsics.c.LLVMSignalIntrinsicsFactory.LLVMSigactionNodeGen;
 import com.oracle.truffle.llvm.nodes.intrinsics.c.LLVMSignalNodeGen;
 import com.oracle.truffle.llvm.nodes.intrinsics.c.LLVMSyscall;
 import com.oracle.truffle.llvm.nodes.intrinsics.c.LLVMTruffleReadBytesNodeGen;
@@ -181,6 +213,15 @@ public class NFIIntrinsicsProvider implements NativeIntrinsicProvider, ContextEx
         return false;
     }
 
+    @Override
+    public final boolean isPure(String name) {
+        CompilerAsserts.neverPartOfCompilation();
+        if (factoriesContainKey(name)) {
+            return factories.get(name) instanceof LLVMPureIntrinsicFactory;
+        }
+        return false;
+    }
+
     protected final Map<String, LLVMNativeIntrinsicFactory> factories = new HashMap<>();
     protected final Demangler demangler = new Demangler();
     protected final TruffleLanguage<?> language;
@@ -201,6 +242,13 @@ public class NFIIntrinsicsProvider implements NativeIntrinsicProvider, ContextEx
         protected abstract RootCallTarget generate(FunctionType type);
     }
 
+    public abstract static class LLVMPureIntrinsicFactory extends LLVMNativeIntrinsicFactory {
+
+        public LLVMPureIntrinsicFactory(boolean forceInline, boolean forceSplit) {
+            super(forceInline, forceSplit);
+        }
+    }
+
     protected static class Demangler {
         protected final List<UnaryOperator<String>> demanglerFunctions = Arrays.asList(new RustDemangleFunction());
 
@@ -303,6 +351,7 @@ public class NFIIntrinsicsProvider implements NativeIntrinsicProvider, ContextEx
         registerExceptionIntrinsics();
         registerComplexNumberIntrinsics();
         registerCTypeIntrinsics();
+        registerPThreadIntrinsics();
         registerManagedAllocationIntrinsics();
         return this;
     }
@@ -989,6 +1038,27 @@ public class NFIIntrinsicsProvider implements NativeIntrinsicProvider, ContextEx
                 return wrap("@signal", LLVMSignalNodeGen.create(LLVMArgNodeGen.create(1), LLVMArgNodeGen.create(2)));
             }
         });
+        factories.put("@__sulong_sigaction", new LLVMNativeIntrinsicFactory(true, false) {
+
+            @Override
+            protected RootCallTarget generate(FunctionType type) {
+                return wrap("@__sulong_sigaction", LLVMSigactionNodeGen.create(LLVMArgNodeGen.create(1), LLVMArgNodeGen.create(2), LLVMArgNodeGen.create(3)));
+            }
+        });
+        factories.put("@pthread_sigmask", new LLVMNativeIntrinsicFactory(true, false) {
+
+            @Override
+            protected RootCallTarget generate(FunctionType type) {
+                return wrap("@pthread_sigmask", LLVMPThreadSigmaskNodeGen.create(LLVMArgNodeGen.create(0), LLVMArgNodeGen.create(1), LLVMArgNodeGen.create(2), LLVMArgNodeGen.create(3)));
+            }
+        });
+        factories.put("@raise", new LLVMNativeIntrinsicFactory(true, false) {
+
+            @Override
+            protected RootCallTarget generate(FunctionType type) {
+                return wrap("@raise", LLVMRaiseNodeGen.create(LLVMArgNodeGen.create(0), LLVMArgNodeGen.create(1)));
+            }
+        });
         factories.put("@syscall", new LLVMNativeIntrinsicFactory(true, false) {
 
             @Override
@@ -1024,91 +1094,91 @@ public class NFIIntrinsicsProvider implements NativeIntrinsicProvider, ContextEx
     }
 
     protected void registerMathFunctionIntrinsics() {
-        factories.put("@log2", new LLVMNativeIntrinsicFactory(true, false) {
+        factories.put("@log2", new LLVMPureIntrinsicFactory(true, false) {
 
             @Override
             protected RootCallTarget generate(FunctionType type) {
                 return wrap("@log2", LLVMLog2NodeGen.create(LLVMArgNodeGen.create(1), null));
             }
         });
-        factories.put("@sqrt", new LLVMNativeIntrinsicFactory(true, false) {
+        factories.put("@sqrt", new LLVMPureIntrinsicFactory(true, false) {
 
             @Override
             protected RootCallTarget generate(FunctionType type) {
                 return wrap("@sqrt", LLVMSqrtNodeGen.create(LLVMArgNodeGen.create(1), null));
             }
         });
-        factories.put("@log", new LLVMNativeIntrinsicFactory(true, false) {
+        factories.put("@log", new LLVMPureIntrinsicFactory(true, false) {
 
             @Override
             protected RootCallTarget generate(FunctionType type) {
                 return wrap("@log", LLVMLogNodeGen.create(LLVMArgNodeGen.create(1), null));
             }
         });
-        factories.put("@log10", new LLVMNativeIntrinsicFactory(true, false) {
+        factories.put("@log10", new LLVMPureIntrinsicFactory(true, false) {
 
             @Override
             protected RootCallTarget generate(FunctionType type) {
                 return wrap("@log10", LLVMLog10NodeGen.create(LLVMArgNodeGen.create(1), null));
             }
         });
-        factories.put("@rint", new LLVMNativeIntrinsicFactory(true, false) {
+        factories.put("@rint", new LLVMPureIntrinsicFactory(true, false) {
 
             @Override
             protected RootCallTarget generate(FunctionType type) {
                 return wrap("@rint", LLVMRintNodeGen.create(LLVMArgNodeGen.create(1), null));
             }
         });
-        factories.put("@ceil", new LLVMNativeIntrinsicFactory(true, false) {
+        factories.put("@ceil", new LLVMPureIntrinsicFactory(true, false) {
 
             @Override
             protected RootCallTarget generate(FunctionType type) {
                 return wrap("@ceil", LLVMCeilNodeGen.create(LLVMArgNodeGen.create(1), null));
             }
         });
-        factories.put("@floor", new LLVMNativeIntrinsicFactory(true, false) {
+        factories.put("@floor", new LLVMPureIntrinsicFactory(true, false) {
 
             @Override
             protected RootCallTarget generate(FunctionType type) {
                 return wrap("@floor", LLVMFloorNodeGen.create(LLVMArgNodeGen.create(1), null));
             }
         });
-        factories.put("@abs", new LLVMNativeIntrinsicFactory(true, false) {
+        factories.put("@abs", new LLVMPureIntrinsicFactory(true, false) {
 
             @Override
             protected RootCallTarget generate(FunctionType type) {
                 return wrap("@abs", LLVMAbsNodeGen.create(LLVMArgNodeGen.create(1)));
             }
         });
-        factories.put("@labs", new LLVMNativeIntrinsicFactory(true, false) {
+        factories.put("@labs", new LLVMPureIntrinsicFactory(true, false) {
 
             @Override
             protected RootCallTarget generate(FunctionType type) {
                 return wrap("@labs", LLVMLAbsNodeGen.create(LLVMArgNodeGen.create(1)));
             }
         });
-        factories.put("@fabs", new LLVMNativeIntrinsicFactory(true, false) {
+        factories.put("@fabs", new LLVMPureIntrinsicFactory(true, false) {
 
             @Override
             protected RootCallTarget generate(FunctionType type) {
                 return wrap("@fabs", LLVMFAbsNodeGen.create(LLVMArgNodeGen.create(1), null));
             }
         });
-        factories.put("@pow", new LLVMNativeIntrinsicFactory(true, false) {
+        factories.put("@pow", new LLVMPureIntrinsicFactory(true, true) {
 
             @Override
             protected RootCallTarget generate(FunctionType type) {
                 return wrap("@pow", LLVMPowNodeGen.create(LLVMArgNodeGen.create(1), LLVMArgNodeGen.create(2), null));
             }
         });
-        factories.put("@exp", new LLVMNativeIntrinsicFactory(true, false) {
+        factories.put("@exp", new LLVMPureIntrinsicFactory(true, false) {
 
             @Override
             protected RootCallTarget generate(FunctionType type) {
                 return wrap("@exp", LLVMExpNodeGen.create(LLVMArgNodeGen.create(1), null));
             }
         });
-        factories.put("@exp2", new LLVMNativeIntrinsicFactory(true, false) {
+        factories.put("@exp2", new LLVMPureIntrinsicFactory(true, false) {
 
             @Override
             protected RootCallTarget generate(FunctionType type) {
@@ -1116,7 +1186,7 @@ public class NFIIntrinsicsProvider implements NativeIntrinsicProvider, ContextEx
             }
         });
 
-        factories.put("@sin", new LLVMNativeIntrinsicFactory(true, false) {
+        factories.put("@sin", new LLVMPureIntrinsicFactory(true, false) {
 
             @Override
             protected RootCallTarget generate(FunctionType type) {
@@ -1124,7 +1194,7 @@ public class NFIIntrinsicsProvider implements NativeIntrinsicProvider, ContextEx
             }
         });
 
-        factories.put("@sinf", new LLVMNativeIntrinsicFactory(true, false) {
+        factories.put("@sinf", new LLVMPureIntrinsicFactory(true, false) {
 
             @Override
             protected RootCallTarget generate(FunctionType type) {
@@ -1132,7 +1202,7 @@ public class NFIIntrinsicsProvider implements NativeIntrinsicProvider, ContextEx
             }
         });
 
-        factories.put("@cos", new LLVMNativeIntrinsicFactory(true, false) {
+        factories.put("@cos", new LLVMPureIntrinsicFactory(true, false) {
 
             @Override
             protected RootCallTarget generate(FunctionType type) {
@@ -1140,7 +1210,7 @@ public class NFIIntrinsicsProvider implements NativeIntrinsicProvider, ContextEx
             }
         });
 
-        factories.put("@cosf", new LLVMNativeIntrinsicFactory(true, false) {
+        factories.put("@cosf", new LLVMPureIntrinsicFactory(true, false) {
 
             @Override
             protected RootCallTarget generate(FunctionType type) {
@@ -1148,7 +1218,7 @@ public class NFIIntrinsicsProvider implements NativeIntrinsicProvider, ContextEx
             }
         });
 
-        factories.put("@tan", new LLVMNativeIntrinsicFactory(true, false) {
+        factories.put("@tan", new LLVMPureIntrinsicFactory(true, false) {
 
             @Override
             protected RootCallTarget generate(FunctionType type) {
@@ -1156,7 +1226,7 @@ public class NFIIntrinsicsProvider implements NativeIntrinsicProvider, ContextEx
             }
         });
 
-        factories.put("@tanf", new LLVMNativeIntrinsicFactory(true, false) {
+        factories.put("@tanf", new LLVMPureIntrinsicFactory(true, false) {
 
             @Override
             protected RootCallTarget generate(FunctionType type) {
@@ -1164,7 +1234,7 @@ public class NFIIntrinsicsProvider implements NativeIntrinsicProvider, ContextEx
             }
         });
 
-        factories.put("@atan2", new LLVMNativeIntrinsicFactory(true, false) {
+        factories.put("@atan2", new LLVMPureIntrinsicFactory(true, false) {
 
             @Override
             protected RootCallTarget generate(FunctionType type) {
@@ -1172,7 +1242,7 @@ public class NFIIntrinsicsProvider implements NativeIntrinsicProvider, ContextEx
             }
         });
 
-        factories.put("@atan2f", new LLVMNativeIntrinsicFactory(true, false) {
+        factories.put("@atan2f", new LLVMPureIntrinsicFactory(true, false) {
 
             @Override
             protected RootCallTarget generate(FunctionType type) {
@@ -1180,7 +1250,7 @@ public class NFIIntrinsicsProvider implements NativeIntrinsicProvider, ContextEx
             }
         });
 
-        factories.put("@asin", new LLVMNativeIntrinsicFactory(true, false) {
+        factories.put("@asin", new LLVMPureIntrinsicFactory(true, false) {
 
             @Override
             protected RootCallTarget generate(FunctionType type) {
@@ -1188,7 +1258,7 @@ public class NFIIntrinsicsProvider implements NativeIntrinsicProvider, ContextEx
             }
         });
 
-        factories.put("@asinf", new LLVMNativeIntrinsicFactory(true, false) {
+        factories.put("@asinf", new LLVMPureIntrinsicFactory(true, false) {
 
             @Override
             protected RootCallTarget generate(FunctionType type) {
@@ -1196,7 +1266,7 @@ public class NFIIntrinsicsProvider implements NativeIntrinsicProvider, ContextEx
             }
         });
 
-        factories.put("@acos", new LLVMNativeIntrinsicFactory(true, false) {
+        factories.put("@acos", new LLVMPureIntrinsicFactory(true, false) {
 
             @Override
             protected RootCallTarget generate(FunctionType type) {
@@ -1204,7 +1274,7 @@ public class NFIIntrinsicsProvider implements NativeIntrinsicProvider, ContextEx
             }
         });
 
-        factories.put("@acosf", new LLVMNativeIntrinsicFactory(true, false) {
+        factories.put("@acosf", new LLVMPureIntrinsicFactory(true, false) {
 
             @Override
             protected RootCallTarget generate(FunctionType type) {
@@ -1212,7 +1282,7 @@ public class NFIIntrinsicsProvider implements NativeIntrinsicProvider, ContextEx
             }
         });
 
-        factories.put("@atan", new LLVMNativeIntrinsicFactory(true, false) {
+        factories.put("@atan", new LLVMPureIntrinsicFactory(true, false) {
 
             @Override
             protected RootCallTarget generate(FunctionType type) {
@@ -1220,7 +1290,7 @@ public class NFIIntrinsicsProvider implements NativeIntrinsicProvider, ContextEx
             }
         });
 
-        factories.put("@atanf", new LLVMNativeIntrinsicFactory(true, false) {
+        factories.put("@atanf", new LLVMPureIntrinsicFactory(true, false) {
 
             @Override
             protected RootCallTarget generate(FunctionType type) {
@@ -1228,7 +1298,7 @@ public class NFIIntrinsicsProvider implements NativeIntrinsicProvider, ContextEx
             }
         });
 
-        factories.put("@sinh", new LLVMNativeIntrinsicFactory(true, false) {
+        factories.put("@sinh", new LLVMPureIntrinsicFactory(true, false) {
 
             @Override
             protected RootCallTarget generate(FunctionType type) {
@@ -1236,7 +1306,7 @@ public class NFIIntrinsicsProvider implements NativeIntrinsicProvider, ContextEx
             }
         });
 
-        factories.put("@sinhf", new LLVMNativeIntrinsicFactory(true, false) {
+        factories.put("@sinhf", new LLVMPureIntrinsicFactory(true, false) {
 
             @Override
             protected RootCallTarget generate(FunctionType type) {
@@ -1244,7 +1314,7 @@ public class NFIIntrinsicsProvider implements NativeIntrinsicProvider, ContextEx
             }
         });
 
-        factories.put("@cosh", new LLVMNativeIntrinsicFactory(true, false) {
+        factories.put("@cosh", new LLVMPureIntrinsicFactory(true, false) {
 
             @Override
             protected RootCallTarget generate(FunctionType type) {
@@ -1252,7 +1322,7 @@ public class NFIIntrinsicsProvider implements NativeIntrinsicProvider, ContextEx
             }
         });
 
-        factories.put("@coshf", new LLVMNativeIntrinsicFactory(true, false) {
+        factories.put("@coshf", new LLVMPureIntrinsicFactory(true, false) {
 
             @Override
             protected RootCallTarget generate(FunctionType type) {
@@ -1260,7 +1330,7 @@ public class NFIIntrinsicsProvider implements NativeIntrinsicProvider, ContextEx
             }
         });
 
-        factories.put("@tanh", new LLVMNativeIntrinsicFactory(true, false) {
+        factories.put("@tanh", new LLVMPureIntrinsicFactory(true, false) {
 
             @Override
             protected RootCallTarget generate(FunctionType type) {
@@ -1268,7 +1338,7 @@ public class NFIIntrinsicsProvider implements NativeIntrinsicProvider, ContextEx
             }
         });
 
-        factories.put("@tanhf", new LLVMNativeIntrinsicFactory(true, false) {
+        factories.put("@tanhf", new LLVMPureIntrinsicFactory(true, false) {
 
             @Override
             protected RootCallTarget generate(FunctionType type) {
@@ -1276,7 +1346,7 @@ public class NFIIntrinsicsProvider implements NativeIntrinsicProvider, ContextEx
             }
         });
 
-        factories.put("@ldexp", new LLVMNativeIntrinsicFactory(true, false) {
+        factories.put("@ldexp", new LLVMPureIntrinsicFactory(true, false) {
 
             @Override
             protected RootCallTarget generate(FunctionType type) {
@@ -1292,7 +1362,7 @@ public class NFIIntrinsicsProvider implements NativeIntrinsicProvider, ContextEx
             }
         });
 
-        factories.put("@fmod", new LLVMNativeIntrinsicFactory(true, false) {
+        factories.put("@fmod", new LLVMPureIntrinsicFactory(true, false) {
 
             @Override
             protected RootCallTarget generate(FunctionType type) {
@@ -1307,12 +1377,124 @@ public class NFIIntrinsicsProvider implements NativeIntrinsicProvider, ContextEx
             }
         });
 
-        factories.put("@copysign", new LLVMNativeIntrinsicFactory(true, false) {
+        factories.put("@copysign", new LLVMPureIntrinsicFactory(true, false) {
             @Override
             protected RootCallTarget generate(FunctionType type) {
                 return wrap("@copysign", LLVMCMathsIntrinsicsFactory.LLVMCopySignNodeGen.create(LLVMArgNodeGen.create(1), LLVMArgNodeGen.create(2), null));
             }
         });
+
+        factories.put("@sqrtf", new LLVMPureIntrinsicFactory(true, false) {
+
+            @Override
+            protected RootCallTarget generate(FunctionType type) {
+                return wrap("@sqrtf", LLVMSqrtNodeGen.create(LLVMArgNodeGen.create(1), null));
+            }
+        });
+
+        factories.put("@logf", new LLVMPureIntrinsicFactory(true, false) {
+
+            @Override
+            protected RootCallTarget generate(FunctionType type) {
+                return wrap("@logf", LLVMLogNodeGen.create(LLVMArgNodeGen.create(1), null));
+            }
+        });
+
+        factories.put("@log2f", new LLVMPureIntrinsicFactory(true, false) {
+
+            @Override
+            protected RootCallTarget generate(FunctionType type) {
+                return wrap("@log2f", LLVMLog2NodeGen.create(LLVMArgNodeGen.create(1), null));
+            }
+        });
+
+        factories.put("@log10f", new LLVMPureIntrinsicFactory(true, false) {
+
+            @Override
+            protected RootCallTarget generate(FunctionType type) {
+                return wrap("@log10f", LLVMLog10NodeGen.create(LLVMArgNodeGen.create(1), null));
+            }
+        });
+
+        factories.put("@rintf", new LLVMPureIntrinsicFactory(true, false) {
+
+            @Override
+            protected RootCallTarget generate(FunctionType type) {
+                return wrap("@rintf", LLVMRintNodeGen.create(LLVMArgNodeGen.create(1), null));
+            }
+        });
+
+        factories.put("@ceilf", new LLVMPureIntrinsicFactory(true, false) {
+
+            @Override
+            protected RootCallTarget generate(FunctionType type) {
+                return wrap("@ceilf", LLVMCeilNodeGen.create(LLVMArgNodeGen.create(1), null));
+            }
+        });
+
+        factories.put("@floorf", new LLVMPureIntrinsicFactory(true, false) {
+
+            @Override
+            protected RootCallTarget generate(FunctionType type) {
+                return wrap("@floorf", LLVMFloorNodeGen.create(LLVMArgNodeGen.create(1), null));
+            }
+        });
+
+        factories.put("@fabsf", new LLVMPureIntrinsicFactory(true, false) {
+
+            @Override
+            protected RootCallTarget generate(FunctionType type) {
+                return wrap("@fabsf", LLVMFAbsNodeGen.create(LLVMArgNodeGen.create(1), null));
+            }
+        });
+
+        factories.put("@expf", new LLVMPureIntrinsicFactory(true, false) {
+
+            @Override
+            protected RootCallTarget generate(FunctionType type) {
+                return wrap("@expf", LLVMExpNodeGen.create(LLVMArgNodeGen.create(1), null));
+            }
+        });
+
+        factories.put("@exp2f", new LLVMPureIntrinsicFactory(true, false) {
+
+            @Override
+            protected RootCallTarget generate(FunctionType type) {
+                return wrap("@exp2f", LLVMExp2NodeGen.create(LLVMArgNodeGen.create(1), null));
+            }
+        });
+
+        factories.put("@powf", new LLVMPureIntrinsicFactory(true, true) {
+
+            @Override
+            protected RootCallTarget generate(FunctionType type) {
+                return wrap("@powf", LLVMPowNodeGen.create(LLVMArgNodeGen.create(1), LLVMArgNodeGen.create(2), null));
+            }
+        });
+
+        factories.put("@ldexpf", new LLVMPureIntrinsicFactory(true, false) {
+
+            @Override
+            protected RootCallTarget generate(FunctionType type) {
+                return wrap("@ldexpf", LLVMLdexpNodeGen.create(LLVMArgNodeGen.create(1), LLVMArgNodeGen.create(2)));
+            }
+        });
+
+        factories.put("@fmodf", new LLVMPureIntrinsicFactory(true, false) {
+
+            @Override
+            protected RootCallTarget generate(FunctionType type) {
+                return wrap("@fmodf", LLVMFmodNodeGen.create(LLVMArgNodeGen.create(1), LLVMArgNodeGen.create(2)));
+            }
+        });
+
+        factories.put("@copysignf", new LLVMPureIntrinsicFactory(true, false) {
+
+            @Override
+            protected RootCallTarget generate(FunctionType type) {
+                return wrap("@copysignf", LLVMCMathsIntrinsicsFactory.LLVMCopySignNodeGen.create(LLVMArgNodeGen.create(1), LLVMArgNodeGen.create(2), null));
+            }
+        });
     }
 
     protected void registerCTypeIntrinsics() {
@@ -1353,6 +1535,212 @@ public class NFIIntrinsicsProvider implements NativeIntrinsicProvider, ContextEx
         });
     }
 
+    protected void registerPThreadIntrinsics() {
+        factories.put("@pthread_create", new LLVMNativeIntrinsicFactory(true, false) {
+
+            @Override
+            protected RootCallTarget generate(FunctionType type) {
+                return wrap("@pthread_create", LLVMPThreadCreateNodeGen.create(LLVMArgNodeGen.create(1), LLVMArgNodeGen.create(2), LLVMArgNodeGen.create(3), LLVMArgNodeGen.create(4)));
+            }
+        });
+        factories.put("@pthread_join", new LLVMNativeIntrinsicFactory(true, false) {
+
+            @Override
+            protected RootCallTarget generate(FunctionType type) {
+                return wrap("@pthread_join", LLVMPThreadJoinNodeGen.create(LLVMArgNodeGen.create(1), LLVMArgNodeGen.create(2)));
+            }
+        });
+        factories.put("@pthread_detach", new LLVMNativeIntrinsicFactory(true, false) {
+
+            @Override
+            protected RootCallTarget generate(FunctionType type) {
+                return wrap("@pthread_detach", LLVMPThreadDetachNodeGen.create(LLVMArgNodeGen.create(1)));
+            }
+        });
+        factories.put("@pthread_self", new LLVMNativeIntrinsicFactory(true, false) {
+
+            @Override
+            protected RootCallTarget generate(FunctionType type) {
+                return wrap("@pthread_self", LLVMPThreadSelfNodeGen.create());
+            }
+        });
+        factories.put("@pthread_equal", new LLVMNativeIntrinsicFactory(true, false) {
+
+            @Override
+            protected RootCallTarget generate(FunctionType type) {
+                return wrap("@pthread_equal", LLVMPThreadEqualNodeGen.create(LLVMArgNodeGen.create(1), LLVMArgNodeGen.create(2)));
+            }
+        });
+        factories.put("@pthread_exit", new LLVMNativeIntrinsicFactory(true, false) {
+
+            @Override
+            protected RootCallTarget generate(FunctionType type) {
+                return wrap("@pthread_exit", LLVMPThreadExitNodeGen.create(LLVMArgNodeGen.create(1)));
+            }
+        });
+        factories.put("@pthread_mutex_init", new LLVMNativeIntrinsicFactory(true, false) {
+
+            @Override
+            protected RootCallTarget generate(FunctionType type) {
+                return wrap("@pthread_mutex_init", LLVMPThreadMutexInitNodeGen.create(LLVMArgNodeGen.create(1), LLVMArgNodeGen.create(2)));
+            }
+        });
+        factories.put("@pthread_mutex_destroy", new LLVMNativeIntrinsicFactory(true, false) {
+
+            @Override
+            protected RootCallTarget generate(FunctionType type) {
+                return wrap("@pthread_mutex_destroy", LLVMPThreadMutexDestroyNodeGen.create(LLVMArgNodeGen.create(1)));
+            }
+        });
+        factories.put("@pthread_mutex_lock", new LLVMNativeIntrinsicFactory(true, false) {
+
+            @Override
+            protected RootCallTarget generate(FunctionType type) {
+                return wrap("@pthread_mutex_lock", LLVMPThreadMutexLockNodeGen.create(LLVMArgNodeGen.create(1)));
+            }
+        });
+        factories.put("@pthread_mutex_trylock", new LLVMNativeIntrinsicFactory(true, false) {
+
+            @Override
+            protected RootCallTarget generate(FunctionType type) {
+                return wrap("@pthread_mutex_trylock", LLVMPThreadMutexTryLockNodeGen.create(LLVMArgNodeGen.create(1)));
+            }
+        });
+        factories.put("@pthread_mutex_unlock", new LLVMNativeIntrinsicFactory(true, false) {
+
+            @Override
+            protected RootCallTarget generate(FunctionType type) {
+                return wrap("@pthread_mutex_unlock", LLVMPThreadMutexUnlockNodeGen.create(LLVMArgNodeGen.create(1)));
+            }
+        });
+        factories.put("@pthread_cond_init", new LLVMNativeIntrinsicFactory(true, false) {
+
+            @Override
+            protected RootCallTarget generate(FunctionType type) {
+                return wrap("@pthread_cond_init", LLVMPThreadCondInitNodeGen.create(LLVMArgNodeGen.create(1), LLVMArgNodeGen.create(2)));
+            }
+        });
+        factories.put("@pthread_cond_destroy", new LLVMNativeIntrinsicFactory(true, false) {
+
+            @Override
+            protected RootCallTarget generate(FunctionType type) {
+                return wrap("@pthread_cond_destroy", LLVMPThreadCondDestroyNodeGen.create(LLVMArgNodeGen.create(1)));
+            }
+        });
+        factories.put("@pthread_cond_wait", new LLVMNativeIntrinsicFactory(true, false) {
+
+            @Override
+            protected RootCallTarget generate(FunctionType type) {
+                return wrap("@pthread_cond_wait", LLVMPThreadCondWaitNodeGen.create(LLVMArgNodeGen.create(1), LLVMArgNodeGen.create(2)));
+            }
+        });
+        factories.put("@pthread_cond_timedwait", new LLVMNativeIntrinsicFactory(true, false) {
+
+            @Override
+            protected RootCallTarget generate(FunctionType type) {
+                return wrap("@pthread_cond_timedwait", LLVMPThreadCondTimedWaitNodeGen.create(LLVMArgNodeGen.create(1), LLVMArgNodeGen.create(2), LLVMArgNodeGen.create(3)));
+            }
+        });
+        factories.put("@pthread_cond_signal", new LLVMNativeIntrinsicFactory(true, false) {
+
+            @Override
+            protected RootCallTarget generate(FunctionType type) {
+                return wrap("@pthread_cond_signal", LLVMPThreadCondSignalNodeGen.create(LLVMArgNodeGen.create(1)));
+            }
+        });
+        factories.put("@pthread_cond_broadcast", new LLVMNativeIntrinsicFactory(true, false) {
+
+            @Override
+            protected RootCallTarget generate(FunctionType type) {
+                return wrap("@pthread_cond_broadcast", LLVMPThreadCondBroadcastNodeGen.create(LLVMArgNodeGen.create(1)));
+            }
+        });
+        factories.put("@pthread_rwlock_init", new LLVMNativeIntrinsicFactory(true, false) {
+
+            @Override
+            protected RootCallTarget generate(FunctionType type) {
+                return wrap("@pthread_rwlock_init", LLVMPThreadRWLockInitNodeGen.create(LLVMArgNodeGen.create(1), LLVMArgNodeGen.create(2)));
+            }
+        });
+        factories.put("@pthread_rwlock_destroy", new LLVMNativeIntrinsicFactory(true, false) {
+
+            @Override
+            protected RootCallTarget generate(FunctionType type) {
+                return wrap("@pthread_rwlock_destroy", LLVMPThreadRWLockDestroyNodeGen.create(LLVMArgNodeGen.create(1)));
+            }
+        });
+        factories.put("@pthread_rwlock_rdlock", new LLVMNativeIntrinsicFactory(true, false) {
+
+            @Override
+            protected RootCallTarget generate(FunctionType type) {
+                return wrap("@pthread_rwlock_rdlock", LLVMPThreadRWLockReadLockNodeGen.create(LLVMArgNodeGen.create(1)));
+            }
+        });
+        factories.put("@pthread_rwlock_tryrdlock", new LLVMNativeIntrinsicFactory(true, false) {
+
+            @Override
+            protected RootCallTarget generate(FunctionType type) {
+                return wrap("@pthread_rwlock_tryrdlock", LLVMPThreadRWLockTryReadLockNodeGen.create(LLVMArgNodeGen.create(1)));
+            }
+        });
+        factories.put("@pthread_rwlock_wrlock", new LLVMNativeIntrinsicFactory(true, false) {
+
+            @Override
+            protected RootCallTarget generate(FunctionType type) {
+                return wrap("@pthread_rwlock_wrlock", LLVMPThreadRWLockWriteLockNodeGen.create(LLVMArgNodeGen.create(1)));
+            }
+        });
+        factories.put("@pthread_rwlock_trywrlock", new LLVMNativeIntrinsicFactory(true, false) {
+
+            @Override
+            protected RootCallTarget generate(FunctionType type) {
+                return wrap("@pthread_rwlock_trywrlock", LLVMPThreadRWLockTryWriteLockNodeGen.create(LLVMArgNodeGen.create(1)));
+            }
+        });
+        factories.put("@pthread_rwlock_unlock", new LLVMNativeIntrinsicFactory(true, false) {
+
+            @Override
+            protected RootCallTarget generate(FunctionType type) {
+                return wrap("@pthread_rwlock_unlock", LLVMPThreadRWLockUnlockNodeGen.create(LLVMArgNodeGen.create(1)));
+            }
+        });
+        factories.put("@pthread_key_create", new LLVMNativeIntrinsicFactory(true, false) {
+
+            @Override
+            protected RootCallTarget generate(FunctionType type) {
+                return wrap("@pthread_key_create", LLVMPThreadKeyCreateNodeGen.create(LLVMArgNodeGen.create(1), LLVMArgNodeGen.create(2)));
+            }
+        });
+        factories.put("@pthread_key_delete", new LLVMNativeIntrinsicFactory(true, false) {
+
+            @Override
+            protected RootCallTarget generate(FunctionType type) {
+                return wrap("@pthread_key_delete", LLVMPThreadKeyDeleteNodeGen.create(LLVMArgNodeGen.create(1)));
+            }
+        });
+        factories.put("@pthread_getspecific", new LLVMNativeIntrinsicFactory(true, false) {
+
+            @Override
+            protected RootCallTarget generate(FunctionType type) {
+                return wrap("@pthread_getspecific", LLVMPThreadGetSpecificNodeGen.create(LLVMArgNodeGen.create(1)));
+            }
+        });
+        factories.put("@pthread_setspecific", new LLVMNativeIntrinsicFactory(true, false) {
+
+            @Override
+            protected RootCallTarget generate(FunctionType type) {
+                return wrap("@pthread_setspecific", LLVMPThreadSetSpecificNodeGen.create(LLVMArgNodeGen.create(1), LLVMArgNodeGen.create(2)));
+            }
+        });
+        factories.put("@pthread_once", new LLVMNativeIntrinsicFactory(true, false) {
+
+            @Override
+            protected RootCallTarget generate(FunctionType type) {
+                return wrap("@pthread_once", LLVMPThreadOnceNodeGen.create(LLVMArgNodeGen.create(0), LLVMArgNodeGen.create(1), LLVMArgNodeGen.create(2)));
+            }
+        });
+    }
+
     protected void registerMemoryFunctionIntrinsics(NodeFactory factory) {
         factories.put("@malloc", new LLVMNativeIntrinsicFactory(true, false) {
 
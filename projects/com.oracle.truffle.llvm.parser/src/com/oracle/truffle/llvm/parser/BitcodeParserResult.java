@@ -81,10 +81,18 @@ public final class BitcodeParserResult {
     }
 
     public static BitcodeParserResult getFromSource(Source source, ByteBuffer bytes) {
+        return getFromSource(source, bytes, true);
+    }
+
+    /**
+     * @param resolveVariables whether source-level variables should be extracted from the debug
+     *            information, which is only needed for local variable inspection
+     */
+    public static BitcodeParserResult getFromSource(Source source, ByteBuffer bytes, boolean resolveVariables) {
         final ModelModule model = LLVMScanner.parse(bytes);
 
         // extract SourceSection and LLVMSourceType objects from metadata
-        final SourceModel sourceModel = SourceModel.generate(model, source);
+        final SourceModel sourceModel = SourceModel.generate(model, source, resolveVariables);
 
         final LLVMPhiManager phis = LLVMPhiManager.generate(model);
         final StackAllocation stackAllocation = StackAllocation.generate(model);
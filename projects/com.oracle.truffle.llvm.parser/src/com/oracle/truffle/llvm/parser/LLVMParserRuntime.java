@@ -31,6 +31,7 @@ package com.oracle.truffle.llvm.parser;
 
 import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -59,9 +60,11 @@ import com.oracle.truffle.llvm.runtime.datalayout.DataLayoutConverter;
 import com.oracle.truffle.llvm.runtime.debug.LLVMDebugValue;
 import com.oracle.truffle.llvm.runtime.debug.LLVMSourceContext;
 import com.oracle.truffle.llvm.runtime.debug.LLVMSourceSymbol;
+import com.oracle.truffle.llvm.runtime.global.LLVMThreadLocalVariable;
 import com.oracle.truffle.llvm.runtime.memory.LLVMStack;
 import com.oracle.truffle.llvm.runtime.nodes.api.LLVMExpressionNode;
 import com.oracle.truffle.llvm.runtime.options.SulongEngineOption;
+import com.oracle.truffle.llvm.runtime.pthread.LLVMThreadLocalStorage.Segment;
 import com.oracle.truffle.llvm.runtime.types.ArrayType;
 import com.oracle.truffle.llvm.runtime.types.FunctionType;
 import com.oracle.truffle.llvm.runtime.types.PointerType;
@@ -94,6 +97,7 @@ public final class LLVMParserRuntime {
         LLVMParserRuntime runtime = new LLVMParserRuntime(source, language, context, stack, nodeFactory, module.getAliases());
 
         runtime.initializeFunctions(phiManager, labels, module.getFunctions());
+        runtime.allocateThreadLocals(module.getGlobals());
 
         LLVMSymbolReadResolver symbolResolver = new LLVMSymbolReadResolver(runtime, labels);
         LLVMExpressionNode[] globals = runtime.createGlobalVariableInitializationNodes(symbolResolver, module.getGlobals());
@@ -139,6 +143,7 @@ public final class LLVMParserRuntime {
     private final Map<GlobalAlias, Symbol> aliases;
     private final List<LLVMExpressionNode> deallocations;
     private final LLVMScope scope;
+    private final Map<GlobalVariable, LLVMThreadLocalVariable> threadLocals;
 
     private LLVMParserRuntime(Source source, LLVMLanguage language, LLVMContext context, StackAllocation stack, NodeFactory nodeFactory,
                     Map<GlobalAlias, Symbol> aliases) {
@@ -150,6 +155,7 @@ public final class LLVMParserRuntime {
         this.aliases = aliases;
         this.deallocations = new ArrayList<>();
         this.scope = LLVMScope.createFileScope(context);
+        this.threadLocals = new HashMap<>();
     }
 
     private void initializeFunctions(LLVMPhiManager phiManager, LLVMLabelList labels, List<FunctionDefinition> functions) {
@@ -163,6 +169,37 @@ public final class LLVMParserRuntime {
         }
     }
 
+    /**
+     * Lays out all {@code thread_local} globals of the module in a single thread local storage
+     * segment.
+     */
+    private void allocateThreadLocals(List<GlobalValueSymbol> globals) {
+        long size = 0;
+        int alignment = 1;
+        final Map<GlobalVariable, Long> offsets = new HashMap<>();
+        for (GlobalValueSymbol global : globals) {
+            if (global instanceof GlobalVariable && ((GlobalVariable) global).isThreadLocal()) {
+                final Type type = ((PointerType) global.getType()).getPointeeType();
+                final int variableAlignment;
+                if (global.getAlign() == 0) {
+                    variableAlignment = Math.max(1, context.getByteAlignment(type));
+                } else {
+                    variableAlignment = 1 << (global.getAlign() - 1);
+                }
+                size = (size + variableAlignment - 1) / variableAlignment * variableAlignment;
+                offsets.put((GlobalVariable) global, size);
+                size += context.getByteSize(type);
+                alignment = Math.max(alignment, variableAlignment);
+            }
+        }
+        if (!offsets.isEmpty()) {
+            final Segment segment = context.getThreadLocalStorage().registerSegment(size, alignment);
+            for (Map.Entry<GlobalVariable, Long> entry : offsets.entrySet()) {
+                threadLocals.put(entry.getKey(), new LLVMThreadLocalVariable(entry.getKey().getName(), segment, entry.getValue()));
+            }
+        }
+    }
+
     private LLVMExpressionNode[] createGlobalVariableInitializationNodes(LLVMSymbolReadResolver symbolResolver, List<GlobalValueSymbol> globals) {
         final List<LLVMExpressionNode> globalNodes = new ArrayList<>();
         for (GlobalValueSymbol global : globals) {
@@ -184,7 +221,7 @@ public final class LLVMParserRuntime {
             final Type type = ((PointerType) global.getType()).getPointeeType();
             final int size = getContext().getByteSize(type);
 
-            final LLVMExpressionNode globalVarAddress = getGlobalVariable(symbolResolver, global);
+            final LLVMExpressionNode globalVarAddress = getGlobalInitializationTarget(symbolResolver, global);
 
             if (size != 0) {
                 final LLVMExpressionNode store;
@@ -201,6 +238,17 @@ public final class LLVMParserRuntime {
         return null;
     }
 
+    private LLVMExpressionNode getGlobalInitializationTarget(LLVMSymbolReadResolver symbolResolver, GlobalValueSymbol global) {
+        if (global instanceof GlobalVariable && ((GlobalVariable) global).isThreadLocal()) {
+            // the initial value goes to the template that every thread copies
+            final Object globalVariableDescriptor = lookupOrCreateGlobal(global, global);
+            if (globalVariableDescriptor instanceof LLVMThreadLocalVariable) {
+                return nodeFactory.createLiteral(this, ((LLVMThreadLocalVariable) globalVariableDescriptor).getTemplateAddress(), new PointerType(global.getType()));
+            }
+        }
+        return getGlobalVariable(symbolResolver, global);
+    }
+
     private LLVMExpressionNode getGlobalVariable(LLVMSymbolReadResolver symbolResolver, GlobalValueSymbol global) {
         Symbol g = global;
         while (g instanceof GlobalAlias) {
@@ -209,23 +257,29 @@ public final class LLVMParserRuntime {
 
         if (g instanceof GlobalValueSymbol) {
             final GlobalValueSymbol variable = (GlobalValueSymbol) g;
-            Object globalVariableDescriptor = scope.lookupOrCreateGlobal(variable.getName(), !Linkage.isFileLocal(variable.getLinkage()), () -> {
-                final Object globalValue;
-                if (global instanceof GlobalVariable) {
-                    globalValue = nodeFactory.allocateGlobalVariable(this, (GlobalVariable) global);
-                } else if (global instanceof GlobalConstant) {
-                    globalValue = nodeFactory.allocateGlobalConstant(this, (GlobalConstant) global);
-                } else {
-                    throw new AssertionError("Cannot allocate global: " + global);
-                }
-                return globalValue;
-            });
+            Object globalVariableDescriptor = lookupOrCreateGlobal(variable, global);
             return nodeFactory.createLiteral(this, globalVariableDescriptor, new PointerType(variable.getType()));
         } else {
             return symbolResolver.resolve(g);
         }
     }
 
+    private Object lookupOrCreateGlobal(GlobalValueSymbol variable, GlobalValueSymbol global) {
+        return scope.lookupOrCreateGlobal(variable.getName(), !Linkage.isFileLocal(variable.getLinkage()), () -> {
+            final Object globalValue;
+            if (threadLocals.containsKey(global)) {
+                globalValue = threadLocals.get(global);
+            } else if (global instanceof GlobalVariable) {
+                globalValue = nodeFactory.allocateGlobalVariable(this, (GlobalVariable) global);
+            } else if (global instanceof GlobalConstant) {
+                globalValue = nodeFactory.allocateGlobalConstant(this, (GlobalConstant) global);
+            } else {
+                throw new AssertionError("Cannot allocate global: " + global);
+            }
+            return globalValue;
+        });
+    }
+
     private RootCallTarget getConstructors(List<GlobalValueSymbol> globals) {
         return getStructor(CONSTRUCTORS_VARNAME, globals, ASCENDING_PRIORITY);
     }
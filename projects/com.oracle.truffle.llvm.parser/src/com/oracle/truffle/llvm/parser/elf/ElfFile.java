@@ -42,12 +42,14 @@ public final class ElfFile {
     private final ElfHeader header;
     private final ElfSectionHeaderTable sectionHeaderTable;
     private final ElfDynamicSection dynamicSection;
+    private final ElfSymbolTable dynamicSymbolTable;
 
-    private ElfFile(ElfHeader header, ElfSectionHeaderTable sectionHeaderTable, ElfDynamicSection dynamicSection) {
+    private ElfFile(ElfHeader header, ElfSectionHeaderTable sectionHeaderTable, ElfDynamicSection dynamicSection, ElfSymbolTable dynamicSymbolTable) {
         super();
         this.header = header;
         this.sectionHeaderTable = sectionHeaderTable;
         this.dynamicSection = dynamicSection;
+        this.dynamicSymbolTable = dynamicSymbolTable;
     }
 
     public static ElfFile create(ByteBuffer data) {
@@ -59,7 +61,8 @@ public final class ElfFile {
         ElfHeader header = ElfHeader.create(data, is64Bit);
         ElfSectionHeaderTable sectionHeaderTable = ElfSectionHeaderTable.create(header, data, is64Bit);
         ElfDynamicSection dynamicSection = ElfDynamicSection.create(sectionHeaderTable, data, is64Bit);
-        return new ElfFile(header, sectionHeaderTable, dynamicSection);
+        ElfSymbolTable dynamicSymbolTable = ElfSymbolTable.createDynamic(sectionHeaderTable, data, is64Bit);
+        return new ElfFile(header, sectionHeaderTable, dynamicSection, dynamicSymbolTable);
     }
 
     public ElfHeader getHeader() {
@@ -74,6 +77,10 @@ public final class ElfFile {
         return sectionHeaderTable;
     }
 
+    public ElfSymbolTable getDynamicSymbolTable() {
+        return dynamicSymbolTable;
+    }
+
     private static boolean isBigEndian(ByteBuffer ident) {
         return ident.get(EI_DATA) == ELFDATA2MSB;
     }
@@ -0,0 +1,187 @@
+/*
+ * Copyright (c) 2017, Oracle and/or its affiliates.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of
+ * conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of
+ * conditions and the following disclaimer in the documentation and/or other materials provided
+ * with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to
+ * endorse or promote products derived from this software without specific prior written
+ * permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS
+ * OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE
+ * COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE
+ * GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED
+ * OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.oracle.truffle.llvm.parser.elf;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+public final class ElfSymbolTable {
+
+    private static final int SHT_DYNSYM = 11;
+    private static final int SHN_UNDEF = 0;
+
+    private static final int STB_GLOBAL = 1;
+    private static final int STB_WEAK = 2;
+    private static final int STB_GNU_UNIQUE = 10;
+
+    private static final int STT_NOTYPE = 0;
+    private static final int STT_OBJECT = 1;
+    private static final int STT_FUNC = 2;
+    private static final int STT_COMMON = 5;
+    private static final int STT_GNU_IFUNC = 10;
+
+    private static final int ELF32_SYM_SIZE = 16;
+    private static final int ELF64_SYM_SIZE = 24;
+
+    public static final class Entry {
+        private final String name;
+        private final byte stInfo;
+        private final short stShndx;
+        private final long stValue;
+        private final long stSize;
+
+        private Entry(String name, byte stInfo, short stShndx, long stValue, long stSize) {
+            this.name = name;
+            this.stInfo = stInfo;
+            this.stShndx = stShndx;
+            this.stValue = stValue;
+            this.stSize = stSize;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public int getBinding() {
+            return (stInfo & 0xff) >>> 4;
+        }
+
+        public int getType() {
+            return stInfo & 0xf;
+        }
+
+        public boolean isDefined() {
+            return stShndx != SHN_UNDEF;
+        }
+
+        public long getValue() {
+            return stValue;
+        }
+
+        public long getSize() {
+            return stSize;
+        }
+
+        /**
+         * Whether the dynamic linker would resolve a reference from another object to this symbol.
+         */
+        public boolean isExported() {
+            if (!isDefined() || name.isEmpty()) {
+                return false;
+            }
+            int binding = getBinding();
+            if (binding != STB_GLOBAL && binding != STB_WEAK && binding != STB_GNU_UNIQUE) {
+                return false;
+            }
+            int type = getType();
+            return type == STT_NOTYPE || type == STT_OBJECT || type == STT_FUNC || type == STT_COMMON || type == STT_GNU_IFUNC;
+        }
+    }
+
+    private final Entry[] entries;
+
+    private ElfSymbolTable(Entry[] entries) {
+        this.entries = entries;
+    }
+
+    /**
+     * Reads the dynamic symbol table (.dynsym), which lists the symbols a shared object exports
+     * and imports. Returns {@code null} if the file has none.
+     */
+    public static ElfSymbolTable createDynamic(ElfSectionHeaderTable sht, ByteBuffer buffer, boolean is64Bit) {
+        ElfSectionHeaderTable.Entry[] sections = sht.getEntries();
+        for (ElfSectionHeaderTable.Entry section : sections) {
+            if (section.getType() == SHT_DYNSYM && section.getLink() < sections.length) {
+                return new ElfSymbolTable(readEntries(buffer, is64Bit, section, sections[section.getLink()]));
+            }
+        }
+        return null;
+    }
+
+    private static Entry[] readEntries(ByteBuffer buffer, boolean is64Bit, ElfSectionHeaderTable.Entry symbols, ElfSectionHeaderTable.Entry strings) {
+        int entrySize = symbols.getEntrySize() > 0 ? (int) symbols.getEntrySize() : (is64Bit ? ELF64_SYM_SIZE : ELF32_SYM_SIZE);
+        int count = (int) (symbols.getSize() / entrySize);
+        ByteBuffer data = buffer.duplicate().order(buffer.order());
+        List<Entry> entries = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            data.position((int) (symbols.getOffset() + (long) i * entrySize));
+            int stName = data.getInt();
+            byte stInfo;
+            short stShndx;
+            long stValue;
+            long stSize;
+            if (is64Bit) {
+                stInfo = data.get();
+                data.get(); // st_other
+                stShndx = data.getShort();
+                stValue = data.getLong();
+                stSize = data.getLong();
+            } else {
+                stValue = data.getInt() & 0xffffffffL;
+                stSize = data.getInt() & 0xffffffffL;
+                stInfo = data.get();
+                data.get(); // st_other
+                stShndx = data.getShort();
+            }
+            entries.add(new Entry(getString(data, strings, stName), stInfo, stShndx, stValue, stSize));
+        }
+        return entries.toArray(new Entry[entries.size()]);
+    }
+
+    private static String getString(ByteBuffer data, ElfSectionHeaderTable.Entry strings, int offset) {
+        if (offset < 0 || offset >= strings.getSize()) {
+            return "";
+        }
+        ByteBuffer bb = data.duplicate();
+        bb.position((int) (strings.getOffset() + offset));
+        StringBuilder sb = new StringBuilder();
+        byte b = bb.get();
+        while (b != 0) {
+            sb.append((char) b);
+            b = bb.get();
+        }
+        return sb.toString();
+    }
+
+    public Entry[] getEntries() {
+        return entries;
+    }
+
+    public List<String> getExportedNames() {
+        List<String> names = new ArrayList<>();
+        for (Entry e : entries) {
+            if (e.isExported()) {
+                names.add(e.getName());
+            }
+        }
+        return names;
+    }
+}
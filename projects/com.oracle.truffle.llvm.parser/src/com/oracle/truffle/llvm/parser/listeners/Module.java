@@ -121,6 +121,7 @@ public final class Module implements ParserListener {
     private static final int GLOBALVAR_LINKAGE = 3;
     private static final int GLOBALVAR_ALIGN = 4;
     private static final int GLOBALVAR_VISIBILITY = 6;
+    private static final int GLOBALVAR_THREADLOCAL = 7;
 
     private void createGlobalVariable(long[] args) {
         final int recordOffset = useStrTab() ? STRTAB_RECORD_OFFSET : 0;
@@ -142,11 +143,17 @@ public final class Module implements ParserListener {
             visibility = args[GLOBALVAR_VISIBILITY + recordOffset];
         }
 
+        boolean threadLocal = false;
+        if (GLOBALVAR_THREADLOCAL + recordOffset < args.length) {
+            threadLocal = args[GLOBALVAR_THREADLOCAL + recordOffset] != 0;
+        }
+
         final GlobalValueSymbol global;
         if (isConstant) {
+            // constants are never written, so all threads can share them
             global = GlobalConstant.create(type, initialiser, align, linkage, visibility);
         } else {
-            global = GlobalVariable.create(type, initialiser, align, linkage, visibility);
+            global = GlobalVariable.create(type, initialiser, align, linkage, visibility, threadLocal);
         }
         if (useStrTab()) {
             readNameFromStrTab(args, global);
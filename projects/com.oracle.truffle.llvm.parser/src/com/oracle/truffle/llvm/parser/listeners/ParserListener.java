@@ -40,6 +40,10 @@ public interface ParserListener {
     default void exit() {
     }
 
+    /**
+     * Receives a record of the current block. The scanner reuses {@code args} for later records, so
+     * it must not be retained after this method returns.
+     */
     void record(long id, long[] args);
 
     ParserListener DEFAULT = (id, args) -> {
@@ -76,10 +76,30 @@ public final class SourceModel {
     public static final int LLVM_DBG_VALUE_LOCALREF_ARGINDEX = 2;
 
     public static SourceModel generate(ModelModule irModel, Source bitcodeSource) {
+        return generate(irModel, bitcodeSource, true);
+    }
+
+    /**
+     * Extracts the source-level information of a module. Without {@code resolveVariables} no
+     * source variables or globals are extracted and the scopes of each function are only resolved
+     * once its source sections are first requested, which usually happens when the function is
+     * first called.
+     * <p>
+     * Only this extraction is lazy. The METADATA blocks themselves are decoded eagerly by the
+     * scanner, as the function blocks number their metadata after the module metadata and attach
+     * debug locations while they are scanned.
+     */
+    public static SourceModel generate(ModelModule irModel, Source bitcodeSource, boolean resolveVariables) {
         final MetadataValueList moduleMetadata = irModel.getMetadata();
-        final Parser parser = new Parser(moduleMetadata, bitcodeSource);
+        final Parser parser = new Parser(moduleMetadata, bitcodeSource, resolveVariables);
         MDSymbolLinkUpgrade.perform(moduleMetadata);
-        irModel.accept(parser);
+        if (resolveVariables) {
+            irModel.accept(parser);
+        } else {
+            for (FunctionDefinition function : irModel.getDefinedFunctions()) {
+                function.setSourceFunction(new Function(bitcodeSource, function, parser));
+            }
+        }
         return parser.sourceModel;
     }
 
@@ -93,21 +113,43 @@ public final class SourceModel {
 
         private LLVMSourceLocation lexicalScope;
 
-        private Function(Source bitcodeSource, FunctionDefinition definition) {
+        private SourceSection irSection;
+
+        // non-null until the scopes of this function have been resolved
+        private volatile Parser parser;
+
+        private Function(Source bitcodeSource, FunctionDefinition definition, Parser parser) {
             this.bitcodeSource = bitcodeSource;
             this.definition = definition;
+            this.parser = parser;
+        }
+
+        private void ensureResolved() {
+            final Parser p = parser;
+            if (p != null) {
+                synchronized (p) {
+                    if (parser != null) {
+                        p.resolve(this);
+                        parser = null;
+                    }
+                }
+            }
         }
 
         public SourceSection getSourceSection() {
+            ensureResolved();
             SourceSection section = null;
             if (lexicalScope != null) {
                 section = lexicalScope.getSourceSection(true);
             }
 
             if (section == null) {
-                final String sourceText = String.format("%s:%s", bitcodeSource.getName(), definition.getName());
-                final Source irSource = Source.newBuilder(sourceText).mimeType(LLVMSourceFile.getMimeType(null)).name(sourceText).build();
-                section = irSource.createSection(1);
+                if (irSection == null) {
+                    final String sourceText = String.format("%s:%s", bitcodeSource.getName(), definition.getName());
+                    final Source irSource = Source.newBuilder(sourceText).mimeType(LLVMSourceFile.getMimeType(null)).name(sourceText).build();
+                    irSection = irSource.createSection(1);
+                }
+                section = irSection;
             }
 
             return section;
@@ -118,11 +160,13 @@ public final class SourceModel {
         }
 
         public SourceSection getSourceSection(Instruction instruction) {
+            ensureResolved();
             final LLVMSourceLocation scope = instructions.get(instruction);
             return scope != null ? scope.getSourceSection() : null;
         }
 
         public LLVMSourceLocation getLexicalScope() {
+            ensureResolved();
             return lexicalScope;
         }
     }
@@ -195,12 +239,14 @@ public final class SourceModel {
 
         private final MetadataValueList moduleMetadata;
         private final Source bitcodeSource;
+        private final boolean resolveVariables;
 
         private Function currentFunction = null;
 
-        private Parser(MetadataValueList moduleMetadata, Source bitcodeSource) {
+        private Parser(MetadataValueList moduleMetadata, Source bitcodeSource, boolean resolveVariables) {
             this.moduleMetadata = moduleMetadata;
             this.bitcodeSource = bitcodeSource;
+            this.resolveVariables = resolveVariables;
             this.parsedVariables = new HashMap<>();
             typeIdentifier = new DITypeIdentifier();
             typeIdentifier.setMetadata(moduleMetadata);
@@ -236,17 +282,22 @@ public final class SourceModel {
 
         @Override
         public void visit(FunctionDefinition function) {
-            currentFunction = new Function(bitcodeSource, function);
-            typeIdentifier.setMetadata(function.getMetadata());
+            final Function sourceFunction = new Function(bitcodeSource, function, null);
+            resolve(sourceFunction);
+            function.setSourceFunction(sourceFunction);
+        }
+
+        private void resolve(Function function) {
+            currentFunction = function;
+            typeIdentifier.setMetadata(function.definition.getMetadata());
 
-            final MDBaseNode debugInfo = getDebugInfo(function);
+            final MDBaseNode debugInfo = getDebugInfo(function.definition);
             if (debugInfo != null) {
                 final LLVMSourceLocation scope = scopeExtractor.resolve(debugInfo);
                 currentFunction.setLexicalScope(scope);
             }
 
-            function.accept(this);
-            function.setSourceFunction(currentFunction);
+            function.definition.accept(this);
 
             typeIdentifier.setMetadata(moduleMetadata);
             currentFunction = null;
@@ -296,7 +347,7 @@ public final class SourceModel {
         @Override
         public void visit(VoidCallInstruction call) {
             final Symbol callTarget = call.getCallTarget();
-            if (callTarget instanceof FunctionDeclaration) {
+            if (resolveVariables && callTarget instanceof FunctionDeclaration) {
                 int mdlocalArgumentIndex = -1;
                 switch (((FunctionDeclaration) callTarget).getName()) {
                     case LLVM_DBG_DECLARE_NAME:
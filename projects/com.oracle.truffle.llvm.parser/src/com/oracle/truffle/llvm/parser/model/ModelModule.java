@@ -82,6 +82,13 @@ public final class ModelModule extends IRScope {
         declares.forEach(visitor::visit);
     }
 
+    /**
+     * Returns the functions defined in this module.
+     */
+    public List<FunctionDefinition> getDefinedFunctions() {
+        return Collections.unmodifiableList(defines);
+    }
+
     public void addFunctionDeclaration(FunctionDeclaration declaration) {
         addSymbol(declaration, declaration.getType());
         declares.add(declaration);
@@ -36,8 +36,15 @@ import com.oracle.truffle.llvm.runtime.types.Type;
 
 public final class GlobalVariable extends GlobalValueSymbol {
 
-    private GlobalVariable(Type type, int initialiser, int align, Linkage linkage, Visibility visibility) {
+    private final boolean threadLocal;
+
+    private GlobalVariable(Type type, int initialiser, int align, Linkage linkage, Visibility visibility, boolean threadLocal) {
         super(type, initialiser, align, linkage, visibility);
+        this.threadLocal = threadLocal;
+    }
+
+    public boolean isThreadLocal() {
+        return threadLocal;
     }
 
     @Override
@@ -45,7 +52,7 @@ public final class GlobalVariable extends GlobalValueSymbol {
         visitor.visit(this);
     }
 
-    public static GlobalVariable create(Type type, int initialiser, int align, long linkage, long visibility) {
-        return new GlobalVariable(type, initialiser, align, Linkage.decode(linkage), Visibility.decode(visibility));
+    public static GlobalVariable create(Type type, int initialiser, int align, long linkage, long visibility, boolean threadLocal) {
+        return new GlobalVariable(type, initialiser, align, Linkage.decode(linkage), Visibility.decode(visibility), threadLocal);
     }
 }
@@ -39,6 +39,8 @@ import java.util.Deque;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
 
 import com.oracle.truffle.llvm.parser.elf.ElfDynamicSection;
 import com.oracle.truffle.llvm.parser.elf.ElfFile;
@@ -59,11 +61,16 @@ public final class LLVMScanner {
 
     private static final int MAX_BLOCK_DEPTH = 3;
 
+    // below this number of function bodies, decoding them concurrently does not pay off
+    private static final int PARALLEL_FUNCTION_THRESHOLD = 64;
+
     private final List<List<AbbreviatedRecord>> abbreviationDefinitions = new ArrayList<>();
 
     private final BitStream bitstream;
 
-    private final Map<Block, List<List<AbbreviatedRecord>>> defaultAbbreviations = new HashMap<>();
+    private final Map<Block, List<List<AbbreviatedRecord>>> defaultAbbreviations;
+
+    private final List<FunctionBlock> functionBlocks = new ArrayList<>();
 
     private final Deque<ScannerState> parents = new ArrayDeque<>(MAX_BLOCK_DEPTH);
 
@@ -79,12 +86,64 @@ public final class LLVMScanner {
 
     private LLVMScanner(BitStream bitstream, ParserListener listener) {
         this.bitstream = bitstream;
+        this.defaultAbbreviations = new HashMap<>();
         this.parser = listener;
         this.block = Block.ROOT;
         this.idSize = DEFAULT_ID_SIZE;
         this.offset = 0;
     }
 
+    private LLVMScanner(LLVMScanner moduleScanner, FunctionBlock function) {
+        this.bitstream = moduleScanner.bitstream;
+        this.defaultAbbreviations = moduleScanner.defaultAbbreviations;
+        this.parser = function.parser;
+        this.block = Block.FUNCTION;
+        this.idSize = function.idSize;
+        this.offset = function.offset;
+        this.abbreviationDefinitions.addAll(defaultAbbreviations.getOrDefault(Block.FUNCTION, Collections.emptyList()));
+        // the end of the function block returns to this state and stops the scan
+        this.parents.push(new ScannerState(Collections.emptyList(), Block.MODULE, idSize, ParserListener.DEFAULT));
+    }
+
+    /**
+     * The body of a function, which is only decoded after the rest of the module. Function blocks
+     * only read the module level types, symbols and metadata that precede them, so the bodies of
+     * different functions can be decoded concurrently.
+     */
+    private static final class FunctionBlock {
+
+        private final long offset;
+        private final int idSize;
+        private final ParserListener parser;
+
+        FunctionBlock(long offset, int idSize, ParserListener parser) {
+            this.offset = offset;
+            this.idSize = idSize;
+            this.parser = parser;
+        }
+    }
+
+    private void scanFunction(FunctionBlock function) {
+        final LLVMScanner scanner = new LLVMScanner(this, function);
+        while (!scanner.parents.isEmpty()) {
+            scanner.scanNext();
+        }
+    }
+
+    private void scanFunctionBlocks() {
+        if (functionBlocks.size() < PARALLEL_FUNCTION_THRESHOLD) {
+            functionBlocks.forEach(this::scanFunction);
+        } else {
+            // modules are parsed concurrently as well, so all of them share the common pool
+            final List<ForkJoinTask<?>> tasks = new ArrayList<>(functionBlocks.size());
+            for (FunctionBlock function : functionBlocks) {
+                tasks.add(ForkJoinPool.commonPool().submit(() -> scanFunction(function)));
+            }
+            tasks.forEach(ForkJoinTask::join);
+        }
+        functionBlocks.clear();
+    }
+
     public static ModelModule parse(ByteBuffer bytes) {
         final ModelModule model = new ModelModule();
 
@@ -211,7 +270,9 @@ public final class LLVMScanner {
     }
 
     private void abbreviatedRecord(int recordId) {
-        abbreviationDefinitions.get(recordId - BuiltinIDs.CUSTOM_ABBREV_OFFSET).forEach(AbbreviatedRecord::scan);
+        for (AbbreviatedRecord operandScanner : abbreviationDefinitions.get(recordId - BuiltinIDs.CUSTOM_ABBREV_OFFSET)) {
+            operandScanner.scan(this);
+        }
         passRecordToParser();
     }
 
@@ -235,7 +296,7 @@ public final class LLVMScanner {
             final boolean isLiteral = read(Primitive.USER_OPERAND_LITERALBIT) == 1;
             if (isLiteral) {
                 final long fixedValue = read(Primitive.USER_OPERAND_LITERAL);
-                operandScanners.add(() -> recordBuffer.addOp(fixedValue));
+                operandScanners.add(scanner -> scanner.recordBuffer.addOp(fixedValue));
 
             } else {
 
@@ -244,18 +305,18 @@ public final class LLVMScanner {
                 switch ((int) recordType) {
                     case AbbrevRecordId.FIXED: {
                         final int width = (int) read(Primitive.USER_OPERAND_DATA);
-                        operandScanners.add(() -> {
-                            final long op = read(width);
-                            recordBuffer.addOp(op);
+                        operandScanners.add(scanner -> {
+                            final long op = scanner.read(width);
+                            scanner.recordBuffer.addOp(op);
                         });
                         break;
                     }
 
                     case AbbrevRecordId.VBR: {
                         final int width = (int) read(Primitive.USER_OPERAND_DATA);
-                        operandScanners.add(() -> {
-                            final long op = readVBR(width);
-                            recordBuffer.addOp(op);
+                        operandScanners.add(scanner -> {
+                            final long op = scanner.readVBR(width);
+                            scanner.recordBuffer.addOp(op);
                         });
                         break;
                     }
@@ -268,25 +329,25 @@ public final class LLVMScanner {
                         break;
 
                     case AbbrevRecordId.CHAR6:
-                        operandScanners.add(() -> {
-                            final long op = readChar();
-                            recordBuffer.addOp(op);
+                        operandScanners.add(scanner -> {
+                            final long op = scanner.readChar();
+                            scanner.recordBuffer.addOp(op);
                         });
                         break;
 
                     case AbbrevRecordId.BLOB:
-                        operandScanners.add(() -> {
-                            long blobLength = read(Primitive.USER_OPERAND_BLOB_LENGTH);
-                            alignInt();
+                        operandScanners.add(scanner -> {
+                            long blobLength = scanner.read(Primitive.USER_OPERAND_BLOB_LENGTH);
+                            scanner.alignInt();
                             final long maxBlobPartLength = Long.SIZE / Primitive.USER_OPERAND_LITERAL.getBits();
-                            recordBuffer.ensureFits(blobLength / maxBlobPartLength);
+                            scanner.recordBuffer.ensureFits(blobLength / maxBlobPartLength);
                             while (blobLength > 0) {
                                 final long l = blobLength <= maxBlobPartLength ? blobLength : maxBlobPartLength;
-                                final long blobValue = read((int) (Primitive.USER_OPERAND_LITERAL.getBits() * l));
-                                recordBuffer.addOp(blobValue);
+                                final long blobValue = scanner.read((int) (Primitive.USER_OPERAND_LITERAL.getBits() * l));
+                                scanner.recordBuffer.addOp(blobValue);
                                 blobLength -= l;
                             }
-                            alignInt();
+                            scanner.alignInt();
                         });
                         break;
 
@@ -301,11 +362,11 @@ public final class LLVMScanner {
 
         if (containsArrayOperand) {
             final AbbreviatedRecord elementScanner = operandScanners.get(operandScanners.size() - 1);
-            final AbbreviatedRecord arrayScanner = () -> {
-                final long arrayLength = read(Primitive.USER_OPERAND_ARRAY_LENGTH);
-                recordBuffer.ensureFits(arrayLength);
+            final AbbreviatedRecord arrayScanner = scanner -> {
+                final long arrayLength = scanner.read(Primitive.USER_OPERAND_ARRAY_LENGTH);
+                scanner.recordBuffer.ensureFits(arrayLength);
                 for (int j = 0; j < arrayLength; j++) {
-                    elementScanner.scan();
+                    elementScanner.scan(scanner);
                 }
             };
             operandScanners.set(operandScanners.size() - 1, arrayScanner);
@@ -324,7 +385,14 @@ public final class LLVMScanner {
         if (subBlock == null) {
             offset += numWords * Integer.SIZE;
 
+        } else if (subBlock == Block.FUNCTION && block == Block.MODULE) {
+            // entering the block assigns the next function definition, so this stays in order
+            functionBlocks.add(new FunctionBlock(offset, (int) newIdSize, parser.enter(subBlock)));
+            offset += numWords * Integer.SIZE;
+
         } else {
+            // METADATA blocks are decoded here rather than skipped and indexed: function blocks
+            // continue the numbering of the module metadata and resolve debug locations into it
             final int localAbbreviationDefinitionsOffset = defaultAbbreviations.getOrDefault(block, Collections.emptyList()).size();
             parents.push(new ScannerState(subList(abbreviationDefinitions, localAbbreviationDefinitionsOffset), block, idSize, parser));
             abbreviationDefinitions.clear();
@@ -377,6 +445,9 @@ public final class LLVMScanner {
 
     private void exitBlock() {
         alignInt();
+        if (block == Block.MODULE) {
+            scanFunctionBlocks();
+        }
         parser.exit();
 
         final ScannerState parentState = parents.pop();
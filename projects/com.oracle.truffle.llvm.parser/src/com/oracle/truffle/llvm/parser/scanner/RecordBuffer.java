@@ -35,6 +35,12 @@ final class RecordBuffer {
 
     private static final int INITIAL_BUFFER_SIZE = 256;
 
+    private static final int MAX_VIEW_LENGTH = 128;
+
+    // listeners decode a record before they return and never keep its operands, so records with
+    // the same number of operands can be handed out in the same array
+    private final long[][] views = new long[MAX_VIEW_LENGTH + 1][];
+
     private long[] opBuffer = new long[INITIAL_BUFFER_SIZE];
 
     private int size = 0;
@@ -62,7 +68,17 @@ final class RecordBuffer {
     }
 
     long[] getOps() {
-        return Arrays.copyOfRange(opBuffer, 1, size);
+        final int length = size - 1;
+        if (length > MAX_VIEW_LENGTH) {
+            return Arrays.copyOfRange(opBuffer, 1, size);
+        }
+        long[] view = views[length];
+        if (view == null) {
+            view = new long[length];
+            views[length] = view;
+        }
+        System.arraycopy(opBuffer, 1, view, 0, length);
+        return view;
     }
 
     void invalidate() {
@@ -37,7 +37,6 @@ import java.util.Collections;
 import java.util.Deque;
 import java.util.HashMap;
 import java.util.IdentityHashMap;
-import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
@@ -55,6 +54,11 @@ import com.oracle.truffle.llvm.runtime.debug.LLVMSourceContext;
 import com.oracle.truffle.llvm.runtime.memory.LLVMMemory;
 import com.oracle.truffle.llvm.runtime.memory.LLVMThreadingStack;
 import com.oracle.truffle.llvm.runtime.options.SulongEngineOption;
+import com.oracle.truffle.llvm.runtime.profiling.LLVMAllocationProfiler;
+import com.oracle.truffle.llvm.runtime.profiling.LLVMNativeCallProfiler;
+import com.oracle.truffle.llvm.runtime.pthread.LLVMPThreadContext;
+import com.oracle.truffle.llvm.runtime.pthread.LLVMSignalContext;
+import com.oracle.truffle.llvm.runtime.pthread.LLVMThreadLocalStorage;
 import com.oracle.truffle.llvm.runtime.types.AggregateType;
 import com.oracle.truffle.llvm.runtime.types.DataSpecConverter;
 import com.oracle.truffle.llvm.runtime.types.Type;
@@ -73,13 +77,15 @@ public final class LLVMContext {
     private final Deque<LLVMFunctionDescriptor> atExitFunctions = new ArrayDeque<>();
     private final List<LLVMThread> runningThreads = new ArrayList<>();
     private final LLVMThreadingStack threadingStack;
+    private final LLVMPThreadContext pthreadContext = new LLVMPThreadContext();
     private final Object[] mainArguments;
     private final Map<String, String> environment;
     private Source mainSourceFile;
     private boolean bcLibrariesLoaded;
     private final LinkedList<LLVMAddress> caughtExceptionStack = new LinkedList<>();
     private final LinkedList<DestructorStackElement> destructorStack = new LinkedList<>();
-    private final HashMap<String, Integer> nativeCallStatistics;
+    private final LLVMNativeCallProfiler nativeCallProfiler;
+    private final LLVMAllocationProfiler allocationProfiler;
     private final Object handlesLock;
     private final IdentityHashMap<TruffleObject, LLVMAddress> toNative;
     private final HashMap<LLVMAddress, TruffleObject> toManaged;
@@ -91,8 +97,7 @@ public final class LLVMContext {
 
     private final List<ContextExtension> contextExtension;
 
-    private final ThreadLocal<LLVMAddress> tls = ThreadLocal.withInitial(LLVMAddress::nullPointer);
-    private final ThreadLocal<LLVMAddress> clearChildTid = ThreadLocal.withInitial(LLVMAddress::nullPointer);
+    private final LLVMThreadLocalStorage threadLocalStorage = new LLVMThreadLocalStorage();
 
     // #define SIG_DFL ((__sighandler_t) 0) /* Default action. */
     private final LLVMFunction sigDfl;
@@ -103,6 +108,8 @@ public final class LLVMContext {
     // #define SIG_ERR ((__sighandler_t) -1) /* Error return. */
     private final LLVMFunction sigErr;
 
+    private final LLVMSignalContext signalContext;
+
     public static final class DestructorStackElement {
         private final LLVMFunctionDescriptor destructor;
         private final long thiz;
@@ -121,38 +128,21 @@ public final class LLVMContext {
         }
     }
 
-    private static final class LLVMFunctionPointerRegistry {
-        private int currentFunctionIndex = 0;
-        private final HashMap<LLVMAddress, LLVMFunctionDescriptor> functionDescriptors = new HashMap<>();
-
-        synchronized LLVMFunctionDescriptor getDescriptor(LLVMFunctionHandle handle) {
-            return functionDescriptors.get(LLVMAddress.fromLong(handle.getFunctionPointer()));
-        }
-
-        synchronized void register(LLVMAddress pointer, LLVMFunctionDescriptor desc) {
-            functionDescriptors.put(pointer, desc);
-        }
-
-        synchronized LLVMFunctionDescriptor create(FunctionFactory factory) {
-            LLVMFunctionDescriptor fn = factory.create(currentFunctionIndex++);
-            if (fn.isNullFunction()) {
-                assert !functionDescriptors.containsKey(LLVMAddress.nullPointer());
-                functionDescriptors.put(LLVMAddress.nullPointer(), fn);
-            }
-            return fn;
-        }
-
-    }
-
     public LLVMContext(Env env, List<ContextExtension> contextExtension) {
         this.env = env;
         this.contextExtension = contextExtension;
 
-        this.nativeCallStatistics = SulongEngineOption.isTrue(env.getOptions().get(SulongEngineOption.NATIVE_CALL_STATS)) ? new HashMap<>() : null;
+        this.nativeCallProfiler = SulongEngineOption.isTrue(env.getOptions().get(SulongEngineOption.NATIVE_CALL_STATS))
+                        ? new LLVMNativeCallProfiler(env.getOptions().get(SulongEngineOption.NATIVE_CALL_STATS_SAMPLING))
+                        : null;
+        this.allocationProfiler = SulongEngineOption.isTrue(env.getOptions().get(SulongEngineOption.ALLOCATION_STATS))
+                        ? new LLVMAllocationProfiler(env.getOptions().get(SulongEngineOption.ALLOCATION_STATS_SAMPLING))
+                        : null;
         this.threadingStack = new LLVMThreadingStack(env.getOptions().get(SulongEngineOption.STACK_SIZE_KB));
         this.sigDfl = LLVMFunctionHandle.createHandle(0);
         this.sigIgn = LLVMFunctionHandle.createHandle(1);
         this.sigErr = LLVMFunctionHandle.createHandle(-1);
+        this.signalContext = new LLVMSignalContext(this);
         this.toNative = new IdentityHashMap<>();
         this.toManaged = new HashMap<>();
         this.handlesLock = new Object();
@@ -224,6 +214,10 @@ public final class LLVMContext {
         }
     }
 
+    public int getExternalLibraryCount() {
+        return externalLibraries.size();
+    }
+
     public List<Path> getExternalLibraries(Predicate<Path> fileFilter) {
         return externalLibraries.stream().filter(f -> fileFilter.test(f)).collect(Collectors.toList());
     }
@@ -272,17 +266,12 @@ public final class LLVMContext {
         return globalScope;
     }
 
-    public ThreadLocal<LLVMAddress> getThreadLocalStorage() {
-        return tls;
-    }
-
-    public ThreadLocal<LLVMAddress> getClearChildTid() {
-        return clearChildTid;
+    public LLVMThreadLocalStorage getThreadLocalStorage() {
+        return threadLocalStorage;
     }
 
-    @TruffleBoundary
     public LLVMFunctionDescriptor getFunctionDescriptor(LLVMFunctionHandle handle) {
-        return functionPointerRegistry.getDescriptor(handle);
+        return functionPointerRegistry.getDescriptor(handle.getFunctionPointer());
     }
 
     @TruffleBoundary
@@ -291,8 +280,8 @@ public final class LLVMContext {
     }
 
     @TruffleBoundary
-    public void registerFunctionPointer(LLVMAddress address, LLVMFunctionDescriptor descriptor) {
-        functionPointerRegistry.register(address, descriptor);
+    public void registerFunctionPointer(long pointer, LLVMFunctionDescriptor descriptor) {
+        functionPointerRegistry.register(pointer, descriptor);
     }
 
     public LLVMFunction getSigDfl() {
@@ -307,6 +296,10 @@ public final class LLVMContext {
         return sigErr;
     }
 
+    public LLVMSignalContext getSignalContext() {
+        return signalContext;
+    }
+
     @TruffleBoundary
     public TruffleObject getManagedObjectForHandle(LLVMAddress address) {
         synchronized (handlesLock) {
@@ -347,29 +340,29 @@ public final class LLVMContext {
         }
     }
 
-    @TruffleBoundary
-    public void registerNativeCall(LLVMFunctionDescriptor descriptor) {
-        if (nativeCallStatistics != null) {
-            String name = descriptor.getName() + " " + descriptor.getType();
-            if (nativeCallStatistics.containsKey(name)) {
-                int count = nativeCallStatistics.get(name) + 1;
-                nativeCallStatistics.put(name, count);
-            } else {
-                nativeCallStatistics.put(name, 1);
-            }
-        }
+    /**
+     * @return the native call profiler, or {@code null} if native call statistics are disabled
+     */
+    public LLVMNativeCallProfiler getNativeCallProfiler() {
+        return nativeCallProfiler;
     }
 
     public void printNativeCallStatistic() {
-        if (nativeCallStatistics != null) {
-            LinkedHashMap<String, Integer> sorted = nativeCallStatistics.entrySet().stream().sorted(Map.Entry.comparingByValue()).collect(Collectors.toMap(
-                            Map.Entry::getKey,
-                            Map.Entry::getValue,
-                            (e1, e2) -> e1,
-                            LinkedHashMap::new));
-            for (String s : sorted.keySet()) {
-                System.err.println(String.format("Function %s \t count: %d", s, sorted.get(s)));
-            }
+        if (nativeCallProfiler != null) {
+            nativeCallProfiler.print(SulongEngineOption.getStream(env.getOptions().get(SulongEngineOption.NATIVE_CALL_STATS)));
+        }
+    }
+
+    /**
+     * @return the heap allocation profiler, or {@code null} if allocation statistics are disabled
+     */
+    public LLVMAllocationProfiler getAllocationProfiler() {
+        return allocationProfiler;
+    }
+
+    public void printAllocationStatistic() {
+        if (allocationProfiler != null) {
+            allocationProfiler.print(SulongEngineOption.getStream(env.getOptions().get(SulongEngineOption.ALLOCATION_STATS)));
         }
     }
 
@@ -385,6 +378,10 @@ public final class LLVMContext {
         return threadingStack;
     }
 
+    public LLVMPThreadContext getPThreadContext() {
+        return pthreadContext;
+    }
+
     public Object[] getMainArguments() {
         return mainArguments;
     }
@@ -433,20 +430,32 @@ public final class LLVMContext {
 
     @TruffleBoundary
     public synchronized void shutdownThreads() {
+        pthreadContext.terminate();
         // we need to iterate over a copy of the list, because stop() can modify the original list
         for (LLVMThread node : new ArrayList<>(runningThreads)) {
             node.stop();
         }
+        signalContext.resetHandlers();
     }
 
+    /**
+     * Joins the running threads. The monitor is not held while joining, because the threads need it
+     * to register and unregister themselves.
+     */
     @TruffleBoundary
-    public synchronized void awaitThreadTermination() {
+    public void awaitThreadTermination() {
         shutdownThreads();
 
-        while (!runningThreads.isEmpty()) {
-            LLVMThread node = runningThreads.get(0);
+        while (true) {
+            LLVMThread node;
+            synchronized (this) {
+                if (runningThreads.isEmpty()) {
+                    break;
+                }
+                node = runningThreads.get(0);
+            }
             node.awaitFinish();
-            assert !runningThreads.contains(node); // should be unregistered by LLVMThreadNode
+            assert !getRunningThreads().contains(node); // should be unregistered by LLVMThreadNode
         }
     }
 
@@ -161,7 +161,7 @@ public final class LLVMFunctionDescriptor implements LLVMFunction, TruffleObject
                 wrapper = new LLVMTruffleAddress(pointer, descriptor.getType(), descriptor.context);
             }
 
-            descriptor.context.registerFunctionPointer(pointer, descriptor);
+            descriptor.context.registerFunctionPointer(pointer.getVal(), descriptor);
             return wrapper;
         }
     }
@@ -0,0 +1,181 @@
+/*
+ * Copyright (c) 2017, Oracle and/or its affiliates.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of
+ * conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of
+ * conditions and the following disclaimer in the documentation and/or other materials provided
+ * with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to
+ * endorse or promote products derived from this software without specific prior written
+ * permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS
+ * OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE
+ * COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE
+ * GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED
+ * OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.oracle.truffle.llvm.runtime;
+
+import com.oracle.truffle.api.CompilerDirectives;
+import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
+import com.oracle.truffle.llvm.runtime.LLVMContext.FunctionFactory;
+
+/**
+ * Maps function pointers to their {@link LLVMFunctionDescriptor}. Sulong-tagged pointers encode
+ * the function id and are resolved by indexing an array. All other pointers, e.g., NFI closures,
+ * are kept in an open-addressing hash table with primitive {@code long} keys. Lookups do not take a
+ * lock: writers modify the tables under the registry lock and publish them through volatile
+ * fields, which readers read first. A lookup that races with the registration of the same pointer
+ * may miss, but a pointer is only handed out after its registration has completed.
+ */
+final class LLVMFunctionPointerRegistry {
+
+    private static final int INITIAL_CAPACITY = 64;
+    private static final long EMPTY = 0;
+    private static final long HASH_MULTIPLIER = 0x9E3779B97F4A7C15L;
+
+    private volatile LLVMFunctionDescriptor[] descriptorsById = new LLVMFunctionDescriptor[INITIAL_CAPACITY];
+    private volatile PointerTable pointerTable = new PointerTable(INITIAL_CAPACITY);
+
+    private volatile LLVMFunctionDescriptor nullFunction;
+    private int currentFunctionIndex = 0;
+
+    private static final class PointerTable {
+        private final long[] keys;
+        private final LLVMFunctionDescriptor[] values;
+        private int size;
+
+        PointerTable(int capacity) {
+            assert Integer.bitCount(capacity) == 1;
+            this.keys = new long[capacity];
+            this.values = new LLVMFunctionDescriptor[capacity];
+        }
+
+        private int mask() {
+            return keys.length - 1;
+        }
+
+        LLVMFunctionDescriptor get(long pointer) {
+            int mask = mask();
+            for (int i = hash(pointer) & mask;; i = (i + 1) & mask) {
+                long key = keys[i];
+                if (key == pointer) {
+                    return values[i];
+                } else if (key == EMPTY) {
+                    return null;
+                }
+            }
+        }
+
+        /**
+         * @return {@code false} if the table is too full to take another entry
+         */
+        boolean put(long pointer, LLVMFunctionDescriptor descriptor) {
+            int mask = mask();
+            for (int i = hash(pointer) & mask;; i = (i + 1) & mask) {
+                long key = keys[i];
+                if (key == pointer) {
+                    values[i] = descriptor;
+                    return true;
+                } else if (key == EMPTY) {
+                    if ((size + 1) * 2 > keys.length) {
+                        return false;
+                    }
+                    values[i] = descriptor;
+                    keys[i] = pointer;
+                    size++;
+                    return true;
+                }
+            }
+        }
+
+        PointerTable grow() {
+            PointerTable table = new PointerTable(keys.length * 2);
+            for (int i = 0; i < keys.length; i++) {
+                if (keys[i] != EMPTY) {
+                    boolean added = table.put(keys[i], values[i]);
+                    assert added;
+                }
+            }
+            return table;
+        }
+
+        private static int hash(long pointer) {
+            long h = pointer * HASH_MULTIPLIER;
+            return (int) (h ^ (h >>> Integer.SIZE));
+        }
+    }
+
+    LLVMFunctionDescriptor getDescriptor(long pointer) {
+        if (pointer == 0) {
+            return nullFunction;
+        }
+        if (LLVMFunction.isTaggedSulongFunctionPointer(pointer)) {
+            long id = pointer & ~LLVMFunction.UPPER_MASK;
+            LLVMFunctionDescriptor[] descriptors = descriptorsById;
+            if (id < descriptors.length && descriptors[(int) id] != null) {
+                return descriptors[(int) id];
+            }
+            CompilerDirectives.transferToInterpreter();
+            throw invalidFunctionPointer(pointer);
+        }
+        return getNativeDescriptor(pointer);
+    }
+
+    @TruffleBoundary
+    private static IllegalStateException invalidFunctionPointer(long pointer) {
+        return new IllegalStateException(String.format("Invalid function pointer: 0x%x", pointer));
+    }
+
+    @TruffleBoundary
+    private LLVMFunctionDescriptor getNativeDescriptor(long pointer) {
+        return pointerTable.get(pointer);
+    }
+
+    synchronized void register(long pointer, LLVMFunctionDescriptor descriptor) {
+        if (pointer == 0) {
+            nullFunction = descriptor;
+        } else if (!LLVMFunction.isTaggedSulongFunctionPointer(pointer)) {
+            PointerTable table = pointerTable;
+            while (!table.put(pointer, descriptor)) {
+                table = table.grow();
+            }
+            // the volatile write publishes the new entry
+            pointerTable = table;
+        } else {
+            assert getDescriptor(pointer) == descriptor;
+        }
+    }
+
+    synchronized LLVMFunctionDescriptor create(FunctionFactory factory) {
+        int id = currentFunctionIndex++;
+        LLVMFunctionDescriptor fn = factory.create(id);
+        LLVMFunctionDescriptor[] descriptors = descriptorsById;
+        if (id >= descriptors.length) {
+            LLVMFunctionDescriptor[] newDescriptors = new LLVMFunctionDescriptor[descriptors.length * 2];
+            System.arraycopy(descriptors, 0, newDescriptors, 0, descriptors.length);
+            descriptors = newDescriptors;
+        }
+        descriptors[id] = fn;
+        // the volatile write publishes the new entry
+        descriptorsById = descriptors;
+        if (fn.isNullFunction()) {
+            assert nullFunction == null;
+            nullFunction = fn;
+        }
+        return fn;
+    }
+}
@@ -46,9 +46,30 @@ public final class LLVMIVarBit {
 
     private final byte[] arr; // represents value as big-endian two's-complement
 
+    /*
+     * 128 bit integers are common enough (__int128, 64x64->128 bit multiplications) to be worth a
+     * fast path: they are held as two longs and their operations are computed on those instead of
+     * going through BigInteger. Their byte array is rebuilt on every request instead of being
+     * cached, which keeps the value immutable and safe to share between threads.
+     */
+    public static final int I128_BITS = 128;
+    private static final int I128_BYTES = I128_BITS / Byte.SIZE;
+
+    private final long high;
+    private final long low;
+
     private LLVMIVarBit() {
         this.bits = 0;
         this.arr = null;
+        this.high = 0;
+        this.low = 0;
+    }
+
+    private LLVMIVarBit(long high, long low) {
+        this.bits = I128_BITS;
+        this.arr = null;
+        this.high = high;
+        this.low = low;
     }
 
     private LLVMIVarBit(int bits, byte[] arr, int arrBits, boolean signExtend) {
@@ -90,12 +111,18 @@ public final class LLVMIVarBit {
         }
 
         assert this.arr.length == getByteSize();
+        this.high = is128Bit() ? readLong(0) : 0;
+        this.low = is128Bit() ? readLong(Long.BYTES) : 0;
     }
 
     public static LLVMIVarBit create(int bitWidth, byte[] loadedBytes, int loadedArrBits, boolean signExtend) {
         return new LLVMIVarBit(bitWidth, loadedBytes, loadedArrBits, signExtend);
     }
 
+    public static LLVMIVarBit createI128(long high, long low) {
+        return new LLVMIVarBit(high, low);
+    }
+
     public static LLVMIVarBit createNull() {
         return new LLVMIVarBit();
     }
@@ -113,6 +140,9 @@ public final class LLVMIVarBit {
     }
 
     public static LLVMIVarBit createZeroExt(int bits, long from) {
+        if (bits == I128_BITS) {
+            return new LLVMIVarBit(0, from);
+        }
         return create(bits, ByteBuffer.allocate(Long.BYTES).putLong(from).array(), Long.SIZE, false);
     }
 
@@ -133,9 +163,62 @@ public final class LLVMIVarBit {
     }
 
     public static LLVMIVarBit fromLong(int bits, long from) {
+        if (bits == I128_BITS) {
+            return new LLVMIVarBit(from >> (Long.SIZE - 1), from);
+        }
         return create(bits, ByteBuffer.allocate(Long.BYTES).putLong(from).array(), Long.SIZE, true);
     }
 
+    private boolean is128Bit() {
+        return bits == I128_BITS;
+    }
+
+    private boolean is128Bit(LLVMIVarBit other) {
+        return bits == I128_BITS && other.bits == I128_BITS;
+    }
+
+    private long readLong(int offset) {
+        long result = 0;
+        for (int i = 0; i < Long.BYTES; i++) {
+            result = (result << Byte.SIZE) | (arr[offset + i] & 0xFF);
+        }
+        return result;
+    }
+
+    public boolean isI128() {
+        return is128Bit();
+    }
+
+    /**
+     * Returns the upper 64 bits of an i128 value.
+     */
+    public long getHigh() {
+        assert is128Bit();
+        return high;
+    }
+
+    /**
+     * Returns the lower 64 bits of an i128 value.
+     */
+    public long getLow() {
+        assert is128Bit();
+        return low;
+    }
+
+    /**
+     * Returns the upper 64 bits of the unsigned 128 bit product of two longs.
+     */
+    public static long multiplyHighUnsigned(long x, long y) {
+        final long x0 = x & 0xFFFFFFFFL;
+        final long x1 = x >>> Integer.SIZE;
+        final long y0 = y & 0xFFFFFFFFL;
+        final long y1 = y >>> Integer.SIZE;
+        final long w0 = x0 * y0;
+        final long t = x1 * y0 + (w0 >>> Integer.SIZE);
+        final long w1 = x0 * y1 + (t & 0xFFFFFFFFL);
+        return x1 * y1 + (t >>> Integer.SIZE) + (w1 >>> Integer.SIZE);
+    }
+
     private int getByteSize() {
         int nrFullBytes = bits / Byte.SIZE;
         if (bits % Byte.SIZE != 0) {
@@ -155,18 +238,20 @@ public final class LLVMIVarBit {
 
     @TruffleBoundary
     public BigInteger asUnsignedBigInteger() {
-        if (arr == null || arr.length == 0) {
+        final byte[] bytes = array();
+        if (bytes == null || bytes.length == 0) {
             return BigInteger.ZERO;
         }
-        byte[] newArr = new byte[arr.length + 1];
-        System.arraycopy(arr, 0, newArr, 1, arr.length);
+        byte[] newArr = new byte[bytes.length + 1];
+        System.arraycopy(bytes, 0, newArr, 1, bytes.length);
         return new BigInteger(newArr);
     }
 
     @TruffleBoundary
     public BigInteger asBigInteger() {
-        if (arr != null && arr.length != 0) {
-            return new BigInteger(arr);
+        final byte[] bytes = array();
+        if (bytes != null && bytes.length != 0) {
+            return new BigInteger(bytes);
         } else {
             return BigInteger.ZERO;
         }
@@ -191,7 +276,7 @@ public final class LLVMIVarBit {
             }
         }
         if (bits % Byte.SIZE == 0) {
-            bb.put(arr, 0, getByteSize());
+            bb.put(array(), 0, getByteSize());
         } else {
             BitSet bitSet = new BitSet(Byte.SIZE);
             int bitsToSet = bits % Byte.SIZE;
@@ -229,49 +314,74 @@ public final class LLVMIVarBit {
     }
 
     private boolean getBit(int pos) {
-        int selectedBytePos = arr.length - 1 - (pos / Byte.SIZE);
-        byte selectedByte = arr[selectedBytePos];
+        final byte[] bytes = array();
+        int selectedBytePos = bytes.length - 1 - (pos / Byte.SIZE);
+        byte selectedByte = bytes[selectedBytePos];
         int selectedBitPos = pos % Byte.SIZE;
         return ((selectedByte >> selectedBitPos) & 1) == 1;
     }
 
     @TruffleBoundary
     public byte getByteValue() {
+        if (is128Bit()) {
+            return (byte) getLow();
+        }
         return getByteBuffer(Byte.BYTES, true).get();
     }
 
     @TruffleBoundary
     public byte getZeroExtendedByteValue() {
+        if (is128Bit()) {
+            return (byte) getLow();
+        }
         return getByteBuffer(Byte.BYTES, false).get();
     }
 
     @TruffleBoundary
     public short getShortValue() {
+        if (is128Bit()) {
+            return (short) getLow();
+        }
         return getByteBuffer(Short.BYTES, true).getShort();
     }
 
     @TruffleBoundary
     public short getZeroExtendedShortValue() {
+        if (is128Bit()) {
+            return (short) getLow();
+        }
         return getByteBuffer(Short.BYTES, false).getShort();
     }
 
     @TruffleBoundary
     public int getIntValue() {
+        if (is128Bit()) {
+            return (int) getLow();
+        }
         return getByteBuffer(Integer.BYTES, true).getInt();
     }
 
     @TruffleBoundary
     public int getZeroExtendedIntValue() {
+        if (is128Bit()) {
+            return (int) getLow();
+        }
         return getByteBuffer(Integer.BYTES, false).getInt();
     }
 
     @TruffleBoundary
     public long getLongValue() {
+        if (is128Bit()) {
+            return getLow();
+        }
         return getByteBuffer(Long.BYTES, true).getLong();
     }
 
     @TruffleBoundary
     public long getZeroExtendedLongValue() {
+        if (is128Bit()) {
+            return getLow();
+        }
         return getByteBuffer(Long.BYTES, false).getLong();
     }
 
@@ -280,27 +390,67 @@ public final class LLVMIVarBit {
     }
 
     public byte[] getBytes() {
-        assert arr.length == getByteSize() : arr.length + " " + getByteSize();
+        final byte[] bytes = array();
+        assert bytes.length == getByteSize() : bytes.length + " " + getByteSize();
+        return bytes;
+    }
+
+    private byte[] array() {
+        if (arr == null && is128Bit()) {
+            final byte[] bytes = new byte[I128_BYTES];
+            for (int i = 0; i < Long.BYTES; i++) {
+                bytes[i] = (byte) (high >>> (Long.SIZE - Byte.SIZE * (i + 1)));
+                bytes[Long.BYTES + i] = (byte) (low >>> (Long.SIZE - Byte.SIZE * (i + 1)));
+            }
+            return bytes;
+        }
         return arr;
     }
 
     @TruffleBoundary
     public byte[] getSignExtendedBytes() {
-        return getByteBuffer(arr.length, true).array();
+        return getByteBuffer(array().length, true).array();
     }
 
-    @TruffleBoundary
     public LLVMIVarBit add(LLVMIVarBit right) {
-        return asIVar(asBigInteger().add(asBigInteger(right)));
+        if (is128Bit(right)) {
+            final long low = getLow() + right.getLow();
+            final long carry = Long.compareUnsigned(low, getLow()) < 0 ? 1 : 0;
+            return new LLVMIVarBit(getHigh() + right.getHigh() + carry, low);
+        }
+        return addBigInteger(right);
     }
 
     @TruffleBoundary
+    private LLVMIVarBit addBigInteger(LLVMIVarBit right) {
+        return asIVar(asBigInteger().add(asBigInteger(right)));
+    }
+
     public LLVMIVarBit mul(LLVMIVarBit right) {
-        return asIVar(asBigInteger().multiply(asBigInteger(right)));
+        if (is128Bit(right)) {
+            final long leftLow = getLow();
+            final long rightLow = right.getLow();
+            final long high = multiplyHighUnsigned(leftLow, rightLow) + leftLow * right.getHigh() + getHigh() * rightLow;
+            return new LLVMIVarBit(high, leftLow * rightLow);
+        }
+        return mulBigInteger(right);
     }
 
     @TruffleBoundary
+    private LLVMIVarBit mulBigInteger(LLVMIVarBit right) {
+        return asIVar(asBigInteger().multiply(asBigInteger(right)));
+    }
+
     public LLVMIVarBit sub(LLVMIVarBit right) {
+        if (is128Bit(right)) {
+            final long borrow = Long.compareUnsigned(getLow(), right.getLow()) < 0 ? 1 : 0;
+            return new LLVMIVarBit(getHigh() - right.getHigh() - borrow, getLow() - right.getLow());
+        }
+        return subBigInteger(right);
+    }
+
+    @TruffleBoundary
+    private LLVMIVarBit subBigInteger(LLVMIVarBit right) {
         return asIVar(asBigInteger().subtract(asBigInteger(right)));
     }
 
@@ -325,6 +475,9 @@ public final class LLVMIVarBit {
     }
 
     public int compare(LLVMIVarBit other) {
+        if (is128Bit(other)) {
+            return signedCompare(other);
+        }
         int thisWidth = bits;
         int otherWidth = other.bits;
         if (thisWidth != otherWidth) {
@@ -347,34 +500,60 @@ public final class LLVMIVarBit {
         byte op(byte a, byte b);
     }
 
+    @TruffleBoundary
     private LLVMIVarBit performOp(LLVMIVarBit right, SimpleOp op) {
         assert bits == right.bits;
         byte[] newArr = new byte[getByteSize()];
+        byte[] bytes = getBytes();
         byte[] other = right.getBytes();
-        assert arr.length == other.length : Arrays.toString(arr) + " " + Arrays.toString(other);
+        assert bytes.length == other.length : Arrays.toString(bytes) + " " + Arrays.toString(other);
         for (int i = 0; i < newArr.length; i++) {
-            newArr[i] = op.op(arr[i], other[i]);
+            newArr[i] = op.op(bytes[i], other[i]);
         }
         return new LLVMIVarBit(bits, newArr, bits, false);
     }
 
-    @TruffleBoundary
     public LLVMIVarBit and(LLVMIVarBit right) {
+        if (is128Bit(right)) {
+            return new LLVMIVarBit(getHigh() & right.getHigh(), getLow() & right.getLow());
+        }
         return performOp(right, (byte a, byte b) -> (byte) (a & b));
     }
 
-    @TruffleBoundary
     public LLVMIVarBit or(LLVMIVarBit right) {
+        if (is128Bit(right)) {
+            return new LLVMIVarBit(getHigh() | right.getHigh(), getLow() | right.getLow());
+        }
         return performOp(right, (byte a, byte b) -> (byte) (a | b));
     }
 
-    @TruffleBoundary
     public LLVMIVarBit xor(LLVMIVarBit right) {
+        if (is128Bit(right)) {
+            return new LLVMIVarBit(getHigh() ^ right.getHigh(), getLow() ^ right.getLow());
+        }
         return performOp(right, (byte a, byte b) -> (byte) (a ^ b));
     }
 
-    @TruffleBoundary
     public LLVMIVarBit leftShift(LLVMIVarBit right) {
+        if (is128Bit()) {
+            final int shift = right.getIntValue();
+            final long high = getHigh();
+            final long low = getLow();
+            if (shift == 0) {
+                return this;
+            } else if (shift < Long.SIZE) {
+                return new LLVMIVarBit((high << shift) | (low >>> (Long.SIZE - shift)), low << shift);
+            } else if (shift < I128_BITS) {
+                return new LLVMIVarBit(low << (shift - Long.SIZE), 0);
+            } else {
+                return new LLVMIVarBit(0, 0);
+            }
+        }
+        return leftShiftBigInteger(right);
+    }
+
+    @TruffleBoundary
+    private LLVMIVarBit leftShiftBigInteger(LLVMIVarBit right) {
         BigInteger result = asBigInteger().shiftLeft(right.getIntValue());
         return asIVar(bits, result);
     }
@@ -407,33 +586,96 @@ public final class LLVMIVarBit {
         return new LLVMIVarBit(bitSize, newArr, resultLengthIncludingSign, result.signum() == -1);
     }
 
-    @TruffleBoundary
     public LLVMIVarBit logicalRightShift(LLVMIVarBit right) {
+        if (is128Bit()) {
+            final int shift = right.getIntValue();
+            final long high = getHigh();
+            final long low = getLow();
+            if (shift == 0) {
+                return this;
+            } else if (shift < Long.SIZE) {
+                return new LLVMIVarBit(high >>> shift, (low >>> shift) | (high << (Long.SIZE - shift)));
+            } else if (shift < I128_BITS) {
+                return new LLVMIVarBit(0, high >>> (shift - Long.SIZE));
+            } else {
+                return new LLVMIVarBit(0, 0);
+            }
+        }
+        return logicalRightShiftBigInteger(right);
+    }
+
+    @TruffleBoundary
+    private LLVMIVarBit logicalRightShiftBigInteger(LLVMIVarBit right) {
         int shiftAmount = right.getIntValue();
         BigInteger mask = BigInteger.valueOf(-1).shiftLeft(bits - shiftAmount).not();
-        BigInteger result = new BigInteger(arr).shiftRight(shiftAmount).and(mask);
+        BigInteger result = new BigInteger(array()).shiftRight(shiftAmount).and(mask);
         return asIVar(result);
     }
 
-    @TruffleBoundary
     public LLVMIVarBit arithmeticRightShift(LLVMIVarBit right) {
+        if (is128Bit()) {
+            final int shift = right.getIntValue();
+            final long high = getHigh();
+            final long low = getLow();
+            if (shift == 0) {
+                return this;
+            } else if (shift < Long.SIZE) {
+                return new LLVMIVarBit(high >> shift, (low >>> shift) | (high << (Long.SIZE - shift)));
+            } else if (shift < I128_BITS) {
+                return new LLVMIVarBit(high >> (Long.SIZE - 1), high >> (shift - Long.SIZE));
+            } else {
+                final long sign = high >> (Long.SIZE - 1);
+                return new LLVMIVarBit(sign, sign);
+            }
+        }
+        return arithmeticRightShiftBigInteger(right);
+    }
+
+    @TruffleBoundary
+    private LLVMIVarBit arithmeticRightShiftBigInteger(LLVMIVarBit right) {
         BigInteger result = asBigInteger().shiftRight(right.getIntValue());
         return asIVar(result);
     }
 
-    @TruffleBoundary
     public int signedCompare(LLVMIVarBit other) {
-        return asBigInteger().compareTo(other.asBigInteger());
+        if (is128Bit(other)) {
+            final int highCompare = Long.compare(getHigh(), other.getHigh());
+            return highCompare != 0 ? highCompare : Long.compareUnsigned(getLow(), other.getLow());
+        }
+        return signedCompareBigInteger(other);
     }
 
     @TruffleBoundary
+    private int signedCompareBigInteger(LLVMIVarBit other) {
+        return asBigInteger().compareTo(other.asBigInteger());
+    }
+
     public int unsignedCompare(LLVMIVarBit other) {
-        return asUnsignedBigInteger().compareTo(other.asUnsignedBigInteger());
+        if (is128Bit(other)) {
+            final int highCompare = Long.compareUnsigned(getHigh(), other.getHigh());
+            return highCompare != 0 ? highCompare : Long.compareUnsigned(getLow(), other.getLow());
+        }
+        return unsignedCompareBigInteger(other);
     }
 
     @TruffleBoundary
+    private int unsignedCompareBigInteger(LLVMIVarBit other) {
+        return asUnsignedBigInteger().compareTo(other.asUnsignedBigInteger());
+    }
+
     public boolean isZero() {
-        return arr == null || arr.length == 0 || BigInteger.ZERO.equals(asBigInteger());
+        if (is128Bit()) {
+            return (high | low) == 0;
+        }
+        if (arr == null) {
+            return true;
+        }
+        for (int i = 0; i < arr.length; i++) {
+            if (arr[i] != 0) {
+                return false;
+            }
+        }
+        return true;
     }
 
     @Override
@@ -446,7 +688,7 @@ public final class LLVMIVarBit {
     public int hashCode() {
         final int prime = 31;
         int result = 1;
-        result = prime * result + Arrays.hashCode(arr);
+        result = prime * result + (is128Bit() ? Long.hashCode(high) * prime + Long.hashCode(low) : Arrays.hashCode(arr));
         result = prime * result + bits;
         return result;
     }
@@ -29,9 +29,8 @@
  */
 package com.oracle.truffle.llvm.runtime;
 
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
@@ -48,17 +47,24 @@ import com.oracle.truffle.llvm.runtime.types.FunctionType;
 import com.oracle.truffle.llvm.runtime.types.MetaType;
 import com.oracle.truffle.llvm.runtime.types.Type;
 
+/**
+ * A scope of functions and global variables. All lookups are lock-free; only the creation of new
+ * symbols is serialized per map. Each file scope has the global scope as its parent. A symbol that
+ * a file scope finds in its parent is copied into the file scope, so that later lookups of the same
+ * name consult a single map. Such inherited entries are replaced if the file later defines a
+ * file-local symbol of the same name.
+ */
 public final class LLVMScope implements TruffleObject {
 
-    private final HashMap<String, LLVMFunctionDescriptor> functions;
+    private final ConcurrentHashMap<String, LLVMFunctionDescriptor> functions;
+    private final ConcurrentHashMap<String, Object> globals;
     private final LLVMScope parent;
-    private final LLVMGlobalVariableRegistry globalVariableRegistry;
 
-    public static synchronized LLVMScope createFileScope(LLVMContext context) {
+    public static LLVMScope createFileScope(LLVMContext context) {
         return new LLVMScope(context.getGlobalScope());
     }
 
-    public static synchronized LLVMScope createGlobalScope(LLVMContext context) {
+    public static LLVMScope createGlobalScope(LLVMContext context) {
         LLVMScope scope = new LLVMScope(null);
         LLVMFunctionDescriptor zeroFunction = scope.lookupOrCreateFunction(context, "<zero function>", true,
                         idx -> LLVMFunctionDescriptor.createDescriptor(context, "<zero function>", new FunctionType(MetaType.UNKNOWN, new Type[0], false), idx));
@@ -68,101 +74,97 @@ public final class LLVMScope implements TruffleObject {
     }
 
     private LLVMScope(LLVMScope parent) {
-        this.functions = new HashMap<>();
+        assert parent == null || parent.parent == null : "only file scopes and the global scope are supported";
+        this.functions = new ConcurrentHashMap<>();
+        this.globals = new ConcurrentHashMap<>();
         this.parent = parent;
-        this.globalVariableRegistry = new LLVMGlobalVariableRegistry();
     }
 
+    /**
+     * @return the function with the given name, or {@code null} if neither this scope nor its
+     *         parent contains it
+     */
     @TruffleBoundary
-    public synchronized LLVMFunctionDescriptor getFunctionDescriptor(String name) {
+    public LLVMFunctionDescriptor findFunctionDescriptor(String name) {
         LLVMFunctionDescriptor functionDescriptor = functions.get(name);
+        if (functionDescriptor == null && parent != null) {
+            functionDescriptor = parent.functions.get(name);
+            if (functionDescriptor != null) {
+                functions.putIfAbsent(name, functionDescriptor);
+            }
+        }
+        return functionDescriptor;
+    }
+
+    @TruffleBoundary
+    public LLVMFunctionDescriptor getFunctionDescriptor(String name) {
+        LLVMFunctionDescriptor functionDescriptor = findFunctionDescriptor(name);
         if (functionDescriptor != null) {
             return functionDescriptor;
-        } else if (functionDescriptor == null && parent != null) {
-            return parent.getFunctionDescriptor(name);
         }
         throw new IllegalStateException("Unknown function: " + name);
     }
 
     @TruffleBoundary
-    public synchronized boolean functionExists(String name) {
-        return functions.containsKey(name) || (parent != null && parent.functionExists(name));
+    public boolean functionExists(String name) {
+        return findFunctionDescriptor(name) != null;
     }
 
     @TruffleBoundary
-    public synchronized boolean globalExists(String name) {
-        return globalVariableRegistry.exists(name) || (parent != null && parent.globalExists(name));
+    public boolean globalExists(String name) {
+        return findGlobalVariable(name) != null;
     }
 
     @TruffleBoundary
-    public synchronized Object getGlobalVariable(String name) {
-        if (globalVariableRegistry.exists(name)) {
-            return globalVariableRegistry.lookup(name);
-        } else if (parent != null) {
-            return parent.getGlobalVariable(name);
-        } else {
-            throw new IllegalStateException("Unknown global: " + name);
+    public Object getGlobalVariable(String name) {
+        Object global = findGlobalVariable(name);
+        if (global != null) {
+            return global;
         }
+        throw new IllegalStateException("Unknown global: " + name);
+    }
+
+    private Object findGlobalVariable(String name) {
+        Object global = globals.get(name);
+        if (global == null && parent != null) {
+            global = parent.globals.get(name);
+            if (global != null) {
+                globals.putIfAbsent(name, global);
+            }
+        }
+        return global;
     }
 
     @TruffleBoundary
-    public synchronized Object lookupOrCreateGlobal(String name, boolean global, Supplier<Object> generator) {
+    public Object lookupOrCreateGlobal(String name, boolean global, Supplier<Object> generator) {
         if (global && parent != null) {
             // insert non-file-internal (global) variables in the top level (global) scope
-            assert !globalVariableRegistry.exists(name) : "Global is already defined in file-local scope";
+            assert globals.get(name) == null || globals.get(name) == parent.globals.get(name) : "Global is already defined in file-local scope";
             return parent.lookupOrCreateGlobal(name, global, generator);
         }
         assert global || parent != null;
-        return globalVariableRegistry.lookupOrCreate(name, generator);
+        Object variable = globals.get(name);
+        if (variable != null && (parent == null || variable != parent.globals.get(name))) {
+            return variable;
+        }
+        // replace an entry that was copied from the global scope
+        return globals.compute(name, (n, existing) -> existing != null && (parent == null || existing != parent.globals.get(n)) ? existing : generator.get());
     }
 
     @TruffleBoundary
-    public synchronized LLVMFunctionDescriptor lookupOrCreateFunction(LLVMContext context, String name, boolean global, FunctionFactory generator) {
+    public LLVMFunctionDescriptor lookupOrCreateFunction(LLVMContext context, String name, boolean global, FunctionFactory generator) {
         if (global && parent != null) {
             // insert non-file-internal (global) function in the top level (global) scope
-            assert !functions.containsKey(name) : "Function is already defined in file-local scope";
+            assert functions.get(name) == null || functions.get(name) == parent.functions.get(name) : "Function is already defined in file-local scope";
             return parent.lookupOrCreateFunction(context, name, global, generator);
         }
         assert global || parent != null;
-        if (functions.containsKey(name)) {
-            return functions.get(name);
-        } else {
-            LLVMFunctionDescriptor functionDescriptor = context.createFunctionDescriptor(generator);
-            functions.put(name, functionDescriptor);
+        LLVMFunctionDescriptor functionDescriptor = functions.get(name);
+        if (functionDescriptor != null && (parent == null || functionDescriptor != parent.functions.get(name))) {
             return functionDescriptor;
         }
-    }
-
-    private static final class LLVMGlobalVariableRegistry {
-        private final Map<String, Object> globals = new HashMap<>();
-
-        synchronized boolean exists(String name) {
-            return globals.containsKey(name);
-        }
-
-        synchronized void add(String name, Object global) {
-            if (exists(name)) {
-                throw new IllegalStateException("Global " + name + " already added.");
-            }
-            globals.put(name, global);
-        }
-
-        synchronized Object lookup(String name) {
-            if (exists(name)) {
-                return globals.get(name);
-            }
-            throw new IllegalStateException("Global " + name + " does not exist.");
-        }
-
-        synchronized Object lookupOrCreate(String name, Supplier<Object> generator) {
-            if (exists(name)) {
-                return lookup(name);
-            } else {
-                Object variable = generator.get();
-                add(name, variable);
-                return variable;
-            }
-        }
+        // replace an entry that was copied from the global scope
+        return functions.compute(name, (n, existing) -> existing != null && (parent == null || existing != parent.functions.get(n)) ? existing : context.createFunctionDescriptor(generator));
     }
 
     @Override
@@ -200,14 +202,17 @@ public final class LLVMScope implements TruffleObject {
         public abstract static class ReadFromLLVMScope extends Node {
 
             protected Object access(LLVMScope scope, String globalName) {
+                return lookup(scope, globalName);
+            }
+
+            @TruffleBoundary
+            private static Object lookup(LLVMScope scope, String globalName) {
                 String atname = "@" + globalName; // for interop
-                if (scope.functionExists(atname)) {
-                    return scope.getFunctionDescriptor(atname);
-                }
-                if (scope.functionExists(globalName)) {
-                    return scope.getFunctionDescriptor(globalName);
+                LLVMFunctionDescriptor functionDescriptor = scope.findFunctionDescriptor(atname);
+                if (functionDescriptor == null) {
+                    functionDescriptor = scope.findFunctionDescriptor(globalName);
                 }
-                return null;
+                return functionDescriptor;
             }
 
         }
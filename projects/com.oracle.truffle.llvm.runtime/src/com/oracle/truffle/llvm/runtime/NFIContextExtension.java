@@ -30,9 +30,16 @@
 package com.oracle.truffle.llvm.runtime;
 
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiFunction;
 
 import com.oracle.truffle.api.CompilerAsserts;
 import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
@@ -54,16 +61,51 @@ import com.oracle.truffle.llvm.runtime.types.VoidType;
 
 public final class NFIContextExtension implements ContextExtension {
     private final TruffleObject defaultLibrary;
-    private final Map<Path, TruffleObject> libraryHandles = new HashMap<>();
+    private final Map<Path, NativeLibrary> libraryHandles = new LinkedHashMap<>();
+    private final Map<String, NativeLibrary> symbolIndex = new HashMap<>();
+    private final List<NativeLibrary> unindexedLibraries = new ArrayList<>();
+    private final SymbolCache functionSymbols = new SymbolCache();
+    private final SymbolCache dataSymbols = new SymbolCache();
+    private final Map<String, Map<TruffleObject, TruffleObject>> boundFunctions = new ConcurrentHashMap<>();
     private final TruffleLanguage.Env env;
+    private final NativeSymbolReader symbolReader;
     private final LLVMNativeFunctions nativeFunctions;
+    private int addedExternalLibraries = -1;
 
-    public NFIContextExtension(Env env) {
+    public NFIContextExtension(Env env, NativeSymbolReader symbolReader) {
         this.env = env;
+        this.symbolReader = symbolReader;
         this.defaultLibrary = loadDefaultLibrary();
         this.nativeFunctions = new LLVMNativeFunctions(this);
     }
 
+    private static final class NativeLibrary {
+
+        private final TruffleObject handle;
+        private final int linkOrder;
+
+        private NativeLibrary(TruffleObject handle, int linkOrder) {
+            this.handle = handle;
+            this.linkOrder = linkOrder;
+        }
+    }
+
+    /**
+     * Remembers which library a symbol was resolved from and which symbols could not be resolved at
+     * all, so that repeated lookups of a name do not probe every library again. Function and data
+     * lookups accept different symbols, so each has its own cache.
+     */
+    private static final class SymbolCache {
+
+        private final Map<String, TruffleObject> owners = new HashMap<>();
+        private final Set<String> misses = new HashSet<>();
+
+        private void clear() {
+            owners.clear();
+            misses.clear();
+        }
+    }
+
     public static class UnsupportedNativeTypeException extends Exception {
 
         private static final long serialVersionUID = 1L;
@@ -113,23 +155,104 @@ public final class NFIContextExtension implements ContextExtension {
 
     private void addLibraries(LLVMContext context) {
         CompilerAsserts.neverPartOfCompilation();
+        if (addedExternalLibraries == context.getExternalLibraryCount()) {
+            return;
+        }
         context.addExternalLibrary("libsulong." + getNativeLibrarySuffix());
         List<Path> libraries = context.getExternalLibraries(f -> f.toString().contains("." + getNativeLibrarySuffix()));
         for (Path l : libraries) {
             addLibrary(l);
         }
+        addedExternalLibraries = context.getExternalLibraryCount();
     }
 
     private void addLibrary(Path l) throws UnsatisfiedLinkError {
         CompilerAsserts.neverPartOfCompilation();
         if (!libraryHandles.containsKey(l) && !handeledBySulong(l)) {
+            NativeLibrary library;
             try {
-                libraryHandles.put(l, loadLibrary(l));
+                library = new NativeLibrary(loadLibrary(l), libraryHandles.size());
             } catch (UnsatisfiedLinkError e) {
                 System.err.println(l.toString() + " not found!\n" + e.getMessage());
                 throw e;
             }
+            libraryHandles.put(l, library);
+            // the new library precedes the default library, so earlier results may be stale
+            functionSymbols.clear();
+            dataSymbols.clear();
+            Collection<String> symbols = symbolReader == null ? null : symbolReader.readExportedSymbols(l);
+            if (symbols == null) {
+                unindexedLibraries.add(library);
+            } else {
+                for (String symbol : symbols) {
+                    // libraries are added in link order, so the first definition wins
+                    symbolIndex.putIfAbsent(symbol, library);
+                }
+            }
+        }
+    }
+
+    /**
+     * Looks up a symbol in link order. Indexed libraries cost a single hash lookup, only libraries
+     * whose symbols could not be read are probed. The index only covers the symbols a library
+     * exports itself, so on a miss the loaded libraries are probed in link order, which also
+     * searches their dependencies, before falling back to the default library. The library a name
+     * resolves to, or the fact that it does not resolve, is cached, so each library is probed at
+     * most once per name until another library is loaded.
+     */
+    private synchronized TruffleObject resolveSymbol(LLVMContext context, String name, BiFunction<TruffleObject, String, TruffleObject> lookup, SymbolCache cache) {
+        CompilerAsserts.neverPartOfCompilation();
+        addLibraries(context);
+        TruffleObject cachedOwner = cache.owners.get(name);
+        if (cachedOwner != null) {
+            return lookup.apply(cachedOwner, name);
+        } else if (cache.misses.contains(name)) {
+            return null;
+        }
+        TruffleObject symbol = probeLibraries(name, lookup, cache);
+        if (symbol == null) {
+            cache.misses.add(name);
+        }
+        return symbol;
+    }
+
+    private TruffleObject probeLibraries(String name, BiFunction<TruffleObject, String, TruffleObject> lookup, SymbolCache cache) {
+        NativeLibrary owner = symbolIndex.get(name);
+        for (NativeLibrary library : unindexedLibraries) {
+            if (owner != null && library.linkOrder > owner.linkOrder) {
+                break;
+            }
+            TruffleObject symbol = probe(library.handle, name, lookup, cache);
+            if (symbol != null) {
+                return symbol;
+            }
+        }
+        if (owner != null) {
+            TruffleObject symbol = probe(owner.handle, name, lookup, cache);
+            if (symbol != null) {
+                return symbol;
+            }
+        }
+        // either the symbol is defined in a dependency of a loaded library, or the index disagrees
+        // with the native loader
+        for (NativeLibrary library : libraryHandles.values()) {
+            boolean probed = library == owner || (unindexedLibraries.contains(library) && (owner == null || library.linkOrder < owner.linkOrder));
+            if (!probed) {
+                TruffleObject symbol = probe(library.handle, name, lookup, cache);
+                if (symbol != null) {
+                    return symbol;
+                }
+            }
         }
+        return probe(defaultLibrary, name, lookup, cache);
+    }
+
+    private static TruffleObject probe(TruffleObject library, String name, BiFunction<TruffleObject, String, TruffleObject> lookup, SymbolCache cache) {
+        TruffleObject symbol = lookup.apply(library, name);
+        if (symbol != null) {
+            cache.owners.put(name, library);
+        }
+        return symbol;
     }
 
     private static String getNativeLibrarySuffix() {
@@ -170,7 +293,7 @@ public final class NFIContextExtension implements ContextExtension {
     private static TruffleObject getNativeFunction(TruffleObject library, String name) {
         CompilerAsserts.neverPartOfCompilation();
         try {
-            return (TruffleObject) ForeignAccess.sendRead(Message.READ.createNode(), library, name.substring(1));
+            return (TruffleObject) ForeignAccess.sendRead(Message.READ.createNode(), library, name);
         } catch (UnknownIdentifierException ex) {
             // try another library
             return null;
@@ -230,20 +353,12 @@ public final class NFIContextExtension implements ContextExtension {
 
     public TruffleObject getNativeFunction(LLVMContext context, String nameIn) {
         CompilerAsserts.neverPartOfCompilation();
-        addLibraries(context);
-
         String name = nameIn;
         if (name.contains(NO_MANGLE_PREFIX)) {
             name = name.replace(NO_MANGLE_PREFIX, "");
             name = name.substring(0, name.length() - 1);
         }
-        for (TruffleObject libraryHandle : libraryHandles.values()) {
-            TruffleObject symbol = getNativeFunction(libraryHandle, name);
-            if (symbol != null) {
-                return symbol;
-            }
-        }
-        TruffleObject symbol = getNativeFunction(defaultLibrary, name);
+        TruffleObject symbol = resolveSymbol(context, name.substring(1), NFIContextExtension::getNativeFunction, functionSymbols);
         if (symbol == null) {
             throw new LinkageError(String.format("External function %s cannot be found.", name));
         } else {
@@ -253,16 +368,7 @@ public final class NFIContextExtension implements ContextExtension {
 
     public TruffleObject getNativeDataObject(LLVMContext context, String name) {
         CompilerAsserts.neverPartOfCompilation();
-        addLibraries(context);
-
-        String realName = name.substring(1);
-        for (TruffleObject libraryHandle : libraryHandles.values()) {
-            TruffleObject symbol = getNativeDataObject(libraryHandle, realName);
-            if (symbol != null) {
-                return symbol;
-            }
-        }
-        TruffleObject symbol = getNativeDataObject(defaultLibrary, realName);
+        TruffleObject symbol = resolveSymbol(context, name.substring(1), NFIContextExtension::getNativeDataObject, dataSymbols);
         if (symbol == null) {
             throw new LinkageError(String.format("External variable %s cannot be found.", name));
         } else {
@@ -307,6 +413,24 @@ public final class NFIContextExtension implements ContextExtension {
         }
     }
 
+    /**
+     * Returns the native symbol bound to the signature. Binding is expensive, so the result is
+     * shared by all call sites of this context that call the same symbol with the same signature.
+     */
+    @TruffleBoundary
+    public TruffleObject getBoundNativeFunction(TruffleObject symbol, String signature) {
+        Map<TruffleObject, TruffleObject> bySymbol = boundFunctions.computeIfAbsent(signature, s -> new ConcurrentHashMap<>());
+        TruffleObject bound = bySymbol.get(symbol);
+        if (bound == null) {
+            bound = bindNativeFunction(symbol, signature);
+            TruffleObject previous = bySymbol.putIfAbsent(symbol, bound);
+            if (previous != null) {
+                bound = previous;
+            }
+        }
+        return bound;
+    }
+
     public String getNativeSignature(FunctionType type, int skipArguments) throws UnsupportedNativeTypeException {
         CompilerAsserts.neverPartOfCompilation();
         // TODO varargs
@@ -40,4 +40,10 @@ public interface NativeIntrinsicProvider {
     boolean forceInline(String name);
 
     boolean forceSplit(String name);
+
+    /**
+     * Pure intrinsics have no side effects and their result only depends on their arguments, so
+     * calls with constant arguments may be evaluated while parsing.
+     */
+    boolean isPure(String name);
 }
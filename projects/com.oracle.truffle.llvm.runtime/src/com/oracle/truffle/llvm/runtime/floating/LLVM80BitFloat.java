@@ -38,6 +38,7 @@ import javax.xml.bind.DatatypeConverter;
 import com.oracle.truffle.api.CompilerAsserts;
 import com.oracle.truffle.api.CompilerDirectives.ValueType;
 import com.oracle.truffle.api.nodes.ExplodeLoop;
+import com.oracle.truffle.llvm.runtime.LLVMIVarBit;
 
 @ValueType
 public final class LLVM80BitFloat {
@@ -96,6 +97,14 @@ public final class LLVM80BitFloat {
     private static final LLVM80BitFloat POSITIVE_INFINITY = new LLVM80BitFloat(false, ALL_ONE_EXPONENT, bit(63L));
     private static final LLVM80BitFloat NEGATIVE_INFINITY = new LLVM80BitFloat(true, ALL_ONE_EXPONENT, bit(63L));
 
+    private static final LLVM80BitFloat INDEFINITE = new LLVM80BitFloat(true, ALL_ONE_EXPONENT, 0xc000000000000000L);
+
+    private static final long INTEGER_BIT = 0x80000000_00000000L;
+    private static final long QUIET_NAN_BITS = 0xc0000000_00000000L;
+    private static final long HALF = 0x80000000_00000000L;
+    private static final long ABOVE_HALF = 0xc0000000_00000000L;
+    private static final long STICKY_BIT = 1L;
+
     private static final int EXPLICIT_LEADING_ONE_BITS = 1;
     private static final int EXPONENT_BIAS = 16383;
     private static final int FLOAT_EXPONENT_BIAS = 127;
@@ -251,83 +260,243 @@ public final class LLVM80BitFloat {
         return fraction >>> (FRACTION_BIT_WIDTH - getUnbiasedExponent() - EXPLICIT_LEADING_ONE_BITS);
     }
 
-    private long compareNoSign(LLVM80BitFloat val) {
-        if (getExponent() != val.getExponent()) {
-            return getExponent() - val.getExponent();
-        } else {
-            return (getFraction() - val.getFraction());
+    private static LLVM80BitFloat zero(boolean sign) {
+        return new LLVM80BitFloat(sign ? NEGATIVE_ZERO : POSITIVE_ZERO);
+    }
+
+    private static LLVM80BitFloat infinity(boolean sign) {
+        return new LLVM80BitFloat(sign ? NEGATIVE_INFINITY : POSITIVE_INFINITY);
+    }
+
+    private LLVM80BitFloat propagateNaN(LLVM80BitFloat right) {
+        LLVM80BitFloat nan = isNaN() ? this : right;
+        return new LLVM80BitFloat(nan.sign, ALL_ONE_EXPONENT, nan.fraction | QUIET_NAN_BITS);
+    }
+
+    /**
+     * Denormal numbers have the same scale as numbers with the smallest normal exponent.
+     */
+    private int getEffectiveExponent() {
+        return biasedExponent == 0 ? 1 : biasedExponent;
+    }
+
+    private static int compareMagnitude(LLVM80BitFloat left, LLVM80BitFloat right) {
+        int leftExponent = left.getEffectiveExponent();
+        int rightExponent = right.getEffectiveExponent();
+        if (leftExponent != rightExponent) {
+            return leftExponent - rightExponent;
         }
+        return Long.compareUnsigned(left.fraction, right.fraction);
     }
 
     public LLVM80BitFloat add(LLVM80BitFloat right) {
-        double doubleValue = getDoubleValue();
-        double doubleValue2 = right.getDoubleValue();
-        return fromDouble(doubleValue + doubleValue2);
-    }
-
-    @SuppressWarnings("unused")
-    private LLVM80BitFloat add2(LLVM80BitFloat right) {
-        int leftExponent = getExponent();
-        int rightExponent = right.getExponent();
-        long leftFraction = getFraction();
-        long rightFraction = right.getFraction();
-
-        int shiftAmount = Math.abs(leftExponent - rightExponent);
-        if (leftExponent < rightExponent) {
-            leftFraction >>>= shiftAmount;
-            leftExponent = rightExponent;
-        } else {
-            rightFraction >>>= shiftAmount;
-            rightExponent = leftExponent;
+        if (biasedExponent == ALL_ONE_EXPONENT || right.biasedExponent == ALL_ONE_EXPONENT) {
+            if (isNaN() || right.isNaN()) {
+                return propagateNaN(right);
+            } else if (biasedExponent != ALL_ONE_EXPONENT) {
+                return right;
+            } else if (right.biasedExponent == ALL_ONE_EXPONENT && sign != right.sign) {
+                return new LLVM80BitFloat(INDEFINITE);
+            } else {
+                return this;
+            }
         }
-        boolean newSign;
-        if (getSign() == right.getSign()) {
-            newSign = getSign();
-        } else {
-            newSign = compareNoSign(right) < 0 ? right.getSign() : getSign();
-        }
-        boolean addition = getSign() == right.getSign();
-        long resultLo;
-        long resultHi;
-        long leftFractionLowerPart = leftFraction & BinaryHelper.getBitMask(Integer.SIZE);
-        long rightFractionLowerPart = rightFraction & BinaryHelper.getBitMask(Integer.SIZE);
-        long leftFractionHigherPart = leftFraction >>> Integer.SIZE;
-        long rightFractionHigherPart = rightFraction >>> Integer.SIZE;
-        if (addition) {
-            resultLo = -leftFractionLowerPart + rightFractionLowerPart;
-            long overFlowLowerPart = resultLo >>> Integer.SIZE;
-            resultHi = leftFractionHigherPart + rightFractionHigherPart + overFlowLowerPart;
-        } else if (getSign()) { // left is negative
-            resultLo = -leftFractionLowerPart + rightFractionLowerPart;
-            long overFlowLowerPart = resultLo >>> Integer.SIZE;
-            resultHi = -leftFractionHigherPart - rightFractionHigherPart - overFlowLowerPart;
+        if (right.fraction == 0) {
+            return fraction == 0 ? zero(sign && right.sign) : this;
+        } else if (fraction == 0) {
+            return right;
+        }
+
+        LLVM80BitFloat big = this;
+        LLVM80BitFloat small = right;
+        if (compareMagnitude(this, right) < 0) {
+            big = right;
+            small = this;
+        }
+
+        // align the smaller significand, keeping the bits shifted out in a second word
+        int shift = big.getEffectiveExponent() - small.getEffectiveExponent();
+        long smallHi;
+        long smallLo;
+        if (shift == 0) {
+            smallHi = small.fraction;
+            smallLo = 0;
+        } else if (shift < Long.SIZE) {
+            smallHi = small.fraction >>> shift;
+            smallLo = small.fraction << (Long.SIZE - shift);
+        } else if (shift < 2 * Long.SIZE) {
+            smallHi = 0;
+            smallLo = small.fraction >>> (shift - Long.SIZE);
+            if (shift > Long.SIZE && (small.fraction << (2 * Long.SIZE - shift)) != 0) {
+                smallLo |= STICKY_BIT;
+            }
         } else {
-            resultLo = leftFractionLowerPart - rightFractionLowerPart;
-            long overFlowLowerPart = resultLo >>> Integer.SIZE;
-            resultHi = leftFractionHigherPart - rightFractionHigherPart - overFlowLowerPart;
+            smallHi = 0;
+            smallLo = STICKY_BIT;
         }
-        int overFlow = (int) (resultHi >>> Integer.SIZE);
-        if (overFlow > 0) {
-            resultHi = resultHi >>> overFlow;
-            long lostBits = resultHi & overFlow;
-            long shiftedLostBits = lostBits << Integer.SIZE - overFlow;
-            resultLo = resultLo >>> overFlow | shiftedLostBits;
+
+        int exponent = big.getEffectiveExponent();
+        long hi;
+        long lo;
+        if (sign == right.sign) {
+            hi = big.fraction + smallHi;
+            lo = smallLo;
+            if (Long.compareUnsigned(hi, big.fraction) < 0) {
+                lo = (lo >>> 1) | (hi << (Long.SIZE - 1)) | (lo & STICKY_BIT);
+                hi = (hi >>> 1) | INTEGER_BIT;
+                exponent++;
+            }
+        } else {
+            hi = big.fraction - smallHi - (smallLo != 0 ? 1 : 0);
+            lo = -smallLo;
+            if (hi == 0 && lo == 0) {
+                return zero(false);
+            }
         }
-        int newExponent = leftExponent + overFlow;
-        long newFraction = resultLo + resultHi << Integer.SIZE;
-        return LLVM80BitFloat.fromRawValues(newSign, newExponent, newFraction);
+        return roundAndPack(big.sign, exponent, hi, lo);
     }
 
     public LLVM80BitFloat sub(LLVM80BitFloat right) {
+        if (right.isNaN()) {
+            // the x87 propagates a NaN subtrahend with its sign unchanged
+            return isNaN() ? propagateNaN(right) : right.propagateNaN(right);
+        }
         return add(right.negate());
     }
 
     public LLVM80BitFloat mul(LLVM80BitFloat right) {
-        return fromDouble(getDoubleValue() * right.getDoubleValue());
+        boolean resultSign = sign != right.sign;
+        if (biasedExponent == ALL_ONE_EXPONENT || right.biasedExponent == ALL_ONE_EXPONENT) {
+            if (isNaN() || right.isNaN()) {
+                return propagateNaN(right);
+            } else if (fraction == 0 || right.fraction == 0) {
+                return new LLVM80BitFloat(INDEFINITE);
+            } else {
+                return infinity(resultSign);
+            }
+        }
+        if (fraction == 0 || right.fraction == 0) {
+            return zero(resultSign);
+        }
+        // the 128 bit product of the significands has its integer bit at position 126 or 127
+        long hi = LLVMIVarBit.multiplyHighUnsigned(fraction, right.fraction);
+        long lo = fraction * right.fraction;
+        int exponent = getEffectiveExponent() + right.getEffectiveExponent() - EXPONENT_BIAS + 1;
+        return roundAndPack(resultSign, exponent, hi, lo);
     }
 
     public LLVM80BitFloat div(LLVM80BitFloat right) {
-        return fromDouble(getDoubleValue() / right.getDoubleValue());
+        boolean resultSign = sign != right.sign;
+        if (biasedExponent == ALL_ONE_EXPONENT || right.biasedExponent == ALL_ONE_EXPONENT) {
+            if (isNaN() || right.isNaN()) {
+                return propagateNaN(right);
+            } else if (biasedExponent == right.biasedExponent) {
+                return new LLVM80BitFloat(INDEFINITE);
+            } else if (biasedExponent == ALL_ONE_EXPONENT) {
+                return infinity(resultSign);
+            } else {
+                return zero(resultSign);
+            }
+        }
+        if (right.fraction == 0) {
+            return fraction == 0 ? new LLVM80BitFloat(INDEFINITE) : infinity(resultSign);
+        } else if (fraction == 0) {
+            return zero(resultSign);
+        }
+
+        int leftShift = Long.numberOfLeadingZeros(fraction);
+        int rightShift = Long.numberOfLeadingZeros(right.fraction);
+        long dividend = fraction << leftShift;
+        long divisor = right.fraction << rightShift;
+        int exponent = (getEffectiveExponent() - leftShift) - (right.getEffectiveExponent() - rightShift) + EXPONENT_BIAS;
+
+        // restoring division, producing a quotient with the integer bit set
+        long quotient;
+        long remainder;
+        int quotientBits;
+        if (Long.compareUnsigned(dividend, divisor) >= 0) {
+            quotient = 1;
+            remainder = dividend - divisor;
+            quotientBits = FRACTION_BIT_WIDTH - 1;
+        } else {
+            quotient = 0;
+            remainder = dividend;
+            quotientBits = FRACTION_BIT_WIDTH;
+            exponent--;
+        }
+        for (int i = 0; i < quotientBits; i++) {
+            boolean carry = remainder < 0;
+            remainder <<= 1;
+            quotient <<= 1;
+            if (carry || Long.compareUnsigned(remainder, divisor) >= 0) {
+                remainder -= divisor;
+                quotient |= 1;
+            }
+        }
+
+        // the remainder only matters for rounding: compare it against half of the divisor
+        long lo;
+        if (remainder == 0) {
+            lo = 0;
+        } else {
+            int cmp = Long.compareUnsigned(remainder, divisor - remainder);
+            lo = cmp > 0 ? ABOVE_HALF : cmp == 0 ? HALF : STICKY_BIT;
+        }
+        return roundAndPack(resultSign, exponent, quotient, lo);
+    }
+
+    /**
+     * Rounds the 128 bit significand {@code hi:lo} (integer bit expected at the top of {@code hi})
+     * to 64 bits using round to nearest, ties to even, which is the x87 default.
+     */
+    private static LLVM80BitFloat roundAndPack(boolean sign, int biasedExponent, long significandHi, long significandLo) {
+        long hi = significandHi;
+        long lo = significandLo;
+        int exponent = biasedExponent;
+
+        int normalizeShift = hi != 0 ? Long.numberOfLeadingZeros(hi) : Long.SIZE + Long.numberOfLeadingZeros(lo);
+        if (normalizeShift >= Long.SIZE) {
+            hi = lo << (normalizeShift - Long.SIZE);
+            lo = 0;
+        } else if (normalizeShift != 0) {
+            hi = (hi << normalizeShift) | (lo >>> (Long.SIZE - normalizeShift));
+            lo <<= normalizeShift;
+        }
+        exponent -= normalizeShift;
+
+        if (exponent < 1) {
+            // denormal result: shift right to the smallest exponent, collecting a sticky bit
+            int shift = 1 - exponent;
+            if (shift < Long.SIZE) {
+                long sticky = (lo << (Long.SIZE - shift)) != 0 ? STICKY_BIT : 0;
+                lo = (lo >>> shift) | (hi << (Long.SIZE - shift)) | sticky;
+                hi >>>= shift;
+            } else if (shift < 2 * Long.SIZE) {
+                long sticky = lo != 0 || (shift > Long.SIZE && (hi << (2 * Long.SIZE - shift)) != 0) ? STICKY_BIT : 0;
+                lo = (hi >>> (shift - Long.SIZE)) | sticky;
+                hi = 0;
+            } else {
+                lo = STICKY_BIT;
+                hi = 0;
+            }
+            exponent = 0;
+        }
+
+        if (lo < 0 && (lo != HALF || (hi & 1) != 0)) {
+            hi++;
+            if (hi == 0) {
+                hi = INTEGER_BIT;
+                exponent++;
+            } else if (exponent == 0 && hi == INTEGER_BIT) {
+                exponent = 1;
+            }
+        }
+        if (exponent >= ALL_ONE_EXPONENT) {
+            return infinity(sign);
+        } else if (hi == 0) {
+            return zero(sign);
+        }
+        return new LLVM80BitFloat(sign, exponent, hi);
     }
 
     public LLVM80BitFloat rem(LLVM80BitFloat right) {
@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) 2017, Oracle and/or its affiliates.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of
+ * conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of
+ * conditions and the following disclaimer in the documentation and/or other materials provided
+ * with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to
+ * endorse or promote products derived from this software without specific prior written
+ * permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS
+ * OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE
+ * COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE
+ * GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED
+ * OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.oracle.truffle.llvm.runtime.global;
+
+import com.oracle.truffle.llvm.runtime.LLVMAddress;
+import com.oracle.truffle.llvm.runtime.pthread.LLVMThreadLocalStorage;
+import com.oracle.truffle.llvm.runtime.pthread.LLVMThreadLocalStorage.Segment;
+import com.oracle.truffle.llvm.runtime.pthread.LLVMThreadLocalStorage.ThreadState;
+
+/**
+ * A {@code thread_local} global, located at a fixed offset in the thread local storage segment of
+ * the module that declares it.
+ */
+public final class LLVMThreadLocalVariable {
+
+    private final String name;
+    private final Segment segment;
+    private final long offset;
+
+    public LLVMThreadLocalVariable(String name, Segment segment, long offset) {
+        this.name = name;
+        this.segment = segment;
+        this.offset = offset;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * The location that static initializers write to, copied into every thread.
+     */
+    public LLVMAddress getTemplateAddress() {
+        return segment.getTemplate().increment(offset);
+    }
+
+    public LLVMAddress getAddress(LLVMThreadLocalStorage storage, ThreadState state) {
+        return LLVMAddress.fromLong(storage.getBlock(state, segment) + offset);
+    }
+
+    @Override
+    public String toString() {
+        return "ThreadLocalVariable " + name;
+    }
+}
@@ -97,6 +97,15 @@ public abstract class LLVMDataEscapeNode extends Node {
         return escapingValue;
     }
 
+    @Specialization(guards = "isPointerExport()")
+    public TruffleObject escapingNativePointer(long escapingValue, LLVMContext context) {
+        return escapingAddress(LLVMAddress.fromLong(escapingValue), context);
+    }
+
+    protected boolean isPointerExport() {
+        return typeForExport instanceof PointerType;
+    }
+
     @Specialization
     public Object escapingPrimitive(long escapingValue, LLVMContext context) {
         return escapingValue;
@@ -223,6 +232,8 @@ public abstract class LLVMDataEscapeNode extends Node {
     public static Object slowConvert(Object value, Type type, LLVMContext context) {
         if (value instanceof LLVMBoxedPrimitive) {
             return ((LLVMBoxedPrimitive) value).getValue();
+        } else if (value instanceof Long && type instanceof PointerType) {
+            return slowConvert(LLVMAddress.fromLong((long) value), type, context);
         } else if (value instanceof LLVMAddress && LLVMAddress.nullPointer().equals(value)) {
             return new LLVMTruffleAddress(LLVMAddress.nullPointer(), new PointerType(null), context);
         } else if (value instanceof LLVMAddress) {
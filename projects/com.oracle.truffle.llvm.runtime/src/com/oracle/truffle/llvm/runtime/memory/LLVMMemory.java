@@ -29,14 +29,13 @@
  */
 package com.oracle.truffle.llvm.runtime.memory;
 
+import java.lang.reflect.Array;
 import java.lang.reflect.Field;
-import java.util.function.BinaryOperator;
 import java.util.function.IntBinaryOperator;
 import java.util.function.LongBinaryOperator;
 
 import com.oracle.truffle.api.CompilerAsserts;
 import com.oracle.truffle.api.CompilerDirectives;
-import com.oracle.truffle.api.CompilerDirectives.ValueType;
 import com.oracle.truffle.llvm.runtime.LLVMAddress;
 import com.oracle.truffle.llvm.runtime.LLVMIVarBit;
 import com.oracle.truffle.llvm.runtime.floating.LLVM80BitFloat;
@@ -96,6 +95,32 @@ public abstract class LLVMMemory {
         UNSAFE.copyMemory(sourceAddress, targetAddress, length);
     }
 
+    /**
+     * Copies {@code length} bytes from native memory into a primitive Java array, starting at byte
+     * {@code offset} of the array.
+     */
+    public static void copyToArray(long sourceAddress, Object array, long offset, long length) {
+        assert array.getClass().getComponentType().isPrimitive();
+        UNSAFE.copyMemory(null, sourceAddress, array, UNSAFE.arrayBaseOffset(array.getClass()) + offset, length);
+    }
+
+    /**
+     * Copies {@code length} bytes starting at byte {@code offset} of a primitive Java array into
+     * native memory.
+     */
+    public static void copyFromArray(Object array, long offset, long targetAddress, long length) {
+        assert array.getClass().getComponentType().isPrimitive();
+        UNSAFE.copyMemory(array, UNSAFE.arrayBaseOffset(array.getClass()) + offset, null, targetAddress, length);
+    }
+
+    public static long getArraySizeInBytes(Object array) {
+        return (long) Array.getLength(array) * UNSAFE.arrayIndexScale(array.getClass());
+    }
+
+    public static int getArrayIndexScale(Object array) {
+        return UNSAFE.arrayIndexScale(array.getClass());
+    }
+
     public static void free(LLVMAddress address) {
         free(address.getVal());
     }
@@ -167,11 +192,19 @@ public abstract class LLVMMemory {
         return UNSAFE.getInt(ptr);
     }
 
+    public static int getI32Volatile(LLVMAddress addr) {
+        assert addr.getVal() != 0;
+        return UNSAFE.getIntVolatile(null, addr.getVal());
+    }
+
     public static LLVMIVarBit getIVarBit(LLVMAddress addr, int bitWidth) {
         if (bitWidth % Byte.SIZE != 0) {
             CompilerDirectives.transferToInterpreter();
             throw new AssertionError();
         }
+        if (bitWidth == LLVMIVarBit.I128_BITS) {
+            return LLVMIVarBit.createI128(getI64(addr.getVal() + Long.BYTES), getI64(addr.getVal()));
+        }
         int bytes = bitWidth / Byte.SIZE;
         byte[] loadedBytes = new byte[bytes];
         long currentAddressPtr = addr.getVal();
@@ -229,8 +262,15 @@ public abstract class LLVMMemory {
     }
 
     public static LLVMAddress getAddress(long ptr) {
+        return LLVMAddress.fromLong(getRawAddress(ptr));
+    }
+
+    /**
+     * Loads a pointer without wrapping it in an {@link LLVMAddress}.
+     */
+    public static long getRawAddress(long ptr) {
         assert ptr != 0;
-        return LLVMAddress.fromLong(UNSAFE.getAddress(ptr));
+        return UNSAFE.getAddress(ptr);
     }
 
     public static void putI1(LLVMAddress addr, boolean value) {
@@ -269,6 +309,11 @@ public abstract class LLVMMemory {
         UNSAFE.putInt(ptr, value);
     }
 
+    public static void putI32Volatile(LLVMAddress addr, int value) {
+        assert addr.getVal() != 0;
+        UNSAFE.putIntVolatile(null, addr.getVal(), value);
+    }
+
     public static void putI64(LLVMAddress addr, long value) {
         putI64(addr.getVal(), value);
     }
@@ -279,6 +324,11 @@ public abstract class LLVMMemory {
     }
 
     public static void putIVarBit(LLVMAddress addr, LLVMIVarBit value) {
+        if (value.isI128()) {
+            putI64(addr.getVal(), value.getLow());
+            putI64(addr.getVal() + Long.BYTES, value.getHigh());
+            return;
+        }
         byte[] bytes = value.getBytes();
         long currentptr = addr.getVal();
         for (int i = bytes.length - 1; i >= 0; i--) {
@@ -408,95 +458,43 @@ public abstract class LLVMMemory {
         LLVMAddressVector.writeVectorToMemory(addr, vector);
     }
 
-    @ValueType
-    public static final class CMPXCHGI32 {
-        private final int value;
-        private final boolean swap;
-
-        public CMPXCHGI32(int value, boolean swap) {
-            this.value = value;
-            this.swap = swap;
-        }
-
-        public int getValue() {
-            return value;
-        }
-
-        public boolean isSwap() {
-            return swap;
-        }
-    }
-
-    public static CMPXCHGI32 compareAndSwapI32(LLVMAddress p, int comparisonValue, int newValue) {
+    /**
+     * Atomically replaces the i32 at {@code p} with {@code newValue} if it equals
+     * {@code comparisonValue}. Returns the value that was witnessed in memory, so the exchange
+     * succeeded if and only if the result equals {@code comparisonValue}.
+     */
+    public static int compareAndExchangeI32(LLVMAddress p, int comparisonValue, int newValue) {
         while (true) {
             boolean b = UNSAFE.compareAndSwapInt(null, p.getVal(), comparisonValue, newValue);
             if (CompilerDirectives.injectBranchProbability(CompilerDirectives.LIKELY_PROBABILITY, b)) {
-                return new CMPXCHGI32(comparisonValue, b);
+                return comparisonValue;
             } else {
                 int t = UNSAFE.getIntVolatile(null, p.getVal());
                 if (CompilerDirectives.injectBranchProbability(CompilerDirectives.UNLIKELY_PROBABILITY, t == comparisonValue)) {
                     continue;
                 } else {
-                    return new CMPXCHGI32(t, b);
+                    return t;
                 }
             }
         }
     }
 
-    @ValueType
-    public static final class CMPXCHGI64 {
-        private final long value;
-        private final boolean swap;
-
-        public CMPXCHGI64(long value, boolean swap) {
-            this.value = value;
-            this.swap = swap;
-        }
-
-        public long getValue() {
-            return value;
-        }
-
-        public boolean isSwap() {
-            return swap;
-        }
-    }
-
-    public static CMPXCHGI64 compareAndSwapI64(LLVMAddress p, long comparisonValue, long newValue) {
+    public static long compareAndExchangeI64(LLVMAddress p, long comparisonValue, long newValue) {
         while (true) {
             boolean b = UNSAFE.compareAndSwapLong(null, p.getVal(), comparisonValue, newValue);
             if (CompilerDirectives.injectBranchProbability(CompilerDirectives.LIKELY_PROBABILITY, b)) {
-                return new CMPXCHGI64(comparisonValue, b);
+                return comparisonValue;
             } else {
                 long t = UNSAFE.getLongVolatile(null, p.getVal());
                 if (CompilerDirectives.injectBranchProbability(CompilerDirectives.UNLIKELY_PROBABILITY, t == comparisonValue)) {
                     continue;
                 } else {
-                    return new CMPXCHGI64(t, b);
+                    return t;
                 }
             }
         }
     }
 
-    @ValueType
-    public static final class CMPXCHGI8 {
-        private final byte value;
-        private final boolean swap;
-
-        public CMPXCHGI8(byte value, boolean swap) {
-            this.value = value;
-            this.swap = swap;
-        }
-
-        public byte getValue() {
-            return value;
-        }
-
-        public boolean isSwap() {
-            return swap;
-        }
-    }
-
     private static long alignToI32(long address) {
         long mask = 3;
         return (address & ~mask);
@@ -515,19 +513,19 @@ public abstract class LLVMMemory {
         return (value & ~(0xFF << (index * 8))) | ((replaceByte & 0xFF) << (index * 8));
     }
 
-    public static CMPXCHGI8 compareAndSwapI8(LLVMAddress p, byte comparisonValue, byte newValue) {
+    public static byte compareAndExchangeI8(LLVMAddress p, byte comparisonValue, byte newValue) {
         int byteIndex = getI8Index(p.getVal());
         long address = alignToI32(p.getVal());
         while (true) {
             int t = UNSAFE.getIntVolatile(null, address);
             byte b = getI8At(t, byteIndex);
             if (CompilerDirectives.injectBranchProbability(CompilerDirectives.LIKELY_PROBABILITY, b != comparisonValue)) {
-                return new CMPXCHGI8(b, false);
+                return b;
             } else {
                 int newVal = replaceI8(byteIndex, t, newValue);
                 boolean c = UNSAFE.compareAndSwapInt(null, address, t, newVal);
                 if (CompilerDirectives.injectBranchProbability(CompilerDirectives.LIKELY_PROBABILITY, c)) {
-                    return new CMPXCHGI8(comparisonValue, true);
+                    return comparisonValue;
                 } else {
                     continue;
                 }
@@ -535,25 +533,6 @@ public abstract class LLVMMemory {
         }
     }
 
-    @ValueType
-    public static final class CMPXCHGI16 {
-        private final short value;
-        private final boolean swap;
-
-        public CMPXCHGI16(short value, boolean swap) {
-            this.value = value;
-            this.swap = swap;
-        }
-
-        public short getValue() {
-            return value;
-        }
-
-        public boolean isSwap() {
-            return swap;
-        }
-    }
-
     private static int getI16Index(long address) {
         long mask = 3;
         return (int) (address & mask) >> 1;
@@ -567,19 +546,19 @@ public abstract class LLVMMemory {
         return (value & ~(0xFFFF << (index * 16))) | ((replace & 0xFFFF) << (index * 16));
     }
 
-    public static CMPXCHGI16 compareAndSwapI16(LLVMAddress p, short comparisonValue, short newValue) {
+    public static short compareAndExchangeI16(LLVMAddress p, short comparisonValue, short newValue) {
         int idx = getI16Index(p.getVal());
         long address = alignToI32(p.getVal());
         while (true) {
             int t = UNSAFE.getIntVolatile(null, address);
             short b = getI16At(t, idx);
             if (CompilerDirectives.injectBranchProbability(CompilerDirectives.LIKELY_PROBABILITY, b != comparisonValue)) {
-                return new CMPXCHGI16(b, false);
+                return b;
             } else {
                 int newVal = replaceI16(idx, t, newValue);
                 boolean c = UNSAFE.compareAndSwapInt(null, address, t, newVal);
                 if (CompilerDirectives.injectBranchProbability(CompilerDirectives.LIKELY_PROBABILITY, c)) {
-                    return new CMPXCHGI16(comparisonValue, true);
+                    return comparisonValue;
                 } else {
                     continue;
                 }
@@ -633,34 +612,55 @@ public abstract class LLVMMemory {
         return old;
     }
 
-    public static short getAndOpI16(LLVMAddress address, short value, BinaryOperator<Short> f) {
-        short old;
-        short nevv;
+    /**
+     * The i16 operation is applied to sign extended values; only the lower 16 bits of the result
+     * are stored. The update is a CAS on the enclosing aligned i32, so no intermediate objects are
+     * created.
+     */
+    public static short getAndOpI16(LLVMAddress address, short value, IntBinaryOperator f) {
+        int idx = getI16Index(address.getVal());
+        long addr = alignToI32(address.getVal());
+        int old;
+        short oldValue;
+        int nevv;
         do {
-            old = getI16(address);
-            nevv = f.apply(old, value);
-        } while (!compareAndSwapI16(address, old, nevv).swap);
-        return old;
+            old = UNSAFE.getIntVolatile(null, addr);
+            oldValue = getI16At(old, idx);
+            nevv = replaceI16(idx, old, (short) f.applyAsInt(oldValue, value));
+        } while (!UNSAFE.compareAndSwapInt(null, addr, old, nevv));
+        return oldValue;
     }
 
-    public static byte getAndOpI8(LLVMAddress address, byte value, BinaryOperator<Byte> f) {
-        byte old;
-        byte nevv;
+    public static byte getAndOpI8(LLVMAddress address, byte value, IntBinaryOperator f) {
+        int idx = getI8Index(address.getVal());
+        long addr = alignToI32(address.getVal());
+        int old;
+        byte oldValue;
+        int nevv;
         do {
-            old = getI8(address);
-            nevv = f.apply(old, value);
-        } while (!compareAndSwapI8(address, old, nevv).swap);
-        return old;
+            old = UNSAFE.getIntVolatile(null, addr);
+            oldValue = getI8At(old, idx);
+            nevv = replaceI8(idx, old, (byte) f.applyAsInt(oldValue, value));
+        } while (!UNSAFE.compareAndSwapInt(null, addr, old, nevv));
+        return oldValue;
+    }
+
+    public interface BooleanBinaryOperator {
+        boolean apply(boolean a, boolean b);
     }
 
-    public static boolean getAndOpI1(LLVMAddress address, boolean value, BinaryOperator<Boolean> f) {
-        byte old;
-        boolean nevv;
+    public static boolean getAndOpI1(LLVMAddress address, boolean value, BooleanBinaryOperator f) {
+        int idx = getI8Index(address.getVal());
+        long addr = alignToI32(address.getVal());
+        int old;
+        byte oldValue;
+        int nevv;
         do {
-            old = getI8(address);
-            nevv = f.apply(old != 0, value);
-        } while (!compareAndSwapI8(address, old, (byte) (nevv ? 1 : 0)).swap);
-        return old != 0;
+            old = UNSAFE.getIntVolatile(null, addr);
+            oldValue = getI8At(old, idx);
+            nevv = replaceI8(idx, old, (byte) (f.apply(oldValue != 0, value) ? 1 : 0));
+        } while (!UNSAFE.compareAndSwapInt(null, addr, old, nevv));
+        return oldValue != 0;
     }
 
     public static void fullFence() {
@@ -64,7 +64,11 @@ public abstract class LLVMExpressionNode extends LLVMNode {
     }
 
     public LLVMAddress executeLLVMAddress(VirtualFrame frame) throws UnexpectedResultException {
-        return LLVMTypesGen.expectLLVMAddress(executeGeneric(frame));
+        Object value = executeGeneric(frame);
+        if (value instanceof Long) {
+            return LLVMAddress.fromLong((long) value);
+        }
+        return LLVMTypesGen.expectLLVMAddress(value);
     }
 
     public LLVMTruffleAddress executeLLVMTruffleAddress(VirtualFrame frame) throws UnexpectedResultException {
@@ -30,10 +30,13 @@
 package com.oracle.truffle.llvm.runtime.nodes.api;
 
 import com.oracle.truffle.api.TruffleLanguage.ContextReference;
+import com.oracle.truffle.api.instrumentation.InstrumentableFactory.WrapperNode;
 import com.oracle.truffle.api.instrumentation.StandardTags;
 import java.io.PrintStream;
 
 import com.oracle.truffle.api.nodes.Node;
+import com.oracle.truffle.api.source.Source;
+import com.oracle.truffle.api.source.SourceSection;
 import com.oracle.truffle.llvm.runtime.LLVMContext;
 import com.oracle.truffle.llvm.runtime.LLVMLanguage;
 import com.oracle.truffle.llvm.runtime.global.LLVMGlobalVariableAccess;
@@ -59,6 +62,8 @@ public abstract class LLVMNode extends Node {
 
     public static final int ADDRESS_SIZE_IN_BYTES = 8;
 
+    private static final SourceSection UNAVAILABLE_SECTION = Source.newBuilder("").name("<no debug information>").mimeType(LLVMLanguage.LLVM_BITCODE_MIME_TYPE).build().createUnavailableSection();
+
     public final ContextReference<LLVMContext> getContextReference() {
         return getRootNode().getLanguage(LLVMLanguage.class).getContextReference();
     }
@@ -87,6 +92,20 @@ public abstract class LLVMNode extends Node {
         return SulongEngineOption.isTrue(context.get().getEnv().getOptions().get(SulongEngineOption.NATIVE_CALL_STATS));
     }
 
+    /**
+     * Returns the source section of the closest enclosing node that has one, or an unavailable
+     * section if there is none because the program was compiled without debug information.
+     * Instrumentation wrappers are skipped, as they report the section of the node they wrap.
+     */
+    protected final SourceSection getEnclosingSourceSection() {
+        Node parent = getParent();
+        while (parent instanceof WrapperNode) {
+            parent = parent.getParent();
+        }
+        SourceSection section = parent == null ? null : parent.getEncapsulatingSourceSection();
+        return section == null ? UNAVAILABLE_SECTION : section;
+    }
+
     @Override
     protected boolean isTaggedWith(Class<?> tag) {
         // only nodes that have a SourceSection attached are considered to be tagged by any
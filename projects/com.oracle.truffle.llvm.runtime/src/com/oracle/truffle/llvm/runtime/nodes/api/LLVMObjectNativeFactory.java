@@ -60,6 +60,8 @@ abstract class LLVMObjectNativeFactory {
         }
         if (obj instanceof TruffleObject) {
             return new FallbackLibrary();
+        } else if (obj instanceof Long) {
+            return new NativePointerLibrary();
         } else {
             return new UnsupportedLibrary();
         }
@@ -115,11 +117,37 @@ abstract class LLVMObjectNativeFactory {
         }
     }
 
+    /**
+     * Native pointers that are passed between nodes as raw {@code long} values.
+     */
+    private static class NativePointerLibrary extends LLVMObjectNativeLibrary {
+
+        @Override
+        public boolean guard(Object obj) {
+            return obj instanceof Long;
+        }
+
+        @Override
+        public boolean isPointer(VirtualFrame frame, Object obj) {
+            return true;
+        }
+
+        @Override
+        public long asPointer(VirtualFrame frame, Object obj) throws InteropException {
+            return (long) obj;
+        }
+
+        @Override
+        public Object toNative(VirtualFrame frame, Object obj) throws InteropException {
+            return obj;
+        }
+    }
+
     private static class UnsupportedLibrary extends LLVMObjectNativeLibrary {
 
         @Override
         public boolean guard(Object obj) {
-            return !(obj instanceof LLVMObjectNativeLibrary) && !(obj instanceof TruffleObject);
+            return !(obj instanceof LLVMObjectNativeLibrary) && !(obj instanceof TruffleObject) && !(obj instanceof Long);
         }
 
         @Override
@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2017, Oracle and/or its affiliates.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of
+ * conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of
+ * conditions and the following disclaimer in the documentation and/or other materials provided
+ * with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to
+ * endorse or promote products derived from this software without specific prior written
+ * permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS
+ * OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE
+ * COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE
+ * GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED
+ * OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.oracle.truffle.llvm.runtime.nodes.api;
+
+/**
+ * Instrumentation tags for the memory events of a program. Nodes carrying one of these tags do not
+ * represent statements; they report the source section of their enclosing statement so that
+ * instruments can attach to them, and they expose their static properties (e.g., access type or
+ * allocation size) via public getters.
+ * <p>
+ * Loads, stores and stack allocations report the section of their enclosing statement if the
+ * program was compiled with debug information ({@code -g}), and an unavailable section otherwise,
+ * so instruments see these events either way. The heap intrinsics always report an unavailable
+ * section.
+ */
+public final class LLVMTags {
+
+    private LLVMTags() {
+    }
+
+    /**
+     * A load from guest memory. The loaded value is reported as the return value of the node.
+     */
+    public static final class MemoryLoadTag {
+        private MemoryLoadTag() {
+        }
+    }
+
+    /**
+     * A store to guest memory. Its address is reported by a child tagged with
+     * {@link MemoryStoreAddressTag}.
+     */
+    public static final class MemoryStoreTag {
+        private MemoryStoreTag() {
+        }
+    }
+
+    /**
+     * The address operand of a store, a child of the node tagged with {@link MemoryStoreTag}. The
+     * address is reported as the return value of the node, before the store happens.
+     */
+    public static final class MemoryStoreAddressTag {
+        private MemoryStoreAddressTag() {
+        }
+    }
+
+    /**
+     * An allocation on the guest stack. The allocated address is reported as the return value of
+     * the node.
+     */
+    public static final class StackAllocationTag {
+        private StackAllocationTag() {
+        }
+    }
+
+    /**
+     * An allocation on the guest heap ({@code malloc}, {@code calloc} or {@code realloc}). The
+     * allocated address is reported as the return value of the node.
+     */
+    public static final class HeapAllocationTag {
+        private HeapAllocationTag() {
+        }
+    }
+
+    /**
+     * A release of guest heap memory ({@code free}).
+     */
+    public static final class HeapFreeTag {
+        private HeapFreeTag() {
+        }
+    }
+}
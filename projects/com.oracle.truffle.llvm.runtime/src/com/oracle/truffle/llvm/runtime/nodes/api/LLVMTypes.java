@@ -29,6 +29,7 @@
  */
 package com.oracle.truffle.llvm.runtime.nodes.api;
 
+import com.oracle.truffle.api.dsl.ImplicitCast;
 import com.oracle.truffle.api.dsl.TypeSystem;
 import com.oracle.truffle.api.interop.TruffleObject;
 import com.oracle.truffle.llvm.runtime.LLVMAddress;
@@ -55,4 +56,12 @@ import com.oracle.truffle.llvm.runtime.vector.LLVMI8Vector;
                 LLVMAddress.class, LLVMFunction.class, TruffleObject.class})
 public class LLVMTypes {
 
+    /**
+     * Native pointers are passed between nodes as raw {@code long} values where possible; nodes
+     * that only know {@link LLVMAddress} still accept them through this cast.
+     */
+    @ImplicitCast
+    public static LLVMAddress asLLVMAddress(long value) {
+        return LLVMAddress.fromLong(value);
+    }
 }
@@ -72,6 +72,18 @@ public final class SulongEngineOption {
     public static final String NATIVE_CALL_STATS_NAME = "llvm.printNativeCallStats";
     public static final String NATIVE_CALL_STATS_INFO = "Outputs stats about native call site frequencies. Can be \'true\', \'false\', \'stdout\', \'stderr\' or a filepath.";
 
+    public static final OptionKey<Integer> NATIVE_CALL_STATS_SAMPLING = new OptionKey<>(0);
+    public static final String NATIVE_CALL_STATS_SAMPLING_NAME = "llvm.nativeCallStatsSampling";
+    public static final String NATIVE_CALL_STATS_SAMPLING_INFO = "Records the latency of every n-th call at each native call site in the native call stats (0 disables latency histograms).";
+
+    public static final OptionKey<String> ALLOCATION_STATS = new OptionKey<>(String.valueOf(false));
+    public static final String ALLOCATION_STATS_NAME = "llvm.printAllocationStats";
+    public static final String ALLOCATION_STATS_INFO = "Outputs stats about heap allocation sites and leaked blocks. Can be \'true\', \'false\', \'stdout\', \'stderr\' or a filepath.";
+
+    public static final OptionKey<Integer> ALLOCATION_STATS_SAMPLING = new OptionKey<>(1);
+    public static final String ALLOCATION_STATS_SAMPLING_NAME = "llvm.allocationStatsSampling";
+    public static final String ALLOCATION_STATS_SAMPLING_INFO = "Records only every n-th heap allocation in the allocation stats.";
+
     public static final OptionKey<String> PRINT_LIFE_TIME_ANALYSIS_STATS = new OptionKey<>(String.valueOf(false));
     public static final String PRINT_LIFE_TIME_ANALYSIS_STATS_NAME = "llvm.printLifetimeAnalysisStats";
     public static final String PRINT_LIFE_TIME_ANALYSIS_STATS_INFO = "Prints the results of the lifetime analysis. Can be \'true\', \'false\', \'stdout\', \'stderr\' or a filepath.";
@@ -102,6 +114,12 @@ public final class SulongEngineOption {
                         OptionCategory.USER).build());
         options.add(OptionDescriptor.newBuilder(SulongEngineOption.NATIVE_CALL_STATS, SulongEngineOption.NATIVE_CALL_STATS_NAME).help(SulongEngineOption.NATIVE_CALL_STATS_INFO).category(
                         OptionCategory.USER).build());
+        options.add(OptionDescriptor.newBuilder(SulongEngineOption.NATIVE_CALL_STATS_SAMPLING, SulongEngineOption.NATIVE_CALL_STATS_SAMPLING_NAME).help(
+                        SulongEngineOption.NATIVE_CALL_STATS_SAMPLING_INFO).category(OptionCategory.EXPERT).build());
+        options.add(OptionDescriptor.newBuilder(SulongEngineOption.ALLOCATION_STATS, SulongEngineOption.ALLOCATION_STATS_NAME).help(SulongEngineOption.ALLOCATION_STATS_INFO).category(
+                        OptionCategory.USER).build());
+        options.add(OptionDescriptor.newBuilder(SulongEngineOption.ALLOCATION_STATS_SAMPLING, SulongEngineOption.ALLOCATION_STATS_SAMPLING_NAME).help(
+                        SulongEngineOption.ALLOCATION_STATS_SAMPLING_INFO).category(OptionCategory.EXPERT).build());
         options.add(OptionDescriptor.newBuilder(SulongEngineOption.PRINT_LIFE_TIME_ANALYSIS_STATS, SulongEngineOption.PRINT_LIFE_TIME_ANALYSIS_STATS_NAME).help(
                         SulongEngineOption.PRINT_LIFE_TIME_ANALYSIS_STATS_INFO).category(
                                         OptionCategory.USER).build());
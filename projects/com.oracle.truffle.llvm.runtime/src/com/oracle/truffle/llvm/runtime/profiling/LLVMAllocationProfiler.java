@@ -0,0 +1,169 @@
+/*
+ * Copyright (c) 2017, Oracle and/or its affiliates.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of
+ * conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of
+ * conditions and the following disclaimer in the documentation and/or other materials provided
+ * with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to
+ * endorse or promote products derived from this software without specific prior written
+ * permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS
+ * OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE
+ * COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE
+ * GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED
+ * OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.oracle.truffle.llvm.runtime.profiling;
+
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+import com.oracle.truffle.api.CompilerAsserts;
+import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
+import com.oracle.truffle.api.Truffle;
+import com.oracle.truffle.api.frame.FrameInstance;
+import com.oracle.truffle.api.nodes.Node;
+
+/**
+ * Records the heap allocations of the guest program. Every n-th allocation is sampled: it is
+ * attributed to the call site of the allocation function, which the caller of the profiler
+ * describes, e.g., by its source location or by its position in the calling function.
+ * Sampled blocks are tracked until they are freed, so that the blocks that are still alive when
+ * the context is disposed can be reported as leaks.
+ */
+public final class LLVMAllocationProfiler {
+
+    private static final int SIZE_CLASSES = Long.SIZE;
+    private static final int TOP_SITES = 20;
+
+    private final ConcurrentHashMap<String, AllocationSite> sites = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Long, Block> liveBlocks = new ConcurrentHashMap<>();
+    private final int samplingInterval;
+
+    // racy on purpose: losing an update only shifts the next sample
+    private int untilSample;
+
+    public LLVMAllocationProfiler(int samplingInterval) {
+        this.samplingInterval = Math.max(samplingInterval, 1);
+    }
+
+    /**
+     * Records an allocation if it is sampled. {@code describeCallSite} is only applied to the call
+     * node of sampled allocations.
+     */
+    @TruffleBoundary
+    public void allocate(long address, long size, Function<Node, String> describeCallSite) {
+        if (address == 0 || --untilSample > 0) {
+            return;
+        }
+        untilSample = samplingInterval;
+        AllocationSite site = sites.computeIfAbsent(findCallSite(describeCallSite), AllocationSite::new);
+        site.allocate(size);
+        liveBlocks.put(address, new Block(site, size));
+    }
+
+    @TruffleBoundary
+    public void free(long address) {
+        Block block = liveBlocks.remove(address);
+        if (block != null) {
+            block.site.free(block.size);
+        }
+    }
+
+    @TruffleBoundary
+    public void reallocate(long oldAddress, long newAddress, long size, Function<Node, String> describeCallSite) {
+        free(oldAddress);
+        allocate(newAddress, size, describeCallSite);
+    }
+
+    private static String findCallSite(Function<Node, String> describeCallSite) {
+        Node callNode = Truffle.getRuntime().iterateFrames(FrameInstance::getCallNode);
+        if (callNode == null) {
+            return "<unknown>";
+        }
+        return describeCallSite.apply(callNode);
+    }
+
+    private static final class Block {
+        private final AllocationSite site;
+        private final long size;
+
+        Block(AllocationSite site, long size) {
+            this.site = site;
+            this.size = size;
+        }
+    }
+
+    private static final class AllocationSite {
+        private final String location;
+        private final LongAdder allocations = new LongAdder();
+        private final LongAdder bytes = new LongAdder();
+        private final LongAdder liveBlocks = new LongAdder();
+        private final LongAdder liveBytes = new LongAdder();
+        private final AtomicLongArray sizeClasses = new AtomicLongArray(SIZE_CLASSES);
+
+        AllocationSite(String location) {
+            this.location = location;
+        }
+
+        void allocate(long size) {
+            allocations.increment();
+            bytes.add(size);
+            liveBlocks.increment();
+            liveBytes.add(size);
+            sizeClasses.incrementAndGet(SIZE_CLASSES - Long.numberOfLeadingZeros(size));
+        }
+
+        void free(long size) {
+            liveBlocks.decrement();
+            liveBytes.add(-size);
+        }
+
+        void print(PrintStream out) {
+            out.printf("  %-40s allocations: %d bytes: %d live blocks: %d live bytes: %d%n", location, allocations.sum(), bytes.sum(), liveBlocks.sum(), liveBytes.sum());
+            StringBuilder histogram = new StringBuilder();
+            for (int i = 0; i < SIZE_CLASSES; i++) {
+                long count = sizeClasses.get(i);
+                if (count != 0) {
+                    histogram.append(String.format(" <%d: %d", 1L << i, count));
+                }
+            }
+            out.println("    size classes:" + histogram);
+        }
+    }
+
+    public void print(PrintStream out) {
+        CompilerAsserts.neverPartOfCompilation();
+        List<AllocationSite> sorted = new ArrayList<>(sites.values());
+        out.printf("Allocation sites (every %d. allocation sampled), top %d by bytes:%n", samplingInterval, TOP_SITES);
+        sorted.sort(Comparator.comparingLong((AllocationSite site) -> site.bytes.sum()).reversed());
+        sorted.stream().limit(TOP_SITES).forEach(site -> site.print(out));
+
+        long leakedBytes = liveBlocks.values().stream().mapToLong(block -> block.size).sum();
+        out.printf("Leaked: %d sampled blocks with %d bytes%n", liveBlocks.size(), leakedBytes);
+        sorted.sort(Comparator.comparingLong((AllocationSite site) -> site.liveBytes.sum()).reversed());
+        sorted.stream().filter(site -> site.liveBlocks.sum() > 0).limit(TOP_SITES).forEach(
+                        site -> out.printf("  %-40s live blocks: %d live bytes: %d%n", site.location, site.liveBlocks.sum(), site.liveBytes.sum()));
+        out.flush();
+    }
+}
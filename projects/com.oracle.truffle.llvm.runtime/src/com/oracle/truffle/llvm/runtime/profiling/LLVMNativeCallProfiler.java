@@ -0,0 +1,149 @@
+/*
+ * Copyright (c) 2017, Oracle and/or its affiliates.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of
+ * conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of
+ * conditions and the following disclaimer in the documentation and/or other materials provided
+ * with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to
+ * endorse or promote products derived from this software without specific prior written
+ * permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS
+ * OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE
+ * COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE
+ * GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED
+ * OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.oracle.truffle.llvm.runtime.profiling;
+
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.oracle.truffle.api.CompilerAsserts;
+import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
+
+/**
+ * Counts the calls to native functions. Every call site creates its own {@link CallSite} once when
+ * it is specialized, so that counting a call is a single, thread-safe increment. If a sampling
+ * interval is given, the latency of every n-th call through a call site is recorded in a histogram
+ * with one bucket per power of two nanoseconds.
+ */
+public final class LLVMNativeCallProfiler {
+
+    private static final int BUCKETS = Long.SIZE;
+
+    private final ConcurrentLinkedQueue<CallSite> callSites = new ConcurrentLinkedQueue<>();
+    private final int samplingInterval;
+
+    public LLVMNativeCallProfiler(int samplingInterval) {
+        this.samplingInterval = samplingInterval;
+    }
+
+    /**
+     * Creates the profile of one call site. {@code location} describes where the call site is in
+     * the guest program.
+     */
+    @TruffleBoundary
+    public CallSite createCallSite(String name, String type, String location) {
+        CallSite callSite = new CallSite(name, type, location, samplingInterval);
+        callSites.add(callSite);
+        return callSite;
+    }
+
+    public static final class CallSite {
+        private final String name;
+        private final String type;
+        private final String location;
+        private final int samplingInterval;
+        private final LongAdder calls = new LongAdder();
+        private final AtomicLongArray latencies;
+
+        // racy on purpose: losing an update only shifts the next sample
+        private int untilSample;
+
+        private CallSite(String name, String type, String location, int samplingInterval) {
+            this.name = name;
+            this.type = type;
+            this.location = location;
+            this.samplingInterval = samplingInterval;
+            this.latencies = samplingInterval > 0 ? new AtomicLongArray(BUCKETS) : null;
+        }
+
+        /**
+         * Counts a call. Returns the start time of the call if its latency is sampled, or
+         * {@code -1}.
+         */
+        @TruffleBoundary
+        public long enter() {
+            calls.increment();
+            if (latencies != null && --untilSample <= 0) {
+                untilSample = samplingInterval;
+                return System.nanoTime();
+            }
+            return -1;
+        }
+
+        @TruffleBoundary
+        public void exit(long start) {
+            if (start >= 0) {
+                long nanos = System.nanoTime() - start;
+                latencies.incrementAndGet(Math.max(BUCKETS - 1 - Long.numberOfLeadingZeros(nanos), 0));
+            }
+        }
+
+        private void print(PrintStream out) {
+            out.printf("  {\"function\": \"%s\", \"type\": \"%s\", \"location\": \"%s\", \"calls\": %d", escape(name), escape(type), escape(location), calls.sum());
+            if (latencies != null) {
+                out.print(", \"latencyNanos\": {");
+                String separator = "";
+                for (int i = 0; i < BUCKETS; i++) {
+                    long count = latencies.get(i);
+                    if (count != 0) {
+                        out.printf("%s\"<%d\": %d", separator, 2L << i, count);
+                        separator = ", ";
+                    }
+                }
+                out.print("}");
+            }
+            out.print("}");
+        }
+    }
+
+    /**
+     * Prints all call sites as a JSON array, most frequently used call sites first.
+     */
+    public void print(PrintStream out) {
+        CompilerAsserts.neverPartOfCompilation();
+        List<CallSite> sorted = new ArrayList<>(callSites);
+        sorted.sort(Comparator.comparingLong((CallSite site) -> site.calls.sum()).reversed());
+        out.println("[");
+        for (int i = 0; i < sorted.size(); i++) {
+            sorted.get(i).print(out);
+            out.println(i < sorted.size() - 1 ? "," : "");
+        }
+        out.println("]");
+        out.flush();
+    }
+
+    private static String escape(String s) {
+        return s.replace("\\", "\\\\").replace("\"", "\\\"");
+    }
+}
@@ -0,0 +1,163 @@
+/*
+ * Copyright (c) 2017, Oracle and/or its affiliates.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of
+ * conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of
+ * conditions and the following disclaimer in the documentation and/or other materials provided
+ * with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to
+ * endorse or promote products derived from this software without specific prior written
+ * permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS
+ * OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE
+ * COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE
+ * GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED
+ * OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.oracle.truffle.llvm.runtime.pthread;
+
+import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
+import com.oracle.truffle.llvm.runtime.LLVMAddress;
+import com.oracle.truffle.llvm.runtime.LLVMContext;
+import com.oracle.truffle.llvm.runtime.LLVMExitException;
+import com.oracle.truffle.llvm.runtime.LLVMFunctionDescriptor;
+import com.oracle.truffle.llvm.runtime.LLVMThread;
+import com.oracle.truffle.llvm.runtime.memory.LLVMStack;
+import com.oracle.truffle.llvm.runtime.memory.LLVMStack.StackPointer;
+
+/**
+ * A guest thread created by {@code pthread_create}. Every guest thread runs on its own Java thread
+ * and gets its own {@link LLVMStack} from the context's threading stack.
+ */
+public final class LLVMPThread implements LLVMThread, Runnable {
+
+    /**
+     * How long process exit waits for a thread to unwind. Threads that are stuck in native code do
+     * not reach a safepoint, so they are abandoned after this time.
+     */
+    private static final long EXIT_TIMEOUT_MILLIS = 1000;
+
+    private final LLVMContext context;
+    private final LLVMPThreadContext pthreads;
+    private final long id;
+    private final LLVMFunctionDescriptor startRoutine;
+    private final Object argument;
+    private final Thread thread;
+
+    private volatile Object returnValue;
+    private volatile boolean detached;
+
+    LLVMPThread(LLVMContext context, LLVMPThreadContext pthreads, long id, LLVMFunctionDescriptor startRoutine, Object argument) {
+        this.context = context;
+        this.pthreads = pthreads;
+        this.id = id;
+        this.startRoutine = startRoutine;
+        this.argument = argument;
+        this.thread = new Thread(this, "sulong-pthread-" + id);
+        // an abandoned thread must not keep the VM alive
+        this.thread.setDaemon(true);
+        this.returnValue = LLVMAddress.nullPointer();
+    }
+
+    public long getId() {
+        return id;
+    }
+
+    void start() {
+        context.getThreadingStack().initializeThread();
+        context.registerThread(this);
+        thread.start();
+    }
+
+    @Override
+    public void run() {
+        pthreads.setCurrentThread(this);
+        LLVMStack stack = context.getThreadingStack().getStack();
+        try (StackPointer stackPointer = stack.takeStackPointer()) {
+            try {
+                returnValue = startRoutine.getLLVMIRFunction().call(stackPointer.get(), argument);
+            } catch (LLVMPThreadExitException e) {
+                returnValue = e.getReturnValue();
+            } catch (LLVMExitException e) {
+                // exit() ends the whole process, not only this thread
+                pthreads.requestExit(e);
+                return;
+            }
+            pthreads.runKeyDestructors(stackPointer.get());
+        } finally {
+            context.getThreadLocalStorage().releaseCurrentThread();
+        }
+    }
+
+    @TruffleBoundary
+    public Object join() {
+        awaitTermination();
+        context.unregisterThread(this);
+        return returnValue;
+    }
+
+    /**
+     * Waits for the thread without a timeout. The wait only ends early if the process exits.
+     */
+    void awaitTermination() {
+        while (true) {
+            try {
+                thread.join();
+                return;
+            } catch (InterruptedException e) {
+                pthreads.checkExit();
+            }
+        }
+    }
+
+    public void detach() {
+        detached = true;
+    }
+
+    boolean isDetached() {
+        return detached;
+    }
+
+    boolean isFinished() {
+        return !thread.isAlive();
+    }
+
+    /**
+     * Java threads cannot be killed, so we only wake up the thread if it is blocked in one of the
+     * synchronization intrinsics.
+     */
+    @Override
+    @TruffleBoundary
+    public void stop() {
+        thread.interrupt();
+    }
+
+    @Override
+    @TruffleBoundary
+    public void awaitFinish() {
+        try {
+            thread.join(EXIT_TIMEOUT_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        context.unregisterThread(this);
+    }
+
+    @Override
+    public String toString() {
+        return "LLVMPThread [id=" + id + ", function=" + startRoutine.getName() + "]";
+    }
+}
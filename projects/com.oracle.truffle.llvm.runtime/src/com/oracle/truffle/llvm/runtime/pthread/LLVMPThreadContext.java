@@ -0,0 +1,526 @@
+/*
+ * Copyright (c) 2017, Oracle and/or its affiliates.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of
+ * conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of
+ * conditions and the following disclaimer in the documentation and/or other materials provided
+ * with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to
+ * endorse or promote products derived from this software without specific prior written
+ * permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS
+ * OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE
+ * COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE
+ * GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED
+ * OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.oracle.truffle.llvm.runtime.pthread;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
+import com.oracle.truffle.llvm.runtime.LLVMAddress;
+import com.oracle.truffle.llvm.runtime.LLVMContext;
+import com.oracle.truffle.llvm.runtime.LLVMExitException;
+import com.oracle.truffle.llvm.runtime.LLVMFunctionDescriptor;
+import com.oracle.truffle.llvm.runtime.memory.LLVMMemory;
+
+/**
+ * The per-context state behind the pthread intrinsics. Guest synchronization objects are identified
+ * by their address; the Java lock implementing them is created on first use, so statically
+ * initialized objects ({@code PTHREAD_MUTEX_INITIALIZER} and friends) work without an explicit
+ * init call. An init call always starts a fresh lock, so memory that is reused for a new object
+ * without a destroy call does not inherit the state of the old one.
+ */
+public final class LLVMPThreadContext {
+
+    public static final int EPERM = 1;
+    public static final int ESRCH = 3;
+    public static final int EAGAIN = 11;
+    public static final int EBUSY = 16;
+    public static final int EINVAL = 22;
+    public static final int EDEADLK = 35;
+    public static final int ETIMEDOUT = 110;
+
+    // glibc x86_64: struct __pthread_mutex_s { int __lock; unsigned __count; int __owner; unsigned
+    // __nusers; int __kind; ... }
+    private static final int MUTEX_KIND_OFFSET = 16;
+    private static final int MUTEX_KIND_MASK = 0xfff;
+    private static final int MUTEX_RECURSIVE = 1;
+    private static final int MUTEX_ERRORCHECK = 2;
+
+    private static final int DESTRUCTOR_ITERATIONS = 4;
+
+    private final AtomicLong nextThreadId = new AtomicLong(1);
+    private final ThreadLocal<Long> currentThreadId = new ThreadLocal<>();
+    private final ConcurrentHashMap<Long, LLVMPThread> threads = new ConcurrentHashMap<>();
+
+    /*
+     * exit() on a guest thread ends the whole process: the exit is recorded here and the thread
+     * that runs main picks it up at its next safepoint, while all guest threads unwind at theirs.
+     */
+    private final AtomicReference<LLVMExitException> pendingExit = new AtomicReference<>();
+    private volatile boolean terminating;
+    private volatile boolean exiting;
+    private volatile Thread initialThread;
+
+    private final ConcurrentHashMap<Long, Mutex> mutexes = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Long, Condition> conditions = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Long, ReentrantReadWriteLock> rwlocks = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Long, Object> onceLocks = new ConcurrentHashMap<>();
+
+    private final AtomicInteger nextKey = new AtomicInteger();
+    private final ConcurrentHashMap<Integer, Key> keys = new ConcurrentHashMap<>();
+
+    // threads
+
+    @TruffleBoundary
+    public LLVMPThread createThread(LLVMContext context, LLVMFunctionDescriptor startRoutine, Object argument) {
+        reapDetachedThreads(context);
+        if (initialThread == null && !isGuestThread()) {
+            initialThread = Thread.currentThread();
+        }
+        long id = nextThreadId.getAndIncrement();
+        LLVMPThread thread = new LLVMPThread(context, this, id, startRoutine, argument);
+        threads.put(id, thread);
+        thread.start();
+        return thread;
+    }
+
+    void setCurrentThread(LLVMPThread thread) {
+        currentThreadId.set(thread.getId());
+    }
+
+    @TruffleBoundary
+    public long getCurrentThreadId() {
+        Long id = currentThreadId.get();
+        if (id == null) {
+            id = nextThreadId.getAndIncrement();
+            currentThreadId.set(id);
+        }
+        return id;
+    }
+
+    @TruffleBoundary
+    public boolean isGuestThread() {
+        Long id = currentThreadId.get();
+        return id != null && threads.containsKey(id);
+    }
+
+    /**
+     * @return 0 if the thread with this id can be joined by the current thread, otherwise the error
+     *         code of {@code pthread_join}
+     */
+    @TruffleBoundary
+    public int checkJoinable(long id) {
+        LLVMPThread thread = threads.get(id);
+        if (thread == null) {
+            return ESRCH;
+        } else if (thread.isDetached()) {
+            return EINVAL;
+        } else if (id == getCurrentThreadId()) {
+            return EDEADLK;
+        }
+        return 0;
+    }
+
+    /**
+     * Joins the thread and returns its result, or {@code null} if there is no joinable thread with
+     * this id.
+     */
+    @TruffleBoundary
+    public Object join(long id) {
+        LLVMPThread thread = threads.get(id);
+        if (thread == null || thread.isDetached()) {
+            return null;
+        }
+        Object result = thread.join();
+        threads.remove(id);
+        return result;
+    }
+
+    @TruffleBoundary
+    public int detach(LLVMContext context, long id) {
+        LLVMPThread thread = threads.get(id);
+        if (thread == null) {
+            return ESRCH;
+        } else if (thread.isDetached()) {
+            return EINVAL;
+        }
+        thread.detach();
+        reapDetachedThreads(context);
+        return 0;
+    }
+
+    private void reapDetachedThreads(LLVMContext context) {
+        for (LLVMPThread thread : threads.values()) {
+            if (thread.isDetached() && thread.isFinished() && threads.remove(thread.getId()) != null) {
+                context.unregisterThread(thread);
+            }
+        }
+    }
+
+    /**
+     * Called when main calls {@code pthread_exit}: the process lives on until the last guest thread
+     * has finished, including threads that are created meanwhile. The threads are neither
+     * interrupted nor asked to unwind; only an {@code exit} on one of them ends the wait early.
+     */
+    @TruffleBoundary
+    public void awaitAllThreads() {
+        if (initialThread == null) {
+            initialThread = Thread.currentThread();
+        }
+        boolean running = true;
+        while (running) {
+            running = false;
+            for (LLVMPThread thread : threads.values()) {
+                if (!thread.isFinished()) {
+                    thread.awaitTermination();
+                    running = true;
+                }
+            }
+        }
+        checkExit();
+    }
+
+    // process exit
+
+    public boolean isExiting() {
+        return exiting;
+    }
+
+    /**
+     * Called when {@code exit} unwinds a guest thread. The first exit wins; the thread running main
+     * and all other guest threads are woken up so that they notice it.
+     */
+    @TruffleBoundary
+    void requestExit(LLVMExitException exit) {
+        if (!terminating && pendingExit.compareAndSet(null, exit)) {
+            exiting = true;
+            Thread initial = initialThread;
+            if (initial != null) {
+                initial.interrupt();
+            }
+            for (LLVMPThread thread : threads.values()) {
+                if (thread.getId() != getCurrentThreadId()) {
+                    thread.stop();
+                }
+            }
+        }
+    }
+
+    /**
+     * Called when the process exits. Guest threads unwind at their next safepoint.
+     */
+    public void terminate() {
+        terminating = true;
+        exiting = true;
+    }
+
+    /**
+     * Safepoint for process exit. Guest threads unwind once the process exits. The thread running
+     * main throws the exit that a guest thread requested, exactly once.
+     */
+    @TruffleBoundary
+    public void checkExit() {
+        if (isGuestThread()) {
+            if (terminating || pendingExit.get() != null) {
+                throw new LLVMExitException(0);
+            }
+        } else {
+            LLVMExitException exit = pendingExit.getAndSet(null);
+            if (exit != null) {
+                terminating = true;
+                throw exit;
+            }
+        }
+    }
+
+    /**
+     * Acquires the lock, but still lets the current thread unwind if the process exits meanwhile.
+     */
+    @TruffleBoundary
+    public void lockInterruptibly(Lock lock) {
+        while (true) {
+            try {
+                lock.lockInterruptibly();
+                return;
+            } catch (InterruptedException e) {
+                checkExit();
+            }
+        }
+    }
+
+    // mutexes
+
+    @TruffleBoundary
+    public Mutex getMutex(LLVMAddress address) {
+        Mutex mutex = mutexes.get(address.getVal());
+        if (mutex == null) {
+            Mutex newMutex = new Mutex(this, LLVMMemory.getI32(address.getVal() + MUTEX_KIND_OFFSET) & MUTEX_KIND_MASK);
+            mutex = mutexes.putIfAbsent(address.getVal(), newMutex);
+            if (mutex == null) {
+                mutex = newMutex;
+            }
+        }
+        return mutex;
+    }
+
+    /**
+     * @param attributes the glibc {@code pthread_mutexattr_t}, whose first int holds the mutex kind
+     */
+    @TruffleBoundary
+    public void initMutex(LLVMAddress address, LLVMAddress attributes) {
+        int kind = attributes.getVal() == 0 ? 0 : LLVMMemory.getI32(attributes) & MUTEX_KIND_MASK;
+        mutexes.put(address.getVal(), new Mutex(this, kind));
+    }
+
+    @TruffleBoundary
+    public int destroyMutex(LLVMAddress address) {
+        Mutex mutex = mutexes.get(address.getVal());
+        if (mutex != null) {
+            if (mutex.lock.isLocked()) {
+                return EBUSY;
+            }
+            mutexes.remove(address.getVal());
+        }
+        return 0;
+    }
+
+    public static final class Mutex {
+
+        private final LLVMPThreadContext pthreads;
+        private final ReentrantLock lock = new ReentrantLock();
+        private final int kind;
+
+        private Mutex(LLVMPThreadContext pthreads, int kind) {
+            this.pthreads = pthreads;
+            this.kind = kind;
+        }
+
+        /**
+         * Relocking a non-recursive mutex is reported as a deadlock instead of hanging forever.
+         */
+        @TruffleBoundary
+        public int lock() {
+            if (kind != MUTEX_RECURSIVE && lock.isHeldByCurrentThread()) {
+                return EDEADLK;
+            }
+            pthreads.lockInterruptibly(lock);
+            return 0;
+        }
+
+        @TruffleBoundary
+        public int tryLock() {
+            if (kind != MUTEX_RECURSIVE && lock.isHeldByCurrentThread()) {
+                return EBUSY;
+            }
+            return lock.tryLock() ? 0 : EBUSY;
+        }
+
+        @TruffleBoundary
+        public int unlock() {
+            if (!lock.isHeldByCurrentThread()) {
+                return kind == MUTEX_RECURSIVE || kind == MUTEX_ERRORCHECK ? EPERM : 0;
+            }
+            lock.unlock();
+            return 0;
+        }
+    }
+
+    // condition variables
+
+    @TruffleBoundary
+    public Condition getCondition(LLVMAddress address) {
+        Condition condition = conditions.get(address.getVal());
+        if (condition == null) {
+            Condition newCondition = new Condition();
+            condition = conditions.putIfAbsent(address.getVal(), newCondition);
+            if (condition == null) {
+                condition = newCondition;
+            }
+        }
+        return condition;
+    }
+
+    @TruffleBoundary
+    public void initCondition(LLVMAddress address) {
+        conditions.put(address.getVal(), new Condition());
+    }
+
+    @TruffleBoundary
+    public void destroyCondition(LLVMAddress address) {
+        conditions.remove(address.getVal());
+    }
+
+    /**
+     * A condition variable is a plain Java monitor. The waiter enters the monitor before it
+     * releases the mutex, so a signal sent by a thread that acquired the mutex afterwards cannot get
+     * lost. Interrupts are treated as spurious wakeups, which POSIX permits.
+     */
+    public static final class Condition {
+
+        private Condition() {
+        }
+
+        /**
+         * @param deadline absolute {@link System#currentTimeMillis()} deadline, or a negative value
+         *            to wait without timeout
+         */
+        @TruffleBoundary
+        public int await(Mutex mutex, long deadline) {
+            synchronized (this) {
+                int result = mutex.unlock();
+                if (result != 0) {
+                    return result;
+                }
+                try {
+                    if (deadline < 0) {
+                        wait();
+                    } else {
+                        long remaining = deadline - System.currentTimeMillis();
+                        if (remaining > 0) {
+                            wait(remaining);
+                        }
+                    }
+                } catch (InterruptedException e) {
+                    // spurious wakeup
+                }
+            }
+            mutex.pthreads.lockInterruptibly(mutex.lock);
+            return deadline >= 0 && System.currentTimeMillis() >= deadline ? ETIMEDOUT : 0;
+        }
+
+        @TruffleBoundary
+        public synchronized void signal() {
+            notify();
+        }
+
+        @TruffleBoundary
+        public synchronized void broadcast() {
+            notifyAll();
+        }
+    }
+
+    // read-write locks
+
+    @TruffleBoundary
+    public ReentrantReadWriteLock getRWLock(LLVMAddress address) {
+        ReentrantReadWriteLock rwlock = rwlocks.get(address.getVal());
+        if (rwlock == null) {
+            ReentrantReadWriteLock newLock = new ReentrantReadWriteLock();
+            rwlock = rwlocks.putIfAbsent(address.getVal(), newLock);
+            if (rwlock == null) {
+                rwlock = newLock;
+            }
+        }
+        return rwlock;
+    }
+
+    @TruffleBoundary
+    public void initRWLock(LLVMAddress address) {
+        rwlocks.put(address.getVal(), new ReentrantReadWriteLock());
+    }
+
+    @TruffleBoundary
+    public int destroyRWLock(LLVMAddress address) {
+        ReentrantReadWriteLock rwlock = rwlocks.get(address.getVal());
+        if (rwlock != null) {
+            if (rwlock.isWriteLocked() || rwlock.getReadLockCount() > 0) {
+                return EBUSY;
+            }
+            rwlocks.remove(address.getVal());
+        }
+        return 0;
+    }
+
+    // pthread_once
+
+    @TruffleBoundary
+    public Object getOnceLock(LLVMAddress control) {
+        Object lock = onceLocks.get(control.getVal());
+        if (lock == null) {
+            Object newLock = new Object();
+            lock = onceLocks.putIfAbsent(control.getVal(), newLock);
+            if (lock == null) {
+                lock = newLock;
+            }
+        }
+        return lock;
+    }
+
+    // thread specific data
+
+    private static final class Key {
+        private final LLVMFunctionDescriptor destructor;
+        private final ThreadLocal<Object> value = new ThreadLocal<>();
+
+        Key(LLVMFunctionDescriptor destructor) {
+            this.destructor = destructor;
+        }
+    }
+
+    @TruffleBoundary
+    public int createKey(LLVMFunctionDescriptor destructor) {
+        int key = nextKey.getAndIncrement();
+        keys.put(key, new Key(destructor));
+        return key;
+    }
+
+    @TruffleBoundary
+    public int deleteKey(int key) {
+        return keys.remove(key) == null ? EINVAL : 0;
+    }
+
+    @TruffleBoundary
+    public Object getSpecific(int key) {
+        Key k = keys.get(key);
+        Object value = k == null ? null : k.value.get();
+        return value == null ? LLVMAddress.nullPointer() : value;
+    }
+
+    @TruffleBoundary
+    public int setSpecific(int key, Object value) {
+        Key k = keys.get(key);
+        if (k == null) {
+            return EINVAL;
+        }
+        k.value.set(value);
+        return 0;
+    }
+
+    void runKeyDestructors(long stackPointer) {
+        boolean again = true;
+        for (int i = 0; i < DESTRUCTOR_ITERATIONS && again; i++) {
+            again = false;
+            for (Key key : keys.values()) {
+                Object value = key.value.get();
+                if (key.destructor != null && value != null && !(value instanceof LLVMAddress && ((LLVMAddress) value).getVal() == 0)) {
+                    key.value.remove();
+                    key.destructor.getLLVMIRFunction().call(stackPointer, value);
+                    again = true;
+                }
+            }
+        }
+    }
+
+}
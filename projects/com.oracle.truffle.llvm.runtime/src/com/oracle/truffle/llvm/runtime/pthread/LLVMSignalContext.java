@@ -0,0 +1,418 @@
+/*
+ * Copyright (c) 2017, Oracle and/or its affiliates.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of
+ * conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of
+ * conditions and the following disclaimer in the documentation and/or other materials provided
+ * with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to
+ * endorse or promote products derived from this software without specific prior written
+ * permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS
+ * OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE
+ * COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE
+ * GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED
+ * OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.oracle.truffle.llvm.runtime.pthread;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
+import com.oracle.truffle.llvm.runtime.LLVMAddress;
+import com.oracle.truffle.llvm.runtime.LLVMContext;
+import com.oracle.truffle.llvm.runtime.LLVMFunction;
+import com.oracle.truffle.llvm.runtime.LLVMFunctionDescriptor;
+import com.oracle.truffle.llvm.runtime.memory.LLVMMemory;
+import com.oracle.truffle.llvm.runtime.pthread.LLVMThreadLocalStorage.ThreadState;
+
+import sun.misc.Signal;
+import sun.misc.SignalHandler;
+
+/**
+ * Signal dispositions and pending signals of a context.
+ *
+ * The host signal handler only marks a signal as pending. Guest code polls for pending signals on
+ * function entry and on loop back-edges, and the first polling thread that does not block the
+ * signal runs the guest handler on its own stack. Signal masks are per thread and live in the
+ * thread's {@link ThreadState}.
+ *
+ * Host signal handlers are global to the JVM, while dispositions belong to a context. The host
+ * handler of a signal is therefore shared: it is installed when the first context catches or
+ * ignores the signal, forwards the signal to every context that catches it, and the previous host
+ * handler is restored when the last context goes back to the default disposition.
+ */
+public final class LLVMSignalContext {
+
+    public static final int SIG_BLOCK = 0;
+    public static final int SIG_UNBLOCK = 1;
+    public static final int SIG_SETMASK = 2;
+
+    public static final int SA_SIGINFO = 0x00000004;
+    public static final int SA_NODEFER = 0x40000000;
+    public static final int SA_RESETHAND = 0x80000000;
+
+    private static final int SIGKILL = 9;
+    private static final int SIGSTOP = 19;
+    private static final long UNBLOCKABLE = bit(SIGKILL) | bit(SIGSTOP);
+
+    private static final int MAX_SIGNAL = 64;
+    private static final int SIGINFO_SIZE = 128;
+
+    // signal names as accepted by sun.misc.Signal, indexed by the Linux signal number
+    private static final String[] SIGNAL_NAMES = {null, "HUP", "INT", "QUIT", "ILL", "TRAP", "ABRT", "BUS", "FPE", "KILL", "USR1", "SEGV", "USR2", "PIPE", "ALRM", "TERM", "STKFLT", "CHLD",
+                    "CONT", "STOP", "TSTP", "TTIN", "TTOU", "URG", "XCPU", "XFSZ", "VTALRM", "PROF", "WINCH", "IO", "PWR", "SYS"};
+
+    public static final class Action {
+
+        private final LLVMFunction handler;
+        private final long mask;
+        private final int flags;
+
+        public Action(LLVMFunction handler, long mask, int flags) {
+            this.handler = handler;
+            this.mask = mask;
+            this.flags = flags;
+        }
+
+        public LLVMFunction getHandler() {
+            return handler;
+        }
+
+        public long getMask() {
+            return mask;
+        }
+
+        public int getFlags() {
+            return flags;
+        }
+    }
+
+    private static final class HostRegistration {
+
+        private final SignalHandler previous;
+        // the contexts that use the shared host handler, mapped to whether they ignore the signal
+        private final Map<LLVMSignalContext, Boolean> contexts = new HashMap<>();
+
+        HostRegistration(SignalHandler previous) {
+            this.previous = previous;
+        }
+    }
+
+    // guarded by HOST_REGISTRATIONS
+    private static final Map<Integer, HostRegistration> HOST_REGISTRATIONS = new HashMap<>();
+
+    private static final SignalHandler HOST_HANDLER = new SignalHandler() {
+
+        @Override
+        public void handle(Signal signal) {
+            List<LLVMSignalContext> receivers = new ArrayList<>();
+            synchronized (HOST_REGISTRATIONS) {
+                HostRegistration registration = HOST_REGISTRATIONS.get(signal.getNumber());
+                if (registration != null) {
+                    for (Map.Entry<LLVMSignalContext, Boolean> entry : registration.contexts.entrySet()) {
+                        if (!entry.getValue()) {
+                            receivers.add(entry.getKey());
+                        }
+                    }
+                }
+            }
+            for (LLVMSignalContext receiver : receivers) {
+                receiver.markPending(signal.getNumber());
+            }
+        }
+    };
+
+    private final LLVMContext context;
+    private final AtomicLong pending = new AtomicLong();
+
+    // guarded by this
+    private final Action[] actions = new Action[MAX_SIGNAL + 1];
+    private long hostHandlers;
+
+    public LLVMSignalContext(LLVMContext context) {
+        this.context = context;
+    }
+
+    private static long bit(int signal) {
+        return 1L << (signal - 1);
+    }
+
+    public static boolean isValid(int signal) {
+        return signal > 0 && signal <= MAX_SIGNAL;
+    }
+
+    public boolean hasPendingSignals() {
+        return pending.get() != 0;
+    }
+
+    @TruffleBoundary
+    public synchronized Action getAction(int signal) {
+        assert isValid(signal);
+        Action action = actions[signal];
+        return action == null ? new Action(context.getSigDfl(), 0, 0) : action;
+    }
+
+    /**
+     * Installs a new disposition for {@code signal}. The handler must either be {@code SIG_DFL},
+     * {@code SIG_IGN} or a bitcode function.
+     *
+     * @return the previous disposition, or {@code null} if the signal cannot be caught
+     */
+    @TruffleBoundary
+    public synchronized Action setAction(int signal, Action action) {
+        if (!isValid(signal) || signal == SIGKILL || signal == SIGSTOP) {
+            return null;
+        }
+        Action previous = getAction(signal);
+        Signal hostSignal = getHostSignal(signal);
+        if (hostSignal != null) {
+            try {
+                if (isDefault(action)) {
+                    if ((hostHandlers & bit(signal)) != 0) {
+                        unregisterHostHandler(hostSignal, this);
+                        hostHandlers &= ~bit(signal);
+                    }
+                } else {
+                    registerHostHandler(hostSignal, this, isIgnore(action));
+                    hostHandlers |= bit(signal);
+                }
+            } catch (IllegalArgumentException e) {
+                // the JVM uses this signal itself
+                return null;
+            }
+        }
+        actions[signal] = action;
+        return previous;
+    }
+
+    /**
+     * Restores the default disposition of all signals that the guest caught or ignored. The host
+     * handler of a signal stays installed as long as other contexts still use it.
+     */
+    @TruffleBoundary
+    public synchronized void resetHandlers() {
+        for (int signal = 1; signal <= MAX_SIGNAL; signal++) {
+            if ((hostHandlers & bit(signal)) != 0) {
+                unregisterHostHandler(getHostSignal(signal), this);
+            }
+            actions[signal] = null;
+        }
+        hostHandlers = 0;
+        pending.set(0);
+    }
+
+    private static void registerHostHandler(Signal hostSignal, LLVMSignalContext signals, boolean ignore) {
+        synchronized (HOST_REGISTRATIONS) {
+            HostRegistration registration = HOST_REGISTRATIONS.get(hostSignal.getNumber());
+            if (registration == null) {
+                // throws IllegalArgumentException if the JVM uses the signal itself
+                SignalHandler previous = Signal.handle(hostSignal, ignore ? SignalHandler.SIG_IGN : HOST_HANDLER);
+                registration = new HostRegistration(previous);
+                registration.contexts.put(signals, ignore);
+                HOST_REGISTRATIONS.put(hostSignal.getNumber(), registration);
+            } else {
+                registration.contexts.put(signals, ignore);
+                updateHostHandler(hostSignal, registration);
+            }
+        }
+    }
+
+    private static void unregisterHostHandler(Signal hostSignal, LLVMSignalContext signals) {
+        synchronized (HOST_REGISTRATIONS) {
+            HostRegistration registration = HOST_REGISTRATIONS.get(hostSignal.getNumber());
+            if (registration == null || registration.contexts.remove(signals) == null) {
+                return;
+            }
+            if (registration.contexts.isEmpty()) {
+                HOST_REGISTRATIONS.remove(hostSignal.getNumber());
+                Signal.handle(hostSignal, registration.previous);
+            } else {
+                updateHostHandler(hostSignal, registration);
+            }
+        }
+    }
+
+    /**
+     * The signal is only ignored on the host if every registered context ignores it.
+     */
+    private static void updateHostHandler(Signal hostSignal, HostRegistration registration) {
+        SignalHandler handler = registration.contexts.containsValue(false) ? HOST_HANDLER : SignalHandler.SIG_IGN;
+        Signal.handle(hostSignal, handler);
+    }
+
+    public synchronized int getNumberOfHostHandlers() {
+        return Long.bitCount(hostHandlers);
+    }
+
+    public void markPending(int signal) {
+        long bit = bit(signal);
+        long current;
+        do {
+            current = pending.get();
+        } while (!pending.compareAndSet(current, current | bit));
+    }
+
+    /**
+     * Synchronous {@code raise}: if the guest handles the signal, the handler has run when this
+     * method returns, unless the current thread blocks the signal.
+     */
+    @TruffleBoundary
+    public int raise(int signal, long stackPointer) {
+        if (!isValid(signal)) {
+            return -1;
+        }
+        Action action = getAction(signal);
+        if (isIgnore(action)) {
+            return 0;
+        } else if (isDefault(action)) {
+            return raiseOnHost(signal) ? 0 : -1;
+        }
+        markPending(signal);
+        deliverPending(stackPointer);
+        return 0;
+    }
+
+    @TruffleBoundary
+    public long getBlockedSignals() {
+        return context.getThreadLocalStorage().getThreadState().getBlockedSignals();
+    }
+
+    /**
+     * Changes the signal mask of the current thread.
+     *
+     * @return {@code false} if {@code how} is invalid
+     */
+    @TruffleBoundary
+    public boolean setBlockedSignals(int how, long set) {
+        ThreadState state = context.getThreadLocalStorage().getThreadState();
+        long mask = state.getBlockedSignals();
+        switch (how) {
+            case SIG_BLOCK:
+                mask |= set;
+                break;
+            case SIG_UNBLOCK:
+                mask &= ~set;
+                break;
+            case SIG_SETMASK:
+                mask = set;
+                break;
+            default:
+                return false;
+        }
+        state.setBlockedSignals(mask & ~UNBLOCKABLE);
+        return true;
+    }
+
+    /**
+     * Runs the handlers of all pending signals that the current thread does not block.
+     */
+    @TruffleBoundary
+    public void deliverPending(long stackPointer) {
+        ThreadState state = context.getThreadLocalStorage().getThreadState();
+        while (true) {
+            long current = pending.get();
+            long deliverable = current & ~state.getBlockedSignals();
+            if (deliverable == 0) {
+                return;
+            }
+            long bit = Long.lowestOneBit(deliverable);
+            if (pending.compareAndSet(current, current & ~bit)) {
+                runHandler(state, Long.numberOfTrailingZeros(bit) + 1, stackPointer);
+            }
+        }
+    }
+
+    private void runHandler(ThreadState state, int signal, long stackPointer) {
+        Action action;
+        synchronized (this) {
+            action = getAction(signal);
+            if ((action.flags & SA_RESETHAND) != 0) {
+                setAction(signal, new Action(context.getSigDfl(), 0, 0));
+            }
+        }
+        if (isIgnore(action)) {
+            return;
+        } else if (isDefault(action)) {
+            raiseOnHost(signal);
+            return;
+        }
+
+        long savedMask = state.getBlockedSignals();
+        long mask = savedMask | action.mask;
+        if ((action.flags & SA_NODEFER) == 0) {
+            mask |= bit(signal);
+        }
+        state.setBlockedSignals(mask & ~UNBLOCKABLE);
+        try {
+            LLVMFunctionDescriptor handler = (LLVMFunctionDescriptor) action.handler;
+            if ((action.flags & SA_SIGINFO) != 0) {
+                LLVMAddress info = allocateSigInfo(signal);
+                try {
+                    handler.getLLVMIRFunction().call(stackPointer, signal, info, LLVMAddress.nullPointer());
+                } finally {
+                    LLVMMemory.free(info);
+                }
+            } else {
+                handler.getLLVMIRFunction().call(stackPointer, signal);
+            }
+        } finally {
+            state.setBlockedSignals(savedMask);
+        }
+    }
+
+    @SuppressWarnings("deprecation")
+    private static LLVMAddress allocateSigInfo(int signal) {
+        // siginfo_t { int si_signo; int si_errno; int si_code; ... }
+        LLVMAddress info = LLVMMemory.allocateMemory(SIGINFO_SIZE);
+        LLVMMemory.memset(info, SIGINFO_SIZE, (byte) 0);
+        LLVMMemory.putI32(info, signal);
+        return info;
+    }
+
+    private boolean isDefault(Action action) {
+        return action.handler.getFunctionPointer() == context.getSigDfl().getFunctionPointer();
+    }
+
+    private boolean isIgnore(Action action) {
+        return action.handler.getFunctionPointer() == context.getSigIgn().getFunctionPointer();
+    }
+
+    private static boolean raiseOnHost(int signal) {
+        Signal hostSignal = getHostSignal(signal);
+        if (hostSignal == null) {
+            return false;
+        }
+        Signal.raise(hostSignal);
+        return true;
+    }
+
+    private static Signal getHostSignal(int signal) {
+        if (signal >= SIGNAL_NAMES.length) {
+            return null;
+        }
+        try {
+            return new Signal(SIGNAL_NAMES[signal]);
+        } catch (IllegalArgumentException e) {
+            // not available on this platform
+            return null;
+        }
+    }
+}
@@ -0,0 +1,228 @@
+/*
+ * Copyright (c) 2017, Oracle and/or its affiliates.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of
+ * conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of
+ * conditions and the following disclaimer in the documentation and/or other materials provided
+ * with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to
+ * endorse or promote products derived from this software without specific prior written
+ * permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS
+ * OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE
+ * COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE
+ * GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED
+ * OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.oracle.truffle.llvm.runtime.pthread;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
+import com.oracle.truffle.llvm.runtime.LLVMAddress;
+import com.oracle.truffle.llvm.runtime.memory.LLVMMemory;
+
+/**
+ * Per-thread state of the guest: the blocks backing {@code thread_local} globals, the thread
+ * pointer set by {@code arch_prctl(ARCH_SET_FS)}, the {@code set_tid_address} pointer and the
+ * signal mask.
+ *
+ * Every module that defines {@code thread_local} globals registers one {@link Segment}. The static
+ * initializers of the module write into the segment's template, and every thread gets a copy of
+ * the template the first time it accesses the segment. The state of one thread is cached in a
+ * volatile field, so that code running on this thread (usually the one running main) does not need
+ * a {@link ThreadLocal} lookup. The field is not compilation final: it is cleared when its thread
+ * releases its storage, and the next thread that creates its state takes the free place.
+ */
+public final class LLVMThreadLocalStorage {
+
+    private static final long[] NO_BLOCKS = new long[0];
+
+    public static final class Segment {
+
+        private final int index;
+        private final long size;
+        private final int alignment;
+        private final LLVMAddress template;
+
+        private Segment(int index, long size, int alignment, LLVMAddress template) {
+            this.index = index;
+            this.size = size;
+            this.alignment = alignment;
+            this.template = template;
+        }
+
+        public LLVMAddress getTemplate() {
+            return template;
+        }
+
+        public long getSize() {
+            return size;
+        }
+    }
+
+    public static final class ThreadState {
+
+        private final Thread thread;
+
+        // aligned block addresses and the pointers to free, indexed by segment
+        private long[] blocks = NO_BLOCKS;
+        private long[] allocations = NO_BLOCKS;
+
+        private long threadPointer;
+        private long clearChildTid;
+
+        // signals 1 to 64, see LLVMSignalContext
+        private long blockedSignals;
+
+        private ThreadState(Thread thread) {
+            this.thread = thread;
+        }
+
+        public LLVMAddress getThreadPointer() {
+            return LLVMAddress.fromLong(threadPointer);
+        }
+
+        public void setThreadPointer(LLVMAddress address) {
+            this.threadPointer = address.getVal();
+        }
+
+        public LLVMAddress getClearChildTid() {
+            return LLVMAddress.fromLong(clearChildTid);
+        }
+
+        public void setClearChildTid(LLVMAddress address) {
+            this.clearChildTid = address.getVal();
+        }
+
+        long getBlockedSignals() {
+            return blockedSignals;
+        }
+
+        void setBlockedSignals(long mask) {
+            this.blockedSignals = mask;
+        }
+    }
+
+    private final ThreadLocal<ThreadState> states = new ThreadLocal<>();
+    private final List<Segment> segments = new ArrayList<>();
+
+    private volatile ThreadState cachedState;
+
+    public ThreadState getThreadState() {
+        ThreadState state = cachedState;
+        if (state != null && state.thread == Thread.currentThread()) {
+            return state;
+        }
+        return lookupThreadState();
+    }
+
+    @TruffleBoundary
+    private ThreadState lookupThreadState() {
+        ThreadState state = states.get();
+        if (state == null) {
+            state = new ThreadState(Thread.currentThread());
+            states.set(state);
+            synchronized (this) {
+                if (cachedState == null) {
+                    cachedState = state;
+                }
+            }
+        }
+        return state;
+    }
+
+    /**
+     * Returns the address of the current thread's copy of {@code segment}.
+     */
+    public long getBlock(ThreadState state, Segment segment) {
+        long[] blocks = state.blocks;
+        if (segment.index < blocks.length) {
+            long block = blocks[segment.index];
+            if (block != 0) {
+                return block;
+            }
+        }
+        return allocateBlock(state, segment);
+    }
+
+    @TruffleBoundary
+    @SuppressWarnings("deprecation")
+    private static long allocateBlock(ThreadState state, Segment segment) {
+        assert state.thread == Thread.currentThread();
+        if (segment.index >= state.blocks.length) {
+            int length = segment.index + 1;
+            state.blocks = Arrays.copyOf(state.blocks, length);
+            state.allocations = Arrays.copyOf(state.allocations, length);
+        }
+        long allocation = allocateAligned(segment.size, segment.alignment);
+        long block = align(allocation, segment.alignment);
+        LLVMMemory.copyMemory(segment.template.getVal(), block, segment.size);
+        state.allocations[segment.index] = allocation;
+        state.blocks[segment.index] = block;
+        return block;
+    }
+
+    @TruffleBoundary
+    @SuppressWarnings("deprecation")
+    public synchronized Segment registerSegment(long size, int alignment) {
+        long allocation = allocateAligned(size, alignment);
+        LLVMAddress template = LLVMAddress.fromLong(align(allocation, alignment));
+        LLVMMemory.memset(template, size, (byte) 0);
+        Segment segment = new Segment(segments.size(), size, alignment, template);
+        segments.add(segment);
+        return segment;
+    }
+
+    /**
+     * Frees the thread local storage of the current thread. Must be called by a thread that no
+     * longer executes guest code.
+     */
+    @TruffleBoundary
+    public void releaseCurrentThread() {
+        ThreadState state = states.get();
+        if (state != null) {
+            states.remove();
+            synchronized (this) {
+                if (cachedState == state) {
+                    cachedState = null;
+                }
+            }
+            for (long allocation : state.allocations) {
+                if (allocation != 0) {
+                    LLVMMemory.free(allocation);
+                }
+            }
+            state.blocks = NO_BLOCKS;
+            state.allocations = NO_BLOCKS;
+        }
+    }
+
+    private static long allocateAligned(long size, int alignment) {
+        // malloc already guarantees 16 byte alignment
+        long padding = alignment > 16 ? alignment - 1 : 0;
+        return LLVMMemory.allocateMemory(Math.max(size, 1) + padding).getVal();
+    }
+
+    private static long align(long address, int alignment) {
+        if (alignment <= 16) {
+            return address;
+        }
+        return (address + alignment - 1) & -alignment;
+    }
+}
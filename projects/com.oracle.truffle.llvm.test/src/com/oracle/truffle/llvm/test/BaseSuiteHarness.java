@@ -35,6 +35,7 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -52,8 +53,8 @@ import org.junit.Assert;
 
 public abstract class BaseSuiteHarness extends BaseTestHarness {
 
-    private static final List<Path> passingTests = new ArrayList<>();
-    private static final List<Path> failingTests = new ArrayList<>();
+    private static final List<Path> passingTests = Collections.synchronizedList(new ArrayList<>());
+    private static final List<Path> failingTests = Collections.synchronizedList(new ArrayList<>());
 
     @Override
     @Test
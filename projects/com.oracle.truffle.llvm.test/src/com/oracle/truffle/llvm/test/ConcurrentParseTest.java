@@ -0,0 +1,137 @@
+/*
+ * Copyright (c) 2017, Oracle and/or its affiliates.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of
+ * conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of
+ * conditions and the following disclaimer in the documentation and/or other materials provided
+ * with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to
+ * endorse or promote products derived from this software without specific prior written
+ * permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS
+ * OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE
+ * COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE
+ * GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED
+ * OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.oracle.truffle.llvm.test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.oracle.truffle.llvm.parser.model.ModelModule;
+import com.oracle.truffle.llvm.parser.model.blocks.InstructionBlock;
+import com.oracle.truffle.llvm.parser.model.functions.FunctionDefinition;
+import com.oracle.truffle.llvm.parser.model.symbols.instructions.Instruction;
+import com.oracle.truffle.llvm.parser.model.symbols.instructions.ValueInstruction;
+import com.oracle.truffle.llvm.parser.scanner.LLVMScanner;
+import com.oracle.truffle.llvm.test.options.TestOptions;
+
+public final class ConcurrentParseTest {
+
+    private static final File OTHER_DIR = new File(TestOptions.PROJECT_ROOT + "/../cache/tests/other");
+    private static final String LIBRARY_PATH = System.getProperty("polyglot.llvm.libraryPath");
+
+    private static final int THREADS = 4;
+    private static final int ROUNDS = 3;
+
+    /**
+     * Collects libsulong, whose function blocks are decoded in parallel, and the bitcode files of
+     * the other test suite.
+     */
+    private static List<File> getModules() {
+        List<File> modules = new ArrayList<>();
+        if (LIBRARY_PATH != null) {
+            File libsulong = new File(LIBRARY_PATH, "libsulong.bc");
+            if (libsulong.exists()) {
+                modules.add(libsulong);
+            }
+        }
+        File[] tests = OTHER_DIR.listFiles();
+        if (tests != null) {
+            for (File test : tests) {
+                File bitcode = new File(test, test.getName() + "_clang_O0.bc");
+                if (bitcode.exists()) {
+                    modules.add(bitcode);
+                }
+            }
+        }
+        Assert.assertFalse("no bitcode files found", modules.isEmpty());
+        return modules;
+    }
+
+    private static String parse(File file) throws IOException {
+        return describe(LLVMScanner.parse(ByteBuffer.wrap(Files.readAllBytes(file.toPath()))));
+    }
+
+    /**
+     * Describes the functions of a module down to the kind, name and type of every instruction.
+     */
+    private static String describe(ModelModule module) {
+        StringBuilder sb = new StringBuilder();
+        for (FunctionDefinition function : module.getDefinedFunctions()) {
+            sb.append(function.getName()).append(' ').append(function.getType()).append('\n');
+            for (InstructionBlock block : function.getBlocks()) {
+                sb.append("  ").append(block.getName()).append('\n');
+                for (int i = 0; i < block.getInstructionCount(); i++) {
+                    Instruction instruction = block.getInstruction(i);
+                    sb.append("    ").append(instruction.getClass().getSimpleName());
+                    if (instruction instanceof ValueInstruction) {
+                        ValueInstruction value = (ValueInstruction) instruction;
+                        sb.append(' ').append(value.getName()).append(' ').append(value.getType());
+                    }
+                    sb.append('\n');
+                }
+            }
+        }
+        return sb.toString();
+    }
+
+    @Test
+    public void testConcurrentParse() throws IOException, InterruptedException, ExecutionException {
+        List<File> modules = getModules();
+        List<String> expected = new ArrayList<>();
+        for (File module : modules) {
+            expected.add(parse(module));
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Future<String>> results = new ArrayList<>();
+            for (int round = 0; round < ROUNDS; round++) {
+                for (File module : modules) {
+                    results.add(executor.submit(() -> parse(module)));
+                }
+            }
+            for (int i = 0; i < results.size(); i++) {
+                Assert.assertEquals(modules.get(i % modules.size()).getName(), expected.get(i % modules.size()), results.get(i).get());
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
@@ -38,13 +38,13 @@ import java.util.function.Predicate;
 
 import org.junit.AfterClass;
 import org.junit.runner.RunWith;
-import org.junit.runners.Parameterized;
 import org.junit.runners.Parameterized.Parameter;
 import org.junit.runners.Parameterized.Parameters;
 
 import com.oracle.truffle.llvm.test.options.TestOptions;
+import com.oracle.truffle.llvm.test.util.ParallelParameterized;
 
-@RunWith(Parameterized.class)
+@RunWith(ParallelParameterized.class)
 public final class GCCSuite extends BaseSuiteHarness {
 
     private static final Path GCC_SUITE_DIR = new File(TestOptions.PROJECT_ROOT + "/../cache/tests/gcc").toPath();
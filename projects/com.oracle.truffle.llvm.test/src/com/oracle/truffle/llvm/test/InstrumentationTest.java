@@ -0,0 +1,189 @@
+/*
+ * Copyright (c) 2017, Oracle and/or its affiliates.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of
+ * conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of
+ * conditions and the following disclaimer in the documentation and/or other materials provided
+ * with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to
+ * endorse or promote products derived from this software without specific prior written
+ * permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS
+ * OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE
+ * COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE
+ * GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED
+ * OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.oracle.truffle.llvm.test;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.graalvm.polyglot.Context;
+import org.graalvm.polyglot.Source;
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.oracle.truffle.api.frame.VirtualFrame;
+import com.oracle.truffle.api.instrumentation.EventContext;
+import com.oracle.truffle.api.instrumentation.ExecutionEventListener;
+import com.oracle.truffle.api.instrumentation.SourceSectionFilter;
+import com.oracle.truffle.api.instrumentation.TruffleInstrument;
+import com.oracle.truffle.api.nodes.Node;
+import com.oracle.truffle.llvm.nodes.memory.load.LLVMDirectLoadNode.LLVMGlobalVariableDirectLoadNode;
+import com.oracle.truffle.llvm.runtime.LLVMLanguage;
+import com.oracle.truffle.llvm.runtime.nodes.api.LLVMTags;
+import com.oracle.truffle.llvm.test.options.TestOptions;
+
+public final class InstrumentationTest {
+
+    private static final File INSTRUMENTATION_DIR = new File(TestOptions.PROJECT_ROOT + "/../cache/tests/instrumentation");
+
+    private static final class MemoryEvent {
+        final Class<?> tag;
+        final Node node;
+        final Object result;
+
+        MemoryEvent(Class<?> tag, Node node, Object result) {
+            this.tag = tag;
+            this.node = node;
+            this.result = result;
+        }
+
+        boolean isInMain() {
+            return node.getRootNode().getName().matches("@?main");
+        }
+    }
+
+    /**
+     * Records every memory event that Sulong reports through {@link LLVMTags}.
+     */
+    @TruffleInstrument.Registration(id = MemoryEventsInstrument.ID, services = MemoryEventsInstrument.class)
+    public static final class MemoryEventsInstrument extends TruffleInstrument {
+
+        static final String ID = "sulong-test-memory-events";
+
+        final List<MemoryEvent> events = Collections.synchronizedList(new ArrayList<>());
+
+        @Override
+        protected void onCreate(Env env) {
+            env.registerService(this);
+            for (Class<?> tag : new Class<?>[]{LLVMTags.MemoryLoadTag.class, LLVMTags.MemoryStoreTag.class, LLVMTags.MemoryStoreAddressTag.class, LLVMTags.StackAllocationTag.class,
+                            LLVMTags.HeapAllocationTag.class, LLVMTags.HeapFreeTag.class}) {
+                env.getInstrumenter().attachListener(SourceSectionFilter.newBuilder().tagIs(tag).build(), new ExecutionEventListener() {
+
+                    @Override
+                    public void onEnter(EventContext context, VirtualFrame frame) {
+                    }
+
+                    @Override
+                    public void onReturnValue(EventContext context, VirtualFrame frame, Object result) {
+                        events.add(new MemoryEvent(tag, context.getInstrumentedNode(), result));
+                    }
+
+                    @Override
+                    public void onReturnExceptional(EventContext context, VirtualFrame frame, Throwable exception) {
+                    }
+                });
+            }
+        }
+    }
+
+    /**
+     * Runs a test program compiled with debug information and returns the memory events it caused.
+     */
+    private static List<MemoryEvent> run(String name) throws IOException {
+        File file = new File(INSTRUMENTATION_DIR, name + "/" + name + "_clang_O0.bc");
+        Context context = Context.create();
+        try {
+            MemoryEventsInstrument instrument = context.getEngine().getInstruments().get(MemoryEventsInstrument.ID).lookup(MemoryEventsInstrument.class);
+            Assert.assertEquals(0, context.eval(Source.newBuilder(LLVMLanguage.NAME, file).build()).asInt());
+            synchronized (instrument.events) {
+                return new ArrayList<>(instrument.events);
+            }
+        } finally {
+            context.close();
+        }
+    }
+
+    private static int count(List<MemoryEvent> events, Class<?> tag) {
+        int count = 0;
+        for (MemoryEvent event : events) {
+            if (event.tag == tag) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private static List<MemoryEvent> inMain(List<MemoryEvent> events) {
+        List<MemoryEvent> result = new ArrayList<>();
+        for (MemoryEvent event : events) {
+            if (event.isInMain()) {
+                result.add(event);
+            }
+        }
+        return result;
+    }
+
+    @Test
+    public void testMemoryEvents() throws IOException {
+        List<MemoryEvent> events = run("memory-events");
+        List<MemoryEvent> main = inMain(events);
+        // the locals of main live on the stack at -O0
+        Assert.assertTrue(count(main, LLVMTags.StackAllocationTag.class) >= 4);
+        Assert.assertTrue(count(main, LLVMTags.MemoryStoreTag.class) >= 3);
+        Assert.assertTrue(count(main, LLVMTags.MemoryLoadTag.class) >= 4);
+        for (MemoryEvent event : main) {
+            if (event.tag == LLVMTags.StackAllocationTag.class) {
+                Assert.assertNotNull(event.result);
+            }
+        }
+        // the heap intrinsics run in their own roots
+        Assert.assertTrue(count(events, LLVMTags.HeapAllocationTag.class) >= 1);
+        Assert.assertTrue(count(events, LLVMTags.HeapFreeTag.class) >= 1);
+    }
+
+    @Test
+    public void testStoreAddresses() throws IOException {
+        List<MemoryEvent> main = inMain(run("memory-events"));
+        // every store reports its address before the store itself
+        Assert.assertEquals(count(main, LLVMTags.MemoryStoreTag.class), count(main, LLVMTags.MemoryStoreAddressTag.class));
+        for (MemoryEvent event : main) {
+            if (event.tag == LLVMTags.MemoryStoreAddressTag.class) {
+                Assert.assertNotNull(event.result);
+            }
+        }
+    }
+
+    @Test
+    public void testGlobalVariableLoad() throws IOException {
+        List<MemoryEvent> main = inMain(run("memory-events"));
+        int globalLoads = 0;
+        for (MemoryEvent event : main) {
+            if (event.node instanceof LLVMGlobalVariableDirectLoadNode) {
+                Assert.assertSame(LLVMTags.MemoryLoadTag.class, event.tag);
+                Assert.assertNotNull(event.result);
+                globalLoads++;
+            }
+        }
+        // int *p = global;
+        Assert.assertEquals(1, globalLoads);
+    }
+}
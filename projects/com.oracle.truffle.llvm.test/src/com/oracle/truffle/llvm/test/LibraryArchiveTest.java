@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2017, Oracle and/or its affiliates.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of
+ * conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of
+ * conditions and the following disclaimer in the documentation and/or other materials provided
+ * with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to
+ * endorse or promote products derived from this software without specific prior written
+ * permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS
+ * OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE
+ * COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE
+ * GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED
+ * OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.oracle.truffle.llvm.test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.graalvm.polyglot.Context;
+import org.graalvm.polyglot.Source;
+import org.graalvm.polyglot.Value;
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.oracle.truffle.llvm.runtime.LLVMLanguage;
+import com.oracle.truffle.llvm.test.options.TestOptions;
+
+public final class LibraryArchiveTest {
+
+    private static final File OTHER_DIR = new File(TestOptions.PROJECT_ROOT + "/../cache/tests/other");
+
+    private static final int ARCHIVE_MAGIC_WORD = 0x42494C53; // 'SLIB'
+    private static final int ARCHIVE_VERSION = 1;
+
+    private static ByteBuffer readMember(String name) throws IOException {
+        return ByteBuffer.wrap(Files.readAllBytes(new File(OTHER_DIR, name + "/" + name + "_clang_O0.bc").toPath()));
+    }
+
+    /**
+     * Writes a Sulong library in the binary archive format, see {@code Library}.
+     */
+    private static void writeArchive(Path target, Map<String, ByteBuffer> members) throws IOException {
+        int headerSize = 3 * Integer.BYTES;
+        for (String name : members.keySet()) {
+            headerSize += Integer.BYTES + name.getBytes(StandardCharsets.UTF_8).length + 2 * Long.BYTES;
+        }
+        ByteBuffer header = ByteBuffer.allocate(headerSize).order(ByteOrder.LITTLE_ENDIAN);
+        header.putInt(ARCHIVE_MAGIC_WORD);
+        header.putInt(ARCHIVE_VERSION);
+        header.putInt(members.size());
+        long offset = headerSize;
+        for (Map.Entry<String, ByteBuffer> member : members.entrySet()) {
+            byte[] name = member.getKey().getBytes(StandardCharsets.UTF_8);
+            header.putInt(name.length);
+            header.put(name);
+            header.putLong(offset);
+            header.putLong(member.getValue().remaining());
+            offset += member.getValue().remaining();
+        }
+        header.flip();
+        try (FileChannel channel = FileChannel.open(target, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            while (header.hasRemaining()) {
+                channel.write(header);
+            }
+            for (ByteBuffer contents : members.values()) {
+                while (contents.hasRemaining()) {
+                    channel.write(contents);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testLoadArchive() throws IOException {
+        Map<String, ByteBuffer> members = new LinkedHashMap<>();
+        // main calls a function that is only defined in the other member
+        members.put("archive-main.bc", readMember("archive-main"));
+        members.put("archive-lib.bc", readMember("archive-lib"));
+        Path archive = Files.createTempFile("sulong", ".slib");
+        try {
+            writeArchive(archive, members);
+            Context context = Context.create();
+            try {
+                Value main = context.eval(Source.newBuilder(LLVMLanguage.NAME, archive.toFile()).build());
+                Assert.assertEquals(0, main.asInt());
+                Value add = context.lookup(LLVMLanguage.NAME, "archive_add");
+                Assert.assertNotNull(add);
+                Assert.assertEquals(3, add.execute(1, 2).asInt());
+            } finally {
+                context.close();
+            }
+        } finally {
+            Files.delete(archive);
+        }
+    }
+}
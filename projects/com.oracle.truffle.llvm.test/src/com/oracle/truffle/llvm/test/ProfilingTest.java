@@ -0,0 +1,214 @@
+/*
+ * Copyright (c) 2017, Oracle and/or its affiliates.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of
+ * conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of
+ * conditions and the following disclaimer in the documentation and/or other materials provided
+ * with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to
+ * endorse or promote products derived from this software without specific prior written
+ * permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS
+ * OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE
+ * COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE
+ * GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED
+ * OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.oracle.truffle.llvm.test;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.graalvm.polyglot.Context;
+import org.graalvm.polyglot.Source;
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.oracle.truffle.llvm.pipe.CaptureOutput;
+import com.oracle.truffle.llvm.runtime.LLVMLanguage;
+import com.oracle.truffle.llvm.runtime.options.SulongEngineOption;
+import com.oracle.truffle.llvm.test.options.TestOptions;
+
+public final class ProfilingTest {
+
+    private static final File OTHER_DIR = new File(TestOptions.PROJECT_ROOT + "/../cache/tests/other");
+
+    private static final Pattern NATIVE_CALL_SITE = Pattern.compile(
+                    "\\{\"function\": \"([^\"]*)\", \"type\": \"[^\"]*\", \"location\": \"([^\"]*)\", \"calls\": (\\d+)(?:, \"latencyNanos\": \\{([^}]*)\\})?\\}");
+    private static final Pattern LATENCY_BUCKET = Pattern.compile("\"<\\d+\": (\\d+)");
+    private static final Pattern ALLOCATION_SITE = Pattern.compile("^  (.+?) +allocations: (\\d+) bytes: (\\d+) live blocks: (\\d+) live bytes: (\\d+)$", Pattern.MULTILINE);
+
+    /**
+     * Runs a test program from the {@code other} test suite and returns what it printed to stderr.
+     */
+    private static String run(String name, String... options) throws IOException {
+        File file = new File(OTHER_DIR, name + "/" + name + "_clang_O0.bc");
+        Context.Builder builder = Context.newBuilder();
+        for (int i = 0; i < options.length; i += 2) {
+            builder.option(options[i], options[i + 1]);
+        }
+        try (CaptureOutput out = new CaptureOutput()) {
+            Context context = builder.build();
+            try {
+                Assert.assertEquals(0, context.eval(Source.newBuilder(LLVMLanguage.NAME, file).build()).asInt());
+            } finally {
+                // the statistics are printed when the context is disposed
+                context.close();
+            }
+            return out.getStdErr();
+        }
+    }
+
+    /**
+     * The test programs are compiled without debug information, so locations name the function.
+     */
+    private static boolean isInMain(String location) {
+        return location.matches("@?main, .*");
+    }
+
+    private static final class NativeCallSite {
+        final String function;
+        final String location;
+        final long calls;
+        final String latencies;
+
+        NativeCallSite(Matcher matcher) {
+            this.function = matcher.group(1);
+            this.location = matcher.group(2);
+            this.calls = Long.parseLong(matcher.group(3));
+            this.latencies = matcher.group(4);
+        }
+    }
+
+    /**
+     * Returns the call sites of {@code function} in the main function of the test program.
+     */
+    private static List<NativeCallSite> parseNativeCallSites(String output, String function) {
+        int start = output.indexOf('[');
+        int end = output.lastIndexOf(']');
+        Assert.assertTrue(output, start >= 0 && end > start);
+        List<NativeCallSite> sites = new ArrayList<>();
+        Matcher matcher = NATIVE_CALL_SITE.matcher(output.substring(start, end + 1));
+        while (matcher.find()) {
+            NativeCallSite site = new NativeCallSite(matcher);
+            if (site.function.endsWith(function) && isInMain(site.location)) {
+                sites.add(site);
+            }
+        }
+        return sites;
+    }
+
+    @Test
+    public void testNativeCallStatsPerCallSite() throws IOException {
+        String output = run("native-call-stats", SulongEngineOption.NATIVE_CALL_STATS_NAME, "stderr");
+        List<NativeCallSite> sites = parseNativeCallSites(output, "strlen");
+        Assert.assertEquals(output, 2, sites.size());
+        // sorted by the number of calls
+        Assert.assertEquals(10, sites.get(0).calls);
+        Assert.assertEquals(5, sites.get(1).calls);
+        // without debug information, the call sites are told apart by their position in main
+        Assert.assertNotEquals(sites.get(0).location, sites.get(1).location);
+        Assert.assertNull(sites.get(0).latencies);
+        Assert.assertNull(sites.get(1).latencies);
+    }
+
+    @Test
+    public void testNativeCallStatsSampling() throws IOException {
+        String output = run("native-call-stats", SulongEngineOption.NATIVE_CALL_STATS_NAME, "stderr", SulongEngineOption.NATIVE_CALL_STATS_SAMPLING_NAME, "1");
+        List<NativeCallSite> sites = parseNativeCallSites(output, "strlen");
+        Assert.assertEquals(output, 2, sites.size());
+        for (NativeCallSite site : sites) {
+            Assert.assertNotNull(output, site.latencies);
+            // every call is sampled
+            long samples = 0;
+            Matcher bucket = LATENCY_BUCKET.matcher(site.latencies);
+            while (bucket.find()) {
+                samples += Long.parseLong(bucket.group(1));
+            }
+            Assert.assertEquals(site.calls, samples);
+        }
+    }
+
+    private static final class AllocationSite {
+        final long allocations;
+        final long bytes;
+        final long liveBlocks;
+        final long liveBytes;
+
+        AllocationSite(Matcher matcher) {
+            this.allocations = Long.parseLong(matcher.group(2));
+            this.bytes = Long.parseLong(matcher.group(3));
+            this.liveBlocks = Long.parseLong(matcher.group(4));
+            this.liveBytes = Long.parseLong(matcher.group(5));
+        }
+    }
+
+    /**
+     * Returns the allocation sites in the main function of the test program, in the order of the
+     * report.
+     */
+    private static List<AllocationSite> parseAllocationSites(String output) {
+        List<AllocationSite> sites = new ArrayList<>();
+        Matcher matcher = ALLOCATION_SITE.matcher(output);
+        while (matcher.find()) {
+            if (isInMain(matcher.group(1))) {
+                sites.add(new AllocationSite(matcher));
+            }
+        }
+        return sites;
+    }
+
+    @Test
+    public void testAllocationStats() throws IOException {
+        String output = run("allocation-stats", SulongEngineOption.ALLOCATION_STATS_NAME, "stderr");
+        List<AllocationSite> sites = parseAllocationSites(output);
+        Assert.assertEquals(output, 2, sites.size());
+        // sorted by bytes: the freed 100 byte blocks come first
+        AllocationSite freed = sites.get(0);
+        Assert.assertEquals(8, freed.allocations);
+        Assert.assertEquals(800, freed.bytes);
+        Assert.assertEquals(0, freed.liveBlocks);
+        Assert.assertEquals(0, freed.liveBytes);
+        AllocationSite leaked = sites.get(1);
+        Assert.assertEquals(4, leaked.allocations);
+        Assert.assertEquals(64, leaked.bytes);
+        Assert.assertEquals(2, leaked.liveBlocks);
+        Assert.assertEquals(32, leaked.liveBytes);
+        Assert.assertTrue(output, output.contains("size classes: <32: 4"));
+        Assert.assertTrue(output, output.contains("size classes: <128: 8"));
+        Assert.assertTrue(output, output.contains("Leaked: "));
+    }
+
+    @Test
+    public void testAllocationStatsSampling() throws IOException {
+        String output = run("allocation-stats", SulongEngineOption.ALLOCATION_STATS_NAME, "stderr", SulongEngineOption.ALLOCATION_STATS_SAMPLING_NAME, "2");
+        List<AllocationSite> sites = parseAllocationSites(output);
+        Assert.assertEquals(output, 2, sites.size());
+        // the allocations of main are consecutive, so every second one of each loop is sampled
+        Assert.assertEquals(4, sites.get(0).allocations);
+        Assert.assertEquals(400, sites.get(0).bytes);
+        Assert.assertEquals(0, sites.get(0).liveBlocks);
+        Assert.assertEquals(2, sites.get(1).allocations);
+        Assert.assertEquals(32, sites.get(1).bytes);
+        // one of the two sampled small blocks is freed, whichever two were sampled
+        Assert.assertEquals(1, sites.get(1).liveBlocks);
+        Assert.assertEquals(16, sites.get(1).liveBytes);
+    }
+}
@@ -43,6 +43,7 @@ import org.junit.Assert;
 import org.junit.Ignore;
 import org.junit.Test;
 
+import com.oracle.truffle.llvm.nodes.intrinsics.interop.LLVMTruffleManagedMalloc.ManagedMallocObject;
 import com.oracle.truffle.llvm.test.options.TestOptions;
 import org.graalvm.polyglot.proxy.ProxyExecutable;
 import org.junit.Assume;
@@ -899,6 +900,55 @@ public final class LLVMInteropTest {
         Assert.assertEquals(testString.length(), runner.run());
     }
 
+    @Test
+    public void test078() {
+        Runner runner = new Runner("interop078");
+        runner.export(new Object(), "object");
+        Assert.assertEquals(0, runner.run());
+    }
+
+    @Test
+    public void testManagedMallocBackingArray() {
+        ManagedMallocObject malloc = new ManagedMallocObject(4);
+        Assert.assertNull(malloc.getBackingArray());
+        for (int i = 0; i < 4; i++) {
+            malloc.setDouble(i, i * 0.5);
+        }
+        Assert.assertTrue(malloc.getBackingArray() instanceof double[]);
+        Assert.assertEquals(1.5, malloc.getDouble(3), 0);
+
+        // a long in a double array migrates the contents and keeps the doubles
+        malloc.setLong(1, 7);
+        Assert.assertTrue(malloc.getBackingArray() instanceof Object[]);
+        Assert.assertEquals(7, malloc.getLong(1));
+        Assert.assertEquals(0.0, malloc.getDouble(0), 0);
+        Assert.assertEquals(1.0, malloc.getDouble(2), 0);
+        Assert.assertEquals(1.5, malloc.getDouble(3), 0);
+
+        ManagedMallocObject longs = new ManagedMallocObject(2);
+        longs.set(0, 42L);
+        Assert.assertTrue(longs.getBackingArray() instanceof long[]);
+        Assert.assertEquals(42L, longs.get(0));
+        Assert.assertEquals(0, longs.getLong(1));
+    }
+
+    @Test
+    public void test079() throws Exception {
+        Runner runner = new Runner("interop079");
+        runner.run();
+        int[] a = new int[]{1, 2, 3, 4, 5};
+        Assert.assertEquals(15, runner.findGlobalSymbol("sum").execute(a, 5).asInt());
+        runner.findGlobalSymbol("fill").execute(a, 4);
+        Assert.assertArrayEquals(new int[]{0, 1, 4, 9, 5}, a);
+    }
+
+    @Test
+    public void test080() {
+        // the symbols are defined in a dependency of libsulongtest, not in libsulongtest itself
+        Runner runner = new Runner("interop080");
+        Assert.assertEquals(3, runner.run());
+    }
+
     @Test
     public void testStrlen() throws Exception {
         Runner runner = new Runner("strlen");
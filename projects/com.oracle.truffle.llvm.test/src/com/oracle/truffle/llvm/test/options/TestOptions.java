@@ -37,6 +37,9 @@ public final class TestOptions {
     public static final String TEST_FILTER = System.getProperty("sulongtest.testFilter");
     public static final String PROJECT_ROOT = System.getProperty("sulongtest.projectRoot");
     public static final String TEST_SUITE_PATH = System.getProperty("sulongtest.testSuitePath");
+    public static final boolean TEST_SHARED_ENGINE = Boolean.getBoolean("sulongtest.sharedEngine");
+    public static final int TEST_PARALLELISM = Integer.getInteger("sulongtest.parallelism", 1);
+    public static final boolean TEST_PRINT_TIMES = Boolean.getBoolean("sulongtest.printTimes");
 
     private static String[] getFileExtensions() {
         String property = System.getProperty("sulongtest.fileExtensionFilter");
@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2017, Oracle and/or its affiliates.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of
+ * conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of
+ * conditions and the following disclaimer in the documentation and/or other materials provided
+ * with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to
+ * endorse or promote products derived from this software without specific prior written
+ * permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS
+ * OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE
+ * COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE
+ * GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED
+ * OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.oracle.truffle.llvm.test.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+import org.junit.runners.Parameterized;
+import org.junit.runners.model.RunnerScheduler;
+
+import com.oracle.truffle.llvm.test.options.TestOptions;
+
+/**
+ * A {@link Parameterized} runner that executes the individual test cases on a fork-join pool if
+ * {@code sulongtest.parallelism} is greater than one. Otherwise, it behaves exactly like
+ * {@link Parameterized}.
+ */
+public final class ParallelParameterized extends Parameterized {
+
+    public ParallelParameterized(Class<?> klass) throws Throwable {
+        super(klass);
+        if (TestOptions.TEST_PARALLELISM > 1) {
+            setScheduler(new ForkJoinScheduler(TestOptions.TEST_PARALLELISM));
+        }
+    }
+
+    private static final class ForkJoinScheduler implements RunnerScheduler {
+
+        private final ForkJoinPool pool;
+        private final List<ForkJoinTask<?>> tasks;
+
+        ForkJoinScheduler(int parallelism) {
+            this.pool = new ForkJoinPool(parallelism);
+            this.tasks = new ArrayList<>();
+        }
+
+        @Override
+        public void schedule(Runnable childStatement) {
+            tasks.add(pool.submit(childStatement));
+        }
+
+        @Override
+        public void finished() {
+            try {
+                for (ForkJoinTask<?> task : tasks) {
+                    task.join();
+                }
+            } finally {
+                pool.shutdown();
+            }
+        }
+    }
+}
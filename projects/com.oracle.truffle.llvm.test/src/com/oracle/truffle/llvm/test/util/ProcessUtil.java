@@ -35,8 +35,14 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.util.concurrent.TimeUnit;
 
+import org.graalvm.polyglot.Context;
+import org.graalvm.polyglot.Engine;
+import org.graalvm.polyglot.Source;
+
 import com.oracle.truffle.llvm.Sulong;
 import com.oracle.truffle.llvm.pipe.CaptureOutput;
+import com.oracle.truffle.llvm.runtime.LLVMLanguage;
+import com.oracle.truffle.llvm.runtime.options.SulongEngineOption;
 import com.oracle.truffle.llvm.test.options.TestOptions;
 import java.util.Objects;
 
@@ -44,6 +50,15 @@ public class ProcessUtil {
 
     private static final int BUFFER_SIZE = 1024;
     private static final int PROCESS_WAIT_TIMEOUT = 20000;
+    private static final long NANOS_PER_MILLI = 1000000;
+
+    /**
+     * {@link CaptureOutput} redirects the file descriptors of the whole process, so in-process
+     * executions have to be serialized even if tests run in parallel.
+     */
+    private static final Object CAPTURE_LOCK = new Object();
+
+    private static Engine sharedEngine;
 
     /**
      * This class represents the result of a native command executed by the operating system.
@@ -124,11 +139,20 @@ public class ProcessUtil {
 
     public static ProcessResult executeSulongTestMain(File bitcodeFile, String[] args) throws Exception {
         if (TestOptions.TEST_AOT_IMAGE == null) {
-            try (CaptureOutput out = new CaptureOutput()) {
-                int result = Sulong.executeMain(bitcodeFile, args);
-                System.out.flush();
-                System.err.flush();
-                return new ProcessResult(bitcodeFile.getName(), result, out.getStdErr(), out.getStdOut());
+            Engine engine = TestOptions.TEST_SHARED_ENGINE ? getSharedEngine() : null;
+            long parseTime = TestOptions.TEST_PRINT_TIMES ? measureParseTime(bitcodeFile) : 0;
+            synchronized (CAPTURE_LOCK) {
+                ProcessResult processResult;
+                long start = System.nanoTime();
+                try (CaptureOutput out = new CaptureOutput()) {
+                    int result = Sulong.executeMain(bitcodeFile, args, engine);
+                    System.out.flush();
+                    System.err.flush();
+                    processResult = new ProcessResult(bitcodeFile.getName(), result, out.getStdErr(), out.getStdOut());
+                }
+                long totalTime = System.nanoTime() - start;
+                printTimes(bitcodeFile, parseTime, totalTime - parseTime);
+                return processResult;
             }
         } else {
             String aotArgs = TestOptions.TEST_AOT_ARGS == null ? "" : TestOptions.TEST_AOT_ARGS + " ";
@@ -137,6 +161,37 @@ public class ProcessUtil {
         }
     }
 
+    private static synchronized Engine getSharedEngine() {
+        if (sharedEngine == null) {
+            sharedEngine = Engine.create();
+            Runtime.getRuntime().addShutdownHook(new Thread(sharedEngine::close));
+        }
+        return sharedEngine;
+    }
+
+    /**
+     * Parses the bitcode file, including all bitcode libraries, in a separate context that does not
+     * execute it. The execution time is then estimated as the time of the full run minus this parse
+     * time.
+     */
+    private static long measureParseTime(File bitcodeFile) throws IOException {
+        Source source = Source.newBuilder(LLVMLanguage.NAME, bitcodeFile).build();
+        Context context = Context.newBuilder().option(SulongEngineOption.PARSE_ONLY_NAME, String.valueOf(true)).build();
+        try {
+            long start = System.nanoTime();
+            context.eval(source);
+            return System.nanoTime() - start;
+        } finally {
+            context.close();
+        }
+    }
+
+    private static void printTimes(File bitcodeFile, long parseTime, long executionTime) {
+        if (TestOptions.TEST_PRINT_TIMES) {
+            System.out.println(String.format("%s: parse %d ms, execute %d ms", bitcodeFile.getAbsolutePath(), parseTime / NANOS_PER_MILLI, executionTime / NANOS_PER_MILLI));
+        }
+    }
+
     public static ProcessResult executeNativeCommandZeroReturn(String command) {
         ProcessResult result = executeNativeCommand(command);
         checkNoError(result);
@@ -30,13 +30,12 @@
 package com.oracle.truffle.llvm.types.floating.test;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 
-import org.junit.Ignore;
 import org.junit.Test;
 
 import com.oracle.truffle.llvm.runtime.floating.LLVM80BitFloat;
 
-@Ignore("do not support addition yet: fix other floating point bugs first")
 public class LLVM80BitAddition extends LLVM80BitTest {
 
     @Test
@@ -87,7 +86,34 @@ public class LLVM80BitAddition extends LLVM80BitTest {
 
     @Test
     public void testInfinity() {
-        assertEquals(positiveInfinity(), positiveInfinity().add(positiveInfinity()).getIntValue());
+        assertEquals(positiveInfinity(), positiveInfinity().add(positiveInfinity()));
+    }
+
+    @Test
+    public void testInfinityMinusInfinity() {
+        assertTrue(positiveInfinity().add(negativeInfinity()).isNaN());
+    }
+
+    @Test
+    public void testMinusZero() {
+        assertEquals(minusZero(), minusZero().add(minusZero()));
+        assertEquals(zero(), minusZero().add(zero()));
+    }
+
+    @Test
+    public void testExtendedPrecision() {
+        // 2^60 + 1 is not representable as a double, but fits into the 64 bit significand
+        LLVM80BitFloat result = LLVM80BitFloat.fromLong(1L << 60).add(one());
+        assertEquals((1L << 60) + 1, result.getLongValue());
+        assertEquals(1L << 60, result.sub(one()).getLongValue());
+    }
+
+    @Test
+    public void testRoundToEven() {
+        LLVM80BitFloat twoTo64 = LLVM80BitFloat.fromRawValues(false, 16383 + 64, LLVM80BitFloat.bit(63L));
+        assertEquals(twoTo64, twoTo64.add(one()));
+        LLVM80BitFloat odd = twoTo64.add(val(2));
+        assertEquals(odd.add(val(2)), odd.add(one()));
     }
 
 }
@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2017, Oracle and/or its affiliates.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of
+ * conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of
+ * conditions and the following disclaimer in the documentation and/or other materials provided
+ * with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to
+ * endorse or promote products derived from this software without specific prior written
+ * permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS
+ * OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE
+ * COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE
+ * GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED
+ * OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.oracle.truffle.llvm.types.floating.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import com.oracle.truffle.llvm.runtime.floating.LLVM80BitFloat;
+
+public class LLVM80BitMultiplication extends LLVM80BitTest {
+
+    @Test
+    public void testMul() {
+        assertEquals(-42, val(6).mul(val(-7)).getIntValue());
+        assertEquals(val(1.5 * 1.25), val(1.5).mul(val(1.25)));
+    }
+
+    @Test
+    public void testMulExtendedPrecision() {
+        long value = (1L << 31) + 1;
+        assertEquals(value * value, LLVM80BitFloat.fromLong(value).mul(LLVM80BitFloat.fromLong(value)).getLongValue());
+    }
+
+    @Test
+    public void testMulSpecial() {
+        assertEquals(minusZero(), zero().mul(minusOne()));
+        assertEquals(negativeInfinity(), positiveInfinity().mul(minusOne()));
+        assertTrue(positiveInfinity().mul(zero()).isNaN());
+        assertTrue(nan().mul(one()).isNaN());
+    }
+
+    @Test
+    public void testDiv() {
+        assertEquals(-6, val(42).div(val(-7)).getIntValue());
+        assertEquals(val(0.375), val(3).div(val(8)));
+    }
+
+    @Test
+    public void testDivRounding() {
+        // 1/3 = 1.0101...b * 2^-2: the bits after the 64 bit significand are 1010..., so it rounds up
+        assertEquals(LLVM80BitFloat.fromRawValues(false, 16383 - 2, 0xaaaaaaaaaaaaaaabL), one().div(val(3)));
+        assertEquals(LLVM80BitFloat.fromRawValues(false, 16383 - 1, 0xaaaaaaaaaaaaaaabL), val(2).div(val(3)));
+    }
+
+    @Test
+    public void testDivSpecial() {
+        assertEquals(positiveInfinity(), one().div(zero()));
+        assertEquals(negativeInfinity(), minusOne().div(zero()));
+        assertEquals(minusZero(), minusOne().div(positiveInfinity()));
+        assertTrue(zero().div(zero()).isNaN());
+        assertTrue(positiveInfinity().div(negativeInfinity()).isNaN());
+    }
+
+}
@@ -0,0 +1,355 @@
+/*
+ * Copyright (c) 2017, Oracle and/or its affiliates.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of
+ * conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of
+ * conditions and the following disclaimer in the documentation and/or other materials provided
+ * with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to
+ * endorse or promote products derived from this software without specific prior written
+ * permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS
+ * OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE
+ * COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE
+ * GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED
+ * OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.oracle.truffle.llvm.types.floating.test;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+
+import com.oracle.truffle.llvm.runtime.floating.LLVM80BitFloat;
+
+/**
+ * Compares add, sub, mul and div with results of native x87 {@code long double} arithmetic. The
+ * vectors were produced by a C program compiled with gcc on x86_64 that stores the operands and
+ * the results of {@code a + b}, {@code a - b}, {@code a * b} and {@code a / b} as big-endian hex
+ * strings. The operands are all pairs of a set of special values (zeros, ones, infinities, a quiet
+ * NaN, denormals and extreme normals), followed by xorshift-generated values covering nearby and
+ * distant exponents, denormal results and overflow.
+ */
+public class LLVM80BitNativeOracleTest extends LLVM80BitTest {
+
+    private static final String[][] VECTORS = {
+        {"00000000000000000000", "00000000000000000000", "00000000000000000000", "00000000000000000000", "00000000000000000000", "ffffc000000000000000"},
+        {"00000000000000000000", "80000000000000000000", "00000000000000000000", "00000000000000000000", "80000000000000000000", "ffffc000000000000000"},
+        {"00000000000000000000", "3fff8000000000000000", "3fff8000000000000000", "bfff8000000000000000", "00000000000000000000", "00000000000000000000"},
+        {"00000000000000000000", "bfff8000000000000000", "bfff8000000000000000", "3fff8000000000000000", "80000000000000000000", "80000000000000000000"},
+        {"00000000000000000000", "7fff8000000000000000", "7fff8000000000000000", "ffff8000000000000000", "ffffc000000000000000", "00000000000000000000"},
+        {"00000000000000000000", "ffff8000000000000000", "ffff8000000000000000", "7fff8000000000000000", "ffffc000000000000000", "80000000000000000000"},
+        {"00000000000000000000", "7fffc000000000000001", "7fffc000000000000001", "7fffc000000000000001", "7fffc000000000000001", "7fffc000000000000001"},
+        {"00000000000000000000", "00000000000000000001", "00000000000000000001", "80000000000000000001", "00000000000000000000", "00000000000000000000"},
+        {"00000000000000000000", "80007fffffffffffffff", "80007fffffffffffffff", "00007fffffffffffffff", "80000000000000000000", "80000000000000000000"},
+        {"00000000000000000000", "00018000000000000000", "00018000000000000000", "80018000000000000000", "00000000000000000000", "00000000000000000000"},
+        {"00000000000000000000", "7ffeffffffffffffffff", "7ffeffffffffffffffff", "fffeffffffffffffffff", "00000000000000000000", "00000000000000000000"},
+        {"00000000000000000000", "3fff8000000000000001", "3fff8000000000000001", "bfff8000000000000001", "00000000000000000000", "00000000000000000000"},
+        {"80000000000000000000", "00000000000000000000", "00000000000000000000", "80000000000000000000", "80000000000000000000", "ffffc000000000000000"},
+        {"80000000000000000000", "80000000000000000000", "80000000000000000000", "00000000000000000000", "00000000000000000000", "ffffc000000000000000"},
+        {"80000000000000000000", "3fff8000000000000000", "3fff8000000000000000", "bfff8000000000000000", "80000000000000000000", "80000000000000000000"},
+        {"80000000000000000000", "bfff8000000000000000", "bfff8000000000000000", "3fff8000000000000000", "00000000000000000000", "00000000000000000000"},
+        {"80000000000000000000", "7fff8000000000000000", "7fff8000000000000000", "ffff8000000000000000", "ffffc000000000000000", "80000000000000000000"},
+        {"80000000000000000000", "ffff8000000000000000", "ffff8000000000000000", "7fff8000000000000000", "ffffc000000000000000", "00000000000000000000"},
+        {"80000000000000000000", "7fffc000000000000001", "7fffc000000000000001", "7fffc000000000000001", "7fffc000000000000001", "7fffc000000000000001"},
+        {"80000000000000000000", "00000000000000000001", "00000000000000000001", "80000000000000000001", "80000000000000000000", "80000000000000000000"},
+        {"80000000000000000000", "80007fffffffffffffff", "80007fffffffffffffff", "00007fffffffffffffff", "00000000000000000000", "00000000000000000000"},
+        {"80000000000000000000", "00018000000000000000", "00018000000000000000", "80018000000000000000", "80000000000000000000", "80000000000000000000"},
+        {"80000000000000000000", "7ffeffffffffffffffff", "7ffeffffffffffffffff", "fffeffffffffffffffff", "80000000000000000000", "80000000000000000000"},
+        {"80000000000000000000", "3fff8000000000000001", "3fff8000000000000001", "bfff8000000000000001", "80000000000000000000", "80000000000000000000"},
+        {"3fff8000000000000000", "00000000000000000000", "3fff8000000000000000", "3fff8000000000000000", "00000000000000000000", "7fff8000000000000000"},
+        {"3fff8000000000000000", "80000000000000000000", "3fff8000000000000000", "3fff8000000000000000", "80000000000000000000", "ffff8000000000000000"},
+        {"3fff8000000000000000", "3fff8000000000000000", "40008000000000000000", "00000000000000000000", "3fff8000000000000000", "3fff8000000000000000"},
+        {"3fff8000000000000000", "bfff8000000000000000", "00000000000000000000", "40008000000000000000", "bfff8000000000000000", "bfff8000000000000000"},
+        {"3fff8000000000000000", "7fff8000000000000000", "7fff8000000000000000", "ffff8000000000000000", "7fff8000000000000000", "00000000000000000000"},
+        {"3fff8000000000000000", "ffff8000000000000000", "ffff8000000000000000", "7fff8000000000000000", "ffff8000000000000000", "80000000000000000000"},
+        {"3fff8000000000000000", "7fffc000000000000001", "7fffc000000000000001", "7fffc000000000000001", "7fffc000000000000001", "7fffc000000000000001"},
+        {"3fff8000000000000000", "00000000000000000001", "3fff8000000000000000", "3fff8000000000000000", "00000000000000000001", "7fff8000000000000000"},
+        {"3fff8000000000000000", "80007fffffffffffffff", "3fff8000000000000000", "3fff8000000000000000", "80007fffffffffffffff", "fffd8000000000000001"},
+        {"3fff8000000000000000", "00018000000000000000", "3fff8000000000000000", "3fff8000000000000000", "00018000000000000000", "7ffd8000000000000000"},
+        {"3fff8000000000000000", "7ffeffffffffffffffff", "7ffeffffffffffffffff", "fffeffffffffffffffff", "7ffeffffffffffffffff", "00002000000000000000"},
+        {"3fff8000000000000000", "3fff8000000000000001", "40008000000000000000", "bfc08000000000000000", "3fff8000000000000001", "3ffefffffffffffffffe"},
+        {"bfff8000000000000000", "00000000000000000000", "bfff8000000000000000", "bfff8000000000000000", "80000000000000000000", "ffff8000000000000000"},
+        {"bfff8000000000000000", "80000000000000000000", "bfff8000000000000000", "bfff8000000000000000", "00000000000000000000", "7fff8000000000000000"},
+        {"bfff8000000000000000", "3fff8000000000000000", "00000000000000000000", "c0008000000000000000", "bfff8000000000000000", "bfff8000000000000000"},
+        {"bfff8000000000000000", "bfff8000000000000000", "c0008000000000000000", "00000000000000000000", "3fff8000000000000000", "3fff8000000000000000"},
+        {"bfff8000000000000000", "7fff8000000000000000", "7fff8000000000000000", "ffff8000000000000000", "ffff8000000000000000", "80000000000000000000"},
+        {"bfff8000000000000000", "ffff8000000000000000", "ffff8000000000000000", "7fff8000000000000000", "7fff8000000000000000", "00000000000000000000"},
+        {"bfff8000000000000000", "7fffc000000000000001", "7fffc000000000000001", "7fffc000000000000001", "7fffc000000000000001", "7fffc000000000000001"},
+        {"bfff8000000000000000", "00000000000000000001", "bfff8000000000000000", "bfff8000000000000000", "80000000000000000001", "ffff8000000000000000"},
+        {"bfff8000000000000000", "80007fffffffffffffff", "bfff8000000000000000", "bfff8000000000000000", "00007fffffffffffffff", "7ffd8000000000000001"},
+        {"bfff8000000000000000", "00018000000000000000", "bfff8000000000000000", "bfff8000000000000000", "80018000000000000000", "fffd8000000000000000"},
+        {"bfff8000000000000000", "7ffeffffffffffffffff", "7ffeffffffffffffffff", "fffeffffffffffffffff", "fffeffffffffffffffff", "80002000000000000000"},
+        {"bfff8000000000000000", "3fff8000000000000001", "3fc08000000000000000", "c0008000000000000000", "bfff8000000000000001", "bffefffffffffffffffe"},
+        {"7fff8000000000000000", "00000000000000000000", "7fff8000000000000000", "7fff8000000000000000", "ffffc000000000000000", "7fff8000000000000000"},
+        {"7fff8000000000000000", "80000000000000000000", "7fff8000000000000000", "7fff8000000000000000", "ffffc000000000000000", "ffff8000000000000000"},
+        {"7fff8000000000000000", "3fff8000000000000000", "7fff8000000000000000", "7fff8000000000000000", "7fff8000000000000000", "7fff8000000000000000"},
+        {"7fff8000000000000000", "bfff8000000000000000", "7fff8000000000000000", "7fff8000000000000000", "ffff8000000000000000", "ffff8000000000000000"},
+        {"7fff8000000000000000", "7fff8000000000000000", "7fff8000000000000000", "ffffc000000000000000", "7fff8000000000000000", "ffffc000000000000000"},
+        {"7fff8000000000000000", "ffff8000000000000000", "ffffc000000000000000", "7fff8000000000000000", "ffff8000000000000000", "ffffc000000000000000"},
+        {"7fff8000000000000000", "7fffc000000000000001", "7fffc000000000000001", "7fffc000000000000001", "7fffc000000000000001", "7fffc000000000000001"},
+        {"7fff8000000000000000", "00000000000000000001", "7fff8000000000000000", "7fff8000000000000000", "7fff8000000000000000", "7fff8000000000000000"},
+        {"7fff8000000000000000", "80007fffffffffffffff", "7fff8000000000000000", "7fff8000000000000000", "ffff8000000000000000", "ffff8000000000000000"},
+        {"7fff8000000000000000", "00018000000000000000", "7fff8000000000000000", "7fff8000000000000000", "7fff8000000000000000", "7fff8000000000000000"},
+        {"7fff8000000000000000", "7ffeffffffffffffffff", "7fff8000000000000000", "7fff8000000000000000", "7fff8000000000000000", "7fff8000000000000000"},
+        {"7fff8000000000000000", "3fff8000000000000001", "7fff8000000000000000", "7fff8000000000000000", "7fff8000000000000000", "7fff8000000000000000"},
+        {"ffff8000000000000000", "00000000000000000000", "ffff8000000000000000", "ffff8000000000000000", "ffffc000000000000000", "ffff8000000000000000"},
+        {"ffff8000000000000000", "80000000000000000000", "ffff8000000000000000", "ffff8000000000000000", "ffffc000000000000000", "7fff8000000000000000"},
+        {"ffff8000000000000000", "3fff8000000000000000", "ffff8000000000000000", "ffff8000000000000000", "ffff8000000000000000", "ffff8000000000000000"},
+        {"ffff8000000000000000", "bfff8000000000000000", "ffff8000000000000000", "ffff8000000000000000", "7fff8000000000000000", "7fff8000000000000000"},
+        {"ffff8000000000000000", "7fff8000000000000000", "ffffc000000000000000", "ffff8000000000000000", "ffff8000000000000000", "ffffc000000000000000"},
+        {"ffff8000000000000000", "ffff8000000000000000", "ffff8000000000000000", "ffffc000000000000000", "7fff8000000000000000", "ffffc000000000000000"},
+        {"ffff8000000000000000", "7fffc000000000000001", "7fffc000000000000001", "7fffc000000000000001", "7fffc000000000000001", "7fffc000000000000001"},
+        {"ffff8000000000000000", "00000000000000000001", "ffff8000000000000000", "ffff8000000000000000", "ffff8000000000000000", "ffff8000000000000000"},
+        {"ffff8000000000000000", "80007fffffffffffffff", "ffff8000000000000000", "ffff8000000000000000", "7fff8000000000000000", "7fff8000000000000000"},
+        {"ffff8000000000000000", "00018000000000000000", "ffff8000000000000000", "ffff8000000000000000", "ffff8000000000000000", "ffff8000000000000000"},
+        {"ffff8000000000000000", "7ffeffffffffffffffff", "ffff8000000000000000", "ffff8000000000000000", "ffff8000000000000000", "ffff8000000000000000"},
+        {"ffff8000000000000000", "3fff8000000000000001", "ffff8000000000000000", "ffff8000000000000000", "ffff8000000000000000", "ffff8000000000000000"},
+        {"7fffc000000000000001", "00000000000000000000", "7fffc000000000000001", "7fffc000000000000001", "7fffc000000000000001", "7fffc000000000000001"},
+        {"7fffc000000000000001", "80000000000000000000", "7fffc000000000000001", "7fffc000000000000001", "7fffc000000000000001", "7fffc000000000000001"},
+        {"7fffc000000000000001", "3fff8000000000000000", "7fffc000000000000001", "7fffc000000000000001", "7fffc000000000000001", "7fffc000000000000001"},
+        {"7fffc000000000000001", "bfff8000000000000000", "7fffc000000000000001", "7fffc000000000000001", "7fffc000000000000001", "7fffc000000000000001"},
+        {"7fffc000000000000001", "7fff8000000000000000", "7fffc000000000000001", "7fffc000000000000001", "7fffc000000000000001", "7fffc000000000000001"},
+        {"7fffc000000000000001", "ffff8000000000000000", "7fffc000000000000001", "7fffc000000000000001", "7fffc000000000000001", "7fffc000000000000001"},
+        {"7fffc000000000000001", "7fffc000000000000001", "7fffc000000000000001", "7fffc000000000000001", "7fffc000000000000001", "7fffc000000000000001"},
+        {"7fffc000000000000001", "00000000000000000001", "7fffc000000000000001", "7fffc000000000000001", "7fffc000000000000001", "7fffc000000000000001"},
+        {"7fffc000000000000001", "80007fffffffffffffff", "7fffc000000000000001", "7fffc000000000000001", "7fffc000000000000001", "7fffc000000000000001"},
+        {"7fffc000000000000001", "00018000000000000000", "7fffc000000000000001", "7fffc000000000000001", "7fffc000000000000001", "7fffc000000000000001"},
+        {"7fffc000000000000001", "7ffeffffffffffffffff", "7fffc000000000000001", "7fffc000000000000001", "7fffc000000000000001", "7fffc000000000000001"},
+        {"7fffc000000000000001", "3fff8000000000000001", "7fffc000000000000001", "7fffc000000000000001", "7fffc000000000000001", "7fffc000000000000001"},
+        {"00000000000000000001", "00000000000000000000", "00000000000000000001", "00000000000000000001", "00000000000000000000", "7fff8000000000000000"},
+        {"00000000000000000001", "80000000000000000000", "00000000000000000001", "00000000000000000001", "80000000000000000000", "ffff8000000000000000"},
+        {"00000000000000000001", "3fff8000000000000000", "3fff8000000000000000", "bfff8000000000000000", "00000000000000000001", "00000000000000000001"},
+        {"00000000000000000001", "bfff8000000000000000", "bfff8000000000000000", "3fff8000000000000000", "80000000000000000001", "80000000000000000001"},
+        {"00000000000000000001", "7fff8000000000000000", "7fff8000000000000000", "ffff8000000000000000", "7fff8000000000000000", "00000000000000000000"},
+        {"00000000000000000001", "ffff8000000000000000", "ffff8000000000000000", "7fff8000000000000000", "ffff8000000000000000", "80000000000000000000"},
+        {"00000000000000000001", "7fffc000000000000001", "7fffc000000000000001", "7fffc000000000000001", "7fffc000000000000001", "7fffc000000000000001"},
+        {"00000000000000000001", "00000000000000000001", "00000000000000000002", "00000000000000000000", "00000000000000000000", "3fff8000000000000000"},
+        {"00000000000000000001", "80007fffffffffffffff", "80007ffffffffffffffe", "00018000000000000000", "80000000000000000000", "bfc08000000000000001"},
+        {"00000000000000000001", "00018000000000000000", "00018000000000000001", "80007fffffffffffffff", "00000000000000000000", "3fc08000000000000000"},
+        {"00000000000000000001", "7ffeffffffffffffffff", "7ffeffffffffffffffff", "fffeffffffffffffffff", "3fc1ffffffffffffffff", "00000000000000000000"},
+        {"00000000000000000001", "3fff8000000000000001", "3fff8000000000000001", "bfff8000000000000001", "00000000000000000001", "00000000000000000001"},
+        {"80007fffffffffffffff", "00000000000000000000", "80007fffffffffffffff", "80007fffffffffffffff", "80000000000000000000", "ffff8000000000000000"},
+        {"80007fffffffffffffff", "80000000000000000000", "80007fffffffffffffff", "80007fffffffffffffff", "00000000000000000000", "7fff8000000000000000"},
+        {"80007fffffffffffffff", "3fff8000000000000000", "3fff8000000000000000", "bfff8000000000000000", "80007fffffffffffffff", "80007fffffffffffffff"},
+        {"80007fffffffffffffff", "bfff8000000000000000", "bfff8000000000000000", "3fff8000000000000000", "00007fffffffffffffff", "00007fffffffffffffff"},
+        {"80007fffffffffffffff", "7fff8000000000000000", "7fff8000000000000000", "ffff8000000000000000", "ffff8000000000000000", "80000000000000000000"},
+        {"80007fffffffffffffff", "ffff8000000000000000", "ffff8000000000000000", "7fff8000000000000000", "7fff8000000000000000", "00000000000000000000"},
+        {"80007fffffffffffffff", "7fffc000000000000001", "7fffc000000000000001", "7fffc000000000000001", "7fffc000000000000001", "7fffc000000000000001"},
+        {"80007fffffffffffffff", "00000000000000000001", "80007ffffffffffffffe", "80018000000000000000", "80000000000000000000", "c03dfffffffffffffffe"},
+        {"80007fffffffffffffff", "80007fffffffffffffff", "8001fffffffffffffffe", "00000000000000000000", "00000000000000000000", "3fff8000000000000000"},
+        {"80007fffffffffffffff", "00018000000000000000", "00000000000000000001", "8001ffffffffffffffff", "80000000000000000000", "bffefffffffffffffffe"},
+        {"80007fffffffffffffff", "7ffeffffffffffffffff", "7ffeffffffffffffffff", "fffeffffffffffffffff", "c000fffffffffffffffd", "80000000000000000000"},
+        {"80007fffffffffffffff", "3fff8000000000000001", "3fff8000000000000001", "bfff8000000000000001", "80018000000000000000", "80007ffffffffffffffe"},
+        {"00018000000000000000", "00000000000000000000", "00018000000000000000", "00018000000000000000", "00000000000000000000", "7fff8000000000000000"},
+        {"00018000000000000000", "80000000000000000000", "00018000000000000000", "00018000000000000000", "80000000000000000000", "ffff8000000000000000"},
+        {"00018000000000000000", "3fff8000000000000000", "3fff8000000000000000", "bfff8000000000000000", "00018000000000000000", "00018000000000000000"},
+        {"00018000000000000000", "bfff8000000000000000", "bfff8000000000000000", "3fff8000000000000000", "80018000000000000000", "80018000000000000000"},
+        {"00018000000000000000", "7fff8000000000000000", "7fff8000000000000000", "ffff8000000000000000", "7fff8000000000000000", "00000000000000000000"},
+        {"00018000000000000000", "ffff8000000000000000", "ffff8000000000000000", "7fff8000000000000000", "ffff8000000000000000", "80000000000000000000"},
+        {"00018000000000000000", "7fffc000000000000001", "7fffc000000000000001", "7fffc000000000000001", "7fffc000000000000001", "7fffc000000000000001"},
+        {"00018000000000000000", "00000000000000000001", "00018000000000000001", "00007fffffffffffffff", "00000000000000000000", "403e8000000000000000"},
+        {"00018000000000000000", "80007fffffffffffffff", "00000000000000000001", "0001ffffffffffffffff", "80000000000000000000", "bfff8000000000000001"},
+        {"00018000000000000000", "00018000000000000000", "00028000000000000000", "00000000000000000000", "00000000000000000000", "3fff8000000000000000"},
+        {"00018000000000000000", "7ffeffffffffffffffff", "7ffeffffffffffffffff", "fffeffffffffffffffff", "4000ffffffffffffffff", "00000000000000000000"},
+        {"00018000000000000000", "3fff8000000000000001", "3fff8000000000000001", "bfff8000000000000001", "00018000000000000001", "00007fffffffffffffff"},
+        {"7ffeffffffffffffffff", "00000000000000000000", "7ffeffffffffffffffff", "7ffeffffffffffffffff", "00000000000000000000", "7fff8000000000000000"},
+        {"7ffeffffffffffffffff", "80000000000000000000", "7ffeffffffffffffffff", "7ffeffffffffffffffff", "80000000000000000000", "ffff8000000000000000"},
+        {"7ffeffffffffffffffff", "3fff8000000000000000", "7ffeffffffffffffffff", "7ffeffffffffffffffff", "7ffeffffffffffffffff", "7ffeffffffffffffffff"},
+        {"7ffeffffffffffffffff", "bfff8000000000000000", "7ffeffffffffffffffff", "7ffeffffffffffffffff", "fffeffffffffffffffff", "fffeffffffffffffffff"},
+        {"7ffeffffffffffffffff", "7fff8000000000000000", "7fff8000000000000000", "ffff8000000000000000", "7fff8000000000000000", "00000000000000000000"},
+        {"7ffeffffffffffffffff", "ffff8000000000000000", "ffff8000000000000000", "7fff8000000000000000", "ffff8000000000000000", "80000000000000000000"},
+        {"7ffeffffffffffffffff", "7fffc000000000000001", "7fffc000000000000001", "7fffc000000000000001", "7fffc000000000000001", "7fffc000000000000001"},
+        {"7ffeffffffffffffffff", "00000000000000000001", "7ffeffffffffffffffff", "7ffeffffffffffffffff", "3fc1ffffffffffffffff", "7fff8000000000000000"},
+        {"7ffeffffffffffffffff", "80007fffffffffffffff", "7ffeffffffffffffffff", "7ffeffffffffffffffff", "c000fffffffffffffffd", "ffff8000000000000000"},
+        {"7ffeffffffffffffffff", "00018000000000000000", "7ffeffffffffffffffff", "7ffeffffffffffffffff", "4000ffffffffffffffff", "7fff8000000000000000"},
+        {"7ffeffffffffffffffff", "7ffeffffffffffffffff", "7fff8000000000000000", "00000000000000000000", "7fff8000000000000000", "3fff8000000000000000"},
+        {"7ffeffffffffffffffff", "3fff8000000000000001", "7ffeffffffffffffffff", "7ffeffffffffffffffff", "7fff8000000000000000", "7ffefffffffffffffffd"},
+        {"3fff8000000000000001", "00000000000000000000", "3fff8000000000000001", "3fff8000000000000001", "00000000000000000000", "7fff8000000000000000"},
+        {"3fff8000000000000001", "80000000000000000000", "3fff8000000000000001", "3fff8000000000000001", "80000000000000000000", "ffff8000000000000000"},
+        {"3fff8000000000000001", "3fff8000000000000000", "40008000000000000000", "3fc08000000000000000", "3fff8000000000000001", "3fff8000000000000001"},
+        {"3fff8000000000000001", "bfff8000000000000000", "3fc08000000000000000", "40008000000000000000", "bfff8000000000000001", "bfff8000000000000001"},
+        {"3fff8000000000000001", "7fff8000000000000000", "7fff8000000000000000", "ffff8000000000000000", "7fff8000000000000000", "00000000000000000000"},
+        {"3fff8000000000000001", "ffff8000000000000000", "ffff8000000000000000", "7fff8000000000000000", "ffff8000000000000000", "80000000000000000000"},
+        {"3fff8000000000000001", "7fffc000000000000001", "7fffc000000000000001", "7fffc000000000000001", "7fffc000000000000001", "7fffc000000000000001"},
+        {"3fff8000000000000001", "00000000000000000001", "3fff8000000000000001", "3fff8000000000000001", "00000000000000000001", "7fff8000000000000000"},
+        {"3fff8000000000000001", "80007fffffffffffffff", "3fff8000000000000001", "3fff8000000000000001", "80018000000000000000", "fffd8000000000000002"},
+        {"3fff8000000000000001", "00018000000000000000", "3fff8000000000000001", "3fff8000000000000001", "00018000000000000001", "7ffd8000000000000001"},
+        {"3fff8000000000000001", "7ffeffffffffffffffff", "7ffeffffffffffffffff", "fffeffffffffffffffff", "7fff8000000000000000", "00002000000000000000"},
+        {"3fff8000000000000001", "3fff8000000000000001", "40008000000000000001", "00000000000000000000", "3fff8000000000000002", "3fff8000000000000000"},
+        {"bfe1c366ae2c20764753", "c0159a79312058b39663", "c0159a79312058b3a299", "40159a79312058b38a2d", "3ff7ebd08b9c6c862bfe", "3fcba1e9df8a4710e43f"},
+        {"c003a11665ed06c80221", "c003b6a11497bd5f9551", "c004abdbbd426213cbb9", "4000ac557555b4bc9980", "4007e5d69103b0738e50", "3ffee1cdcf3ac3cd1110"},
+        {"8008b0ba1fab0cea9cf6", "401e830a8c607b88eee7", "401e830a8c607b88eee7", "c01e830a8c607b88eee7", "8027b4ed0cc4515fdf6b", "8000000000aca024f90c"},
+        {"7feffcb19f2b96ae0b76", "bff2f79edd7dd2b6ac75", "7feffcb19f2b96ae0b76", "7feffcb19f2b96ae0b76", "ffe3f46c30d4d46a4aea", "fffc829f5a65d0779a37"},
+        {"3ff4dc9a817bab5734a3", "400997a391ce01f3892e", "400997a398b2d5ff6689", "c00997a38ae92de7abd3", "3fff82ac16656d283d84", "3feaba36b6d698a004dc"},
+        {"c006b9810703599615ea", "c006e542a8d784c4cd07", "c007cf61d7ed6f2d7178", "4004af068750acbadc74", "400ea620b8e2a62c93df", "3ffecf23dfbede72f400"},
+        {"80188effc27ad9184313", "4017e9ca7bf6b0c347bb", "4017e9ca7bf6b0c347bb", "c017e9ca7bf6b0c347bb", "80318297e30ff3793523", "8000272554d42e5aa532"},
+        {"ffdb92a9759f004c2111", "bff0fc232e1ec8217869", "ffdb92a9759f004c2111", "ffdb92a9759f004c2111", "7fcd9072f75faeade65d", "7fe994e8a18343b7014f"},
+        {"bff7b7d7de7ceef9cbe2", "c014deb00a302bb59cb4", "c014deb00a35ea74909b", "4014deb00a2a6cf6a8cd", "400d9feb9eaa53af31d5", "3fe1d3584230ad4f1472"},
+        {"3fffdb3c4c55f16fe7bd", "400088ae355d5a43355c", "4000f64c5b8852fb293a", "bffdd88079930c5a0bec", "4000ea1a7279f15fa963", "3ffecd4fe0260d413b3a"},
+        {"002780ae31f7fce03d4c", "c00fd5babbddb8ebc5ea", "c00fd5babbddb8ebc5ea", "400fd5babbddb8ebc5ea", "8037d6dd9924aad29c0f", "80169a215faefd3ac180"},
+        {"fff69cc515670bf92fc0", "3fe685bab26334996c04", "fff69cc515670bf92fc0", "fff69cc515670bf92fc0", "ffdda3c9711bbecc24a1", "ffff8000000000000000"},
+        {"c002e1d7586b88d83cc0", "c01cfc733949a2baeb80", "c01cfc73398218910662", "401cfc7339112ce4d09e", "4020deb5a1507baaa93e", "3fe4e504558f80864a13"},
+        {"4002c6806677d44b970a", "4001f366bdebfce4f4a1", "4003a019e2b6e95f08ad", "4001999a0f03abb23973", "4005bcbb8bb059decb21", "3fffd0c6b387005609e4"},
+        {"00039a1909b47c6177d7", "4003bb482d2ed1cc03b9", "4003bb482d2ed1cc03b9", "c003bb482d2ed1cc03b9", "0007e17778a84e37caba", "00001a547993718f1a74"},
+        {"7fe9e5f57adb6e4fe28b", "bfef8d33c1a4270ad171", "7fe9e5f57adb6e4fe28b", "7fe9e5f57adb6e4fe28b", "ffd9fdad6507b6da73bd", "fff9d07547819b3d6767"},
+        {"40018b48eb9d2b048787", "4017d8da6f4a91097a56", "4017d8da7177b4b7ef02", "c017d8da6d1d6d5b05aa", "4019ebf8bee4e09255bd", "3fe8a46dc5841ff87bed"},
+        {"3fff90741448b955e7ef", "c000f5ca2cad0a08694f", "c000ad902288ad5d7558", "40019f021b68b359aea3", "c0018ab12c373258f198", "bffd96744117b3b559b8"},
+        {"001ad1139d4b71db7c6a", "c0238b4b05218b3049b2", "c0238b4b05218b3049b2", "40238b4b05218b3049b2", "803ee385d6afa666bc27", "800000180407ad90a634"},
+        {"ffdc9de0238cff37dfe8", "bff6fb3ea08e14fbe503", "ffdc9de0238cff37dfe8", "ffdc9de0238cff37dfe8", "7fd49af162278fde4a8e", "7fe4a0dd1aa23eac53df"},
+        {"c00cdf8c5c5ec2dc6f35", "400899d75b87f954951e", "c00cd5eee6a6434725e3", "c00ce929d2174271b887", "c0168656f203d79f2cf3", "c003b9ff8454b3a16dc9"},
+        {"c0028c8f866df63e4f4b", "c002b08147518f7d6157", "c0039e8866dfc2ddd851", "40008fc7038e64fc4830", "4005c1d34fcdda5def3c", "3ffecbddeccebcf2efdb"},
+        {"800afcdcad3bcef86390", "c002bfe272ce042f0079", "c002bfe272ce042f0079", "4002bfe272ce042f0079", "000ebd8851765111f18c", "0007a8ad14574b802b5f"},
+        {"fffdafd79c103f3f98a4", "3ff3b4d46bff8ef57948", "fffdafd79c103f3f98a4", "fffdafd79c103f3f98a4", "fff1f86b04eea43d17a8", "ffff8000000000000000"},
+        {"4018d24308b98c129c99", "3fe7832d7979e33cba9f", "4018d24308b98c12de30", "4018d24308b98c125b02", "4000d77b4e0a8d7a9413", "4030cd2b220d1f85f5cd"},
+        {"c001accc066ab99a00fa", "c000bed7167f303eb42f", "c002861bc8d528dcad89", "c0009ac0f65642f54dc5", "400380d09b4bfbb71c32", "3fffe7cbd20397e65349"},
+        {"000bc2c03cb244503981", "400b817fb1142101f081", "400b817fb1142101f081", "c00b817fb1142101f081", "0017c508055455e922f2", "0000301fcd704f8fa950"},
+        {"7fe8e939d69288925002", "bfd8d18e5895efd8daca", "7fe8e939d69288925002", "7fe8e939d69288925002", "ffc2bee9e6f721b60629", "ffff8000000000000000"},
+        {"bfebf36f1f64eeb4c082", "bff9cc292471cf2f56d0", "bff9cc2cf22e4cc311a3", "3ff9cc2556b5519b9bfd", "3fe6c223ac784edd2fd0", "3ff1989f69f63ee7e078"},
+        {"c004a801f7e7e68c8135", "c004cee602fb9d019a5d", "c005bb73fd71c1c70dc9", "40029b902c4ed9d464a0", "400a87c889367ac654ba", "3ffecfe12bb898f7c257"},
+        {"80268be73d803fa6a145", "4006fffbf1958fb302bd", "4006fffbf1958fb302bd", "c006fffbf1958fb302bd", "802e8be506027929ea1e", "801e8be975070433c023"},
+        {"ffe7b9f1899f112d6bc4", "bfeeca61d3a869ed3253", "ffe7b9f1899f112d6bc4", "ffe7b9f1899f112d6bc4", "7fd792ffa4d910b41f66", "7ff7eb34caf7057ae321"},
+        {"3fed8a4980ff2fb5df28", "3ff3cf3123f261bbb3eb", "3ff3d15a49f65e7a8b68", "bff3cd07fdee64fcdc6e", "3fe1dfd7f59606ac8989", "3ff8aadd021af3c546d3"},
+        {"bfffcd16a4745b306afe", "bfffa18df2376c4e5580", "c000b7524b55e3bf603f", "bffdae22c8f3bb8855f8", "4000816cf4f18f874eee", "3fffa27df83664794245"},
+        {"8022f10e5930ac9d11c8", "c007b1a625e461429d98", "c007b1a625e461429d98", "4007b1a625e461429d98", "002ba7475ea69c292955", "001aadafa7c0afff239f"},
+        {"fff08afa79aff3bd8539", "3fdc98950d26b1501993", "fff08afa79aff3bd8539", "fff08afa79aff3bd8539", "ffcda5ab465a0b801c64", "ffff8000000000000000"},
+        {"bff9afc348224779c7de", "bfe9d588821d0b8c6996", "bff9afc41daac996d36a", "bff9afc27299c55cbc52", "3fe4929b3417f35cab8f", "400ed2b7ca6461682729"},
+        {"c003de9867edf04d28ba", "c0048bafea650d70eb13", "c004fafc1e5c05977f70", "4001e31db370aa52b5b0", "4008f2eb6cd8d3e3297a", "3ffecbf8b4d86574e823"},
+        {"0002f82b1e2e22a3c502", "401c80792f8c2e4b4f0c", "401c80792f8c2e4b4f0c", "c01c80792f8c2e4b4f0c", "001ff9161320483ff85e", "00000000000f74106dd0"},
+        {"7fe7b9d2b35c13eb62d9", "3fe2ac9a94c1ecb7db18", "7fe7b9d2b35c13eb62d9", "7fe7b9d2b35c13eb62d9", "7fcafa938a78ac488fe4", "7fff8000000000000000"},
+        {"bfeac618dc46abfa2d2b", "4003d0b4a6775c32fc16", "4003d0b4a6144fc4d8c0", "c003d0b4a6da68a11f6c", "bfefa17ffd44c928cc0f", "bfe5f2fcca7ede16a10e"},
+        {"4005c321baa6300cfc40", "c004ca98579cd550cc53", "4004bbab1daf8ac92c2d", "40069436f33a4d5ab135", "c00b9a6cbc15f62ba4ef", "bffff691bdc1d161afda"},
+        {"801ab565def4df0f381f", "c019b230b5c2535d0fec", "c019b230b5c2535d0fec", "4019b230b5c2535d0fec", "0034fc86b1d593d4ef75", "00004126ef009b407d29"},
+        {"fff0a3d15c3873345894", "bfeae947c0113e5c454f", "fff0a3d15c3873345894", "fff0a3d15c3873345894", "7fdc954776e8027bce37", "7fff8000000000000000"},
+        {"bff8f161fdfcdc9a4c84", "3fed95fa633c77a10bef", "bff8f14f3eb0750b5863", "bff8f174bd49442940a5", "bfe78d6a20181e51f4bd", "c00ace0294d0a8909b91"},
+        {"c003957f8a1635c1c229", "40029b5b8657cdba3b7a", "c0028fa38dd49dc948d8", "c003e32d4d421c9edfe6", "c006b57356cb2269ba31", "bffff6584e5202b1469d"},
+        {"8010d3e3fb3bedae21b2", "4020877d5ca7a35b7f93", "4020877d5ca7a35b7f93", "c020877d5ca7a35b7f93", "8031e049f8fdeba467ce", "80000000320b5c6ef0c9"},
+        {"ffefc7396296b04e4f1d", "3ffce3db49e1b2e4556a", "ffefc7396296b04e4f1d", "ffefc7396296b04e4f1d", "ffedb1528a01f70279fd", "fff1dfd4c0d4d4f887dd"},
+        {"bfedeac458ec55442f3d", "bfe5b566b3d898062973", "bfedeb79bfa02ddc3566", "bfedea0ef2387cac2914", "3fd4a65b020871b5b101", "4007a5a7e83746fdefc6"},
+        {"c001c9503be69b5946d0", "4000b690ec7e48af4b9d", "c000dc0f8b4eee034203", "c002924c5912dfd8764f", "c0038f9101b0ea07576e", "c0008d24df654f80c675"},
+        {"8007af9459643005c263", "4019adc61929bdb3b685", "4019adc61929bdb3b685", "c019adc61929bdb3b685", "8021ee5e3ccfeb13d4eb", "80000000081547d3dfc4"},
+        {"7fe5e0a83e81ed3b56bb", "3fe4cbfe3d86fe56048b", "7fe5e0a83e81ed3b56bb", "7fe5e0a83e81ed3b56bb", "7fcbb304867d9a2f86b6", "7fff8000000000000000"},
+        {"bff5fb00cf63ef38128c", "3ff795b448702b9fc96a", "3ff6ade8292e5fa3898e", "bff7d4747c49276dce0d", "bfee92c83c4d31f47b0b", "bffdd69ccf655fe9c302"},
+        {"bfff94d2e76e13e92290", "3ffec3605563f4793d3c", "bffdcc8af2f066b20fc8", "bffff68312200e25c12e", "bffee3294e0789f13198", "bfffc300b015e568ad1f"},
+        {"0007f9707b5b10b746f5", "402086edd7c39db4a952", "402086edd7c39db4a952", "c02086edd7c39db4a952", "002983789fefefffddf1", "00000000001d9427659e"},
+        {"ffddd11b8fbb4c268dc2", "3fe08203d2c6da16e9f9", "ffddd11b8fbb4c268dc2", "ffddd11b8fbb4c268dc2", "ffbed4663cf5aa74ef4c", "fffccdddf1c0ac3ca6ec"},
+        {"bffdb9633559cf3f3a3f", "3ff0f65754be4dfbd51c", "bffdb95b829f294cca60", "bffdb96ae8147531aa1e", "bfefb2649359cc4876c3", "c00bc0a80cf8c2a42ca8"},
+        {"c004901c5e4ddff8a3cc", "400495451d6c44f32308", "3fffa517e3cc9f4fe780", "c00592b0bddd1275e36a", "c009a80ed631cfa0308c", "bffef726e6f003ad78bf"},
+        {"0001948027bded3b832e", "c004faf6343f33fe7c57", "c004faf6343f33fe7c57", "4004faf6343f33fe7c57", "80079193f8445bf3986b", "8000025ded71cd560421"},
+        {"7fd9b8ba6b13ea9bec3e", "bfeef9a37fd8301631ce", "7fd9b8ba6b13ea9bec3e", "7fd9b8ba6b13ea9bec3e", "ffc9b4234d1907fc3c4a", "ffe9bd6f7ada62aa701b"},
+        {"4010c30887d152522fc3", "3ffcc016cfc383ea366a", "4010c30893d2bf4e6802", "4010c3087bcfe555f784", "400e9257c6e1838c39a5", "401381f63f07d54f5789"},
+        {"c006d04e393f30bbec86", "c006eb075b148a8e33ea", "c007ddaaca29dda51038", "4003d5c90eaace923b20", "400ebf3dcacd17aaa703", "3ffee2e4719827cfbc4a"},
+        {"0028b91ba2dd135fcd1e", "c000de1e770a3cfa77ee", "c000de1e770a3cfa77ee", "4000de1e770a3cfa77ee", "802aa09bfe8c0c960f9f", "8026d557ecce52df3d30"},
+        {"fff6a53549d72699b519", "bff0f1f82d7266947533", "fff6a53549d72699b519", "fff6a53549d72699b519", "7fe89c27537745acd5d9", "7fff8000000000000000"},
+        {"401aedd8ecaa787b195c", "bff3bf00ae507b46979e", "401aedd8ecaa76fd17ff", "401aedd8ecaa79f91ab9", "c00fb1757a8767127af9", "c0269f64932a9379177e"},
+        {"c002f8738e59b4ba6237", "c001df8029416fff0105", "c003b419d17d365cf15d", "c00288b379b8fcbae1b4", "4005d8e90ad1551dd249", "40008e4a1855770364b5"},
+        {"001cf2ce25d4a88066c9", "c01bf9afbf4d3dbf56ac", "c01bf9afbf4d3dbf56ac", "401bf9afbf4d3dbf56ac", "8039ecd13328c50fb775", "80003e3c76de170d5463"},
+        {"ffefb62f447426ae5d21", "bff6f75518f58eadb3c8", "ffefb62f447426ae5d21", "ffefb62f447426ae5d21", "7fe7b0042a80fb145064", "7ff7bc91b50dfd6db7b0"},
+        {"3ff9b0b5546dc787f8e9", "bff3ae4ee7298dbf0c82", "3ff9adfc18d12150fcb7", "3ff9b36e900a6dbef51b", "bfedf0a36c654a451553", "c00581c3316387029ff3"},
+        {"c006b200877e0ea31645", "400691b095627e3fc9ab", "c004813fc86e418d3268", "c007a1d88e7046716ff8", "c00dca9a29f4af9a931b", "bfff9c638f14627f8146"},
+        {"001ae309a37e4c1fcf74", "c01dc1cf3c63bd100a31", "c01dc1cf3c63bd100a31", "401dc1cf3c63bd100a31", "8039abe20e9c213bb426", "800004af8fe7a589ac9e"},
+        {"ffddc4f93a55cb58788c", "3fe2e6124f497d8662eb", "ffddc4f93a55cb58788c", "ffddc4f93a55cb58788c", "ffc1b10600f0a360fcca", "fff9db2c05f6f3e405c6"},
+        {"bfe6c4bb4b90f3de31f6", "bfea859822534e82d735", "bfea91e3d70c5dc0ba54", "3fe9f298db347e89e82b", "3fd1cd546fb023b73393", "3ffbbc7e53bbf17ac441"},
+        {"4003c26e3766632d6fa1", "40029e9a00431c4e0344", "400488dd9bc3f8aa38a2", "4002e6426e89aa0cdbfe", "4006f0e9f962fa4b044b", "40009cea78b157cd86ad"},
+        {"800fe2dfe8b94da1092d", "400fc154e0c7b3d718ff", "400fc154e0c7b3d718ff", "c00fc154e0c7b3d718ff", "8020ab560720f7651ca7", "8000258d509444115382"},
+        {"7fe2969ab655b3a9926a", "bfebe91888aa2bd8de79", "7fe2969ab655b3a9926a", "7fe2969ab655b3a9926a", "ffcf89213edb65f45c8f", "fff5a56720440ea4ffc7"},
+        {"c005a7f0862d6c70708a", "c00fa6ec81d103cccfce", "c00fa7167df28f27ebea", "400fa6c285af7871b3b2", "4015db023bccef52f9d7", "3ff580c762a9db559ca5"},
+        {"40019d713fb23729f022", "40019562de96cee20c14", "4002996a0f248305fe1b", "3ffd80e611b6847e40e0", "4003b7bf70a42251177b", "3fff86e720c500855f19"},
+        {"8027b4a4b6a0763ffafc", "c01afe03684eeb11d93d", "c01afe03684eeb11d93d", "401afe03684eeb11d93d", "0043b33dd4bbf3757e94", "000bb60e67157274838a"},
+        {"fffafff29a85c6c991d4", "bfffb7b56007ddc203d8", "fffafff29a85c6c991d4", "fffafff29a85c6c991d4", "7ffbb7abc2ffb8fa710d", "7ffab25544a7b79d46f0"},
+        {"401b864953a907c0d244", "bfe0b74aa82e54411c65", "401b864953a907c0d22d", "401b864953a907c0d25b", "bffcc04b2870df5a80f0", "c039bb8e2bda62b9af3e"},
+        {"c002ed213bbdbbc9ec23", "4002f7129c609ffdd7d5", "3ffe9f160a2e433ebb20", "c003f219ec0f2de3e1fc", "c006e4dc4dd40497d27d", "bffef5b2a6f713d2279d"},
+        {"0011a43bd1f889f94364", "4021afa9da4ada2cb5b3", "4021afa9da4ada2cb5b3", "c021afa9da4ada2cb5b3", "0033e163b822f2e8e338", "000000001deaf995e1c8"},
+        {"fffe94ac3ca2f7a5aa86", "3ff4fef4818cdf875993", "fffe94ac3ca2f7a5aa86", "fffe94ac3ca2f7a5aa86", "fff49410e390179a54ad", "ffff8000000000000000"},
+        {"3fe697138ab6a267f616", "4000e7c94b0d7fddf202", "4000e7c94b3344c09fab", "c000e7c94ae7bafb4459", "3fe888c96ccd67088c0a", "3fe4a6dbce5d8ba1827e"},
+        {"c003db3e68f208ac47e8", "c004cc676829f71b636d", "c0059d034e517db8c3b0", "4003bd906761e58a7ef2", "4009af0e4af2638c94e4", "3ffe894afa47f8af5945"},
+        {"8027992d7e25b2418be2", "c01db337aecc7268ae55", "c01db337aecc7268ae55", "401db337aecc7268ae55", "0045d67841236c60561d", "0008dacdcd4609df4977"},
+        {"ffe9dc8155664c38ef27", "bfdf89e83841c3534217", "ffe9dc8155664c38ef27", "ffe9dc8155664c38ef27", "7fc9ed9278bc2685ac46", "7fff8000000000000000"},
+        {"3ff0beb88548a376db08", "401bc2ae7dac0be42cd7", "401bc2ae7dac0bfc03e8", "c01bc2ae7dac0bcc55c6", "400d9109d40be9291cdd", "3fd3facaa976b3c2ca6e"},
+        {"4003b0aabb2bd8d89fdb", "4003f206cf22f18aca54", "4004d158c5276531b518", "c00282b827ee316454f2", "4008a70617e200b9ae39", "3ffebadde54fe98a7239"},
+        {"8026c4725009914846aa", "4026c71e5db7c504351e", "4026c71e5db7c504351e", "c026c71e5db7c504351e", "804e98cc29875d081828", "80001f921125e5fc5086"},
+        {"7ffddac6bbf420d614ed", "3febc9b8b9bc3a484cc3", "7ffddac6bbf420d614ed", "7ffddac6bbf420d614ed", "7feaac63e7243ed3f364", "7fff8000000000000000"},
+        {"bfe2b460cd67a9b2a811", "3ff8dc94c693faad1e93", "3ff8dc94c3c277777fec", "bff8dc94c9657de2bd3a", "bfdc9b6c0466f8d8470b", "bfe8d15770415032751e"},
+        {"4005de972d9c1828cb70", "4004c4dbeac0d2ee2feb", "4006a082917e40cff1b3", "4004f85270775d6366f5", "400bab2af65d5f81e770", "400090bb1cc1d41b8066"},
+        {"8027b01ed6232c6e477d", "c002c1957b6afc95f5ba", "c002c1957b6afc95f5ba", "4002c1957b6afc95f5ba", "002b852e164b926516c9", "0023e8e7e94877d4c2d9"},
+        {"7ff6a590b8ec733be0db", "3ffdef062d789286e2d9", "7ff6a590b8ec733be0db", "7ff6a590b8ec733be0db", "7ff59a961b71803b9f59", "7ff7b152f3a9ecc37bb4"},
+        {"400da015204d8d45cc18", "bff2e2e793f130b27f03", "400da015203130534df2", "400da0152069ea384a3e", "c0018de3761790959d75", "c019b49c0814f5360946"},
+        {"4002b5d18a03e5c0ddd7", "c003a646dc93fc129f3f", "c00296bc2f24126460a7", "40048097d0caf7798715", "c006ec3066e6e201f3ec", "bffe8bf6c9ea046143dd"},
+        {"001bb5106c6ed0987c81", "c01a99b28e5522ebcea0", "c01a99b28e5522ebcea0", "401a99b28e5522ebcea0", "8036d96a35c9e609371c", "80004b654290324b9380"},
+        {"ffd7cc27dcb2071fc786", "3fdae15f5aaad9af9e7a", "ffd7cc27dcb2071fc786", "ffd7cc27dcb2071fc786", "ffb3b3bb1411a1fc8f96", "fffbe7e661edb66320a9"},
+        {"c018b2c2c9722c4f8f8c", "bfe4987be853597fb1b4", "c018b2c2c9722c4f9914", "c018b2c2c9722c4f8604", "3ffdd4f45ada9cc064c5", "4033960ec271910f6512"},
+        {"3fffc154d162e9c115db", "3ffec910ae335117d432", "400092ee943e49267ffa", "3ffeb998f492826a5784", "3fff97d83142272bfcef", "3ffff627338043703a14"},
+        {"000da3285bb46655cfa9", "c01cf567f4e5407f14aa", "c01cf567f4e5407f14aa", "401cf567f4e5407f14aa", "802b9c67e1151f225b4b", "800000002a8cdd0b48c3"},
+        {"ffebaef213202d1249a0", "3fe3f42d34fa5d0839f9", "ffebaef213202d1249a0", "ffebaef213202d1249a0", "ffd0a6dd9efc4b7a2119", "ffff8000000000000000"},
+        {"4004cbf25816fc7b9f08", "c011b53a45edb5d034e2", "c011b533e65af5185105", "4011b540a580768818bf", "c0179060c4e5e7aa9219", "bff2900bdb3e0c767610"},
+        {"c00285e309dcc140f379", "4003da983193f5050406", "400397a6aca594648a4a", "c0048ec4db412ad2bee1", "c006e4a5de435c15c140", "bffd9ccc1ee251d46bb5"},
+        {"0002c5d60f6d2c4eb9f3", "4019b0ee60d436642430", "4019b0ee60d436642430", "c019b0ee60d436642430", "001d88bb6271ab0b92e4", "0000000000478fd3059b"},
+        {"7ff68edb96f7778e2e7c", "3feca7d65fb13eb4af7a", "7ff68edb96f7778e2e7c", "7ff68edb96f7778e2e7c", "7fe3bb51c0e40f65d50f", "7fff8000000000000000"},
+        {"3ff49b03b1ac4e99a842", "4002ba13f5fe8aacea85", "4002ba16620d515e24ec", "c002ba1189efc3fbb01e", "3ff7e1598aa41724b835", "3ff0d54387e3d83cef1d"},
+        {"4003bcc3e0d5876ccbb5", "400280b5d5f10c80035c", "4003fd1ecbce0daccd63", "4002f8d1ebba0259940e", "4006bdd00952e4be16da", "4000bbb9332f7220fae6"},
+        {"80138caa3e9d3331e709", "c00db30ffeb2cb35a58a", "c00db30ffeb2cb35a58a", "400db30ffeb2cb35a58a", "0021c4c7a7697c53c0d8", "0004c91ab703994ce695"},
+        {"fffdfa623034f2629f29", "3fe9ae962f38074290f7", "fffdfa623034f2629f29", "fffdfa623034f2629f29", "ffe8aac1a07b0f331c77", "ffff8000000000000000"},
+        {"bfe5db009c9cf013fb33", "40158fc66ee759d313a5", "40158fc66ee759d238a4", "c0158fc66ee759d3eea6", "bffbf5fe31a9f25ac49a", "bfcfc2f927a055842727"},
+        {"c002947d4414122306b2", "4001e42b524402189ea7", "c000899e6bc8445add7a", "c0038349769b0997ab03", "c0058458b163e1d20349", "bfffa699e8129035e1b8"},
+        {"8027eae1d43b5d30b913", "401fde96ecea424c7d18", "401fde96ecea424c7d18", "c01fde96ecea424c7d18", "8048cc3a4fbcf47ff9c0", "80078711a00b998f9104"},
+        {"fff1c1322fda224e7fa2", "3feef0aec8e21addaa0a", "fff1c1322fda224e7fa2", "fff1c1322fda224e7fa2", "ffe1b5a2f492de63f3e5", "ffff8000000000000000"},
+        {"c018b767e719a4a34255", "bfed89b47b0dd0e0d1b2", "c018b767e719a4b478e4", "c018b767e719a4920bc6", "4006c54fcfc812315939", "402aaa7ae27a170516b3"},
+        {"3fff9c72414b12b6c38f", "3ffeda9fb0e907a35a93", "400084e10cdfcb44386c", "3ffdbc89a35a3b945916", "3fff859ae2ad711c4020", "3fffb7314c6bfd60b483"},
+        {"00089f3dbc4b0c41a383", "400d9802ffe7cb55b244", "400d9802ffe7cb55b244", "c00d9802ffe7cb55b244", "0016bd1d0aed6b37fa72", "0000010c2cc9e1bff745"},
+        {"7ffebdd6d0780e480d91", "3fdbd7c60417db7008f9", "7ffebdd6d0780e480d91", "7ffebdd6d0780e480d91", "7fdba00240431d22031b", "7fff8000000000000000"}
+    };
+
+    @Test
+    public void testAdd() {
+        for (String[] vector : VECTORS) {
+            check("add", vector, 2, operand(vector, 0).add(operand(vector, 1)));
+        }
+    }
+
+    @Test
+    public void testSub() {
+        for (String[] vector : VECTORS) {
+            check("sub", vector, 3, operand(vector, 0).sub(operand(vector, 1)));
+        }
+    }
+
+    @Test
+    public void testMul() {
+        for (String[] vector : VECTORS) {
+            check("mul", vector, 4, operand(vector, 0).mul(operand(vector, 1)));
+        }
+    }
+
+    @Test
+    public void testDiv() {
+        for (String[] vector : VECTORS) {
+            check("div", vector, 5, operand(vector, 0).div(operand(vector, 1)));
+        }
+    }
+
+    private static LLVM80BitFloat operand(String[] vector, int index) {
+        return LLVM80BitFloat.fromString(vector[index]);
+    }
+
+    private static void check(String operation, String[] vector, int index, LLVM80BitFloat actual) {
+        StringBuilder actualHex = new StringBuilder();
+        for (byte b : actual.getBytesBigEndian()) {
+            actualHex.append(String.format("%02x", b));
+        }
+        assertEquals(operation + " " + vector[0] + " " + vector[1], vector[index], actualHex.toString());
+    }
+
+}
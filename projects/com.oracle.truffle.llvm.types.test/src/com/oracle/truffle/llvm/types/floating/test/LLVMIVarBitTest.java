@@ -29,6 +29,108 @@
  */
 package com.oracle.truffle.llvm.types.floating.test;
 
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.math.BigInteger;
+
+import org.junit.Test;
+
+import com.oracle.truffle.llvm.runtime.LLVMIVarBit;
+
 public class LLVMIVarBitTest {
 
+    private static final BigInteger I128_MODULUS = BigInteger.ONE.shiftLeft(128);
+
+    private static final BigInteger[] VALUES = {BigInteger.ZERO, BigInteger.ONE, BigInteger.valueOf(-1), BigInteger.valueOf(Long.MAX_VALUE), BigInteger.valueOf(Long.MIN_VALUE),
+                    BigInteger.valueOf(0xFFFFFFFFL), new BigInteger("FFFFFFFFFFFFFFFF", 16), new BigInteger("123456789ABCDEF0FEDCBA9876543210", 16),
+                    BigInteger.ONE.shiftLeft(127).subtract(BigInteger.ONE), BigInteger.ONE.shiftLeft(127).negate()};
+
+    private static BigInteger truncate(BigInteger value) {
+        BigInteger result = value.mod(I128_MODULUS);
+        return result.testBit(127) ? result.subtract(I128_MODULUS) : result;
+    }
+
+    private static LLVMIVarBit i128(BigInteger value) {
+        return LLVMIVarBit.fromBigInteger(128, value);
+    }
+
+    private static void assertI128(BigInteger expected, LLVMIVarBit actual) {
+        assertEquals(128, actual.getBitSize());
+        assertEquals(truncate(expected), actual.asBigInteger());
+    }
+
+    @Test
+    public void testI128Arithmetic() {
+        for (BigInteger a : VALUES) {
+            for (BigInteger b : VALUES) {
+                assertI128(a.add(b), i128(a).add(i128(b)));
+                assertI128(a.subtract(b), i128(a).sub(i128(b)));
+                assertI128(a.multiply(b), i128(a).mul(i128(b)));
+            }
+        }
+    }
+
+    @Test
+    public void testI128Bitwise() {
+        for (BigInteger a : VALUES) {
+            for (BigInteger b : VALUES) {
+                assertI128(a.and(b), i128(a).and(i128(b)));
+                assertI128(a.or(b), i128(a).or(i128(b)));
+                assertI128(a.xor(b), i128(a).xor(i128(b)));
+            }
+        }
+    }
+
+    @Test
+    public void testI128Shifts() {
+        for (BigInteger a : VALUES) {
+            for (int shift : new int[]{0, 1, 31, 63, 64, 65, 100, 127}) {
+                final LLVMIVarBit amount = LLVMIVarBit.fromInt(128, shift);
+                assertI128(a.shiftLeft(shift), i128(a).leftShift(amount));
+                assertI128(a.shiftRight(shift), i128(a).arithmeticRightShift(amount));
+                assertI128(a.mod(I128_MODULUS).shiftRight(shift), i128(a).logicalRightShift(amount));
+            }
+        }
+    }
+
+    @Test
+    public void testI128Compare() {
+        for (BigInteger a : VALUES) {
+            for (BigInteger b : VALUES) {
+                assertEquals(a.compareTo(b), Integer.signum(i128(a).signedCompare(i128(b))));
+                assertEquals(a.mod(I128_MODULUS).compareTo(b.mod(I128_MODULUS)), Integer.signum(i128(a).unsignedCompare(i128(b))));
+            }
+        }
+    }
+
+    @Test
+    public void testI128Conversions() {
+        for (BigInteger a : VALUES) {
+            final LLVMIVarBit value = i128(a);
+            assertEquals(a.longValue(), value.getLongValue());
+            assertEquals(a.intValue(), value.getIntValue());
+            assertEquals(a.shortValue(), value.getShortValue());
+            assertEquals(a.byteValue(), value.getByteValue());
+            assertEquals(a.signum() == 0, value.isZero());
+        }
+        assertI128(BigInteger.valueOf(-1), LLVMIVarBit.fromLong(128, -1));
+        assertI128(new BigInteger("FFFFFFFFFFFFFFFF", 16), LLVMIVarBit.createZeroExt(128, -1L));
+        assertTrue(LLVMIVarBit.fromLong(128, 0).isZero());
+    }
+
+    @Test
+    public void testI128Representations() {
+        for (BigInteger a : VALUES) {
+            final LLVMIVarBit fromBytes = LLVMIVarBit.create(128, i128(a).getBytes(), 128, false);
+            final LLVMIVarBit fromLongs = LLVMIVarBit.createI128(fromBytes.getHigh(), fromBytes.getLow());
+            assertEquals(a.shiftRight(64).longValue(), fromLongs.getHigh());
+            assertEquals(a.longValue(), fromLongs.getLow());
+            assertEquals(fromBytes, fromLongs);
+            assertEquals(fromBytes.hashCode(), fromLongs.hashCode());
+            assertArrayEquals(fromBytes.getBytes(), fromLongs.getBytes());
+            assertI128(a, fromLongs);
+        }
+    }
 }
@@ -0,0 +1,213 @@
+/*
+ * Copyright (c) 2017, Oracle and/or its affiliates.
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of
+ * conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of
+ * conditions and the following disclaimer in the documentation and/or other materials provided
+ * with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to
+ * endorse or promote products derived from this software without specific prior written
+ * permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS
+ * OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE
+ * COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE
+ * GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED
+ * AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED
+ * OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.oracle.truffle.llvm.types.memory.test;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.oracle.truffle.llvm.runtime.LLVMAddress;
+import com.oracle.truffle.llvm.runtime.memory.LLVMMemory;
+
+/**
+ * The i8 and i16 atomics are implemented as a CAS on the enclosing aligned i32, so these tests
+ * check that every position within the word is updated without disturbing its neighbors.
+ */
+public class LLVMMemoryAtomicsTest {
+
+    private static final long PATTERN = 0x8877665544332211L;
+    private static final int THREADS = 4;
+    private static final int ITERATIONS = 5000;
+
+    private LLVMAddress memory;
+
+    @Before
+    public void allocate() {
+        memory = LLVMMemory.allocateMemory(Long.BYTES);
+        LLVMMemory.putI64(memory, PATTERN);
+    }
+
+    @After
+    public void free() {
+        LLVMMemory.free(memory);
+    }
+
+    private static long replaceI8(long value, int index, byte b) {
+        return (value & ~(0xFFL << (index * Byte.SIZE))) | ((b & 0xFFL) << (index * Byte.SIZE));
+    }
+
+    private static long replaceI16(long value, int index, short s) {
+        return (value & ~(0xFFFFL << (index * Short.SIZE))) | ((s & 0xFFFFL) << (index * Short.SIZE));
+    }
+
+    @Test
+    public void testCompareAndExchangeI8Failure() {
+        for (int i = 0; i < Long.BYTES; i++) {
+            byte current = LLVMMemory.getI8(memory.increment(i));
+            assertEquals(current, LLVMMemory.compareAndExchangeI8(memory.increment(i), (byte) (current + 1), (byte) 0));
+            assertEquals(PATTERN, LLVMMemory.getI64(memory));
+        }
+    }
+
+    @Test
+    public void testCompareAndExchangeI8Success() {
+        long expected = PATTERN;
+        for (int i = 0; i < Long.BYTES; i++) {
+            byte current = LLVMMemory.getI8(memory.increment(i));
+            byte replacement = (byte) (0xA0 | i);
+            assertEquals(current, LLVMMemory.compareAndExchangeI8(memory.increment(i), current, replacement));
+            expected = replaceI8(expected, i, replacement);
+            assertEquals(expected, LLVMMemory.getI64(memory));
+        }
+    }
+
+    @Test
+    public void testCompareAndExchangeI8Negative() {
+        LLVMMemory.putI8(memory.increment(3), (byte) -1);
+        assertEquals((byte) -1, LLVMMemory.compareAndExchangeI8(memory.increment(3), (byte) 0xFF, Byte.MIN_VALUE));
+        assertEquals(Byte.MIN_VALUE, LLVMMemory.compareAndExchangeI8(memory.increment(3), (byte) 0x80, (byte) 0x7F));
+        assertEquals(replaceI8(PATTERN, 3, (byte) 0x7F), LLVMMemory.getI64(memory));
+    }
+
+    @Test
+    public void testCompareAndExchangeI16Failure() {
+        for (int i = 0; i < Long.BYTES / Short.BYTES; i++) {
+            short current = LLVMMemory.getI16(memory.increment(i * Short.BYTES));
+            assertEquals(current, LLVMMemory.compareAndExchangeI16(memory.increment(i * Short.BYTES), (short) (current + 1), (short) 0));
+            assertEquals(PATTERN, LLVMMemory.getI64(memory));
+        }
+    }
+
+    @Test
+    public void testCompareAndExchangeI16Success() {
+        long expected = PATTERN;
+        for (int i = 0; i < Long.BYTES / Short.BYTES; i++) {
+            short current = LLVMMemory.getI16(memory.increment(i * Short.BYTES));
+            short replacement = (short) (0xBEE0 | i);
+            assertEquals(current, LLVMMemory.compareAndExchangeI16(memory.increment(i * Short.BYTES), current, replacement));
+            expected = replaceI16(expected, i, replacement);
+            assertEquals(expected, LLVMMemory.getI64(memory));
+        }
+    }
+
+    @Test
+    public void testGetAndOpI8Wraps() {
+        long expected = PATTERN;
+        for (int i = 0; i < Long.BYTES; i++) {
+            LLVMMemory.putI8(memory.increment(i), (byte) 0xFF);
+            expected = replaceI8(expected, i, (byte) 0xFF);
+        }
+        for (int i = 0; i < Long.BYTES; i++) {
+            assertEquals((byte) 0xFF, LLVMMemory.getAndOpI8(memory.increment(i), (byte) 1, (a, b) -> a + b));
+            // the carry out of the byte must not reach the neighboring byte
+            expected = replaceI8(expected, i, (byte) 0);
+            assertEquals(expected, LLVMMemory.getI64(memory));
+        }
+    }
+
+    @Test
+    public void testGetAndOpI16Wraps() {
+        long expected = PATTERN;
+        for (int i = 0; i < Long.BYTES / Short.BYTES; i++) {
+            LLVMMemory.putI16(memory.increment(i * Short.BYTES), (short) 0xFFFF);
+            expected = replaceI16(expected, i, (short) 0xFFFF);
+        }
+        for (int i = 0; i < Long.BYTES / Short.BYTES; i++) {
+            assertEquals((short) 0xFFFF, LLVMMemory.getAndOpI16(memory.increment(i * Short.BYTES), (short) 1, (a, b) -> a + b));
+            expected = replaceI16(expected, i, (short) 0);
+            assertEquals(expected, LLVMMemory.getI64(memory));
+        }
+    }
+
+    @Test
+    public void testConcurrentI8() throws InterruptedException {
+        LLVMMemory.putI64(memory, 0);
+        // one thread per byte of the same word: a lost update on the word shows up in a counter
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            LLVMAddress counter = memory.increment(i);
+            threads.add(new Thread(() -> {
+                for (int j = 0; j < ITERATIONS; j++) {
+                    LLVMMemory.getAndOpI8(counter, (byte) 1, (a, b) -> a + b);
+                }
+            }));
+        }
+        run(threads);
+        for (int i = 0; i < THREADS; i++) {
+            assertEquals((byte) ITERATIONS, LLVMMemory.getI8(memory.increment(i)));
+        }
+        assertEquals(0, LLVMMemory.getI32(memory.increment(Integer.BYTES)));
+    }
+
+    @Test
+    public void testConcurrentI16() throws InterruptedException {
+        LLVMMemory.putI64(memory, 0);
+        // half of the threads use a cmpxchg loop on the lower i16, the others an RMW on the upper
+        // i16 of the same word
+        LLVMAddress low = memory;
+        LLVMAddress high = memory.increment(Short.BYTES);
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            threads.add(new Thread(() -> {
+                for (int j = 0; j < ITERATIONS; j++) {
+                    short current = LLVMMemory.getI16(low);
+                    short witnessed;
+                    while ((witnessed = LLVMMemory.compareAndExchangeI16(low, current, (short) (current + 1))) != current) {
+                        current = witnessed;
+                    }
+                }
+            }));
+            threads.add(new Thread(() -> {
+                for (int j = 0; j < ITERATIONS; j++) {
+                    LLVMMemory.getAndOpI16(high, (short) 1, (a, b) -> a + b);
+                }
+            }));
+        }
+        run(threads);
+        assertEquals((short) (THREADS * ITERATIONS), LLVMMemory.getI16(low));
+        assertEquals((short) (THREADS * ITERATIONS), LLVMMemory.getI16(high));
+        assertEquals(0, LLVMMemory.getI32(memory.increment(Integer.BYTES)));
+    }
+
+    private static void run(List<Thread> threads) throws InterruptedException {
+        for (Thread thread : threads) {
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+    }
+
+}
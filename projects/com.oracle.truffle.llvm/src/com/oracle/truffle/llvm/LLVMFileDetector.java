@@ -49,6 +49,8 @@ public class LLVMFileDetector extends FileTypeDetector {
             return Sulong.LLVM_BITCODE_MIME_TYPE;
         } else if (magicWord == ELF_MAGIC_WORD) {
             return Sulong.LLVM_ELF_SHARED_MIME_TYPE;
+        } else if (magicWord == Library.ARCHIVE_MAGIC_WORD) {
+            return Sulong.SULONG_LIBRARY_MIME_TYPE;
         }
         return null;
     }
@@ -33,64 +33,194 @@ import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
 import java.nio.charset.StandardCharsets;
-import java.util.Base64;
+import java.nio.file.StandardOpenOption;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Scanner;
+import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipInputStream;
 
-import com.oracle.truffle.api.source.Source;
+/**
+ * A Sulong library bundles several bitcode files together with the names of the libraries they
+ * depend on. Two container formats are supported:
+ *
+ * <ul>
+ * <li>A binary archive that starts with an index of its members. The archive is memory-mapped and
+ * each member is handed out as a slice of the mapping, so the bitcode is never copied.</li>
+ * <li>A zip file, which is the original format and is still accepted for compatibility.</li>
+ * </ul>
+ *
+ * In both formats, a member named {@value #LIBS_MEMBER} contains the dependencies, one per line.
+ *
+ * The binary archive has the following little-endian layout:
+ *
+ * <pre>
+ * u32 magic word ('SLIB')
+ * u32 version
+ * u32 number of members
+ * for each member: u32 name length, UTF-8 name, u64 offset, u64 size
+ * member contents
+ * </pre>
+ */
+final class Library {
+
+    static final long ARCHIVE_MAGIC_WORD = 0x42494C53L; // 'SLIB'
+    static final int ARCHIVE_VERSION = 1;
 
-class Library {
+    private static final int ARCHIVE_HEADER_SIZE = 3 * Integer.BYTES;
+    private static final int ARCHIVE_ENTRY_SIZE = Integer.BYTES + 2 * Long.BYTES;
 
+    private static final String LIBS_MEMBER = "libs";
     private static final int BUFFER_SIZE = 1024;
 
-    private File file;
+    private final File file;
 
     Library(File file) {
         this.file = file;
     }
 
-    void readContents(Consumer<String> handleLibrary, Consumer<Source> handleSource) throws IOException {
-        final byte[] buffer = new byte[BUFFER_SIZE];
+    static boolean isArchive(ByteBuffer bytes) {
+        ByteBuffer b = bytes.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+        return b.remaining() >= Integer.BYTES && Integer.toUnsignedLong(b.getInt(0)) == ARCHIVE_MAGIC_WORD;
+    }
+
+    void readContents(Consumer<String> handleLibrary, BiConsumer<String, ByteBuffer> handleBitcode) throws IOException {
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            ByteBuffer contents = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (isArchive(contents)) {
+                readArchive(contents, handleLibrary, handleBitcode);
+                return;
+            }
+        }
+        readZip(handleLibrary, handleBitcode);
+    }
 
+    private void readArchive(ByteBuffer contents, Consumer<String> handleLibrary, BiConsumer<String, ByteBuffer> handleBitcode) {
+        ByteBuffer index = contents.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+        index.getInt(); // magic word
+        int version = index.getInt();
+        if (version != ARCHIVE_VERSION) {
+            throw new IllegalStateException("Unsupported version " + version + " of Sulong library " + file);
+        }
+        int members = index.getInt();
+        for (int i = 0; i < members; i++) {
+            byte[] nameBytes = new byte[index.getInt()];
+            index.get(nameBytes);
+            String name = new String(nameBytes, StandardCharsets.UTF_8);
+            long offset = index.getLong();
+            long size = index.getLong();
+            if (offset < 0 || size < 0 || offset + size > contents.limit()) {
+                throw new IllegalStateException("Member " + name + " exceeds the bounds of Sulong library " + file);
+            }
+
+            ByteBuffer member = contents.duplicate();
+            member.position((int) offset);
+            member.limit((int) (offset + size));
+            handleMember(name, member.slice(), handleLibrary, handleBitcode);
+        }
+    }
+
+    private void readZip(Consumer<String> handleLibrary, BiConsumer<String, ByteBuffer> handleBitcode) throws IOException {
         try (ZipInputStream zipStream = new ZipInputStream(new FileInputStream(file))) {
             ZipEntry zipEntry = zipStream.getNextEntry();
 
             while (zipEntry != null) {
-                if (zipEntry.isDirectory()) {
-                    zipEntry = zipStream.getNextEntry();
-                    continue;
+                if (!zipEntry.isDirectory()) {
+                    handleMember(zipEntry.getName(), ByteBuffer.wrap(readFully(zipStream)), handleLibrary, handleBitcode);
                 }
+                zipEntry = zipStream.getNextEntry();
+            }
+        }
+    }
 
-                final ByteArrayOutputStream byteStream = new ByteArrayOutputStream();
-
-                while (true) {
-                    final int read = zipStream.read(buffer);
-                    if (read == -1) {
-                        break;
-                    }
-                    byteStream.write(buffer, 0, read);
+    private void handleMember(String name, ByteBuffer bytes, Consumer<String> handleLibrary, BiConsumer<String, ByteBuffer> handleBitcode) {
+        if (name.equals(LIBS_MEMBER)) {
+            final String libs = StandardCharsets.UTF_8.decode(bytes).toString();
+            try (Scanner scanner = new Scanner(libs)) {
+                while (scanner.hasNextLine()) {
+                    handleLibrary.accept(scanner.nextLine());
                 }
+            }
+        } else if (name.endsWith("." + Sulong.LLVM_BITCODE_EXTENSION)) {
+            handleBitcode.accept(name, bytes);
+        }
+    }
 
-                final byte[] bytes = byteStream.toByteArray();
-
-                if (zipEntry.getName().equals("libs")) {
-                    final String libs = byteStream.toString(StandardCharsets.UTF_8.name());
-                    try (Scanner scanner = new Scanner(libs)) {
-                        while (scanner.hasNextLine()) {
-                            handleLibrary.accept(scanner.nextLine());
-                        }
-                    }
-                } else if (zipEntry.getName().endsWith("." + Sulong.LLVM_BITCODE_EXTENSION)) {
-                    final String sourceCode = Base64.getEncoder().encodeToString(bytes);
-                    handleSource.accept(Source.newBuilder(sourceCode).name(file.getPath() + "@" + zipEntry.getName()).mimeType(Sulong.LLVM_BITCODE_BASE64_MIME_TYPE).build());
-                }
+    private static byte[] readFully(InputStream stream) throws IOException {
+        final byte[] buffer = new byte[BUFFER_SIZE];
+        final ByteArrayOutputStream byteStream = new ByteArrayOutputStream();
+        while (true) {
+            final int read = stream.read(buffer);
+            if (read == -1) {
+                break;
+            }
+            byteStream.write(buffer, 0, read);
+        }
+        return byteStream.toByteArray();
+    }
 
-                zipEntry = zipStream.getNextEntry();
+    /**
+     * Writes the given members into a binary archive.
+     */
+    static void writeArchive(File target, Map<String, ByteBuffer> members) throws IOException {
+        int headerSize = ARCHIVE_HEADER_SIZE;
+        for (String name : members.keySet()) {
+            headerSize += ARCHIVE_ENTRY_SIZE + name.getBytes(StandardCharsets.UTF_8).length;
+        }
+
+        ByteBuffer header = ByteBuffer.allocate(headerSize).order(ByteOrder.LITTLE_ENDIAN);
+        header.putInt((int) ARCHIVE_MAGIC_WORD);
+        header.putInt(ARCHIVE_VERSION);
+        header.putInt(members.size());
+        long offset = headerSize;
+        for (Map.Entry<String, ByteBuffer> member : members.entrySet()) {
+            byte[] nameBytes = member.getKey().getBytes(StandardCharsets.UTF_8);
+            header.putInt(nameBytes.length);
+            header.put(nameBytes);
+            header.putLong(offset);
+            header.putLong(member.getValue().remaining());
+            offset += member.getValue().remaining();
+        }
+        header.flip();
+
+        try (FileChannel channel = FileChannel.open(target.toPath(), StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            writeFully(channel, header);
+            for (ByteBuffer contents : members.values()) {
+                writeFully(channel, contents.duplicate());
             }
         }
     }
 
+    private static void writeFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    /**
+     * Converts a zip-based Sulong library into the binary archive format.
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length != 2) {
+            throw new IllegalArgumentException("usage: Library <zip library> <archive>");
+        }
+        final Map<String, ByteBuffer> members = new LinkedHashMap<>();
+        try (ZipInputStream zipStream = new ZipInputStream(new FileInputStream(args[0]))) {
+            ZipEntry zipEntry = zipStream.getNextEntry();
+            while (zipEntry != null) {
+                if (!zipEntry.isDirectory()) {
+                    members.put(zipEntry.getName(), ByteBuffer.wrap(readFully(zipStream)));
+                }
+                zipEntry = zipStream.getNextEntry();
+            }
+        }
+        writeArchive(new File(args[1]), members);
+    }
 }
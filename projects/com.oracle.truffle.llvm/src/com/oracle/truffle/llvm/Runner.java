@@ -33,12 +33,15 @@ import java.io.File;
 import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.charset.Charset;
-import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
 import java.util.Base64;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.function.Consumer;
 
 import com.oracle.truffle.api.CallTarget;
@@ -107,42 +110,79 @@ public final class Runner {
         try {
 
             CallTarget mainFunction = null;
-            ByteBuffer bytes;
-
-            if (code.getMimeType().equals(LLVMLanguage.LLVM_BITCODE_BASE64_MIME_TYPE)) {
-                ByteBuffer buffer = Charset.forName("ascii").newEncoder().encode(CharBuffer.wrap(code.getCharacters()));
-                bytes = Base64.getDecoder().decode(buffer);
-                assert LLVMScanner.isSupportedFile(bytes);
-            } else if (code.getPath() != null) {
-                bytes = read(code.getPath());
-                assert LLVMScanner.isSupportedFile(bytes);
+
+            if (code.getMimeType().equals(LLVMLanguage.SULONG_LIBRARY_MIME_TYPE) && code.getPath() != null) {
+                mainFunction = parseLibrary(language, context, code);
             } else {
-                throw new IllegalStateException();
+                ByteBuffer bytes;
+                if (code.getMimeType().equals(LLVMLanguage.LLVM_BITCODE_BASE64_MIME_TYPE)) {
+                    ByteBuffer buffer = Charset.forName("ascii").newEncoder().encode(CharBuffer.wrap(code.getCharacters()));
+                    bytes = Base64.getDecoder().decode(buffer);
+                } else if (code.getPath() != null) {
+                    bytes = read(code.getPath());
+                } else {
+                    throw new IllegalStateException();
+                }
+                mainFunction = parseBitcode(language, context, code, bytes);
             }
 
-            assert bytes != null;
-
-            BitcodeParserResult bitcodeParserResult = BitcodeParserResult.getFromSource(code, bytes);
-            context.addLibraryPaths(bitcodeParserResult.getLibraryPaths());
-            context.addExternalLibraries(bitcodeParserResult.getLibraries());
-            parseDynamicBitcodeLibraries(language, context);
-            LLVMParserResult parserResult = parseBitcodeFile(code, bitcodeParserResult, language, context);
-            mainFunction = parserResult.getMainCallTarget();
             if (context.getEnv().getOptions().get(SulongEngineOption.PARSE_ONLY)) {
                 mainFunction = Truffle.getRuntime().createCallTarget(RootNode.createConstantNode(0));
             } else if (mainFunction == null) {
                 mainFunction = Truffle.getRuntime().createCallTarget(RootNode.createConstantNode(new NoMain()));
             }
-            handleParserResult(context, parserResult);
             return mainFunction;
         } catch (Throwable t) {
             throw new IOException("Error while trying to parse " + code.getPath(), t);
         }
     }
 
+    /**
+     * Parses all bitcode members of a Sulong library. The members are handed to the parser as
+     * slices of the library file without copying them. Each member gets a source named after its
+     * archive entry, so that debug information and error messages refer to the original file.
+     *
+     * @return the main function of the library, or {@code null} if no member defines one
+     */
+    private CallTarget parseLibrary(LLVMLanguage language, LLVMContext context, Source code) throws IOException {
+        Map<String, ByteBuffer> members = new LinkedHashMap<>();
+        new Library(new File(code.getPath())).readContents(context::addExternalLibrary, members::put);
+
+        CallTarget mainFunction = null;
+        for (Map.Entry<String, ByteBuffer> member : members.entrySet()) {
+            Source memberSource = Source.newBuilder("").name(member.getKey()).mimeType(LLVMLanguage.LLVM_BITCODE_MIME_TYPE).build();
+            CallTarget memberMain;
+            try {
+                memberMain = parseBitcode(language, context, memberSource, member.getValue());
+            } catch (Throwable t) {
+                throw new IOException("Error while trying to parse " + member.getKey() + " in library " + code.getPath(), t);
+            }
+            if (memberMain != null) {
+                mainFunction = memberMain;
+            }
+        }
+        return mainFunction;
+    }
+
+    /**
+     * @return the main function of the bitcode file, or {@code null} if it does not define one
+     */
+    private CallTarget parseBitcode(LLVMLanguage language, LLVMContext context, Source code, ByteBuffer bytes) throws IOException {
+        assert bytes != null;
+        assert LLVMScanner.isSupportedFile(bytes);
+
+        BitcodeParserResult bitcodeParserResult = BitcodeParserResult.getFromSource(code, bytes, context.getEnv().getOptions().get(SulongEngineOption.ENABLE_LVI));
+        context.addLibraryPaths(bitcodeParserResult.getLibraryPaths());
+        context.addExternalLibraries(bitcodeParserResult.getLibraries());
+        parseDynamicBitcodeLibraries(language, context);
+        LLVMParserResult parserResult = parseBitcodeFile(code, bitcodeParserResult, language, context);
+        handleParserResult(context, parserResult);
+        return parserResult.getMainCallTarget();
+    }
+
     private static ByteBuffer read(String filename) {
-        try {
-            return ByteBuffer.wrap(Files.readAllBytes(Paths.get(filename)));
+        try (FileChannel channel = FileChannel.open(Paths.get(filename), StandardOpenOption.READ)) {
+            return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
         } catch (IOException ignore) {
             return ByteBuffer.allocate(0);
         }
@@ -197,7 +237,7 @@ public final class Runner {
     }
 
     public static void disposeContext(LLVMContext context) {
-        LLVMFunctionDescriptor atexitDescriptor = context.getGlobalScope().getFunctionDescriptor("@__sulong_funcs_on_exit");
+        LLVMFunctionDescriptor atexitDescriptor = context.getGlobalScope().findFunctionDescriptor("@__sulong_funcs_on_exit");
         if (atexitDescriptor != null) {
             RootCallTarget atexit = atexitDescriptor.getLLVMIRFunction();
             try (StackPointer stackPointer = context.getThreadingStack().getStack().takeStackPointer()) {
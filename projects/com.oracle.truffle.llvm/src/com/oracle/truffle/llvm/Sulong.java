@@ -37,6 +37,7 @@ import java.util.ServiceLoader;
 import org.graalvm.options.OptionDescriptor;
 import org.graalvm.options.OptionDescriptors;
 import org.graalvm.polyglot.Context;
+import org.graalvm.polyglot.Engine;
 import org.graalvm.polyglot.Value;
 
 import com.oracle.truffle.api.CallTarget;
@@ -51,18 +52,21 @@ import com.oracle.truffle.api.source.SourceSection;
 import com.oracle.truffle.llvm.parser.NodeFactory;
 import com.oracle.truffle.llvm.runtime.ContextExtension;
 import com.oracle.truffle.llvm.runtime.LLVMContext;
+import com.oracle.truffle.llvm.runtime.LLVMFunctionDescriptor;
 import com.oracle.truffle.llvm.runtime.LLVMLanguage;
 import com.oracle.truffle.llvm.runtime.debug.LLVMDebugObject;
 import com.oracle.truffle.llvm.runtime.debug.LLVMSourceType;
 import com.oracle.truffle.llvm.runtime.debug.scope.LLVMSourceLocation;
 import com.oracle.truffle.llvm.runtime.debug.scope.LLVMSourceScope;
 import com.oracle.truffle.llvm.runtime.memory.LLVMThreadingStack;
+import com.oracle.truffle.llvm.runtime.nodes.api.LLVMTags;
 import com.oracle.truffle.llvm.runtime.options.SulongEngineOption;
 
 @TruffleLanguage.Registration(id = "llvm", name = "llvm", version = "0.01", mimeType = {Sulong.LLVM_BITCODE_MIME_TYPE, Sulong.LLVM_BITCODE_BASE64_MIME_TYPE,
                 Sulong.SULONG_LIBRARY_MIME_TYPE, Sulong.LLVM_ELF_SHARED_MIME_TYPE, Sulong.LLVM_ELF_EXEC_MIME_TYPE}, internal = false, interactive = false)
 // TODO: remove Sulong.SULONG_LIBRARY_MIME_TYPE after GR-5904 is closed.
-@ProvidedTags({StandardTags.StatementTag.class, StandardTags.CallTag.class, StandardTags.RootTag.class})
+@ProvidedTags({StandardTags.StatementTag.class, StandardTags.CallTag.class, StandardTags.RootTag.class, LLVMTags.MemoryLoadTag.class, LLVMTags.MemoryStoreTag.class,
+                LLVMTags.MemoryStoreAddressTag.class, LLVMTags.StackAllocationTag.class, LLVMTags.HeapAllocationTag.class, LLVMTags.HeapFreeTag.class})
 public final class Sulong extends LLVMLanguage {
 
     private static final List<Configuration> configurations = new ArrayList<>();
@@ -82,6 +86,7 @@ public final class Sulong extends LLVMLanguage {
     @Override
     protected void disposeContext(LLVMContext context) {
         context.printNativeCallStatistic();
+        context.printAllocationStatistic();
         Runner.disposeContext(context);
     }
 
@@ -94,13 +99,11 @@ public final class Sulong extends LLVMLanguage {
     @Override
     protected Object findExportedSymbol(LLVMContext context, String globalName, boolean onlyExplicit) {
         String atname = "@" + globalName; // for interop
-        if (context.getGlobalScope().functionExists(atname)) {
-            return context.getGlobalScope().getFunctionDescriptor(atname);
+        LLVMFunctionDescriptor functionDescriptor = context.getGlobalScope().findFunctionDescriptor(atname);
+        if (functionDescriptor == null) {
+            functionDescriptor = context.getGlobalScope().findFunctionDescriptor(globalName);
         }
-        if (context.getGlobalScope().functionExists(globalName)) {
-            return context.getGlobalScope().getFunctionDescriptor(globalName);
-        }
-        return null;
+        return functionDescriptor;
     }
 
     @Override
@@ -130,8 +133,21 @@ public final class Sulong extends LLVMLanguage {
     }
 
     public static int executeMain(File file, String[] args) throws Exception {
+        return executeMain(file, args, null);
+    }
+
+    /**
+     * Executes the main function of a bitcode file in a fresh context. If {@code engine} is not
+     * {@code null}, the context is created on this engine so that engine-wide state, e.g., compiled
+     * code, is shared between subsequent executions.
+     */
+    public static int executeMain(File file, String[] args, Engine engine) throws Exception {
         org.graalvm.polyglot.Source source = org.graalvm.polyglot.Source.newBuilder(LLVMLanguage.NAME, file).build();
-        Context context = Context.newBuilder().arguments(LLVMLanguage.NAME, args).build();
+        Context.Builder builder = Context.newBuilder().arguments(LLVMLanguage.NAME, args);
+        if (engine != null) {
+            builder.engine(engine);
+        }
+        Context context = builder.build();
         try {
             Value result = context.eval(source);
             if (result.isNull()) {
@@ -0,0 +1,39 @@
+#include <truffle.h>
+
+int main() {
+  double *doubles = truffle_managed_malloc(4 * sizeof(double));
+  long *longs = truffle_managed_malloc(4 * sizeof(long));
+  void **mixed = truffle_managed_malloc(2 * sizeof(void *));
+
+  for (int i = 0; i < 4; i++) {
+    doubles[i] = i * 0.5;
+    longs[i] = i * 3L;
+  }
+
+  double sum = 0;
+  long lsum = 0;
+  for (int i = 0; i < 4; i++) {
+    sum += doubles[i];
+    lsum += longs[i];
+  }
+  if (sum != 3.0 || lsum != 18) {
+    return 1;
+  }
+
+  // a long written into an array of doubles
+  double *conflict = truffle_managed_malloc(2 * sizeof(double));
+  conflict[0] = 1.5;
+  conflict[1] = 2.5;
+  ((long *)conflict)[1] = 7;
+  if (conflict[0] != 1.5 || ((long *)conflict)[1] != 7) {
+    return 1;
+  }
+
+  ((long *)mixed)[0] = 42;
+  mixed[1] = truffle_import("object");
+  if (((long *)mixed)[0] != 42 || mixed[1] != truffle_import("object")) {
+    return 1;
+  }
+
+  return 0;
+}
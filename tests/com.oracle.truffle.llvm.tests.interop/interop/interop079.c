@@ -0,0 +1,21 @@
+#include <string.h>
+
+int sum(int *array, int n) {
+  int buffer[16];
+  memcpy(buffer, array, n * sizeof(int));
+  int result = 0;
+  for (int i = 0; i < n; i++) {
+    result += buffer[i];
+  }
+  return result;
+}
+
+void fill(int *array, int n) {
+  int buffer[16];
+  for (int i = 0; i < n; i++) {
+    buffer[i] = i * i;
+  }
+  memcpy(array, buffer, n * sizeof(int));
+}
+
+int main() { return 0; }
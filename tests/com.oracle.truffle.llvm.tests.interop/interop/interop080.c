@@ -0,0 +1,5 @@
+extern int dependency_value;
+
+int dependency_add(int a, int b);
+
+int main() { return dependency_add(1, 2) - dependency_value; }
@@ -0,0 +1,36 @@
+; Exercises llvm.bitreverse on all scalar integer widths.
+
+@fmt = private unnamed_addr constant [10 x i8] c"%s: %llx\0A\00"
+@b8 = private unnamed_addr constant [3 x i8] c"i8\00"
+@b16 = private unnamed_addr constant [4 x i8] c"i16\00"
+@b32 = private unnamed_addr constant [4 x i8] c"i32\00"
+@b64 = private unnamed_addr constant [4 x i8] c"i64\00"
+
+declare i32 @printf(i8*, ...)
+
+declare i8 @llvm.bitreverse.i8(i8)
+declare i16 @llvm.bitreverse.i16(i16)
+declare i32 @llvm.bitreverse.i32(i32)
+declare i64 @llvm.bitreverse.i64(i64)
+
+define i32 @main() {
+  %p = alloca i64
+  store volatile i64 1311768467463790320, i64* %p
+  %v64 = load volatile i64, i64* %p
+  %v32 = trunc i64 %v64 to i32
+  %v16 = trunc i64 %v64 to i16
+  %v8 = trunc i64 %v64 to i8
+
+  %a = call i8 @llvm.bitreverse.i8(i8 %v8)
+  %a.ext = zext i8 %a to i64
+  call i32 (i8*, ...) @printf(i8* getelementptr inbounds ([10 x i8], [10 x i8]* @fmt, i64 0, i64 0), i8* getelementptr inbounds ([3 x i8], [3 x i8]* @b8, i64 0, i64 0), i64 %a.ext)
+  %b = call i16 @llvm.bitreverse.i16(i16 %v16)
+  %b.ext = zext i16 %b to i64
+  call i32 (i8*, ...) @printf(i8* getelementptr inbounds ([10 x i8], [10 x i8]* @fmt, i64 0, i64 0), i8* getelementptr inbounds ([4 x i8], [4 x i8]* @b16, i64 0, i64 0), i64 %b.ext)
+  %c = call i32 @llvm.bitreverse.i32(i32 %v32)
+  %c.ext = zext i32 %c to i64
+  call i32 (i8*, ...) @printf(i8* getelementptr inbounds ([10 x i8], [10 x i8]* @fmt, i64 0, i64 0), i8* getelementptr inbounds ([4 x i8], [4 x i8]* @b32, i64 0, i64 0), i64 %c.ext)
+  %d = call i64 @llvm.bitreverse.i64(i64 %v64)
+  call i32 (i8*, ...) @printf(i8* getelementptr inbounds ([10 x i8], [10 x i8]* @fmt, i64 0, i64 0), i8* getelementptr inbounds ([4 x i8], [4 x i8]* @b64, i64 0, i64 0), i64 %d)
+  ret i32 0
+}
@@ -0,0 +1,82 @@
+; Exercises llvm.fshl and llvm.fshr, including shift amounts of zero, amounts
+; that are reduced modulo the bit width and rotates (both operands equal).
+
+@fmt = private unnamed_addr constant [10 x i8] c"%s: %llx\0A\00"
+@l8 = private unnamed_addr constant [8 x i8] c"fshl.i8\00"
+@rot8 = private unnamed_addr constant [8 x i8] c"rotl.i8\00"
+@r8 = private unnamed_addr constant [8 x i8] c"fshr.i8\00"
+@l16 = private unnamed_addr constant [9 x i8] c"fshl.i16\00"
+@r16 = private unnamed_addr constant [9 x i8] c"fshr.i16\00"
+@l32 = private unnamed_addr constant [9 x i8] c"fshl.i32\00"
+@r32 = private unnamed_addr constant [9 x i8] c"fshr.i32\00"
+@l32m = private unnamed_addr constant [13 x i8] c"fshl.i32.mod\00"
+@l32z = private unnamed_addr constant [14 x i8] c"fshl.i32.zero\00"
+@r32z = private unnamed_addr constant [14 x i8] c"fshr.i32.zero\00"
+@l64 = private unnamed_addr constant [9 x i8] c"fshl.i64\00"
+@r64 = private unnamed_addr constant [9 x i8] c"fshr.i64\00"
+
+declare i32 @printf(i8*, ...)
+
+declare i8 @llvm.fshl.i8(i8, i8, i8)
+declare i8 @llvm.fshr.i8(i8, i8, i8)
+declare i16 @llvm.fshl.i16(i16, i16, i16)
+declare i16 @llvm.fshr.i16(i16, i16, i16)
+declare i32 @llvm.fshl.i32(i32, i32, i32)
+declare i32 @llvm.fshr.i32(i32, i32, i32)
+declare i64 @llvm.fshl.i64(i64, i64, i64)
+declare i64 @llvm.fshr.i64(i64, i64, i64)
+
+define void @print(i8* %name, i64 %value) {
+  call i32 (i8*, ...) @printf(i8* getelementptr inbounds ([10 x i8], [10 x i8]* @fmt, i64 0, i64 0), i8* %name, i64 %value)
+  ret void
+}
+
+define i32 @main() {
+  %amount = alloca i32
+  store volatile i32 8, i32* %amount
+  %s32 = load volatile i32, i32* %amount
+  %s8 = trunc i32 %s32 to i8
+  %s16 = trunc i32 %s32 to i16
+  %s64 = zext i32 %s32 to i64
+
+  %a = call i8 @llvm.fshl.i8(i8 -127, i8 64, i8 1)
+  %a.ext = zext i8 %a to i64
+  call void @print(i8* getelementptr inbounds ([8 x i8], [8 x i8]* @l8, i64 0, i64 0), i64 %a.ext)
+  %b = call i8 @llvm.fshl.i8(i8 -127, i8 -127, i8 1)
+  %b.ext = zext i8 %b to i64
+  call void @print(i8* getelementptr inbounds ([8 x i8], [8 x i8]* @rot8, i64 0, i64 0), i64 %b.ext)
+  %c = call i8 @llvm.fshr.i8(i8 1, i8 -128, i8 %s8)
+  %c.ext = zext i8 %c to i64
+  call void @print(i8* getelementptr inbounds ([8 x i8], [8 x i8]* @r8, i64 0, i64 0), i64 %c.ext)
+
+  %d = call i16 @llvm.fshl.i16(i16 255, i16 -256, i16 4)
+  %d.ext = zext i16 %d to i64
+  call void @print(i8* getelementptr inbounds ([9 x i8], [9 x i8]* @l16, i64 0, i64 0), i64 %d.ext)
+  %e = call i16 @llvm.fshr.i16(i16 255, i16 -256, i16 %s16)
+  %e.ext = zext i16 %e to i64
+  call void @print(i8* getelementptr inbounds ([9 x i8], [9 x i8]* @r16, i64 0, i64 0), i64 %e.ext)
+
+  %f = call i32 @llvm.fshl.i32(i32 305419896, i32 -1698898192, i32 %s32)
+  %f.ext = zext i32 %f to i64
+  call void @print(i8* getelementptr inbounds ([9 x i8], [9 x i8]* @l32, i64 0, i64 0), i64 %f.ext)
+  %g = call i32 @llvm.fshr.i32(i32 305419896, i32 -1698898192, i32 %s32)
+  %g.ext = zext i32 %g to i64
+  call void @print(i8* getelementptr inbounds ([9 x i8], [9 x i8]* @r32, i64 0, i64 0), i64 %g.ext)
+  %s32.mod = add i32 %s32, 32
+  %h = call i32 @llvm.fshl.i32(i32 305419896, i32 -1698898192, i32 %s32.mod)
+  %h.ext = zext i32 %h to i64
+  call void @print(i8* getelementptr inbounds ([13 x i8], [13 x i8]* @l32m, i64 0, i64 0), i64 %h.ext)
+  %s32.zero = sub i32 %s32, 8
+  %i = call i32 @llvm.fshl.i32(i32 305419896, i32 -1698898192, i32 %s32.zero)
+  %i.ext = zext i32 %i to i64
+  call void @print(i8* getelementptr inbounds ([14 x i8], [14 x i8]* @l32z, i64 0, i64 0), i64 %i.ext)
+  %j = call i32 @llvm.fshr.i32(i32 305419896, i32 -1698898192, i32 %s32.zero)
+  %j.ext = zext i32 %j to i64
+  call void @print(i8* getelementptr inbounds ([14 x i8], [14 x i8]* @r32z, i64 0, i64 0), i64 %j.ext)
+
+  %k = call i64 @llvm.fshl.i64(i64 81985529216486895, i64 -81985529216486896, i64 %s64)
+  call void @print(i8* getelementptr inbounds ([9 x i8], [9 x i8]* @l64, i64 0, i64 0), i64 %k)
+  %l = call i64 @llvm.fshr.i64(i64 1, i64 0, i64 1)
+  call void @print(i8* getelementptr inbounds ([9 x i8], [9 x i8]* @r64, i64 0, i64 0), i64 %l)
+  ret i32 0
+}
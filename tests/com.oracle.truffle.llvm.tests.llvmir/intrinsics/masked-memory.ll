@@ -0,0 +1,64 @@
+; Exercises llvm.masked.load and llvm.masked.store. Disabled lanes must take the
+; pass-through value on loads and must leave memory untouched on stores.
+
+@i4 = private unnamed_addr constant [17 x i8] c"%s: %d %d %d %d\0A\00"
+@d2 = private unnamed_addr constant [11 x i8] c"%s: %f %f\0A\00"
+@load = private unnamed_addr constant [5 x i8] c"load\00"
+@store = private unnamed_addr constant [6 x i8] c"store\00"
+@none = private unnamed_addr constant [5 x i8] c"none\00"
+@loadd = private unnamed_addr constant [11 x i8] c"load.v2f64\00"
+@stored = private unnamed_addr constant [12 x i8] c"store.v2f64\00"
+
+declare i32 @printf(i8*, ...)
+
+declare <4 x i32> @llvm.masked.load.v4i32.p0v4i32(<4 x i32>*, i32, <4 x i1>, <4 x i32>)
+declare void @llvm.masked.store.v4i32.p0v4i32(<4 x i32>, <4 x i32>*, i32, <4 x i1>)
+declare <2 x double> @llvm.masked.load.v2f64.p0v2f64(<2 x double>*, i32, <2 x i1>, <2 x double>)
+declare void @llvm.masked.store.v2f64.p0v2f64(<2 x double>, <2 x double>*, i32, <2 x i1>)
+
+define void @printInts(i8* %name, <4 x i32>* %ptr) {
+  %v = load <4 x i32>, <4 x i32>* %ptr
+  %e0 = extractelement <4 x i32> %v, i32 0
+  %e1 = extractelement <4 x i32> %v, i32 1
+  %e2 = extractelement <4 x i32> %v, i32 2
+  %e3 = extractelement <4 x i32> %v, i32 3
+  call i32 (i8*, ...) @printf(i8* getelementptr inbounds ([17 x i8], [17 x i8]* @i4, i64 0, i64 0), i8* %name, i32 %e0, i32 %e1, i32 %e2, i32 %e3)
+  ret void
+}
+
+define void @printDoubles(i8* %name, <2 x double>* %ptr) {
+  %v = load <2 x double>, <2 x double>* %ptr
+  %e0 = extractelement <2 x double> %v, i32 0
+  %e1 = extractelement <2 x double> %v, i32 1
+  call i32 (i8*, ...) @printf(i8* getelementptr inbounds ([11 x i8], [11 x i8]* @d2, i64 0, i64 0), i8* %name, double %e0, double %e1)
+  ret void
+}
+
+define i32 @main() {
+  %mem = alloca <4 x i32>
+  %result = alloca <4 x i32>
+  store <4 x i32> <i32 10, i32 20, i32 30, i32 40>, <4 x i32>* %mem
+
+  %loaded = call <4 x i32> @llvm.masked.load.v4i32.p0v4i32(<4 x i32>* %mem, i32 4, <4 x i1> <i1 true, i1 false, i1 true, i1 false>, <4 x i32> <i32 -1, i32 -2, i32 -3, i32 -4>)
+  store <4 x i32> %loaded, <4 x i32>* %result
+  call void @printInts(i8* getelementptr inbounds ([5 x i8], [5 x i8]* @load, i64 0, i64 0), <4 x i32>* %result)
+
+  call void @llvm.masked.store.v4i32.p0v4i32(<4 x i32> <i32 100, i32 200, i32 300, i32 400>, <4 x i32>* %mem, i32 4, <4 x i1> <i1 false, i1 true, i1 false, i1 true>)
+  call void @printInts(i8* getelementptr inbounds ([6 x i8], [6 x i8]* @store, i64 0, i64 0), <4 x i32>* %mem)
+
+  ; with every lane disabled the pointer is never dereferenced
+  %none = call <4 x i32> @llvm.masked.load.v4i32.p0v4i32(<4 x i32>* null, i32 4, <4 x i1> zeroinitializer, <4 x i32> <i32 5, i32 6, i32 7, i32 8>)
+  store <4 x i32> %none, <4 x i32>* %result
+  call void @printInts(i8* getelementptr inbounds ([5 x i8], [5 x i8]* @none, i64 0, i64 0), <4 x i32>* %result)
+  call void @llvm.masked.store.v4i32.p0v4i32(<4 x i32> %none, <4 x i32>* null, i32 4, <4 x i1> zeroinitializer)
+
+  %dmem = alloca <2 x double>
+  %dresult = alloca <2 x double>
+  store <2 x double> <double 1.5, double 2.5>, <2 x double>* %dmem
+  %dloaded = call <2 x double> @llvm.masked.load.v2f64.p0v2f64(<2 x double>* %dmem, i32 8, <2 x i1> <i1 false, i1 true>, <2 x double> <double -1.0, double -1.0>)
+  store <2 x double> %dloaded, <2 x double>* %dresult
+  call void @printDoubles(i8* getelementptr inbounds ([11 x i8], [11 x i8]* @loadd, i64 0, i64 0), <2 x double>* %dresult)
+  call void @llvm.masked.store.v2f64.p0v2f64(<2 x double> <double 7.0, double 8.0>, <2 x double>* %dmem, i32 8, <2 x i1> <i1 true, i1 false>)
+  call void @printDoubles(i8* getelementptr inbounds ([12 x i8], [12 x i8]* @stored, i64 0, i64 0), <2 x double>* %dmem)
+  ret i32 0
+}
@@ -0,0 +1,93 @@
+; Exercises the vector forms of llvm.fma, llvm.fmuladd, llvm.minnum and llvm.maxnum. The first
+; fma lane only survives if the multiply-add is fused, and the NaN lanes check that minnum/maxnum
+; return the other operand.
+
+@lanes2 = private unnamed_addr constant [17 x i8] c"%s: %.17g %.17g\0A\00"
+@lanes4 = private unnamed_addr constant [25 x i8] c"%s: %.9g %.9g %.9g %.9g\0A\00"
+@fma64 = private unnamed_addr constant [10 x i8] c"fma.v2f64\00"
+@fma32 = private unnamed_addr constant [10 x i8] c"fma.v4f32\00"
+@fmuladd32 = private unnamed_addr constant [14 x i8] c"fmuladd.v4f32\00"
+@minnum32 = private unnamed_addr constant [13 x i8] c"minnum.v4f32\00"
+@maxnum64 = private unnamed_addr constant [13 x i8] c"maxnum.v2f64\00"
+
+declare i32 @printf(i8*, ...)
+
+declare <2 x double> @llvm.fma.v2f64(<2 x double>, <2 x double>, <2 x double>)
+declare <4 x float> @llvm.fma.v4f32(<4 x float>, <4 x float>, <4 x float>)
+declare <4 x float> @llvm.fmuladd.v4f32(<4 x float>, <4 x float>, <4 x float>)
+declare <4 x float> @llvm.minnum.v4f32(<4 x float>, <4 x float>)
+declare <2 x double> @llvm.maxnum.v2f64(<2 x double>, <2 x double>)
+
+define void @print2(i8* %name, <2 x double> %v) {
+  %l0 = extractelement <2 x double> %v, i32 0
+  %l1 = extractelement <2 x double> %v, i32 1
+  call i32 (i8*, ...) @printf(i8* getelementptr inbounds ([17 x i8], [17 x i8]* @lanes2, i64 0, i64 0), i8* %name, double %l0, double %l1)
+  ret void
+}
+
+define void @print4(i8* %name, <4 x float> %v) {
+  %f0 = extractelement <4 x float> %v, i32 0
+  %f1 = extractelement <4 x float> %v, i32 1
+  %f2 = extractelement <4 x float> %v, i32 2
+  %f3 = extractelement <4 x float> %v, i32 3
+  %l0 = fpext float %f0 to double
+  %l1 = fpext float %f1 to double
+  %l2 = fpext float %f2 to double
+  %l3 = fpext float %f3 to double
+  call i32 (i8*, ...) @printf(i8* getelementptr inbounds ([25 x i8], [25 x i8]* @lanes4, i64 0, i64 0), i8* %name, double %l0, double %l1, double %l2, double %l3)
+  ret void
+}
+
+define i32 @main() {
+  %pa64 = alloca <2 x double>
+  %pb64 = alloca <2 x double>
+  %pc64 = alloca <2 x double>
+  %pa32 = alloca <4 x float>
+  %pb32 = alloca <4 x float>
+  %pc32 = alloca <4 x float>
+
+  ; 0.1 * 10.0 - 1.0 is 2^-54 when fused and 0 otherwise
+  store volatile <2 x double> <double 0x3FB999999999999A, double 2.0>, <2 x double>* %pa64
+  store volatile <2 x double> <double 10.0, double 3.0>, <2 x double>* %pb64
+  store volatile <2 x double> <double -1.0, double 1.0>, <2 x double>* %pc64
+  %a64 = load volatile <2 x double>, <2 x double>* %pa64
+  %b64 = load volatile <2 x double>, <2 x double>* %pb64
+  %c64 = load volatile <2 x double>, <2 x double>* %pc64
+  %fma64 = call <2 x double> @llvm.fma.v2f64(<2 x double> %a64, <2 x double> %b64, <2 x double> %c64)
+  call void @print2(i8* getelementptr inbounds ([10 x i8], [10 x i8]* @fma64, i64 0, i64 0), <2 x double> %fma64)
+
+  ; 0.1f * 10.0f - 1.0f is 2^-26 when fused and 0 otherwise
+  store volatile <4 x float> <float 0x3FB99999A0000000, float 1.5, float -3.0, float 0.5>, <4 x float>* %pa32
+  store volatile <4 x float> <float 10.0, float 2.0, float 4.0, float 4.0>, <4 x float>* %pb32
+  store volatile <4 x float> <float -1.0, float 1.0, float 1.0, float 0.0>, <4 x float>* %pc32
+  %a32 = load volatile <4 x float>, <4 x float>* %pa32
+  %b32 = load volatile <4 x float>, <4 x float>* %pb32
+  %c32 = load volatile <4 x float>, <4 x float>* %pc32
+  %fma32 = call <4 x float> @llvm.fma.v4f32(<4 x float> %a32, <4 x float> %b32, <4 x float> %c32)
+  call void @print4(i8* getelementptr inbounds ([10 x i8], [10 x i8]* @fma32, i64 0, i64 0), <4 x float> %fma32)
+
+  store volatile <4 x float> <float 1.5, float 2.0, float -3.0, float 0.25>, <4 x float>* %pa32
+  store volatile <4 x float> <float 2.0, float 0.5, float 4.0, float 8.0>, <4 x float>* %pb32
+  store volatile <4 x float> <float 1.0, float 1.0, float 1.0, float 1.0>, <4 x float>* %pc32
+  %ma32 = load volatile <4 x float>, <4 x float>* %pa32
+  %mb32 = load volatile <4 x float>, <4 x float>* %pb32
+  %mc32 = load volatile <4 x float>, <4 x float>* %pc32
+  %fmuladd = call <4 x float> @llvm.fmuladd.v4f32(<4 x float> %ma32, <4 x float> %mb32, <4 x float> %mc32)
+  call void @print4(i8* getelementptr inbounds ([14 x i8], [14 x i8]* @fmuladd32, i64 0, i64 0), <4 x float> %fmuladd)
+
+  store volatile <4 x float> <float 1.0, float 0x7FF8000000000000, float -2.0, float 5.0>, <4 x float>* %pa32
+  store volatile <4 x float> <float 2.0, float 3.0, float 0x7FF8000000000000, float -5.0>, <4 x float>* %pb32
+  %na32 = load volatile <4 x float>, <4 x float>* %pa32
+  %nb32 = load volatile <4 x float>, <4 x float>* %pb32
+  %minnum = call <4 x float> @llvm.minnum.v4f32(<4 x float> %na32, <4 x float> %nb32)
+  call void @print4(i8* getelementptr inbounds ([13 x i8], [13 x i8]* @minnum32, i64 0, i64 0), <4 x float> %minnum)
+
+  store volatile <2 x double> <double 0x7FF8000000000000, double 1.0>, <2 x double>* %pa64
+  store volatile <2 x double> <double 4.0, double -1.0>, <2 x double>* %pb64
+  %xa64 = load volatile <2 x double>, <2 x double>* %pa64
+  %xb64 = load volatile <2 x double>, <2 x double>* %pb64
+  %maxnum = call <2 x double> @llvm.maxnum.v2f64(<2 x double> %xa64, <2 x double> %xb64)
+  call void @print2(i8* getelementptr inbounds ([13 x i8], [13 x i8]* @maxnum64, i64 0, i64 0), <2 x double> %maxnum)
+
+  ret i32 0
+}
@@ -0,0 +1,102 @@
+; Exercises the llvm.experimental.vector.reduce.* intrinsics, including the unsigned
+; min/max reductions whose result differs from the signed ones.
+
+@int = private unnamed_addr constant [8 x i8] c"%s: %d\0A\00"
+@uint = private unnamed_addr constant [8 x i8] c"%s: %u\0A\00"
+@long = private unnamed_addr constant [10 x i8] c"%s: %llu\0A\00"
+@dbl = private unnamed_addr constant [8 x i8] c"%s: %f\0A\00"
+@add = private unnamed_addr constant [4 x i8] c"add\00"
+@mul = private unnamed_addr constant [4 x i8] c"mul\00"
+@and = private unnamed_addr constant [4 x i8] c"and\00"
+@or = private unnamed_addr constant [3 x i8] c"or\00"
+@xor = private unnamed_addr constant [4 x i8] c"xor\00"
+@smax = private unnamed_addr constant [5 x i8] c"smax\00"
+@smin = private unnamed_addr constant [5 x i8] c"smin\00"
+@umax = private unnamed_addr constant [5 x i8] c"umax\00"
+@umin = private unnamed_addr constant [5 x i8] c"umin\00"
+@umax8 = private unnamed_addr constant [10 x i8] c"umax.v8i8\00"
+@umin8 = private unnamed_addr constant [10 x i8] c"umin.v8i8\00"
+@smax8 = private unnamed_addr constant [10 x i8] c"smax.v8i8\00"
+@umax64 = private unnamed_addr constant [11 x i8] c"umax.v2i64\00"
+@umin64 = private unnamed_addr constant [11 x i8] c"umin.v2i64\00"
+@fmax = private unnamed_addr constant [5 x i8] c"fmax\00"
+@fmin = private unnamed_addr constant [5 x i8] c"fmin\00"
+
+declare i32 @printf(i8*, ...)
+
+declare i32 @llvm.experimental.vector.reduce.add.v4i32(<4 x i32>)
+declare i32 @llvm.experimental.vector.reduce.mul.v4i32(<4 x i32>)
+declare i32 @llvm.experimental.vector.reduce.and.v4i32(<4 x i32>)
+declare i32 @llvm.experimental.vector.reduce.or.v4i32(<4 x i32>)
+declare i32 @llvm.experimental.vector.reduce.xor.v4i32(<4 x i32>)
+declare i32 @llvm.experimental.vector.reduce.smax.v4i32(<4 x i32>)
+declare i32 @llvm.experimental.vector.reduce.smin.v4i32(<4 x i32>)
+declare i32 @llvm.experimental.vector.reduce.umax.v4i32(<4 x i32>)
+declare i32 @llvm.experimental.vector.reduce.umin.v4i32(<4 x i32>)
+declare i8 @llvm.experimental.vector.reduce.umax.v8i8(<8 x i8>)
+declare i8 @llvm.experimental.vector.reduce.umin.v8i8(<8 x i8>)
+declare i8 @llvm.experimental.vector.reduce.smax.v8i8(<8 x i8>)
+declare i64 @llvm.experimental.vector.reduce.umax.v2i64(<2 x i64>)
+declare i64 @llvm.experimental.vector.reduce.umin.v2i64(<2 x i64>)
+declare float @llvm.experimental.vector.reduce.fmax.v4f32(<4 x float>)
+declare double @llvm.experimental.vector.reduce.fmin.v2f64(<2 x double>)
+
+define i32 @main() {
+  %v = alloca <4 x i32>
+  store volatile <4 x i32> <i32 3, i32 -1, i32 7, i32 -2147483648>, <4 x i32>* %v
+  %vec = load volatile <4 x i32>, <4 x i32>* %v
+
+  %add = call i32 @llvm.experimental.vector.reduce.add.v4i32(<4 x i32> %vec)
+  call i32 (i8*, ...) @printf(i8* getelementptr inbounds ([8 x i8], [8 x i8]* @int, i64 0, i64 0), i8* getelementptr inbounds ([4 x i8], [4 x i8]* @add, i64 0, i64 0), i32 %add)
+  %mul = call i32 @llvm.experimental.vector.reduce.mul.v4i32(<4 x i32> %vec)
+  call i32 (i8*, ...) @printf(i8* getelementptr inbounds ([8 x i8], [8 x i8]* @int, i64 0, i64 0), i8* getelementptr inbounds ([4 x i8], [4 x i8]* @mul, i64 0, i64 0), i32 %mul)
+  %and = call i32 @llvm.experimental.vector.reduce.and.v4i32(<4 x i32> %vec)
+  call i32 (i8*, ...) @printf(i8* getelementptr inbounds ([8 x i8], [8 x i8]* @uint, i64 0, i64 0), i8* getelementptr inbounds ([4 x i8], [4 x i8]* @and, i64 0, i64 0), i32 %and)
+  %or = call i32 @llvm.experimental.vector.reduce.or.v4i32(<4 x i32> %vec)
+  call i32 (i8*, ...) @printf(i8* getelementptr inbounds ([8 x i8], [8 x i8]* @uint, i64 0, i64 0), i8* getelementptr inbounds ([3 x i8], [3 x i8]* @or, i64 0, i64 0), i32 %or)
+  %xor = call i32 @llvm.experimental.vector.reduce.xor.v4i32(<4 x i32> %vec)
+  call i32 (i8*, ...) @printf(i8* getelementptr inbounds ([8 x i8], [8 x i8]* @uint, i64 0, i64 0), i8* getelementptr inbounds ([4 x i8], [4 x i8]* @xor, i64 0, i64 0), i32 %xor)
+  %smax = call i32 @llvm.experimental.vector.reduce.smax.v4i32(<4 x i32> %vec)
+  call i32 (i8*, ...) @printf(i8* getelementptr inbounds ([8 x i8], [8 x i8]* @int, i64 0, i64 0), i8* getelementptr inbounds ([5 x i8], [5 x i8]* @smax, i64 0, i64 0), i32 %smax)
+  %smin = call i32 @llvm.experimental.vector.reduce.smin.v4i32(<4 x i32> %vec)
+  call i32 (i8*, ...) @printf(i8* getelementptr inbounds ([8 x i8], [8 x i8]* @int, i64 0, i64 0), i8* getelementptr inbounds ([5 x i8], [5 x i8]* @smin, i64 0, i64 0), i32 %smin)
+  %umax = call i32 @llvm.experimental.vector.reduce.umax.v4i32(<4 x i32> %vec)
+  call i32 (i8*, ...) @printf(i8* getelementptr inbounds ([8 x i8], [8 x i8]* @uint, i64 0, i64 0), i8* getelementptr inbounds ([5 x i8], [5 x i8]* @umax, i64 0, i64 0), i32 %umax)
+  %umin = call i32 @llvm.experimental.vector.reduce.umin.v4i32(<4 x i32> %vec)
+  call i32 (i8*, ...) @printf(i8* getelementptr inbounds ([8 x i8], [8 x i8]* @uint, i64 0, i64 0), i8* getelementptr inbounds ([5 x i8], [5 x i8]* @umin, i64 0, i64 0), i32 %umin)
+
+  %b = alloca <8 x i8>
+  store volatile <8 x i8> <i8 1, i8 -56, i8 127, i8 -128, i8 5, i8 0, i8 64, i8 2>, <8 x i8>* %b
+  %bytes = load volatile <8 x i8>, <8 x i8>* %b
+  %umax8 = call i8 @llvm.experimental.vector.reduce.umax.v8i8(<8 x i8> %bytes)
+  %umax8.ext = zext i8 %umax8 to i32
+  call i32 (i8*, ...) @printf(i8* getelementptr inbounds ([8 x i8], [8 x i8]* @uint, i64 0, i64 0), i8* getelementptr inbounds ([10 x i8], [10 x i8]* @umax8, i64 0, i64 0), i32 %umax8.ext)
+  %umin8 = call i8 @llvm.experimental.vector.reduce.umin.v8i8(<8 x i8> %bytes)
+  %umin8.ext = zext i8 %umin8 to i32
+  call i32 (i8*, ...) @printf(i8* getelementptr inbounds ([8 x i8], [8 x i8]* @uint, i64 0, i64 0), i8* getelementptr inbounds ([10 x i8], [10 x i8]* @umin8, i64 0, i64 0), i32 %umin8.ext)
+  %smax8 = call i8 @llvm.experimental.vector.reduce.smax.v8i8(<8 x i8> %bytes)
+  %smax8.ext = sext i8 %smax8 to i32
+  call i32 (i8*, ...) @printf(i8* getelementptr inbounds ([8 x i8], [8 x i8]* @int, i64 0, i64 0), i8* getelementptr inbounds ([10 x i8], [10 x i8]* @smax8, i64 0, i64 0), i32 %smax8.ext)
+
+  %l = alloca <2 x i64>
+  store volatile <2 x i64> <i64 -1, i64 9223372036854775807>, <2 x i64>* %l
+  %longs = load volatile <2 x i64>, <2 x i64>* %l
+  %umax64 = call i64 @llvm.experimental.vector.reduce.umax.v2i64(<2 x i64> %longs)
+  call i32 (i8*, ...) @printf(i8* getelementptr inbounds ([10 x i8], [10 x i8]* @long, i64 0, i64 0), i8* getelementptr inbounds ([11 x i8], [11 x i8]* @umax64, i64 0, i64 0), i64 %umax64)
+  %umin64 = call i64 @llvm.experimental.vector.reduce.umin.v2i64(<2 x i64> %longs)
+  call i32 (i8*, ...) @printf(i8* getelementptr inbounds ([10 x i8], [10 x i8]* @long, i64 0, i64 0), i8* getelementptr inbounds ([11 x i8], [11 x i8]* @umin64, i64 0, i64 0), i64 %umin64)
+
+  %f = alloca <4 x float>
+  store volatile <4 x float> <float 1.5, float -2.0, float 8.25, float 0.0>, <4 x float>* %f
+  %floats = load volatile <4 x float>, <4 x float>* %f
+  %fmax = call float @llvm.experimental.vector.reduce.fmax.v4f32(<4 x float> %floats)
+  %fmax.ext = fpext float %fmax to double
+  call i32 (i8*, ...) @printf(i8* getelementptr inbounds ([8 x i8], [8 x i8]* @dbl, i64 0, i64 0), i8* getelementptr inbounds ([5 x i8], [5 x i8]* @fmax, i64 0, i64 0), double %fmax.ext)
+
+  %d = alloca <2 x double>
+  store volatile <2 x double> <double 3.0, double -4.5>, <2 x double>* %d
+  %doubles = load volatile <2 x double>, <2 x double>* %d
+  %fmin = call double @llvm.experimental.vector.reduce.fmin.v2f64(<2 x double> %doubles)
+  call i32 (i8*, ...) @printf(i8* getelementptr inbounds ([8 x i8], [8 x i8]* @dbl, i64 0, i64 0), i8* getelementptr inbounds ([5 x i8], [5 x i8]* @fmin, i64 0, i64 0), double %fmin)
+  ret i32 0
+}
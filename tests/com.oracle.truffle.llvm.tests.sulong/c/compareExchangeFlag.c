@@ -0,0 +1,46 @@
+// checks the witnessed value and the success flag of cmpxchg, and that sub-word exchanges leave
+// the neighboring bytes alone
+#include <stdio.h>
+
+struct bytes {
+  char before;
+  char value;
+  short after;
+};
+
+struct shorts {
+  short before;
+  short value;
+  int after;
+};
+
+int main() {
+  struct bytes b = { 0x11, -1, 0x3344 };
+  char expectedChar = 0;
+  int success = __atomic_compare_exchange_n(&b.value, &expectedChar, 5, 0, __ATOMIC_SEQ_CST, __ATOMIC_SEQ_CST);
+  printf("i8 fail: %d %d %d %d %d\n", success, expectedChar, b.before, b.value, b.after);
+  success = __atomic_compare_exchange_n(&b.value, &expectedChar, -128, 0, __ATOMIC_SEQ_CST, __ATOMIC_SEQ_CST);
+  printf("i8 success: %d %d %d %d %d\n", success, expectedChar, b.before, b.value, b.after);
+
+  struct shorts s = { 0x1122, -2, 0x55667788 };
+  short expectedShort = 7;
+  success = __atomic_compare_exchange_n(&s.value, &expectedShort, 9, 0, __ATOMIC_SEQ_CST, __ATOMIC_SEQ_CST);
+  printf("i16 fail: %d %d %d %d %d\n", success, expectedShort, s.before, s.value, s.after);
+  success = __atomic_compare_exchange_n(&s.value, &expectedShort, -32768, 0, __ATOMIC_SEQ_CST, __ATOMIC_SEQ_CST);
+  printf("i16 success: %d %d %d %d %d\n", success, expectedShort, s.before, s.value, s.after);
+
+  int i = -3;
+  int expectedInt = 3;
+  success = __atomic_compare_exchange_n(&i, &expectedInt, 4, 0, __ATOMIC_SEQ_CST, __ATOMIC_SEQ_CST);
+  printf("i32 fail: %d %d %d\n", success, expectedInt, i);
+  success = __atomic_compare_exchange_n(&i, &expectedInt, 4, 0, __ATOMIC_SEQ_CST, __ATOMIC_SEQ_CST);
+  printf("i32 success: %d %d %d\n", success, expectedInt, i);
+
+  long l = 1L << 40;
+  long expectedLong = 1;
+  success = __atomic_compare_exchange_n(&l, &expectedLong, -1L, 0, __ATOMIC_SEQ_CST, __ATOMIC_SEQ_CST);
+  printf("i64 fail: %d %ld %ld\n", success, expectedLong, l);
+  success = __atomic_compare_exchange_n(&l, &expectedLong, -1L, 0, __ATOMIC_SEQ_CST, __ATOMIC_SEQ_CST);
+  printf("i64 success: %d %ld %ld\n", success, expectedLong, l);
+  return 0;
+}
@@ -0,0 +1,33 @@
+// Generates uses of @llvm.fma.f32/f64 and, with floating point contraction, @llvm.fmuladd
+
+#include <math.h>
+#include <stdio.h>
+
+volatile double a = 0.1;
+volatile double b = 10.0;
+volatile double c = -1.0;
+volatile float af = 1.00000012f;
+volatile float bf = 1.00000012f;
+volatile float cf = -1.0f;
+
+int main() {
+  // the unfused result would be 0
+  printf("%.17g\n", fma(a, b, c));
+  printf("%.17g\n", fma(-a, b, -c));
+  printf("%.9g\n", fmaf(af, bf, cf));
+  printf("%.9g\n", fmaf((float) a, (float) b, (float) c));
+  printf("%.17g\n", fma(1e308, b, -1e308));
+  printf("%d\n", isnan(fma(INFINITY, 0.0, 1.0)) != 0);
+  printf("%f\n", fma(INFINITY, b, c));
+  printf("%f\n", fmaf(af, bf, -INFINITY));
+  printf("%d\n", signbit(fma(-0.0, b, 0.0)) != 0);
+  printf("%d\n", signbit(fma(-0.0, b, -0.0)) != 0);
+
+  // exact operands, so fused and unfused multiply-add agree
+  double sum = 0;
+  for (int i = 0; i < 8; i++) {
+    sum = a * 0 + b * i + sum;
+  }
+  printf("%f\n", sum);
+  return 0;
+}
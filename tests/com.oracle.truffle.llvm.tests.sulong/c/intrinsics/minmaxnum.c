@@ -0,0 +1,23 @@
+// Generates uses of @llvm.minnum and @llvm.maxnum, which ignore a single NaN operand
+
+#include <math.h>
+#include <stdio.h>
+
+volatile double one = 1.0;
+volatile double two = 2.0;
+volatile double nan_ = NAN;
+volatile float onef = 1.0f;
+volatile float nanf_ = NAN;
+
+int main() {
+  printf("%f %f\n", fmin(one, two), fmax(one, two));
+  printf("%f %f\n", fmin(-one, -two), fmax(-one, -two));
+  printf("%f %f\n", fmin(nan_, two), fmax(nan_, two));
+  printf("%f %f\n", fmin(one, nan_), fmax(one, nan_));
+  printf("%d %d\n", isnan(fmin(nan_, nan_)) != 0, isnan(fmax(nan_, nan_)) != 0);
+  printf("%f %f\n", fmin(-INFINITY, one), fmax(INFINITY, one));
+  printf("%f %f\n", fminf(onef, -onef), fmaxf(onef, -onef));
+  printf("%f %f\n", fminf(nanf_, onef), fmaxf(onef, nanf_));
+  printf("%d %d\n", isnan(fminf(nanf_, nanf_)) != 0, isnan(fmaxf(nanf_, nanf_)) != 0);
+  return 0;
+}
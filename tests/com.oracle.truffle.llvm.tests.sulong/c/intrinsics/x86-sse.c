@@ -0,0 +1,68 @@
+// Generates uses of the SSE2 @llvm.x86.* intrinsics (movmsk, pmadd, packs, pavg, min/max)
+
+#include <emmintrin.h>
+#include <stdio.h>
+
+static void printEpi8(const char *name, __m128i v) {
+  unsigned char bytes[16];
+  _mm_storeu_si128((__m128i *)bytes, v);
+  printf("%s:", name);
+  for (int i = 0; i < 16; i++) {
+    printf(" %d", bytes[i]);
+  }
+  printf("\n");
+}
+
+static void printEpi16(const char *name, __m128i v) {
+  short words[8];
+  _mm_storeu_si128((__m128i *)words, v);
+  printf("%s:", name);
+  for (int i = 0; i < 8; i++) {
+    printf(" %d", words[i]);
+  }
+  printf("\n");
+}
+
+static void printEpi32(const char *name, __m128i v) {
+  int dwords[4];
+  _mm_storeu_si128((__m128i *)dwords, v);
+  printf("%s: %d %d %d %d\n", name, dwords[0], dwords[1], dwords[2], dwords[3]);
+}
+
+int main() {
+  volatile char seed = 1;
+  __m128i bytes = _mm_setr_epi8(seed, -1, 2, -3, 4, -5, 6, -7, 127, -128, 10, -11, 12, -13, 14, -15);
+  __m128i other = _mm_setr_epi8(-seed, 3, 255, 0, 200, 5, 7, 8, 9, 10, 11, 12, 13, 14, 15, 16);
+  __m128i words = _mm_setr_epi16(seed, -2, 300, -400, 32767, -32768, 1000, -1000);
+  __m128i words2 = _mm_setr_epi16(-seed, 2, 300, 400, 2, 2, -1000, -1000);
+
+  printf("movemask_epi8: %x\n", _mm_movemask_epi8(bytes));
+  printf("movemask_ps: %x\n", _mm_movemask_ps(_mm_setr_ps(seed, -1.0f, -0.0f, 3.0f)));
+  printf("movemask_pd: %x\n", _mm_movemask_pd(_mm_setr_pd(-seed, 1.0)));
+
+  printEpi32("madd_epi16", _mm_madd_epi16(words, words2));
+  printEpi8("packs_epi16", _mm_packs_epi16(words, words2));
+  printEpi8("packus_epi16", _mm_packus_epi16(words, words2));
+  printEpi16("packs_epi32", _mm_packs_epi32(_mm_setr_epi32(seed, 70000, -70000, -5), _mm_setr_epi32(32768, -32769, 0, 12345)));
+  printEpi8("avg_epu8", _mm_avg_epu8(bytes, other));
+  printEpi16("avg_epu16", _mm_avg_epu16(words, words2));
+  printEpi16("max_epi16", _mm_max_epi16(words, words2));
+  printEpi16("min_epi16", _mm_min_epi16(words, words2));
+  printEpi8("max_epu8", _mm_max_epu8(bytes, other));
+  printEpi8("min_epu8", _mm_min_epu8(bytes, other));
+
+  float f[4];
+  _mm_storeu_ps(f, _mm_min_ps(_mm_setr_ps(seed, -2.0f, 3.5f, 0.0f), _mm_setr_ps(0.5f, -3.0f, 4.0f, -1.0f)));
+  printf("min_ps: %f %f %f %f\n", f[0], f[1], f[2], f[3]);
+  _mm_storeu_ps(f, _mm_max_ps(_mm_setr_ps(seed, -2.0f, 3.5f, 0.0f), _mm_setr_ps(0.5f, -3.0f, 4.0f, -1.0f)));
+  printf("max_ps: %f %f %f %f\n", f[0], f[1], f[2], f[3]);
+  _mm_storeu_ps(f, _mm_min_ss(_mm_setr_ps(seed, 5.0f, 6.0f, 7.0f), _mm_setr_ps(-1.0f, 1.0f, 1.0f, 1.0f)));
+  printf("min_ss: %f %f %f %f\n", f[0], f[1], f[2], f[3]);
+
+  double d[2];
+  _mm_storeu_pd(d, _mm_max_pd(_mm_setr_pd(seed, -2.0), _mm_setr_pd(0.5, -1.0)));
+  printf("max_pd: %f %f\n", d[0], d[1]);
+  _mm_storeu_pd(d, _mm_max_sd(_mm_setr_pd(-seed, 9.0), _mm_setr_pd(2.0, 1.0)));
+  printf("max_sd: %f %f\n", d[0], d[1]);
+  return 0;
+}
@@ -0,0 +1,69 @@
+// Generates uses of the SSSE3 and SSE4.1 @llvm.x86.* intrinsics (pshufb, pmaddubsw, blendv, packusdw, pmin/pmax)
+
+#include <smmintrin.h>
+#include <stdio.h>
+
+static void printEpi8(const char *name, __m128i v) {
+  signed char bytes[16];
+  _mm_storeu_si128((__m128i *)bytes, v);
+  printf("%s:", name);
+  for (int i = 0; i < 16; i++) {
+    printf(" %d", bytes[i]);
+  }
+  printf("\n");
+}
+
+static void printEpi16(const char *name, __m128i v) {
+  unsigned short words[8];
+  _mm_storeu_si128((__m128i *)words, v);
+  printf("%s:", name);
+  for (int i = 0; i < 8; i++) {
+    printf(" %u", words[i]);
+  }
+  printf("\n");
+}
+
+static void printEpi32(const char *name, __m128i v) {
+  unsigned int dwords[4];
+  _mm_storeu_si128((__m128i *)dwords, v);
+  printf("%s: %u %u %u %u\n", name, dwords[0], dwords[1], dwords[2], dwords[3]);
+}
+
+__attribute__((target("sse4.1"))) static void test(char seed) {
+  __m128i bytes = _mm_setr_epi8(seed, 1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15);
+  // a set high bit zeroes the lane, otherwise the low four bits select the source byte
+  __m128i control = _mm_setr_epi8(15, 14, -128, 0, 3, 19, 35, -1, 7, 7, 7, 7, 0, 1, 2, 3);
+  printEpi8("shuffle_epi8", _mm_shuffle_epi8(bytes, control));
+
+  __m128i unsignedBytes = _mm_setr_epi8(-1, -1, 200, 100, seed, 2, 3, 4, -128, -128, 0, 0, 10, 20, 30, 40);
+  __m128i signedBytes = _mm_setr_epi8(127, 127, -128, -128, 5, 6, 7, 8, -1, 1, 9, 9, -10, 20, -30, 40);
+  printEpi16("maddubs_epi16", _mm_maddubs_epi16(unsignedBytes, signedBytes));
+
+  __m128i mask = _mm_setr_epi8(-1, 0, -128, 127, 0, -1, 0, -1, 1, -2, 0, 0, -1, -1, -1, -1);
+  printEpi8("blendv_epi8", _mm_blendv_epi8(bytes, control, mask));
+
+  float f[4];
+  _mm_storeu_ps(f, _mm_blendv_ps(_mm_setr_ps(seed, 2.0f, 3.0f, 4.0f), _mm_setr_ps(-1.0f, -2.0f, -3.0f, -4.0f), _mm_setr_ps(-0.0f, 1.0f, -5.0f, 0.0f)));
+  printf("blendv_ps: %f %f %f %f\n", f[0], f[1], f[2], f[3]);
+  double d[2];
+  _mm_storeu_pd(d, _mm_blendv_pd(_mm_setr_pd(seed, 2.0), _mm_setr_pd(-1.0, -2.0), _mm_setr_pd(1.0, -1.0)));
+  printf("blendv_pd: %f %f\n", d[0], d[1]);
+
+  __m128i dwords = _mm_setr_epi32(seed, -1, 70000, 65535);
+  __m128i dwords2 = _mm_setr_epi32(-70000, 65536, 0, 32768);
+  printEpi16("packus_epi32", _mm_packus_epi32(dwords, dwords2));
+  printEpi32("max_epi32", _mm_max_epi32(dwords, dwords2));
+  printEpi32("min_epi32", _mm_min_epi32(dwords, dwords2));
+  printEpi32("max_epu32", _mm_max_epu32(dwords, dwords2));
+  printEpi32("min_epu32", _mm_min_epu32(dwords, dwords2));
+  printEpi8("max_epi8", _mm_max_epi8(bytes, control));
+  printEpi8("min_epi8", _mm_min_epi8(bytes, control));
+  printEpi16("max_epu16", _mm_max_epu16(_mm_setr_epi16(seed, -1, 3, 4, 5, 6, 7, 8), _mm_setr_epi16(2, 1, -3, 4, 0, 0, 0, 9)));
+  printEpi16("min_epu16", _mm_min_epu16(_mm_setr_epi16(seed, -1, 3, 4, 5, 6, 7, 8), _mm_setr_epi16(2, 1, -3, 4, 0, 0, 0, 9)));
+}
+
+int main() {
+  volatile char seed = 1;
+  test(seed);
+  return 0;
+}
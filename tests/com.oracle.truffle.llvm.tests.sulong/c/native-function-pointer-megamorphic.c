@@ -0,0 +1,44 @@
+#include <ctype.h>
+#include <stdio.h>
+#include <stdlib.h>
+#include <string.h>
+
+// more native targets than the per-call-site cache holds, so the call site goes generic and
+// resolves the bound functions from the context-wide cache
+static int (*const classifiers[])(int) = {isalnum, isalpha, iscntrl, isdigit, isgraph, islower, isprint, ispunct, isspace, isupper, isxdigit, toupper, tolower, abs};
+
+#define CLASSIFIERS (sizeof(classifiers) / sizeof(classifiers[0]))
+
+static long classify(int c) {
+  long result = 0;
+  for (unsigned i = 0; i < CLASSIFIERS; i++) {
+    result = result * 3 + (classifiers[i](c) != 0);
+  }
+  return result;
+}
+
+static size_t lengthA(size_t (*length)(const char *), const char *s) {
+  return length(s);
+}
+
+static size_t lengthB(size_t (*length)(const char *), const char *s) {
+  return length(s);
+}
+
+int main() {
+  long sum = 0;
+  for (int round = 0; round < 100; round++) {
+    for (int c = 0; c < 128; c++) {
+      sum += classify(c);
+    }
+  }
+  printf("classify: %ld\n", sum);
+
+  // the same native function bound through different call sites
+  size_t lengths = 0;
+  for (int i = 0; i < 1000; i++) {
+    lengths += lengthA(strlen, "hello") + lengthB(strlen, "world!");
+  }
+  printf("strlen: %lu\n", (unsigned long) lengths);
+  return 0;
+}
@@ -0,0 +1,63 @@
+#include <stdint.h>
+#include <stdio.h>
+#include <stdlib.h>
+#include <string.h>
+
+struct node {
+  struct node *next;
+  long value;
+};
+
+static long sumThroughPointer(const int *p, int n) {
+  long sum = 0;
+  // p is incremented in place, so it lives in a frame slot as a derived pointer
+  for (const int *end = p + n; p != end; p++) {
+    sum += *p;
+  }
+  return sum;
+}
+
+int main() {
+  // every primitive type loaded and stored through derived pointers
+  char *buffer = malloc(64);
+  memset(buffer, 0, 64);
+  *(char *) (buffer + 1) = 'x';
+  *(short *) (buffer + 2) = -1234;
+  *(int *) (buffer + 4) = 123456789;
+  *(long *) (buffer + 8) = -9876543210L;
+  *(float *) (buffer + 16) = 1.5f;
+  *(double *) (buffer + 24) = -2.25;
+  *(char **) (buffer + 32) = buffer + 1;
+  printf("%c %d %d %ld %.2f %.2f %c\n", *(buffer + 1), *(short *) (buffer + 2), *(int *) (buffer + 4), *(long *) (buffer + 8), *(float *) (buffer + 16), *(double *) (buffer + 24),
+         **(char **) (buffer + 32));
+
+  // derived pointers compare equal to pointers computed in other ways
+  char *derived = buffer + 32;
+  char *stored = *(char **) derived - 1;
+  printf("compare: %d %d %d %d\n", stored == buffer, derived > buffer, derived - buffer == 32, (intptr_t) derived - (intptr_t) buffer == 32);
+  char *empty = NULL;
+  printf("null: %d %d\n", derived == NULL, empty + 0 == NULL);
+
+  int *array = malloc(100 * sizeof(int));
+  for (int i = 0; i < 100; i++) {
+    array[i] = i * i;
+  }
+  printf("sum: %ld %ld\n", sumThroughPointer(array, 100), sumThroughPointer(array + 50, 50));
+
+  // pointers that are stored in memory and loaded again
+  struct node *nodes = malloc(10 * sizeof(struct node));
+  for (int i = 0; i < 10; i++) {
+    nodes[i].next = i < 9 ? &nodes[i + 1] : NULL;
+    nodes[i].value = i + 1;
+  }
+  long product = 1;
+  for (struct node *n = &nodes[0]; n != NULL; n = n->next) {
+    product *= n->value;
+  }
+  printf("product: %ld\n", product);
+
+  free(nodes);
+  free(array);
+  free(buffer);
+  return 0;
+}
@@ -0,0 +1,51 @@
+#include <pthread.h>
+#include <stdio.h>
+
+#define ITEMS 1000
+#define CAPACITY 8
+
+static pthread_mutex_t mutex = PTHREAD_MUTEX_INITIALIZER;
+static pthread_cond_t notEmpty = PTHREAD_COND_INITIALIZER;
+static pthread_cond_t notFull = PTHREAD_COND_INITIALIZER;
+static int buffer[CAPACITY];
+static int count;
+static int head;
+
+static void *produce(void *arg) {
+  for (int i = 1; i <= ITEMS; i++) {
+    pthread_mutex_lock(&mutex);
+    while (count == CAPACITY) {
+      pthread_cond_wait(&notFull, &mutex);
+    }
+    buffer[(head + count) % CAPACITY] = i;
+    count++;
+    pthread_cond_signal(&notEmpty);
+    pthread_mutex_unlock(&mutex);
+  }
+  return NULL;
+}
+
+int main() {
+  pthread_t producer;
+  pthread_create(&producer, NULL, produce, NULL);
+  long sum = 0;
+  int last = 0;
+  int ordered = 1;
+  for (int i = 0; i < ITEMS; i++) {
+    pthread_mutex_lock(&mutex);
+    while (count == 0) {
+      pthread_cond_wait(&notEmpty, &mutex);
+    }
+    int item = buffer[head];
+    head = (head + 1) % CAPACITY;
+    count--;
+    pthread_cond_signal(&notFull);
+    pthread_mutex_unlock(&mutex);
+    ordered &= item == last + 1;
+    last = item;
+    sum += item;
+  }
+  pthread_join(producer, NULL);
+  printf("sum: %ld ordered: %d\n", sum, ordered);
+  return 0;
+}
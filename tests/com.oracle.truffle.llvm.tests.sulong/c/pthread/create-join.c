@@ -0,0 +1,43 @@
+#include <errno.h>
+#include <pthread.h>
+#include <stdint.h>
+#include <stdio.h>
+
+#define THREADS 4
+
+static pthread_mutex_t gate = PTHREAD_MUTEX_INITIALIZER;
+
+static void *twice(void *arg) {
+  return (void *) ((intptr_t) arg * 2);
+}
+
+static void *blocked(void *arg) {
+  pthread_mutex_lock(&gate);
+  pthread_mutex_unlock(&gate);
+  return NULL;
+}
+
+int main() {
+  pthread_t threads[THREADS];
+  for (intptr_t i = 0; i < THREADS; i++) {
+    if (pthread_create(&threads[i], NULL, twice, (void *) (i + 1)) != 0) {
+      return 1;
+    }
+  }
+  for (int i = 0; i < THREADS; i++) {
+    void *result;
+    int error = pthread_join(threads[i], &result);
+    printf("join %d: %d %ld\n", i, error, (long) (intptr_t) result);
+  }
+
+  // the detached thread cannot finish before the gate opens, so it still exists when it is joined
+  pthread_t detached;
+  pthread_mutex_lock(&gate);
+  pthread_create(&detached, NULL, blocked, NULL);
+  pthread_detach(detached);
+  printf("join detached: %d\n", pthread_join(detached, NULL) == EINVAL);
+  pthread_mutex_unlock(&gate);
+
+  printf("join self: %d\n", pthread_join(pthread_self(), NULL) == EDEADLK);
+  return 0;
+}
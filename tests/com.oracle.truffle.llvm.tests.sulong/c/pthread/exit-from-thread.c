@@ -0,0 +1,30 @@
+#include <pthread.h>
+#include <stdio.h>
+#include <stdlib.h>
+
+static void bye(void) {
+  printf("bye\n");
+}
+
+static void *spin(void *arg) {
+  volatile long x = 0;
+  for (;;) {
+    x++;
+  }
+  return NULL;
+}
+
+static void *quit(void *arg) {
+  exit(3);
+}
+
+int main() {
+  atexit(bye);
+  pthread_t spinner;
+  pthread_t quitter;
+  pthread_create(&spinner, NULL, spin, NULL);
+  pthread_create(&quitter, NULL, quit, NULL);
+  // exit() in the other thread ends the process while this one is blocked
+  pthread_join(spinner, NULL);
+  return 0;
+}
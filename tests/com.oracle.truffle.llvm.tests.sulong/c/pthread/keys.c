@@ -0,0 +1,43 @@
+#include <pthread.h>
+#include <stdint.h>
+#include <stdio.h>
+
+#define THREADS 4
+
+static pthread_key_t key;
+static pthread_mutex_t mutex = PTHREAD_MUTEX_INITIALIZER;
+static long destroyed;
+
+static void destroy(void *value) {
+  pthread_mutex_lock(&mutex);
+  destroyed += (intptr_t) value;
+  pthread_mutex_unlock(&mutex);
+}
+
+static void *run(void *arg) {
+  void *before = pthread_getspecific(key);
+  pthread_setspecific(key, arg);
+  // every thread sees its own value
+  return (void *) (intptr_t) (before == NULL && pthread_getspecific(key) == arg);
+}
+
+int main() {
+  pthread_key_create(&key, destroy);
+  pthread_setspecific(key, (void *) 100);
+  pthread_t threads[THREADS];
+  for (intptr_t i = 0; i < THREADS; i++) {
+    pthread_create(&threads[i], NULL, run, (void *) (i + 1));
+  }
+  int ok = 1;
+  for (int i = 0; i < THREADS; i++) {
+    void *result;
+    pthread_join(threads[i], &result);
+    ok &= (intptr_t) result;
+  }
+  printf("own values: %d\n", ok);
+  printf("main value: %ld\n", (long) (intptr_t) pthread_getspecific(key));
+  // destructors run when a thread exits, but not for a NULL value or for the main thread
+  printf("destroyed: %ld\n", destroyed);
+  pthread_key_delete(key);
+  return 0;
+}
@@ -0,0 +1,55 @@
+#include <errno.h>
+#include <pthread.h>
+#include <stdio.h>
+
+#define THREADS 4
+#define INCREMENTS 10000
+
+static pthread_mutex_t mutex = PTHREAD_MUTEX_INITIALIZER;
+static long counter;
+
+static void *increment(void *arg) {
+  for (int i = 0; i < INCREMENTS; i++) {
+    pthread_mutex_lock(&mutex);
+    counter++;
+    pthread_mutex_unlock(&mutex);
+  }
+  return NULL;
+}
+
+static void *tryLock(void *arg) {
+  return (void *) (long) pthread_mutex_trylock(&mutex);
+}
+
+int main() {
+  pthread_t threads[THREADS];
+  for (int i = 0; i < THREADS; i++) {
+    pthread_create(&threads[i], NULL, increment, NULL);
+  }
+  for (int i = 0; i < THREADS; i++) {
+    pthread_join(threads[i], NULL);
+  }
+  printf("counter: %ld\n", counter);
+
+  // a mutex held by another thread is busy
+  pthread_t thread;
+  void *result;
+  pthread_mutex_lock(&mutex);
+  pthread_create(&thread, NULL, tryLock, NULL);
+  pthread_join(thread, &result);
+  pthread_mutex_unlock(&mutex);
+  printf("trylock: %d\n", (int) (long) result == EBUSY);
+
+  pthread_mutexattr_t attr;
+  pthread_mutex_t recursive;
+  pthread_mutexattr_init(&attr);
+  pthread_mutexattr_settype(&attr, PTHREAD_MUTEX_RECURSIVE);
+  pthread_mutex_init(&recursive, &attr);
+  printf("recursive: %d", pthread_mutex_lock(&recursive));
+  printf(" %d", pthread_mutex_lock(&recursive));
+  printf(" %d", pthread_mutex_unlock(&recursive));
+  printf(" %d\n", pthread_mutex_unlock(&recursive));
+  pthread_mutex_destroy(&recursive);
+  pthread_mutexattr_destroy(&attr);
+  return 0;
+}
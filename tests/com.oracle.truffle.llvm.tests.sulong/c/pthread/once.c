@@ -0,0 +1,33 @@
+#include <pthread.h>
+#include <stdio.h>
+
+#define THREADS 8
+
+static pthread_once_t once = PTHREAD_ONCE_INIT;
+static int initialized;
+
+static void init(void) {
+  initialized++;
+}
+
+static void *run(void *arg) {
+  pthread_once(&once, init);
+  return (void *) (long) initialized;
+}
+
+int main() {
+  pthread_t threads[THREADS];
+  for (int i = 0; i < THREADS; i++) {
+    pthread_create(&threads[i], NULL, run, NULL);
+  }
+  int sawInitialized = 1;
+  for (int i = 0; i < THREADS; i++) {
+    void *result;
+    pthread_join(threads[i], &result);
+    // pthread_once only returns after the init routine has completed
+    sawInitialized &= (long) result == 1;
+  }
+  pthread_once(&once, init);
+  printf("initialized: %d %d\n", initialized, sawInitialized);
+  return 0;
+}
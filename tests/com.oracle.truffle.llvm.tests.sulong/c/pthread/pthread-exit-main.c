@@ -0,0 +1,41 @@
+#include <pthread.h>
+#include <stdio.h>
+#include <unistd.h>
+
+static pthread_mutex_t mutex = PTHREAD_MUTEX_INITIALIZER;
+static pthread_cond_t cond = PTHREAD_COND_INITIALIZER;
+static int ready;
+
+static void *waiter(void *arg) {
+  pthread_mutex_lock(&mutex);
+  while (!ready) {
+    pthread_cond_wait(&cond, &mutex);
+  }
+  pthread_mutex_unlock(&mutex);
+  printf("waiter done\n");
+  return NULL;
+}
+
+static void *signaller(void *arg) {
+  // runs after main has called pthread_exit
+  usleep(100000);
+  printf("signaller done\n");
+  fflush(stdout);
+  pthread_mutex_lock(&mutex);
+  ready = 1;
+  pthread_cond_signal(&cond);
+  pthread_mutex_unlock(&mutex);
+  return NULL;
+}
+
+int main() {
+  pthread_t threads[2];
+  pthread_create(&threads[0], NULL, waiter, NULL);
+  pthread_create(&threads[1], NULL, signaller, NULL);
+  printf("main exiting\n");
+  fflush(stdout);
+  // the process keeps running until both threads have finished, then exits with status 0
+  pthread_exit(NULL);
+  printf("unreachable\n");
+  return 1;
+}
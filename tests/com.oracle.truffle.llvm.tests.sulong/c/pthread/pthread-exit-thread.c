@@ -0,0 +1,24 @@
+#include <pthread.h>
+#include <stdio.h>
+
+static int reachedEnd;
+
+static void finish(long value) {
+  pthread_exit((void *) value);
+}
+
+static void *run(void *arg) {
+  // pthread_exit unwinds through the caller, so nothing after it runs
+  finish((long) arg * 2);
+  reachedEnd = 1;
+  return NULL;
+}
+
+int main() {
+  pthread_t thread;
+  void *result;
+  pthread_create(&thread, NULL, run, (void *) 21L);
+  pthread_join(thread, &result);
+  printf("result: %ld reached end: %d\n", (long) result, reachedEnd);
+  return 0;
+}
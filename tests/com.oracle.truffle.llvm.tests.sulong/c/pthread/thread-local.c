@@ -0,0 +1,43 @@
+#include <pthread.h>
+#include <stdint.h>
+#include <stdio.h>
+
+#define THREADS 4
+
+static __thread int counter = 42;
+static __thread const char *name = "initial";
+static __thread struct {
+  int a;
+  double b;
+} pair = {7, 2.5};
+static __thread char aligned[3] __attribute__((aligned(64)));
+
+static void *run(void *arg) {
+  int id = (int) (intptr_t) arg;
+  // every thread starts with a copy of the initializers, not with the values of other threads
+  int fresh = counter == 42 && pair.a == 7 && pair.b == 2.5;
+  for (int i = 0; i < 1000; i++) {
+    counter += id;
+  }
+  pair.a = id;
+  name = "thread";
+  aligned[0] = (char) id;
+  int isAligned = ((uintptr_t) aligned % 64) == 0;
+  return (void *) (intptr_t) (fresh && isAligned && counter == 42 + 1000 * id && pair.a == id && aligned[0] == id);
+}
+
+int main() {
+  counter = 1;
+  pair.a = -1;
+  pthread_t threads[THREADS];
+  for (intptr_t i = 0; i < THREADS; i++) {
+    pthread_create(&threads[i], NULL, run, (void *) (i + 1));
+  }
+  for (int i = 0; i < THREADS; i++) {
+    void *result;
+    pthread_join(threads[i], &result);
+    printf("thread %d: %ld\n", i + 1, (long) (intptr_t) result);
+  }
+  printf("main: %d %s %d %.1f %d\n", counter, name, pair.a, pair.b, ((uintptr_t) aligned % 64) == 0);
+  return 0;
+}
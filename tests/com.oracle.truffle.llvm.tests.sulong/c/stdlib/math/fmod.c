@@ -0,0 +1,58 @@
+#include <math.h>
+#include <stdio.h>
+
+static void print(const char *name, double result) {
+  if (isnan(result)) {
+    printf("%s = nan\n", name);
+  } else {
+    printf("%s = %a\n", name, result);
+  }
+}
+
+static void printf32(const char *name, float result) {
+  print(name, result);
+}
+
+int main(void) {
+  volatile double x = 5.5;
+  volatile double y = -2.0;
+  volatile double zero = 0.0;
+  volatile double inf = INFINITY;
+
+  // constant operands, which may be folded while building the AST
+  print("fmod(5.5, 2)", fmod(5.5, 2.0));
+  print("fmod(-5.5, 2)", fmod(-5.5, 2.0));
+  print("fmod(5.5, 0)", fmod(5.5, 0.0));
+  print("fmod(inf, 2)", fmod(INFINITY, 2.0));
+
+  // fmod truncates the quotient, IEEE remainder would round it to the nearest integer
+  print("fmod(x, 2)", fmod(x, 2.0));
+  print("fmod(-x, 2)", fmod(-x, 2.0));
+  print("fmod(x, y)", fmod(x, y));
+  print("fmod(-x, y)", fmod(-x, y));
+  print("fmod(7, 3.5)", fmod(x + 1.5, 3.5 + zero));
+  print("fmod(1e300, 3)", fmod(x * 1e300, 3.0));
+  print("fmod(0.3, 0.1)", fmod(0.3 + zero, 0.1 + zero));
+  print("fmod(-0, 1)", fmod(-zero, 1.0));
+
+  print("fmod(x, 0)", fmod(x, zero));
+  print("fmod(x, -0)", fmod(x, -zero));
+  print("fmod(inf, y)", fmod(inf, y));
+  print("fmod(-inf, y)", fmod(-inf, y));
+  print("fmod(x, inf)", fmod(x, inf));
+  print("fmod(-x, -inf)", fmod(-x, -inf));
+  print("fmod(nan, y)", fmod(nan(""), y));
+
+  printf32("fmodf(-x, 2)", fmodf((float) -x, 2.0f));
+  printf32("fmodf(x, y)", fmodf((float) x, (float) y));
+  printf32("fmodf(1.1, 0.2)", fmodf(1.1f + (float) zero, 0.2f));
+  printf32("fmodf(x, 0)", fmodf((float) x, (float) zero));
+  printf32("fmodf(inf, y)", fmodf((float) inf, (float) y));
+  printf32("fmodf(-x, inf)", fmodf((float) -x, (float) inf));
+  printf32("fmodf(5.5, 0)", fmodf(5.5f, 0.0f));
+
+  print("fmodl(-x, y)", (double) fmodl((long double) -x, (long double) y));
+  print("fmodl(x, 0)", (double) fmodl((long double) x, (long double) zero));
+  print("fmodl(inf, y)", (double) fmodl((long double) inf, (long double) y));
+  return 0;
+}
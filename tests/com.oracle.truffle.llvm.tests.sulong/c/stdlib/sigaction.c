@@ -0,0 +1,64 @@
+#include <signal.h>
+#include <stdio.h>
+#include <string.h>
+#include <unistd.h>
+
+static volatile sig_atomic_t count;
+static volatile sig_atomic_t infoSignal;
+
+static void handler(int signo) {
+  count++;
+}
+
+static void infoHandler(int signo, siginfo_t *info, void *context) {
+  infoSignal = info->si_signo;
+}
+
+int main() {
+  struct sigaction action;
+  memset(&action, 0, sizeof(action));
+  action.sa_handler = handler;
+  sigemptyset(&action.sa_mask);
+  sigaction(SIGALRM, &action, NULL);
+
+  // raise runs the handler before it returns
+  raise(SIGALRM);
+  printf("raise: %d\n", count);
+
+  // a blocked signal stays pending until it is unblocked
+  sigset_t set;
+  sigemptyset(&set);
+  sigaddset(&set, SIGALRM);
+  sigprocmask(SIG_BLOCK, &set, NULL);
+  raise(SIGALRM);
+  printf("blocked: %d\n", count);
+  sigprocmask(SIG_UNBLOCK, &set, NULL);
+  while (count < 2) {
+  }
+  printf("unblocked: %d\n", count);
+
+  // a signal that arrives from outside is delivered when the loop polls
+  memset(&action, 0, sizeof(action));
+  action.sa_sigaction = infoHandler;
+  action.sa_flags = SA_SIGINFO;
+  sigemptyset(&action.sa_mask);
+  sigaction(SIGWINCH, &action, NULL);
+  kill(getpid(), SIGWINCH);
+  while (infoSignal == 0) {
+  }
+  printf("siginfo: %d\n", infoSignal == SIGWINCH);
+
+  // SA_RESETHAND restores the default disposition once the handler ran
+  struct sigaction old;
+  memset(&action, 0, sizeof(action));
+  action.sa_handler = handler;
+  action.sa_flags = SA_RESETHAND;
+  sigemptyset(&action.sa_mask);
+  sigaction(SIGALRM, &action, NULL);
+  raise(SIGALRM);
+  sigaction(SIGALRM, NULL, &old);
+  printf("resethand: %d %d\n", count, old.sa_handler == SIG_DFL);
+
+  signal(SIGWINCH, SIG_DFL);
+  return 0;
+}
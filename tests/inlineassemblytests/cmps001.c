@@ -0,0 +1,73 @@
+#include <stdio.h>
+#include "flags.h"
+
+static void test_cmpsb(const char *a, const char *b, long n, int repeat) {
+  const char *s = a;
+  const char *d = b;
+  long count = n;
+  long flags;
+  if (repeat) {
+    __asm__("repe cmpsb\n"
+            "pushf\n"
+            "pop %3"
+            : "+S"(s), "+D"(d), "+c"(count), "=r"(flags)
+            :
+            : "memory");
+  } else {
+    __asm__("cmpsb\n"
+            "pushf\n"
+            "pop %3"
+            : "+S"(s), "+D"(d), "+c"(count), "=r"(flags)
+            :
+            : "memory");
+  }
+  printf("%d %ld %ld %ld %02lX\n", repeat, (long) (s - a), (long) (d - b), count, flags & CC_MASK);
+}
+
+static void test_repne_cmpsb(const char *a, const char *b, long n) {
+  const char *s = a;
+  const char *d = b;
+  long count = n;
+  long flags;
+  __asm__("repne cmpsb\n"
+          "pushf\n"
+          "pop %3"
+          : "+S"(s), "+D"(d), "+c"(count), "=r"(flags)
+          :
+          : "memory");
+  printf("ne %ld %ld %ld %02lX\n", (long) (s - a), (long) (d - b), count, flags & CC_MASK);
+}
+
+static void test_backward(const char *a, const char *b, long n) {
+  const char *s = a + n - 1;
+  const char *d = b + n - 1;
+  long count = n;
+  char below;
+  __asm__("std\n"
+          "repe cmpsb\n"
+          "setb %3\n"
+          "cld"
+          : "+S"(s), "+D"(d), "+c"(count), "=q"(below)
+          :
+          : "memory");
+  printf("std %ld %ld %ld %d\n", (long) (s - a), (long) (d - b), count, below);
+}
+
+int main() {
+  test_cmpsb("abc", "abc", 1, 0);
+  test_cmpsb("abc", "bbc", 1, 0);
+  test_cmpsb("\x80", "\x01", 1, 0);
+  test_cmpsb("\x01", "\x80", 1, 0);
+
+  test_cmpsb("hello world", "hello world", 11, 1);
+  test_cmpsb("hello world", "hello there", 11, 1);
+  test_cmpsb("hello", "hellp", 5, 1);
+  test_cmpsb("hellp", "hello", 5, 1);
+
+  test_repne_cmpsb("abcdef", "xyzdef", 6);
+  test_repne_cmpsb("abc", "xyz", 3);
+
+  test_backward("abcdef", "abzdef", 6);
+  test_backward("abcdef", "abcdef", 6);
+  return 0;
+}
@@ -0,0 +1,46 @@
+#include <stdio.h>
+#include "flags.h"
+
+int main() {
+  unsigned char carry;
+  unsigned char flags;
+  int value = 1;
+
+  // setc reads the carry of cmpl, the carry written by addl is never read
+  __asm__("cmpl $2, %1\n"
+          "incl %1\n"
+          "setc %0\n"
+          "addl $-1, %1"
+          : "=r"(carry), "+r"(value));
+  printf("%d %d\n", carry, value);
+
+  // lahf reads the zero flag of decl and the carry of cmpl, both are overwritten later
+  value = 1;
+  __asm__("cmpl $4, %1\n"
+          "decl %1\n"
+          "lahf\n"
+          "movb %%ah, %0\n"
+          "addl $5, %1\n"
+          "cmpl $1, %1"
+          : "=Q"(flags), "+r"(value)
+          :
+          : "ax");
+  printf("%02X %d\n", flags & CC_MASK8, value);
+
+  // adcl reads the carry written by cmpl, the carry of the final addl is never read
+  value = 10;
+  __asm__("cmpl $11, %0\n"
+          "adcl $0, %0\n"
+          "addl $-1, %0"
+          : "+r"(value));
+  printf("%d\n", value);
+
+  // sete reads the zero flag of testl, decl overwrites it afterwards
+  value = 0;
+  __asm__("testl %1, %1\n"
+          "sete %0\n"
+          "decl %1"
+          : "=r"(carry), "+r"(value));
+  printf("%d %d\n", carry, value);
+  return 0;
+}
@@ -0,0 +1,14 @@
+int main() {
+  char src[16] = "0123456789abcde";
+  char dst[16] = { 0 };
+  char *s = src;
+  char *d = dst;
+  long count = 16;
+  __asm__("rep movsb" : "+S"(s), "+D"(d), "+c"(count) : : "memory");
+  for (int i = 0; i < 16; i++) {
+    if (dst[i] != src[i]) {
+      return 0;
+    }
+  }
+  return (s == src + 16) && (d == dst + 16) && (count == 0);
+}
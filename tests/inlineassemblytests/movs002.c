@@ -0,0 +1,45 @@
+#include <stdio.h>
+
+int main() {
+  char src[16] = "0123456789abcde";
+  char dst[16] = { 0 };
+  // with the direction flag set, rep movsb copies from the last byte down to the first
+  char *s = src + 15;
+  char *d = dst + 15;
+  long count = 16;
+  __asm__("std\n"
+          "rep movsb\n"
+          "cld"
+          : "+S"(s), "+D"(d), "+c"(count)
+          :
+          : "memory");
+  printf("%s %ld %ld %ld\n", dst, (long) (s - src), (long) (d - dst), count);
+
+  int isrc[4] = { 1, 2, 3, 4 };
+  int idst[4] = { 0 };
+  int *is = isrc + 3;
+  int *id = idst + 3;
+  count = 3;
+  __asm__("std\n"
+          "rep movsl\n"
+          "cld"
+          : "+S"(is), "+D"(id), "+c"(count)
+          :
+          : "memory");
+  printf("%d %d %d %d %ld %ld %ld\n", idst[0], idst[1], idst[2], idst[3], (long) (is - isrc), (long) (id - idst), count);
+
+  // a single movsq without a prefix moves one element and leaves rcx alone
+  long lsrc[2] = { 11, 22 };
+  long ldst[2] = { 0, 0 };
+  long *ls = lsrc + 1;
+  long *ld = ldst + 1;
+  count = 42;
+  __asm__("std\n"
+          "movsq\n"
+          "cld"
+          : "+S"(ls), "+D"(ld), "+c"(count)
+          :
+          : "memory");
+  printf("%ld %ld %ld %ld %ld\n", ldst[0], ldst[1], (long) (ls - lsrc), (long) (ld - ldst), count);
+  return 0;
+}
@@ -0,0 +1,58 @@
+#include <stdio.h>
+#include <string.h>
+
+int main() {
+  // the destination starts one byte after the source, so a forward copy replicates the first byte
+  char buf[17] = "abcdefghijklmnop";
+  char *s = buf;
+  char *d = buf + 1;
+  long count = 15;
+  __asm__("rep movsb" : "+S"(s), "+D"(d), "+c"(count) : : "memory");
+  printf("%s %ld %ld %ld\n", buf, (long) (s - buf), (long) (d - buf), count);
+
+  // the same with a distance of two elements, which repeats a two element pattern
+  int ibuf[8] = { 1, 2, 3, 4, 5, 6, 7, 8 };
+  int *is = ibuf;
+  int *id = ibuf + 2;
+  count = 6;
+  __asm__("rep movsl" : "+S"(is), "+D"(id), "+c"(count) : : "memory");
+  for (int i = 0; i < 8; i++) {
+    printf("%d ", ibuf[i]);
+  }
+  printf("%ld %ld %ld\n", (long) (is - ibuf), (long) (id - ibuf), count);
+
+  // a destination before the source copies like memmove when copying forward
+  strcpy(buf, "abcdefghijklmnop");
+  s = buf + 3;
+  d = buf;
+  count = 13;
+  __asm__("rep movsb" : "+S"(s), "+D"(d), "+c"(count) : : "memory");
+  printf("%s\n", buf);
+
+  // a backward copy with the source after the destination replicates the last byte
+  strcpy(buf, "abcdefghijklmnop");
+  s = buf + 15;
+  d = buf + 14;
+  count = 15;
+  __asm__("std\n"
+          "rep movsb\n"
+          "cld"
+          : "+S"(s), "+D"(d), "+c"(count)
+          :
+          : "memory");
+  printf("%s %ld %ld %ld\n", buf, (long) (s - buf), (long) (d - buf), count);
+
+  // a backward copy with the source before the destination copies like memmove
+  strcpy(buf, "abcdefghijklmnop");
+  s = buf + 12;
+  d = buf + 15;
+  count = 13;
+  __asm__("std\n"
+          "rep movsb\n"
+          "cld"
+          : "+S"(s), "+D"(d), "+c"(count)
+          :
+          : "memory");
+  printf("%s\n", buf);
+  return 0;
+}
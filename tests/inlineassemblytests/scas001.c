@@ -0,0 +1,7 @@
+int main() {
+  char str[] = "hello world";
+  char *d = str;
+  long count = -1;
+  __asm__("repne scasb" : "+D"(d), "+c"(count) : "a"(0) : "memory");
+  return (d == str + sizeof(str)) && (count == -1 - (long) sizeof(str));
+}
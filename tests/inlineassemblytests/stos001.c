@@ -0,0 +1,12 @@
+int main() {
+  long buf[8];
+  long *d = buf;
+  long count = 8;
+  __asm__("rep stosq" : "+D"(d), "+c"(count) : "a"(0x0102030405060708L) : "memory");
+  for (int i = 0; i < 8; i++) {
+    if (buf[i] != 0x0102030405060708L) {
+      return 0;
+    }
+  }
+  return (d == buf + 8) && (count == 0);
+}
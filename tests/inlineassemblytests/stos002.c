@@ -0,0 +1,31 @@
+#include <stdio.h>
+
+int main() {
+  // with the direction flag set, rep stos fills from the last element down to the first
+  char buf[9] = "........";
+  char *d = buf + 6;
+  long count = 5;
+  __asm__("std\n"
+          "rep stosb\n"
+          "cld"
+          : "+D"(d), "+c"(count)
+          : "a"('x')
+          : "memory");
+  printf("%s %ld %ld\n", buf, (long) (d - buf), count);
+
+  // a value whose bytes differ cannot be stored with memset
+  int ibuf[6] = { 0 };
+  int *id = ibuf + 4;
+  count = 4;
+  __asm__("std\n"
+          "rep stosl\n"
+          "cld"
+          : "+D"(id), "+c"(count)
+          : "a"(0x01020304)
+          : "memory");
+  for (int i = 0; i < 6; i++) {
+    printf("%08x ", ibuf[i]);
+  }
+  printf("%ld %ld\n", (long) (id - ibuf), count);
+  return 0;
+}
@@ -0,0 +1,13 @@
+#include <stdlib.h>
+
+int value = 42;
+int *global = &value;
+
+int main() {
+  int *p = global;
+  int *heap = malloc(sizeof(int));
+  *heap = *p;
+  int result = *heap - 42;
+  free(heap);
+  return result;
+}
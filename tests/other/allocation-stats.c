@@ -0,0 +1,14 @@
+#include <stdlib.h>
+
+int main() {
+  void *kept[4];
+  for (int i = 0; i < 4; i++) {
+    kept[i] = malloc(16);
+  }
+  for (int i = 0; i < 8; i++) {
+    free(malloc(100));
+  }
+  free(kept[0]);
+  free(kept[1]);
+  return 0;
+}
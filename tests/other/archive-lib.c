@@ -0,0 +1 @@
+int archive_add(int a, int b) { return a + b; }
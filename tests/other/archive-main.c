@@ -0,0 +1,3 @@
+int archive_add(int a, int b);
+
+int main() { return archive_add(40, 2) - 42; }
@@ -0,0 +1,13 @@
+#include <string.h>
+
+int main() {
+  const char *strings[] = { "a", "bb", "ccc" };
+  size_t length = 0;
+  for (int i = 0; i < 10; i++) {
+    length += strlen(strings[i % 3]);
+  }
+  for (int i = 0; i < 5; i++) {
+    length += strlen(strings[2]);
+  }
+  return length == 34 ? 0 : 1;
+}